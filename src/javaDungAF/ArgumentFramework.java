@@ -0,0 +1,158 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * An abstract argumentation framework (AF) whose arguments are of type {@code A}, together with the semantics
+ * implemented by {@link DungAF DungAF}.
+ *
+ * <p> {@code DungAF} is the implementation for {@code String} arguments, and {@link GenericDungAF GenericDungAF} the
+ * implementation for arguments of any other type with consistent {@code equals} and {@code hashCode} methods. For
+ * {@code long} and {@code int} arguments, {@link LongDungAF LongDungAF} and {@link IntDungAF IntDungAF} provide the
+ * same semantics without boxing; they return arrays rather than sets, so they do not implement this interface. </p>
+ *
+ * <p> All implementations run the semantics on the same integer-indexed representation of the AF, and merely
+ * translate between their arguments and its ids. On the semantics, see {@code DungAF}. </p>
+ *
+ * @param <A> the type of the arguments.
+ */
+public interface ArgumentFramework<A> {
+
+	//----- BASIC METHODS ----------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns this AF's arguments.
+	 *
+	 * @return a set of {@code A}s, denoting this AF's arguments.
+	 */
+	Set<A> getArgs();
+
+	/**
+	 * Returns the arguments attacking {@code arg} in this AF.
+	 *
+	 * @param arg an {@code A}, denoting an argument.
+	 * @return a set of {@code A}s, denoting the arguments attacking {@code arg} in this AF.
+	 */
+	Set<A> getAttackersOf(A arg);
+
+	/**
+	 * Returns the arguments attacked by {@code arg} in this AF.
+	 *
+	 * @param arg an {@code A}, denoting an argument.
+	 * @return a set of {@code A}s, denoting the arguments attacked by {@code arg} in this AF.
+	 */
+	Set<A> getTargetsOf(A arg);
+
+	/**
+	 * Adds the arguments in the specified collection to this AF.
+	 *
+	 * @param argsToBeAdded a {@code Collection} of {@code A}s, denoting arguments.
+	 * @return {@code true} if this AF changed as a result of the call.
+	 */
+	boolean addArgs(Collection<A> argsToBeAdded);
+
+	/**
+	 * Adds the attack by {@code attacker} on {@code target} to this AF, together with both arguments.
+	 *
+	 * @param attacker an {@code A}, denoting the attacking argument.
+	 * @param target an {@code A}, denoting the attacked argument.
+	 * @return {@code true} if this AF changed as a result of the call.
+	 */
+	boolean addAtt(A attacker, A target);
+
+	/**
+	 * Removes the arguments in the specified collection from this AF, together with all attacks involving them.
+	 *
+	 * @param argsToBeRemoved a {@code Collection} of {@code A}s, denoting arguments.
+	 * @return {@code true} if this AF changed as a result of the call.
+	 */
+	boolean removeArgs(Collection<A> argsToBeRemoved);
+
+	/**
+	 * Removes the attack by {@code attacker} on {@code target} from this AF, leaving both arguments.
+	 *
+	 * @param attacker an {@code A}, denoting the attacking argument.
+	 * @param target an {@code A}, denoting the attacked argument.
+	 * @return {@code true} if this AF changed as a result of the call.
+	 */
+	boolean removeAtt(A attacker, A target);
+
+	//----- METHODS CONCERNING SEMANTICS -------------------------------------------------------------------------------
+
+	/**
+	 * Returns this AF's grounded extension.
+	 *
+	 * @return a set of {@code A}s, denoting this AF's grounded extension.
+	 */
+	Set<A> getGroundedExt();
+
+	/**
+	 * Returns this AF's admissible sets.
+	 *
+	 * @return a set of {@code A}-sets, denoting this AF's admissible sets.
+	 */
+	Set<? extends Set<A>> getAdmissibleSets();
+
+	/**
+	 * Returns this AF's complete extensions.
+	 *
+	 * @return a set of {@code A}-sets, denoting this AF's complete extensions.
+	 */
+	Set<? extends Set<A>> getCompleteExts();
+
+	/**
+	 * Returns this AF's preferred extensions.
+	 *
+	 * @return a set of {@code A}-sets, denoting this AF's preferred extensions.
+	 */
+	Set<? extends Set<A>> getPreferredExts();
+
+	/**
+	 * Returns the extension prescribed by the <i>sceptical</i> preferred semantics for this AF.
+	 *
+	 * @return a set of {@code A}s, denoting the intersection of this AF's preferred extensions.
+	 */
+	Set<A> getPreferredScepticalExt();
+
+	/**
+	 * Returns this AF's stable extensions.
+	 *
+	 * @return a set of {@code A}-sets, denoting this AF's stable extensions.
+	 */
+	Set<? extends Set<A>> getStableExts();
+
+	/**
+	 * Returns this AF's semi-stable extensions.
+	 *
+	 * @return a set of {@code A}-sets, denoting this AF's semi-stable extensions.
+	 */
+	Set<? extends Set<A>> getSemiStableExts();
+
+	/**
+	 * Returns this AF's ideal extension.
+	 *
+	 * @return a set of {@code A}s, denoting this AF's ideal extension.
+	 */
+	Set<A> getIdealExt();
+
+	/**
+	 * Returns this AF's eager extension.
+	 *
+	 * @return a set of {@code A}s, denoting this AF's eager extension.
+	 */
+	Set<A> getEagerExt();
+}
@@ -0,0 +1,264 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * The orders in which a {@link DungAF DungAF} may assign internal positions (ids) to its arguments, when it builds
+ * the integer-indexed representation of its AF on which the semantics are found.
+ *
+ * <p> The semantics-related methods repeatedly walk from arguments to their attackers and targets. If the arguments
+ * adjacent in the AF have nearby ids, those walks touch nearby entries of the underlying arrays and bitsets, and so
+ * make better use of the processor's caches; on large sparse AFs this can be significant. The order does not affect
+ * the results of any method. </p>
+ *
+ * <p> For the orders other than {@link #HASH HASH}, attacks are treated as undirected edges, except by
+ * {@link #SCC_TOPOLOGICAL SCC_TOPOLOGICAL}; and each connected component of the AF is numbered in turn. </p>
+ */
+public enum ArgumentOrder {
+
+	/**
+	 * No reordering: the order in which the AF's set of arguments iterates over them, or for a
+	 * {@link DungAF.Builder DungAF.Builder}, the order in which they were first added. This is the cheapest order to
+	 * build, but in general scatters adjacent arguments at random.
+	 */
+	HASH {
+		int[] oldIdsInOrder(AttackGraph graph) {
+
+			return null;
+		}
+	},
+
+	/**
+	 * Breadth-first order, from the lowest-numbered argument of each component.
+	 */
+	BFS {
+		int[] oldIdsInOrder(AttackGraph graph) {
+
+			return breadthFirst(graph, false);
+		}
+	},
+
+	/**
+	 * Reverse Cuthill-McKee order: breadth-first order from an argument of minimum degree in each component, visiting
+	 * the neighbours of each argument in order of increasing degree, and finally reversed. This order tends to
+	 * minimize the distance between the ids of adjacent arguments.
+	 */
+	REVERSE_CUTHILL_MCKEE {
+		int[] oldIdsInOrder(AttackGraph graph) {
+
+			int[] order = breadthFirst(graph, true);
+			int temp;
+
+			for (int i = 0, j = order.length - 1; i < j; i++, j--) {
+				temp = order[i];
+				order[i] = order[j];
+				order[j] = temp;
+			}
+
+			return order;
+		}
+	},
+
+	/**
+	 * The strongly connected components of the attack relation in topological order - so that, outside of cycles,
+	 * every argument precedes the arguments it attacks - with the arguments of each component in order of discovery.
+	 */
+	SCC_TOPOLOGICAL {
+		int[] oldIdsInOrder(AttackGraph graph) {
+
+			return stronglyConnectedComponentsInTopologicalOrder(graph);
+		}
+	};
+
+	/**
+	 * The order used by a {@code DungAF} unless another is specified.
+	 */
+	public static final ArgumentOrder DEFAULT = REVERSE_CUTHILL_MCKEE;
+
+	/**
+	 * Returns the ids in {@code graph} of its arguments, in this order; or {@code null}, if the ids are already in
+	 * this order.
+	 *
+	 * @param graph an {@code AttackGraph}.
+	 * @return an {@code int}-array, being a permutation of [0, {@code graph.size()}), or {@code null}.
+	 */
+	abstract int[] oldIdsInOrder(AttackGraph graph);
+
+	//----- HELPER METHODS ---------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the ids of {@code graph}'s arguments in breadth-first order, treating attacks as undirected edges. If
+	 * {@code byDegree} is {@code true}, each component is entered at an argument of minimum degree, and the unvisited
+	 * neighbours of each argument are visited in order of increasing degree (and then id); otherwise, each component
+	 * is entered at its lowest id, and neighbours are visited in the order in which they are stored.
+	 */
+	private static int[] breadthFirst(AttackGraph graph, boolean byDegree) {
+
+		int size = graph.size();
+		int[] order = new int[size];
+		int[] starts = new int[size];
+		long[] neighboursByDegree = new long[size];
+		boolean[] visited = new boolean[size];
+		int head = 0;
+		int tail = 0;
+		int count;
+		int current;
+
+		for (int i = 0; i < size; i++) {
+			starts[i] = i;
+		}
+		if (byDegree) {
+			sortByDegree(graph, starts, 0, size, neighboursByDegree);
+		}
+
+		for (int nextStart : starts) {
+			if (visited[nextStart]) {
+				continue;
+			}
+			visited[nextStart] = true;
+			order[tail++] = nextStart;
+
+			while (head < tail) {
+				current = order[head++];
+				count = 0;
+				for (int k = graph.attackerOffsets[current]; k < graph.attackerOffsets[current + 1]; k++) {
+					if (!visited[graph.attackers[k]]) {
+						visited[graph.attackers[k]] = true;
+						order[tail + count++] = graph.attackers[k];
+					}
+				}
+				for (int k = graph.targetOffsets[current]; k < graph.targetOffsets[current + 1]; k++) {
+					if (!visited[graph.targets[k]]) {
+						visited[graph.targets[k]] = true;
+						order[tail + count++] = graph.targets[k];
+					}
+				}
+				if (byDegree) {
+					sortByDegree(graph, order, tail, tail + count, neighboursByDegree);
+				}
+				tail += count;
+			}
+		}
+
+		return order;
+	}
+
+	/**
+	 * Sorts {@code ids[from]} to {@code ids[to-1]} by increasing degree in {@code graph}, and then by id, using
+	 * {@code scratch} (of length at least {@code to-from}) as workspace.
+	 */
+	private static void sortByDegree(AttackGraph graph, int[] ids, int from, int to, long[] scratch) {
+
+		int id;
+
+		for (int k = from; k < to; k++) {
+			id = ids[k];
+			scratch[k - from] = ((long) (graph.attackerOffsets[id + 1] - graph.attackerOffsets[id]
+										 + graph.targetOffsets[id + 1] - graph.targetOffsets[id]) << 32) | id;
+		}
+		Arrays.sort(scratch, 0, to - from);
+		for (int k = from; k < to; k++) {
+			ids[k] = (int) scratch[k - from];
+		}
+	}
+
+	/**
+	 * Returns the ids of {@code graph}'s arguments, grouped by strongly connected component, with the components in
+	 * topological order. Uses an iterative version of Tarjan's algorithm, which finds the components in reverse
+	 * topological order.
+	 */
+	private static int[] stronglyConnectedComponentsInTopologicalOrder(AttackGraph graph) {
+
+		int size = graph.size();
+		int[] index = new int[size];		// 1 + the discovery index of each argument; 0 if undiscovered.
+		int[] lowLink = new int[size];
+		int[] edgeCursor = new int[size];	// the next target of each argument on the call stack to be explored.
+		int[] callStack = new int[size];
+		int[] sccStack = new int[size];
+		boolean[] onSccStack = new boolean[size];
+		int[] order = new int[size];
+		int[] componentEnds = new int[size + 1];
+		int[] result = new int[size];
+		int callDepth;
+		int sccDepth = 0;
+		int nextIndex = 0;
+		int orderCount = 0;
+		int components = 0;
+		int current;
+		int target;
+		int member;
+		int k;
+
+		for (int root = 0; root < size; root++) {
+			if (0 != index[root]) {
+				continue;
+			}
+			callDepth = 0;
+			callStack[callDepth++] = root;
+			index[root] = lowLink[root] = ++nextIndex;
+			edgeCursor[root] = graph.targetOffsets[root];
+			sccStack[sccDepth++] = root;
+			onSccStack[root] = true;
+
+			while (callDepth > 0) {
+				current = callStack[callDepth - 1];
+				if (edgeCursor[current] < graph.targetOffsets[current + 1]) {
+					target = graph.targets[edgeCursor[current]++];
+					if (0 == index[target]) {
+						index[target] = lowLink[target] = ++nextIndex;
+						edgeCursor[target] = graph.targetOffsets[target];
+						sccStack[sccDepth++] = target;
+						onSccStack[target] = true;
+						callStack[callDepth++] = target;
+					} else if (onSccStack[target]) {
+						lowLink[current] = Math.min(lowLink[current], index[target]);
+					}
+				} else {
+					callDepth--;
+					if (callDepth > 0) {
+						lowLink[callStack[callDepth - 1]] = Math.min(lowLink[callStack[callDepth - 1]],
+																	 lowLink[current]);
+					}
+					if (lowLink[current] == index[current]) {
+						/* current is the root of a component; pop the component, which is recorded in discovery
+						 order. */
+						k = sccDepth;
+						do {
+							member = sccStack[--k];
+							onSccStack[member] = false;
+						} while (member != current);
+						for (int j = k; j < sccDepth; j++) {
+							order[orderCount++] = sccStack[j];
+						}
+						sccDepth = k;
+						componentEnds[++components] = orderCount;
+					}
+				}
+			}
+		}
+
+		/* the components were found in reverse topological order, so reverse the order of the components. */
+		k = 0;
+		for (int c = components; c > 0; c--) {
+			for (int j = componentEnds[c - 1]; j < componentEnds[c]; j++) {
+				result[k++] = order[j];
+			}
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,135 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+/**
+ * An immutable attack between two arguments, with value-based equality.
+ *
+ * <p> {@link DungAF DungAF} records its attacks as {@code Attack}s, so that duplicate attacks are detected by hashing
+ * rather than by comparing arrays element-wise. Methods which accept attacks as two-element {@code String}-arrays
+ * ([<i>attacker</i>, <i>attacked</i>]) are retained alongside those which accept {@code Attack}s. </p>
+ */
+public final class Attack {
+
+	/**
+	 * The attacking argument.
+	 */
+	private final String attacker;
+
+	/**
+	 * The attacked argument.
+	 */
+	private final String target;
+
+	/**
+	 * Constructs the attack by {@code attacker} on {@code target}.
+	 *
+	 * @param attacker a {@code String}, denoting the attacking argument.
+	 * @param target a {@code String}, denoting the attacked argument.
+	 */
+	public Attack(String attacker, String target) {
+
+		this.attacker = attacker;
+		this.target = target;
+	}
+
+	/**
+	 * Returns the attack denoted by the specified {@code String}-array.
+	 *
+	 * @param att a two-element {@code String}-array, [<i>attacker</i>, <i>attacked</i>].
+	 * @return an {@code Attack}.
+	 * @throws IllegalArgumentException if {@code att} does not have exactly two elements.
+	 */
+	public static Attack fromArray(String[] att) {
+
+		if (att.length != 2) {
+			throw new IllegalArgumentException("by 'Attack.fromArray(String[] att)' --- "
+											   + "'att' did not have exactly two elements.");
+		}
+
+		return new Attack(att[0], att[1]);
+	}
+
+	/**
+	 * Returns the attacking argument.
+	 *
+	 * @return a {@code String}, denoting the attacking argument.
+	 */
+	public String getAttacker() {
+
+		return attacker;
+	}
+
+	/**
+	 * Returns the attacked argument.
+	 *
+	 * @return a {@code String}, denoting the attacked argument.
+	 */
+	public String getTarget() {
+
+		return target;
+	}
+
+	/**
+	 * Returns this attack as a new two-element {@code String}-array, [<i>attacker</i>, <i>attacked</i>].
+	 *
+	 * @return a {@code String}-array.
+	 */
+	public String[] toArray() {
+
+		return new String[]{attacker, target};
+	}
+
+	/**
+	 * Returns {@code true} if {@code obj} is an {@code Attack} with the same attacker and target as this attack.
+	 *
+	 * @param obj an {@code Object}.
+	 * @return {@code true} if {@code obj} denotes the same attack as this attack.
+	 */
+	public boolean equals(Object obj) {
+
+		Attack anotherAtt;
+
+		if (this == obj) {
+			return true;
+		} else if (!(obj instanceof Attack)) {
+			return false;
+		} else {
+			anotherAtt = (Attack) obj;
+			return ((null == attacker) ? (null == anotherAtt.attacker) : attacker.equals(anotherAtt.attacker))
+				&& ((null == target) ? (null == anotherAtt.target) : target.equals(anotherAtt.target));
+		}
+	}
+
+	/**
+	 * Returns a hash code consistent with {@link #equals(Object) equals(Object)}.
+	 *
+	 * @return an {@code int}.
+	 */
+	public int hashCode() {
+
+		return 31 * ((null == attacker) ? 0 : attacker.hashCode()) + ((null == target) ? 0 : target.hashCode());
+	}
+
+	/**
+	 * Returns a representation of this attack in the conventional format - (<i>attacker</i>, <i>attacked</i>).
+	 *
+	 * @return a {@code String} representation of this attack.
+	 */
+	public String toString() {
+
+		return "(" + attacker + ", " + target + ")";
+	}
+}
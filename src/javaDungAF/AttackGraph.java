@@ -0,0 +1,762 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * An immutable, integer-indexed representation of the attack relation of an AF, on which {@link DungAF DungAF}'s
+ * semantics-related methods run.
+ *
+ * <p> Each argument is assigned a dense <i>id</i> in [0, {@link #size() size()}), and the attackers and targets of
+ * every argument are stored in compressed-sparse-row (CSR) form - that is, the attackers of the argument with id
+ * <i>i</i> are {@code attackers[attackerOffsets[i]]} to {@code attackers[attackerOffsets[i+1]-1]}, sorted in
+ * ascending order; and likewise for targets. Sets of arguments are represented as {@link BitSet BitSet}s over ids. </p>
+ *
+ * <p> An {@code AttackGraph} is never changed after construction, so it may be shared by any number of objects. A
+ * {@code DungAF} discards its {@code AttackGraph} whenever its AF is changed, and builds a new one when next
+ * required. </p>
+ *
+ * <p> If the AF is dense - specifically, if a bit-matrix of its attack relation would take no more memory than the
+ * CSR arrays, which is when at least one in {@value #DENSE_ATTACKS_PER_CELL} of all possible attacks is present - then
+ * the set-level methods concerning conflict and acceptability run on an {@link AttackMatrix AttackMatrix}, built
+ * when first required. A bit-matrix is never used for more than {@value #MAX_MATRIX_SIZE} arguments. Up to that size,
+ * the system property {@value #MATRIX_PROPERTY} may be set to {@code "always"} or {@code "never"} to override the
+ * choice for subsequently constructed graphs. </p>
+ */
+final class AttackGraph {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	/**
+	 * The arguments, indexed by id; {@code null} if the arguments are not {@code String}s, in which case the methods
+	 * which accept or return {@code String}s may not be called.
+	 */
+	final String[] names;
+
+	/**
+	 * A map from each argument to its id; {@code null} if {@link #names names} is {@code null}.
+	 */
+	private final HashMap<String,Integer> ids;
+
+	/**
+	 * The offsets into {@link #attackers attackers} of each argument's attackers (of length {@code size()+1}).
+	 */
+	final int[] attackerOffsets;
+
+	/**
+	 * The ids of the attackers of every argument, concatenated in order of id.
+	 */
+	final int[] attackers;
+
+	/**
+	 * The offsets into {@link #targets targets} of each argument's targets (of length {@code size()+1}).
+	 */
+	final int[] targetOffsets;
+
+	/**
+	 * The ids of the targets of every argument, concatenated in order of id.
+	 */
+	final int[] targets;
+
+	/**
+	 * The reciprocal of the proportion of possible attacks above which the AF is considered dense.
+	 */
+	static final int DENSE_ATTACKS_PER_CELL = 32;
+
+	/**
+	 * The largest number of arguments for which a bit-matrix is used, limiting its two rows to 32MB each.
+	 */
+	static final int MAX_MATRIX_SIZE = 1 << 14;
+
+	/**
+	 * The name of the system property which overrides the choice of representation.
+	 */
+	static final String MATRIX_PROPERTY = "javaDungAF.attackMatrix";
+
+	/**
+	 * {@code true} if the set-level methods concerning conflict and acceptability run on {@link #matrix matrix}.
+	 */
+	private final boolean usesMatrix;
+
+	/**
+	 * The bit-matrix representation of the attack relation; {@code null} until first required.
+	 */
+	private volatile AttackMatrix matrix;
+
+	/**
+	 * {@code Boolean.TRUE} if the attack relation has no cycles (self-attacks included); {@code null} until first
+	 * required.
+	 */
+	private volatile Boolean acyclic;
+
+	/**
+	 * {@code Boolean.TRUE} if every attack is mutual; {@code null} until first required.
+	 */
+	private volatile Boolean symmetric;
+
+	/**
+	 * {@code Boolean.TRUE} if the arguments have a bipartition; {@code null} until first required.
+	 */
+	private volatile Boolean bipartite;
+
+	/**
+	 * One side of a bipartition of the arguments, if {@link #bipartite bipartite}.
+	 */
+	private volatile BitSet oneSide;
+
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructs the {@code AttackGraph} whose arguments are {@code names}, and whose attacks are the pairs 
+	 * ({@code attackerIds[k]}, {@code targetIds[k]}).
+	 *
+	 * @param names the arguments, indexed by id, with no duplicates.
+	 * @param ids a map from each member of {@code names} to its index in {@code names}.
+	 * @param attackerIds the ids of the attackers in each attack, with no duplicate pairs.
+	 * @param targetIds the ids of the targets in each attack.
+	 */
+	AttackGraph(String[] names, HashMap<String,Integer> ids, int[] attackerIds, int[] targetIds) {
+
+		this(names, ids, names.length, attackerIds, targetIds);
+	}
+
+	/**
+	 * Constructs the {@code AttackGraph} whose arguments are the ids [0, {@code size}), and whose attacks are the pairs 
+	 * ({@code attackerIds[k]}, {@code targetIds[k]}). Used by AFs whose arguments are not {@code String}s, which 
+	 * translate between their arguments and ids themselves.
+	 *
+	 * @param size the number of arguments.
+	 * @param attackerIds the ids of the attackers in each attack, with no duplicate pairs.
+	 * @param targetIds the ids of the targets in each attack.
+	 */
+	AttackGraph(int size, int[] attackerIds, int[] targetIds) {
+
+		this(null, null, size, attackerIds, targetIds);
+	}
+
+	/**
+	 * Constructs the {@code AttackGraph} with the specified arguments and attacks, where {@code names} and {@code ids} 
+	 * are either both {@code null} or as for {@link #AttackGraph(String[],HashMap,int[],int[]) 
+	 * AttackGraph(String[], HashMap, int[], int[])}.
+	 */
+	private AttackGraph(String[] names, HashMap<String,Integer> ids, int size, int[] attackerIds, int[] targetIds) {
+
+		this.names = names;
+		this.ids = ids;
+
+		attackerOffsets = new int[size + 1];
+		attackers = new int[attackerIds.length];
+		fillRows(targetIds, attackerIds, attackerOffsets, attackers);
+
+		targetOffsets = new int[size + 1];
+		targets = new int[targetIds.length];
+		fillRows(attackerIds, targetIds, targetOffsets, targets);
+
+		usesMatrix = choosesMatrix(size, targets.length);
+	}
+
+	/**
+	 * Returns {@code true} if a graph with {@code size} arguments and {@code attsCount} attacks should use a
+	 * bit-matrix, as described {@link AttackGraph above}.
+	 */
+	private static boolean choosesMatrix(int size, int attsCount) {
+
+		String choice = System.getProperty(MATRIX_PROPERTY, "auto");
+
+		if ((size > MAX_MATRIX_SIZE) || choice.equals("never")) {
+			return false;
+		}
+
+		return choice.equals("always") || ((long) attsCount * DENSE_ATTACKS_PER_CELL >= (long) size * size);
+	}
+
+	/**
+	 * Returns the {@code AttackGraph} of the AF comprising the specified arguments and attacks.
+	 *
+	 * @param args a {@code Collection} of {@code String}s, denoting arguments, with no duplicates.
+	 * @param atts a {@code Collection} of {@code Attack}s between members of {@code args}, with no duplicates.
+	 */
+	static AttackGraph of(Collection<String> args, Collection<Attack> atts) {
+
+		String[] names = args.toArray(new String[args.size()]);
+		HashMap<String,Integer> ids = new HashMap<String,Integer>(2 * names.length);
+		int[] attackerIds = new int[atts.size()];
+		int[] targetIds = new int[atts.size()];
+		int i = 0;
+
+		for (String nextArg : names) {
+			ids.put(nextArg, i++);
+		}
+
+		i = 0;
+		for (Attack nextAtt : atts) {
+			attackerIds[i] = ids.get(nextAtt.getAttacker());
+			targetIds[i++] = ids.get(nextAtt.getTarget());
+		}
+
+		return new AttackGraph(names, ids, attackerIds, targetIds);
+	}
+
+	/**
+	 * Returns an {@code AttackGraph} of the same AF as this graph, whose ids are assigned in the order {@code order};
+	 * or this graph, if its ids are already in that order. This graph must have {@link #names names}.
+	 *
+	 * @param order an {@code ArgumentOrder}.
+	 */
+	AttackGraph reorderedBy(ArgumentOrder order) {
+
+		int[] oldIds = order.oldIdsInOrder(this);
+		int[] newIds;
+		String[] newNames;
+		HashMap<String,Integer> newIdsOfNames;
+		int[] attackerIds;
+		int[] targetIds;
+		int k = 0;
+
+		if (null == oldIds) {
+			return this;
+		}
+
+		newIds = new int[oldIds.length];
+		newNames = new String[oldIds.length];
+		newIdsOfNames = new HashMap<String,Integer>(2 * oldIds.length);
+		for (int i = 0; i < oldIds.length; i++) {
+			newIds[oldIds[i]] = i;
+			newNames[i] = names[oldIds[i]];
+			newIdsOfNames.put(newNames[i], i);
+		}
+
+		attackerIds = new int[targets.length];
+		targetIds = new int[targets.length];
+		for (int i = 0; i < oldIds.length; i++) {
+			for (int j = targetOffsets[i]; j < targetOffsets[i + 1]; j++) {
+				attackerIds[k] = newIds[i];
+				targetIds[k++] = newIds[targets[j]];
+			}
+		}
+
+		return new AttackGraph(newNames, newIdsOfNames, attackerIds, targetIds);
+	}
+
+	/**
+	 * Returns the {@code AttackGraph} whose arguments are the ids [0, {@code size}), and whose attacks are denoted by
+	 * the first {@code count} entries of {@code packedAtts}, each packed as ((<i>attacker id</i> &lt;&lt; 32) | 
+	 * <i>target id</i>) and perhaps including duplicates. Those entries are sorted and compacted in place.
+	 *
+	 * @param size the number of arguments.
+	 * @param packedAtts the packed attacks.
+	 * @param count the number of entries of {@code packedAtts} in use.
+	 */
+	static AttackGraph ofPackedAtts(int size, long[] packedAtts, int count) {
+
+		int[] attackerIds;
+		int[] targetIds;
+		int distinct = 0;
+
+		/* sort the packed attacks, so that duplicates are adjacent; and then compact them in place. */
+		Arrays.sort(packedAtts, 0, count);
+		for (int k = 0; k < count; k++) {
+			if ((0 == distinct) || (packedAtts[k] != packedAtts[distinct - 1])) {
+				packedAtts[distinct++] = packedAtts[k];
+			}
+		}
+
+		attackerIds = new int[distinct];
+		targetIds = new int[distinct];
+		for (int k = 0; k < distinct; k++) {
+			attackerIds[k] = (int) (packedAtts[k] >>> 32);
+			targetIds[k] = (int) packedAtts[k];
+		}
+
+		return new AttackGraph(size, attackerIds, targetIds);
+	}
+
+	/**
+	 * Fills {@code offsets} and {@code entries} so that, for each pair ({@code rows[k]}, {@code cols[k]}),
+	 * {@code cols[k]} is in the (sorted) row of {@code rows[k]}.
+	 */
+	private static void fillRows(int[] rows, int[] cols, int[] offsets, int[] entries) {
+
+		int[] next = new int[offsets.length];
+
+		for (int nextRow : rows) {
+			offsets[nextRow + 1]++;
+		}
+		for (int i = 1; i < offsets.length; i++) {
+			offsets[i] += offsets[i - 1];
+		}
+
+		System.arraycopy(offsets, 0, next, 0, offsets.length);
+		for (int k = 0; k < rows.length; k++) {
+			entries[next[rows[k]]++] = cols[k];
+		}
+		for (int i = 0; i + 1 < offsets.length; i++) {
+			Arrays.sort(entries, offsets[i], offsets[i + 1]);
+		}
+	}
+
+	//----- BASIC METHODS ----------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the number of arguments.
+	 */
+	int size() {
+
+		return attackerOffsets.length - 1;
+	}
+
+	/**
+	 * Returns the bit-matrix representation of the attack relation, or {@code null} if the set-level methods run on the
+	 * CSR arrays.
+	 */
+	AttackMatrix matrix() {
+
+		AttackMatrix result = matrix;
+
+		if ((null == result) && usesMatrix) {
+			/* a race may build the matrix twice, but the results are equal, and AttackMatrix's fields are final. */
+			result = matrix = new AttackMatrix(this);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns {@code true} if the attack relation has no cycles, self-attacks included; finding the answer by a
+	 * topological sort, in O(|args| + |atts|) time, when first required.
+	 *
+	 * <p> The sort repeatedly removes an argument with no attackers left, and then its attacks; the graph is acyclic
+	 * if every argument is removed. </p>
+	 */
+	boolean isAcyclic() {
+
+		Boolean result = acyclic;
+		int[] attackersLeft;
+		int[] worklist;
+		int removedCount = 0;
+		int added = 0;
+		int arg;
+		int target;
+
+		if (null != result) {
+			return result;
+		}
+
+		attackersLeft = new int[size()];
+		worklist = new int[size()];
+		for (int i = 0; i < size(); i++) {
+			attackersLeft[i] = attackerOffsets[i + 1] - attackerOffsets[i];
+			if (0 == attackersLeft[i]) {
+				worklist[added++] = i;
+			}
+		}
+		while (removedCount < added) {
+			arg = worklist[removedCount++];
+			for (int k = targetOffsets[arg]; k < targetOffsets[arg + 1]; k++) {
+				target = targets[k];
+				if (0 == --attackersLeft[target]) {
+					worklist[added++] = target;
+				}
+			}
+		}
+
+		/* as for the matrix, a race may sort the graph twice, with equal results. */
+		result = acyclic = Boolean.valueOf(removedCount == size());
+
+		return result;
+	}
+
+	/**
+	 * Returns {@code true} if every attack is mutual - i.e. if every argument's attackers are its targets; finding the
+	 * answer, in O(|args| + |atts|) time, when first required.
+	 */
+	boolean isSymmetric() {
+
+		Boolean result = symmetric;
+		boolean rowsEqual;
+
+		if (null != result) {
+			return result;
+		}
+
+		/* since the rows are sorted, the relation is symmetric if the attackers and targets are the same arrays. */
+		rowsEqual = Arrays.equals(attackerOffsets, targetOffsets);
+		for (int k = 0; rowsEqual && (k < targets.length); k++) {
+			rowsEqual = (attackers[k] == targets[k]);
+		}
+
+		result = symmetric = Boolean.valueOf(rowsEqual);
+
+		return result;
+	}
+
+	/**
+	 * Returns one side of a bipartition of the arguments - a set such that every attack is between a member and a
+	 * non-member - or {@code null} if there is none; finding it by a breadth-first 2-colouring, in O(|args| + |atts|)
+	 * time, when first required. The {@code BitSet} must not be changed.
+	 */
+	BitSet oneSideOfBipartition() {
+
+		byte[] sides;
+		int[] queue;
+		int queueHead;
+		int queueSize;
+		int current;
+		BitSet side;
+
+		if (null != bipartite) {
+			return oneSide;
+		}
+
+		/* 0 denotes an argument not yet reached, and 1 and 2 the two sides. */
+		sides = new byte[size()];
+		queue = new int[size()];
+		for (int i = 0; i < size(); i++) {
+			if (0 != sides[i]) {
+				continue;
+			}
+			sides[i] = 1;
+			queue[0] = i;
+			queueHead = 0;
+			queueSize = 1;
+			while (queueHead < queueSize) {
+				current = queue[queueHead++];
+				queueSize = reach(current, attackers, attackerOffsets[current], attackerOffsets[current + 1], sides,
+								  queue, queueSize);
+				if (queueSize >= 0) {
+					queueSize = reach(current, targets, targetOffsets[current], targetOffsets[current + 1], sides,
+									  queue, queueSize);
+				}
+				if (queueSize < 0) {
+					bipartite = Boolean.FALSE;
+					return null;
+				}
+			}
+		}
+
+		side = new BitSet(size());
+		for (int i = 0; i < size(); i++) {
+			if (1 == sides[i]) {
+				side.set(i);
+			}
+		}
+		/* oneSide is written first, so that a thread which sees bipartite sees oneSide. */
+		oneSide = side;
+		bipartite = Boolean.TRUE;
+
+		return side;
+	}
+
+	/**
+	 * Puts each of the arguments {@code neighbours[from]} to {@code neighbours[to-1]} not yet reached on the other side
+	 * from the argument with id {@code arg}, and adds it to {@code queue}, whose first {@code queueSize} entries are
+	 * in use.
+	 *
+	 * @return the new number of entries of {@code queue} in use, or {@code -1} if one of the arguments is on the same
+	 * side as {@code arg}.
+	 */
+	private static int reach(int arg, int[] neighbours, int from, int to, byte[] sides, int[] queue, int queueSize) {
+
+		for (int k = from; k < to; k++) {
+			if (sides[neighbours[k]] == sides[arg]) {
+				return -1;
+			} else if (0 == sides[neighbours[k]]) {
+				sides[neighbours[k]] = (byte) (3 - sides[arg]);
+				queue[queueSize++] = neighbours[k];
+			}
+		}
+
+		return queueSize;
+	}
+
+	/**
+	 * Returns the id of {@code arg}, or {@code -1} if {@code arg} is not an argument of this graph.
+	 */
+	int idOf(Object arg) {
+
+		Integer id = ids.get(arg);
+
+		return (null == id) ? -1 : id;
+	}
+
+	/**
+	 * Returns {@code true} if the argument with id {@code attacker} attacks the argument with id {@code target}.
+	 */
+	boolean attacks(int attacker, int target) {
+
+		return Arrays.binarySearch(targets, targetOffsets[attacker], targetOffsets[attacker + 1], target) >= 0;
+	}
+
+	/**
+	 * Returns {@code true} if the argument with id {@code arg} attacks itself.
+	 */
+	boolean attacksItself(int arg) {
+
+		return attacks(arg, arg);
+	}
+
+	/**
+	 * Returns the ids of the members of {@code argColl} which are arguments of this graph; members which are not are
+	 * ignored.
+	 */
+	BitSet toBitSet(Collection<String> argColl) {
+
+		BitSet argSet = new BitSet(size());
+		int id;
+
+		for (String nextArg : argColl) {
+			id = idOf(nextArg);
+			if (id >= 0) {
+				argSet.set(id);
+			}
+		}
+
+		return argSet;
+	}
+
+	/**
+	 * Returns the arguments whose ids are in {@code argSet}.
+	 */
+	HashSet<String> toArgSet(BitSet argSet) {
+
+		HashSet<String> result = new HashSet<String>(2 * argSet.cardinality());
+
+		for (int i = argSet.nextSetBit(0); i >= 0; i = argSet.nextSetBit(i + 1)) {
+			result.add(names[i]);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the argument-sets whose ids are in the members of {@code argSets}.
+	 */
+	HashSet<HashSet<String>> toArgSets(Collection<BitSet> argSets) {
+
+		HashSet<HashSet<String>> result = new HashSet<HashSet<String>>();
+
+		for (BitSet nextSet : argSets) {
+			result.add(toArgSet(nextSet));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the arguments attacking the argument with id {@code arg}.
+	 */
+	HashSet<String> attackersAsArgSet(int arg) {
+
+		HashSet<String> result = new HashSet<String>();
+
+		for (int k = attackerOffsets[arg]; k < attackerOffsets[arg + 1]; k++) {
+			result.add(names[attackers[k]]);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the arguments attacked by the argument with id {@code arg}.
+	 */
+	HashSet<String> targetsAsArgSet(int arg) {
+
+		HashSet<String> result = new HashSet<String>();
+
+		for (int k = targetOffsets[arg]; k < targetOffsets[arg + 1]; k++) {
+			result.add(names[targets[k]]);
+		}
+
+		return result;
+	}
+
+	//----- METHODS CONCERNING CONFLICT AND ACCEPTABILITY -------------------------------------------------------------
+
+	/**
+	 * Returns {@code true} if some member of {@code argSet} attacks the argument with id {@code arg}.
+	 */
+	boolean isAttackedBy(int arg, BitSet argSet) {
+
+		for (int k = attackerOffsets[arg]; k < attackerOffsets[arg + 1]; k++) {
+			if (argSet.get(attackers[k])) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns {@code true} if the argument with id {@code arg} attacks, or is attacked by, some member of
+	 * {@code argSet}.
+	 */
+	boolean isInConflictWith(int arg, BitSet argSet) {
+
+		if (isAttackedBy(arg, argSet)) {
+			return true;
+		}
+		for (int k = targetOffsets[arg]; k < targetOffsets[arg + 1]; k++) {
+			if (argSet.get(targets[k])) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns {@code true} if no member of {@code argSet} attacks itself or any other member.
+	 */
+	boolean isConflictFree(BitSet argSet) {
+
+		AttackMatrix m = matrix();
+
+		if (null != m) {
+			return m.isConflictFree(m.toWords(argSet));
+		}
+		for (int i = argSet.nextSetBit(0); i >= 0; i = argSet.nextSetBit(i + 1)) {
+			if (isAttackedBy(i, argSet)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the ids of the arguments attacked by some member of {@code argSet}.
+	 */
+	BitSet targetsOf(BitSet argSet) {
+
+		AttackMatrix m = matrix();
+		BitSet result;
+
+		if (null != m) {
+			return AttackMatrix.toBitSet(m.targetsOf(m.toWords(argSet)));
+		}
+		result = new BitSet(size());
+		for (int i = argSet.nextSetBit(0); i >= 0; i = argSet.nextSetBit(i + 1)) {
+			for (int k = targetOffsets[i]; k < targetOffsets[i + 1]; k++) {
+				result.set(targets[k]);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the <i>range</i> of {@code argSet} - that is, the union of {@code argSet} and {@code targetsOf(argSet)}.
+	 */
+	BitSet rangeOf(BitSet argSet) {
+
+		BitSet result = targetsOf(argSet);
+
+		result.or(argSet);
+
+		return result;
+	}
+
+	/**
+	 * Returns {@code true} if every attacker of the argument with id {@code arg} is in {@code defeated}, where
+	 * {@code defeated} is typically {@code targetsOf(argSet)} for some {@code argSet}.
+	 */
+	boolean isDefendedAgainstAllBy(int arg, BitSet defeated) {
+
+		for (int k = attackerOffsets[arg]; k < attackerOffsets[arg + 1]; k++) {
+			if (!defeated.get(attackers[k])) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the ids of the arguments which are acceptable with respect to {@code argSet}.
+	 */
+	BitSet argsAcceptedBy(BitSet argSet) {
+
+		AttackMatrix m = matrix();
+		CharacteristicFunction f;
+
+		if (null != m) {
+			return AttackMatrix.toBitSet(m.argsAcceptedBy(m.toWords(argSet)));
+		}
+		/* counting the undefeated attackers of each argument follows only the attacks near argSet. */
+		f = new CharacteristicFunction(this);
+		f.load(argSet);
+
+		return f.acceptedArgs();
+	}
+
+	/**
+	 * Returns {@code true} if every member of {@code argsToCheck} is acceptable with respect to {@code argSet}.
+	 */
+	boolean accepts(BitSet argSet, BitSet argsToCheck) {
+
+		AttackMatrix m = matrix();
+		BitSet defeated;
+
+		if (null != m) {
+			return m.accepts(m.toWords(argSet), m.toWords(argsToCheck));
+		}
+		defeated = targetsOf(argSet);
+		for (int i = argsToCheck.nextSetBit(0); i >= 0; i = argsToCheck.nextSetBit(i + 1)) {
+			if (!isDefendedAgainstAllBy(i, defeated)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns {@code true} if {@code argSet} is admissible - that is, conflict-free and acceptable with respect to
+	 * itself.
+	 */
+	boolean isAdmissible(BitSet argSet) {
+
+		return isConflictFree(argSet) && accepts(argSet, argSet);
+	}
+
+	//----- BITSET UTILITIES -------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns {@code true} if {@code subset} is a (strict or non-strict) subset of {@code superset}.
+	 */
+	static boolean isSubsetOf(BitSet subset, BitSet superset) {
+
+		for (int i = subset.nextSetBit(0); i >= 0; i = subset.nextSetBit(i + 1)) {
+			if (!superset.get(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the union of {@code argSet} and the argument with id {@code arg}, leaving {@code argSet} unchanged.
+	 */
+	static BitSet with(BitSet argSet, int arg) {
+
+		BitSet result = (BitSet) argSet.clone();
+
+		result.set(arg);
+
+		return result;
+	}
+}
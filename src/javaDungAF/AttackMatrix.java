@@ -0,0 +1,206 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * A dense, bit-matrix representation of the attack relation of an {@link AttackGraph AttackGraph}, used in place of
+ * its compressed-sparse-row form by the set-level methods concerning conflict and acceptability, when the AF is
+ * dense. The grounded labelling is not found on it: a fixed point over whole rows costs a pass over every argument
+ * for each link of the longest chain of defence, whereas the worklist of {@link SemanticsEngine SemanticsEngine} takes
+ * time linear in the size of the AF.
+ *
+ * <p> Each argument has a row of {@link #words words} {@code long}s in each of two matrices: bit <i>j</i> of row
+ * <i>i</i> of {@link #attackerRows attackerRows} is set if argument <i>j</i> attacks argument <i>i</i>, and of
+ * {@link #targetRows targetRows}, if argument <i>i</i> attacks argument <i>j</i>. Sets of arguments are represented
+ * as {@code long}-arrays of the same length, in the layout of {@link BitSet#toLongArray() BitSet.toLongArray()}, so
+ * that every kernel tests or combines 64 arguments at a time; the loops over words are simple enough for the JIT
+ * compiler to unroll and, where the processor supports it, vectorize. </p>
+ *
+ * <p> Like its {@code AttackGraph}, an {@code AttackMatrix} is never changed after construction. </p>
+ */
+final class AttackMatrix {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	/**
+	 * The number of arguments.
+	 */
+	final int size;
+
+	/**
+	 * The number of {@code long}s in each row, and in each set of arguments.
+	 */
+	final int words;
+
+	/**
+	 * The attackers of each argument, as consecutive rows of {@code words} {@code long}s, in order of id.
+	 */
+	private final long[] attackerRows;
+
+	/**
+	 * The targets of each argument, as consecutive rows of {@code words} {@code long}s, in order of id.
+	 */
+	private final long[] targetRows;
+
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructs the bit-matrix representation of the attack relation of {@code graph}.
+	 *
+	 * @param graph an {@code AttackGraph}.
+	 */
+	AttackMatrix(AttackGraph graph) {
+
+		size = graph.size();
+		words = (size + 63) >>> 6;
+		attackerRows = new long[size * words];
+		targetRows = new long[size * words];
+
+		for (int i = 0; i < size; i++) {
+			for (int k = graph.attackerOffsets[i]; k < graph.attackerOffsets[i + 1]; k++) {
+				attackerRows[i * words + (graph.attackers[k] >>> 6)] |= 1L << graph.attackers[k];
+			}
+			for (int k = graph.targetOffsets[i]; k < graph.targetOffsets[i + 1]; k++) {
+				targetRows[i * words + (graph.targets[k] >>> 6)] |= 1L << graph.targets[k];
+			}
+		}
+	}
+
+	//----- CONVERSIONS ------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns {@code argSet} as a {@code long}-array of length {@link #words words}.
+	 */
+	long[] toWords(BitSet argSet) {
+
+		long[] argWords = argSet.toLongArray();
+
+		return (argWords.length == words) ? argWords : Arrays.copyOf(argWords, words);
+	}
+
+	/**
+	 * Returns {@code argWords} as a {@code BitSet}.
+	 */
+	static BitSet toBitSet(long[] argWords) {
+
+		return BitSet.valueOf(argWords);
+	}
+
+	//----- KERNELS ----------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns {@code true} if no member of {@code argWords} attacks itself or any other member.
+	 */
+	boolean isConflictFree(long[] argWords) {
+
+		for (int w = 0; w < words; w++) {
+			for (long bits = argWords[w]; 0 != bits; bits &= bits - 1) {
+				if (intersects(attackerRows, ((w << 6) + Long.numberOfTrailingZeros(bits)) * words, argWords)) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the arguments attacked by some member of {@code argWords}.
+	 */
+	long[] targetsOf(long[] argWords) {
+
+		long[] result = new long[words];
+		int row;
+
+		for (int w = 0; w < words; w++) {
+			for (long bits = argWords[w]; 0 != bits; bits &= bits - 1) {
+				row = ((w << 6) + Long.numberOfTrailingZeros(bits)) * words;
+				for (int v = 0; v < words; v++) {
+					result[v] |= targetRows[row + v];
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns {@code true} if every attacker of the argument with id {@code arg} is in {@code defeatedWords}.
+	 */
+	boolean isDefendedAgainstAllBy(int arg, long[] defeatedWords) {
+
+		int row = arg * words;
+
+		for (int v = 0; v < words; v++) {
+			if (0 != (attackerRows[row + v] & ~defeatedWords[v])) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the arguments which are acceptable with respect to {@code argWords}.
+	 */
+	long[] argsAcceptedBy(long[] argWords) {
+
+		long[] defeatedWords = targetsOf(argWords);
+		long[] result = new long[words];
+
+		for (int i = 0; i < size; i++) {
+			if (isDefendedAgainstAllBy(i, defeatedWords)) {
+				result[i >>> 6] |= 1L << i;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns {@code true} if every member of {@code wordsToCheck} is acceptable with respect to {@code argWords}.
+	 */
+	boolean accepts(long[] argWords, long[] wordsToCheck) {
+
+		long[] defeatedWords = targetsOf(argWords);
+
+		for (int w = 0; w < words; w++) {
+			for (long bits = wordsToCheck[w]; 0 != bits; bits &= bits - 1) {
+				if (!isDefendedAgainstAllBy((w << 6) + Long.numberOfTrailingZeros(bits), defeatedWords)) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns {@code true} if the row of {@code rows} starting at {@code row} has a bit in common with
+	 * {@code argWords}.
+	 */
+	private boolean intersects(long[] rows, int row, long[] argWords) {
+
+		for (int v = 0; v < words; v++) {
+			if (0 != (rows[row + v] & argWords[v])) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,173 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * The credulous and sceptical acceptance of the arguments of a bipartite AF under the preferred semantics, found in
+ * polynomial time, following Dunne's 2007 paper -
+ *
+ * <br/>
+ * <ul><i>Computational properties of argument systems satisfying graph-theoretic constraints</i></ul>
+ * <ul><u>Artificial Intelligence (171:10-15): pp.701-29</u>.</ul>
+ * <br/>
+ *
+ * An AF is bipartite if its arguments can be split into two sides, <i>X</i> and <i>Y</i>, such that every attack is
+ * between the sides; so each side is conflict-free, and every argument which defends a member of a side against an
+ * attacker is on the same side as that member. Hence the members of <i>X</i> in an admissible set form an admissible
+ * set on their own, and the members of <i>X</i> which are credulously accepted are those of the greatest admissible
+ * subset of <i>X</i> - found, since <i>X</i> is conflict-free, by repeatedly removing the members not defended by the
+ * rest; and likewise for <i>Y</i>.
+ *
+ * <p> A bipartite AF has no cycles of odd length, and so is <i>coherent</i> - every preferred extension is stable -
+ * as shown in Dunne and Bench-Capon's 2002 paper -
+ *
+ * <br/>
+ * <ul><i>Coherence in finite argument systems</i></ul>
+ * <ul><u>Artificial Intelligence (141:1-2): pp.187-203</u>.</ul>
+ * <br/>
+ *
+ * Since an argument outside a stable extension is attacked by it, an argument is in every preferred extension if and
+ * only if none of its attackers is credulously accepted. The preferred extensions themselves are found as the stable
+ * labellings, by a {@link LabellingSearch LabellingSearch} in which the arguments not credulously accepted are
+ * {@code OUT} from the start, and those sceptically accepted {@code IN}. </p>
+ */
+final class BipartiteAcceptance {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	private final AttackGraph graph;
+
+	private final byte[] groundedLabelling;
+
+	/**
+	 * The ids of the arguments in some preferred extension.
+	 */
+	private final BitSet credulouslyAccepted;
+
+	/**
+	 * The ids of the arguments in every preferred extension.
+	 */
+	private final BitSet scepticallyAccepted;
+
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+
+	/**
+	 * Finds the credulous and sceptical acceptance of the arguments of the AF of {@code graph}.
+	 *
+	 * @param graph an {@code AttackGraph} whose arguments have a bipartition.
+	 * @param oneSide one side of a bipartition, as returned by
+	 * {@link AttackGraph#oneSideOfBipartition() AttackGraph.oneSideOfBipartition()}.
+	 * @param groundedLabelling the grounded labelling of the AF, as an array of {@link Labelling Labelling} labels
+	 * indexed by id.
+	 */
+	BipartiteAcceptance(AttackGraph graph, BitSet oneSide, byte[] groundedLabelling) {
+
+		CharacteristicFunction evaluator = new CharacteristicFunction(graph);
+		BitSet otherSide = (BitSet) oneSide.clone();
+
+		this.graph = graph;
+		this.groundedLabelling = groundedLabelling;
+
+		otherSide.flip(0, graph.size());
+		evaluator.load(oneSide);
+		evaluator.removeUnacceptedMembers();
+		credulouslyAccepted = evaluator.getMembers();
+		evaluator.load(otherSide);
+		evaluator.removeUnacceptedMembers();
+		credulouslyAccepted.or(evaluator.getMembers());
+
+		scepticallyAccepted = new BitSet(graph.size());
+		for (int i = 0; i < graph.size(); i++) {
+			if (!isAttackedByAccepted(i)) {
+				scepticallyAccepted.set(i);
+			}
+		}
+	}
+
+	//----- ACCEPTANCE -------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns {@code true} if some attacker of the argument with id {@code arg} is credulously accepted.
+	 */
+	private boolean isAttackedByAccepted(int arg) {
+
+		for (int k = graph.attackerOffsets[arg]; k < graph.attackerOffsets[arg + 1]; k++) {
+			if (credulouslyAccepted.get(graph.attackers[k])) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the arguments in some preferred extension of the AF.
+	 *
+	 * @return a {@code BitSet} of ids in the graph, which must not be changed.
+	 */
+	BitSet getCredulouslyAccepted() {
+
+		return credulouslyAccepted;
+	}
+
+	/**
+	 * Returns the arguments in every preferred extension of the AF - i.e. its preferred sceptical extension.
+	 *
+	 * @return a {@code BitSet} of ids in the graph, which must not be changed.
+	 */
+	BitSet getScepticallyAccepted() {
+
+		return scepticallyAccepted;
+	}
+
+	/**
+	 * Returns the preferred extensions of the AF, which are its stable extensions.
+	 *
+	 * @return a set of {@code BitSet}s of ids in the graph.
+	 */
+	HashSet<BitSet> findPreferredExts() {
+
+		final HashSet<BitSet> exts = new HashSet<BitSet>();
+		byte stableDomain = (byte) (LabellingSearch.CAN_BE_IN | LabellingSearch.CAN_BE_OUT);
+		LabellingSearch search = new LabellingSearch(graph, groundedLabelling, stableDomain, LabellingSearch.CAN_BE_IN,
+													 LabellingSearch.CAN_BE_OUT) {
+
+			boolean prunes() {
+
+				return false;
+			}
+
+			boolean visit() {
+
+				exts.add((BitSet) possiblyIn.clone());
+
+				return true;
+			}
+		};
+
+		for (int i = 0; i < graph.size(); i++) {
+			if (!credulouslyAccepted.get(i)) {
+				search.narrow(i, (byte) (search.domains[i] & LabellingSearch.CAN_BE_OUT));
+			} else if (scepticallyAccepted.get(i)) {
+				search.narrow(i, (byte) (search.domains[i] & LabellingSearch.CAN_BE_IN));
+			}
+		}
+		search.run();
+
+		return exts;
+	}
+}
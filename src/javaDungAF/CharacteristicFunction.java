@@ -0,0 +1,324 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * An evaluator of the characteristic function of the AF of an {@link AttackGraph AttackGraph}, at a set of arguments
+ * which may be changed one member at a time - used wherever many related sets are checked for acceptability,
+ * admissibility or completeness.
+ *
+ * <p> The evaluator holds a set of ids, its <i>members</i>, and keeps for each argument the number of members
+ * attacking it, and the number of its attackers which are <i>undefeated</i> - i.e. not attacked by any member. An
+ * argument is acceptable with respect to the members exactly when it has no undefeated attackers. Adding or removing
+ * a member changes the first count of each of its targets, and, for each target thereby defeated or undefeated, the
+ * second count of that target's targets; so a change costs time proportional to the attacks within two steps of the
+ * member, rather than to the size of the AF. Totals of the conflicts among the members, of the members which are not
+ * acceptable, and of the acceptable arguments are kept alongside, so that conflict-freeness, admissibility and
+ * completeness are each checked in constant time. </p>
+ *
+ * <p> Unlike its {@code AttackGraph}, an evaluator is changed as it is used, so it must be confined to one thread. It
+ * is typically constructed once for a batch of checks, and moved from one candidate set to the next by
+ * {@link #load(BitSet) load(BitSet)}, which changes only the members in which the two sets differ. </p>
+ */
+final class CharacteristicFunction {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	private final AttackGraph graph;
+
+	/**
+	 * The ids of the members.
+	 */
+	private final BitSet members;
+
+	/**
+	 * The number of members attacking each argument, indexed by id.
+	 */
+	private final int[] memberAttackerCounts;
+
+	/**
+	 * The number of attackers of each argument which are not attacked by any member, indexed by id.
+	 */
+	private final int[] undefeatedAttackerCounts;
+
+	/**
+	 * The number of attacks, including self-attacks, between members.
+	 */
+	private int conflictsCount;
+
+	/**
+	 * The number of members with undefeated attackers.
+	 */
+	private int unacceptedMembersCount;
+
+	/**
+	 * The number of arguments, members or not, with no undefeated attackers.
+	 */
+	private int acceptedArgsCount;
+
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructs an evaluator of the characteristic function of the AF of {@code graph}, with no members.
+	 *
+	 * @param graph an {@code AttackGraph}.
+	 */
+	CharacteristicFunction(AttackGraph graph) {
+
+		this.graph = graph;
+		members = new BitSet(graph.size());
+		memberAttackerCounts = new int[graph.size()];
+		undefeatedAttackerCounts = new int[graph.size()];
+
+		for (int i = 0; i < graph.size(); i++) {
+			undefeatedAttackerCounts[i] = graph.attackerOffsets[i + 1] - graph.attackerOffsets[i];
+			if (0 == undefeatedAttackerCounts[i]) {
+				acceptedArgsCount++;
+			}
+		}
+	}
+
+	//----- CHANGES ----------------------------------------------------------------------------------------------------
+
+	/**
+	 * Adds the argument with id {@code arg} to the members, if it is not already a member.
+	 */
+	void add(int arg) {
+
+		int defeated;
+
+		if (members.get(arg)) {
+			return;
+		}
+		members.set(arg);
+		if (0 != undefeatedAttackerCounts[arg]) {
+			unacceptedMembersCount++;
+		}
+		/* count the attacks between arg and the members, counting a self-attack once. */
+		for (int k = graph.attackerOffsets[arg]; k < graph.attackerOffsets[arg + 1]; k++) {
+			if (members.get(graph.attackers[k])) {
+				conflictsCount++;
+			}
+		}
+		for (int k = graph.targetOffsets[arg]; k < graph.targetOffsets[arg + 1]; k++) {
+			defeated = graph.targets[k];
+			if ((defeated != arg) && members.get(defeated)) {
+				conflictsCount++;
+			}
+			if (0 == memberAttackerCounts[defeated]++) {
+				for (int j = graph.targetOffsets[defeated]; j < graph.targetOffsets[defeated + 1]; j++) {
+					if (0 == --undefeatedAttackerCounts[graph.targets[j]]) {
+						acceptedArgsCount++;
+						if (members.get(graph.targets[j])) {
+							unacceptedMembersCount--;
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes the argument with id {@code arg} from the members, if it is a member.
+	 */
+	void remove(int arg) {
+
+		int undefeated;
+
+		if (!members.get(arg)) {
+			return;
+		}
+		for (int k = graph.targetOffsets[arg]; k < graph.targetOffsets[arg + 1]; k++) {
+			undefeated = graph.targets[k];
+			if ((undefeated != arg) && members.get(undefeated)) {
+				conflictsCount--;
+			}
+			if (0 == --memberAttackerCounts[undefeated]) {
+				for (int j = graph.targetOffsets[undefeated]; j < graph.targetOffsets[undefeated + 1]; j++) {
+					if (0 == undefeatedAttackerCounts[graph.targets[j]]++) {
+						acceptedArgsCount--;
+						if (members.get(graph.targets[j])) {
+							unacceptedMembersCount++;
+						}
+					}
+				}
+			}
+		}
+		for (int k = graph.attackerOffsets[arg]; k < graph.attackerOffsets[arg + 1]; k++) {
+			if (members.get(graph.attackers[k])) {
+				conflictsCount--;
+			}
+		}
+		if (0 != undefeatedAttackerCounts[arg]) {
+			unacceptedMembersCount--;
+		}
+		members.clear(arg);
+	}
+
+	/**
+	 * Changes the members to the ids in {@code argSet}, by adding and removing only those in which the two sets differ.
+	 *
+	 * @param argSet a {@code BitSet} of ids in the graph.
+	 */
+	void load(BitSet argSet) {
+
+		for (int i = members.nextSetBit(0); i >= 0; i = members.nextSetBit(i + 1)) {
+			if (!argSet.get(i)) {
+				remove(i);
+			}
+		}
+		for (int i = argSet.nextSetBit(0); i >= 0; i = argSet.nextSetBit(i + 1)) {
+			add(i);
+		}
+	}
+
+	/**
+	 * Removes every member which is not acceptable with respect to the members - and does so repeatedly, until every
+	 * member is acceptable. Since removing a member never makes another acceptable, the result is the greatest subset
+	 * of the original members which is acceptable with respect to itself; and it is found by a worklist, so that each
+	 * member is examined again only when one of its attackers has become undefeated.
+	 */
+	void removeUnacceptedMembers() {
+
+		ArrayDeque<Integer> worklist = new ArrayDeque<Integer>();
+		int current;
+
+		for (int i = members.nextSetBit(0); i >= 0; i = members.nextSetBit(i + 1)) {
+			if (0 != undefeatedAttackerCounts[i]) {
+				worklist.add(i);
+			}
+		}
+		while (0 != unacceptedMembersCount) {
+			current = worklist.poll();
+			if (!members.get(current) || (0 == undefeatedAttackerCounts[current])) {
+				continue;
+			}
+			remove(current);
+			/* the members which may have lost their acceptability are the targets of the undefeated arguments. */
+			for (int k = graph.targetOffsets[current]; k < graph.targetOffsets[current + 1]; k++) {
+				if (0 == memberAttackerCounts[graph.targets[k]]) {
+					addTargetsOf(graph.targets[k], worklist);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds to {@code worklist} each member attacked by the argument with id {@code arg} which is not acceptable.
+	 */
+	private void addTargetsOf(int arg, ArrayDeque<Integer> worklist) {
+
+		int target;
+
+		for (int k = graph.targetOffsets[arg]; k < graph.targetOffsets[arg + 1]; k++) {
+			target = graph.targets[k];
+			if (members.get(target) && (0 != undefeatedAttackerCounts[target])) {
+				worklist.add(target);
+			}
+		}
+	}
+
+	//----- QUERIES ----------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns a copy of the members.
+	 */
+	BitSet getMembers() {
+
+		return (BitSet) members.clone();
+	}
+
+	/**
+	 * Returns {@code true} if the argument with id {@code arg} is a member.
+	 */
+	boolean isMember(int arg) {
+
+		return members.get(arg);
+	}
+
+	/**
+	 * Returns {@code true} if the argument with id {@code arg} is attacked by some member.
+	 */
+	boolean isDefeated(int arg) {
+
+		return 0 != memberAttackerCounts[arg];
+	}
+
+	/**
+	 * Returns {@code true} if the argument with id {@code arg} is acceptable with respect to the members.
+	 */
+	boolean accepts(int arg) {
+
+		return 0 == undefeatedAttackerCounts[arg];
+	}
+
+	/**
+	 * Returns {@code true} if every member of {@code argsToCheck} is acceptable with respect to the members.
+	 */
+	boolean accepts(BitSet argsToCheck) {
+
+		for (int i = argsToCheck.nextSetBit(0); i >= 0; i = argsToCheck.nextSetBit(i + 1)) {
+			if (0 != undefeatedAttackerCounts[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the ids of the arguments which are acceptable with respect to the members - i.e. the value of the
+	 * characteristic function at the members.
+	 */
+	BitSet acceptedArgs() {
+
+		BitSet result = new BitSet(graph.size());
+
+		for (int i = 0; i < graph.size(); i++) {
+			if (0 == undefeatedAttackerCounts[i]) {
+				result.set(i);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns {@code true} if no member attacks itself or any other member.
+	 */
+	boolean isConflictFree() {
+
+		return 0 == conflictsCount;
+	}
+
+	/**
+	 * Returns {@code true} if the members are conflict-free, and every member is acceptable with respect to them.
+	 */
+	boolean isAdmissible() {
+
+		return (0 == conflictsCount) && (0 == unacceptedMembersCount);
+	}
+
+	/**
+	 * Returns {@code true} if the members are conflict-free, and are exactly the arguments acceptable with respect to
+	 * them - i.e. they are a fixed point of the characteristic function.
+	 */
+	boolean isComplete() {
+
+		return isAdmissible() && (acceptedArgsCount == members.cardinality());
+	}
+}
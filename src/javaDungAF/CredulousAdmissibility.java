@@ -0,0 +1,264 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * Decides, for the arguments of an {@link AttackGraph AttackGraph}, whether each is <i>credulously accepted</i> under
+ * the admissible semantics - i.e. is a member of some admissible set, or equivalently of some preferred extension -
+ * without finding the admissible sets or the preferred extensions.
+ *
+ * <p> An argument is decided by a depth-first search for an admissible set containing it. The search holds a
+ * conflict-free set, initially just the argument, in a {@link CharacteristicFunction CharacteristicFunction}; it takes
+ * an attacker of the set against which the set is not yet defended, and tries in turn each attacker of that attacker
+ * which may be added to the set without conflict, backtracking when none remains. When the set is defended against
+ * all of its attackers, it is admissible. Every admissible set containing the argument is found along some branch, so
+ * the search is complete. The attackers still to be defended against are kept on a trail, which is cut back on
+ * backtracking, so the search needs no recursion and works on AFs of any size. </p>
+ *
+ * <p> Decisions are recorded: the members of every admissible set found are credulously accepted, and an argument for
+ * which the search fails is never tried as a defender again. The grounded labelling seeds the record, since every
+ * argument labelled {@code IN} is credulously accepted, and no argument labelled {@code OUT} is. </p>
+ */
+final class CredulousAdmissibility {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	/**
+	 * The status of an argument which has not yet been decided.
+	 */
+	private static final byte UNKNOWN = 0;
+
+	/**
+	 * The status of an argument which is credulously accepted.
+	 */
+	private static final byte ACCEPTED = 1;
+
+	/**
+	 * The status of an argument which is not credulously accepted.
+	 */
+	private static final byte REJECTED = 2;
+
+	private final AttackGraph graph;
+
+	/**
+	 * The status of each argument, indexed by id.
+	 */
+	private final byte[] statuses;
+
+	/**
+	 * The set under construction, during a search.
+	 */
+	private final CharacteristicFunction evaluator;
+
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructs the decision procedure for the arguments of {@code graph}, seeded by its grounded labelling.
+	 *
+	 * @param graph an {@code AttackGraph}.
+	 * @param groundedLabelling the grounded labelling of the AF of {@code graph}, as an array of
+	 * {@link Labelling Labelling} labels indexed by id.
+	 */
+	CredulousAdmissibility(AttackGraph graph, byte[] groundedLabelling) {
+
+		this.graph = graph;
+		statuses = new byte[graph.size()];
+		evaluator = new CharacteristicFunction(graph);
+
+		for (int i = 0; i < graph.size(); i++) {
+			if (Labelling.IN == groundedLabelling[i]) {
+				statuses[i] = ACCEPTED;
+			} else if ((Labelling.OUT == groundedLabelling[i]) || graph.attacksItself(i)) {
+				statuses[i] = REJECTED;
+			}
+		}
+	}
+
+	//----- DECISIONS --------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns {@code true} if the argument with id {@code arg} is a member of some admissible set.
+	 */
+	boolean isAccepted(int arg) {
+
+		if (UNKNOWN == statuses[arg]) {
+			statuses[arg] = search(arg) ? ACCEPTED : REJECTED;
+		}
+
+		return ACCEPTED == statuses[arg];
+	}
+
+	/**
+	 * Returns {@code true} if some attacker of the argument with id {@code arg} is a member of some admissible set.
+	 */
+	boolean isAttackedByAccepted(int arg) {
+
+		/* attackers already decided are checked first, since they need no search. */
+		for (int k = graph.attackerOffsets[arg]; k < graph.attackerOffsets[arg + 1]; k++) {
+			if (ACCEPTED == statuses[graph.attackers[k]]) {
+				return true;
+			}
+		}
+		for (int k = graph.attackerOffsets[arg]; k < graph.attackerOffsets[arg + 1]; k++) {
+			if (isAccepted(graph.attackers[k])) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Searches for an admissible set containing the argument with id {@code arg}, which is not self-attacking; if one
+	 * is found, its members are recorded as credulously accepted.
+	 *
+	 * @return {@code true} if an admissible set containing the argument was found.
+	 */
+	private boolean search(int arg) {
+
+		/* the attackers of members, in the order the members were added; those before trailHead are defended. */
+		int[] trail = new int[16];
+		int trailSize = 0;
+		int trailHead = 0;
+		/* the choice points, one per undefended attacker taken from the trail. */
+		ArrayList<ChoicePoint> choicePoints = new ArrayList<ChoicePoint>();
+		ChoicePoint current;
+		boolean found = false;
+		int added = arg;
+		int undefended;
+
+		evaluator.add(arg);
+		while (true) {
+			/* push the attackers of the newly added member onto the trail. */
+			for (int k = graph.attackerOffsets[added]; k < graph.attackerOffsets[added + 1]; k++) {
+				if (trailSize == trail.length) {
+					trail = Arrays.copyOf(trail, 2 * trailSize);
+				}
+				trail[trailSize++] = graph.attackers[k];
+			}
+			/* skip the attackers already defended against; they remain so while the set grows. */
+			while ((trailHead < trailSize) && evaluator.isDefeated(trail[trailHead])) {
+				trailHead++;
+			}
+			if (trailHead == trailSize) {
+				found = true;
+				break;
+			}
+			undefended = trail[trailHead];
+			choicePoints.add(new ChoicePoint(defendersAgainst(undefended), trailHead, trailSize));
+
+			/* take the next untried defender, backtracking as necessary. */
+			added = -1;
+			while ((-1 == added) && !choicePoints.isEmpty()) {
+				current = choicePoints.get(choicePoints.size() - 1);
+				if (-1 != current.added) {
+					evaluator.remove(current.added);
+					current.added = -1;
+				}
+				trailHead = current.trailHead;
+				trailSize = current.trailSize;
+				if (current.next < current.defenders.length) {
+					added = current.defenders[current.next++];
+					current.added = added;
+					evaluator.add(added);
+					trailHead++;
+				} else {
+					choicePoints.remove(choicePoints.size() - 1);
+				}
+			}
+			if (-1 == added) {
+				break;
+			}
+		}
+
+		/* record the result, and empty the evaluator. */
+		for (ChoicePoint nextChoicePoint : choicePoints) {
+			if (found) {
+				statuses[nextChoicePoint.added] = ACCEPTED;
+			}
+			evaluator.remove(nextChoicePoint.added);
+		}
+		evaluator.remove(arg);
+
+		return found;
+	}
+
+	/**
+	 * Returns the ids of the attackers of the argument with id {@code arg} which may be added to the set under
+	 * construction: those not known to be rejected, and in conflict neither with themselves nor with the set.
+	 */
+	private int[] defendersAgainst(int arg) {
+
+		int[] result = new int[graph.attackerOffsets[arg + 1] - graph.attackerOffsets[arg]];
+		int count = 0;
+		int defender;
+
+		for (int k = graph.attackerOffsets[arg]; k < graph.attackerOffsets[arg + 1]; k++) {
+			defender = graph.attackers[k];
+			if ((REJECTED != statuses[defender]) && !evaluator.isDefeated(defender) && !attacksMember(defender)) {
+				result[count++] = defender;
+			}
+		}
+
+		return Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * Returns {@code true} if the argument with id {@code arg} attacks some member of the set under construction.
+	 */
+	private boolean attacksMember(int arg) {
+
+		for (int k = graph.targetOffsets[arg]; k < graph.targetOffsets[arg + 1]; k++) {
+			if (evaluator.isMember(graph.targets[k])) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	//----- CHOICE POINTS ----------------------------------------------------------------------------------------------
+
+	/**
+	 * The defenders against one undefended attacker, with the state of the trail when they were found.
+	 */
+	private static final class ChoicePoint {
+
+		final int[] defenders;
+
+		final int trailHead;
+
+		final int trailSize;
+
+		/**
+		 * The index in {@code defenders} of the next defender to try.
+		 */
+		int next;
+
+		/**
+		 * The defender currently in the set, or {@code -1}.
+		 */
+		int added = -1;
+
+		ChoicePoint(int[] defenders, int trailHead, int trailSize) {
+
+			this.defenders = defenders;
+			this.trailHead = trailHead;
+			this.trailSize = trailSize;
+		}
+	}
+}
@@ -16,13 +16,13 @@
 package javaDungAF;
 
 import java.util.*;
-import com.google.common.collect.Sets;
 
 /**
  * A class to implement Dung's abstract argumentation frameworks (AFs). 
  *
  * <p> A {@code DungAF} represents an AF. Arguments and attacks are represented as {@code String}s and two-element 
- * {@code String}-arrays ([<i>attacker</i>, <i>attacked</i>]), respectively. A {@code DungAF} may also record 
+ * {@code String}-arrays ([<i>attacker</i>, <i>attacked</i>]), respectively; attacks may also be represented as 
+ * {@link Attack Attack}s, which is how a {@code DungAF} records them. A {@code DungAF} may also record 
  * information concerning the interpretation of its AF, according to the semantics implemented by this class -
  * 
  * <ul>
@@ -41,7 +41,7 @@ import com.google.common.collect.Sets;
  * is changed. Thus for as long as the object's AF remains unchanged, repeated calls to (for instance) 
  * {@link #getGroundedExt getGroundedExt()} do not result in repeated calculations of the grounded extension. </p> 
  * 
- * <p> The implementations of the admissible semantics and the grounded semantics use existing algorithms - 
+ * <p> The implementations of the admissible, grounded, ideal and preferred semantics use existing algorithms - 
  *
  * <ul>
  * <li> <b>admissible</b>: this class uses a simplified and slightly modified version of an algorithm of Vreeswijk's 
@@ -63,11 +63,46 @@ import com.google.common.collect.Sets;
  * <br/>
  * <u>Artificial Intelligence (77:2): pp.321-58</u>.</ul>
  * <br/> </li>  
+ * <li> <b>ideal</b>: unless the preferred extensions are already recorded, this class finds the ideal extension 
+ *		without them, from the arguments which are credulously accepted but not attacked by any credulously accepted 
+ *		argument, as characterized in Dunne's 2009 paper -
+ * <br/>
+ * <br/>
+ * <ul><i>The computational complexity of ideal semantics</i>
+ * <br/>
+ * <u>Artificial Intelligence (173:18): pp.1559-91</u>.</ul>
+ * <br/> </li>  
+ * <li> <b>preferred</b>: by default, this class finds the preferred extensions by a backtracking search of the 
+ *		complete labellings, trying {@code IN} first and pruning by the extensions already found, after Modgil and 
+ *		Caminada's algorithm as refined in Nofal, Atkinson and Dunne's 2014 paper -
+ * <br/>
+ * <br/>
+ * <ul><i>Algorithms for decision problems in argument systems under preferred semantics</i>
+ * <br/>
+ * <u>Artificial Intelligence (207): pp.23-51</u>.</ul>
+ * <br/>
+ *		The algorithm based on defence-sets may be selected instead - see {@link Semantics Semantics}. </li>  
  * </ul> 
  *
  * For the other semantics listed above, implementation proceeds straightforwardly from the implementation of 
  * the admissible semantics. Further details on the latter are provided
- * <a href="../admissibleSemantics.pdf">here</a>. </p>
+ * <a href="../admissibleSemantics.pdf">here</a>. If the AF is acyclic, however, every semantics but the admissible 
+ * semantics prescribes just the grounded extension, which is then returned with no search; and if every attack is 
+ * mutual, the preferred extensions are the maximal conflict-free sets, which are enumerated directly, by the 
+ * Bron-Kerbosch algorithm. If the AF is bipartite, the arguments in some and in every preferred extension are found 
+ * in polynomial time, by Dunne's algorithm; and the preferred extensions, which are then the stable extensions, are 
+ * found by a search of the stable labellings. </p>
+ *
+ * <p> Internally, the semantics-related methods run on an integer-indexed representation of the AF, in which each
+ * argument has a dense id and the attack relation is stored in compressed-sparse-row form, and argument-sets are
+ * {@link BitSet BitSet}s over those ids. The representation is built when first required, and discarded whenever
+ * the AF is changed; ids are first assigned in an order which places adjacent arguments close together - see
+ * {@link #setArgumentOrder(ArgumentOrder) setArgumentOrder(ArgumentOrder)} - and a representation rebuilt after a 
+ * change keeps the order of the one discarded, with any new arguments last. The methods which accept and return
+ * {@code String}s merely translate to and from it. The semantics themselves are implemented on that representation
+ * by {@link SemanticsEngine SemanticsEngine}, which {@link GenericDungAF GenericDungAF}, {@link LongDungAF LongDungAF}
+ * and {@link IntDungAF IntDungAF} share; a {@code DungAF} is the {@code String} instantiation of
+ * {@link ArgumentFramework ArgumentFramework}. </p>
  *
  * <p> <b>Note</b>: henceforth, for the sake of brevity, {@code DungAF}s will often be referred to simply as AFs - that 
  * is, as if each recorded merely an AF, and could not also record its admissible sets, complete extensions, etc. </p>
@@ -75,89 +110,72 @@ import com.google.common.collect.Sets;
  * <p> <b>Note</b>: this class is <b>not</b> synchronized. It is not clear what might happen if, for instance, a 
  * {@code DungAF} was asked to add attacks to its AF, while it was generating the admissible sets of its AF. </p>
  *
- * <p> <b>Note</b>: this class depends on Google's 
- * <a href="http://code.google.com/p/guava-libraries/">guava-libraries</a> (version 10.0.01) - specifically, the 
- * implementation of the <i>n</i>-ary cartesian product provided by <a href="http://docs.guava-libraries.googlecode.com/git-history/v10.0.1/javadoc/com/google/common/collect/Sets.html#cartesianProduct(java.util.List)">{@code com.google.common.collect.Sets.cartesianProduct(List<? extends Set<? extends B>>)}</a>. </p>
+ * <p> <b>Note</b>: this class depends on no libraries beyond the JDK. </p>
  */
-public class DungAF {
+public class DungAF implements ArgumentFramework<String> {
 	
 	//----- FIELDS -----------------------------------------------------------------------------------------------------
 	
 	//-------- fundamentals ----------
 	/**
 	 * This AF's arguments. 
+	 *
+	 * <p> A {@link ForkableSet ForkableSet}, so that {@link #fork() fork()} may share it. </p>
 	 */
-	private HashSet<String> args;
+	private ForkableSet<String> args;
 	
 	/**
 	 * This AF's attacks. 
+	 *
+	 * <p> A {@link ForkableSet ForkableSet}, so that {@link #fork() fork()} may share it. </p>
 	 */
-	private HashSet<String[]> atts;
+	private ForkableSet<Attack> atts;
 	
 	//-------- maps ----------
 	/**
-	 * A map indicating, for each of this AF's arguments, the arguments attacking it in this AF.  
-	 */
-	private HashMap<String,HashSet<String>> argsToAttackers;
-	
-	/**
-	 * A map indicating, for each of this AF's arguments, the arguments attacked by it in this AF.
-	 */
-	private HashMap<String,HashSet<String>> argsToTargets;
-	
-	/**
-	 * A map indicating, for none, some or all of this AF's arguments, the defence-sets around each of those arguments 
-	 * in this AF.
+	 * The integer-indexed representation of this AF, on which the semantics-related methods run; {@code null} if it
+	 * has not been built since this AF last changed.
 	 *
-	 * <p> On defence-sets, see {@link #getDefenceSetsAround(String) getDefenceSetsAround(String)}. </p>
-	 */
-	private HashMap<String,HashSet<HashSet<String>>> argsToDefenceSets;
-	
-	//-------- other semantics-related fields ----------
-	/**
-	 * This AF's admissible sets.  
-	 */
-	private HashSet<HashSet<String>> admissibleSets;
-	
-	/**
-	 * This AF's complete extensions. 
+	 * <p> An {@code AttackGraph} is never changed after construction, so copies of this object may share it. </p>
 	 */
-	private HashSet<HashSet<String>> completeExts;
+	private AttackGraph graph;
 	
 	/**
-	 * This AF's eager extension. 
-	 */
-	private HashSet<String> eagerExt;
-	
-	/**
-	 * This AF's grounded extension. 
-	 */
-	private HashSet<String> groundedExt;
-	
-	/**
-	 * This AF's ideal extension. 
+	 * The engine which finds and records the extensions of this AF, on {@link #graph graph}; {@code null} if and only 
+	 * if {@code graph} is {@code null}.
+	 *
+	 * <p> Extensions are recorded as {@code BitSet}s over the ids in {@code graph}. Once recorded, neither an extension 
+	 * nor a set of extensions is ever changed, so copies of this object may share them - see 
+	 * {@link SemanticsEngine SemanticsEngine}. </p>
 	 */
-	private HashSet<String> idealExt;
+	private SemanticsEngine engine;
 	
 	/**
-	 * This AF's preferred extensions. 
+	 * The order in which ids in {@link #graph graph} are assigned to this AF's arguments.
 	 */
-	private HashSet<HashSet<String>> preferredExts;
+	private ArgumentOrder argOrder = ArgumentOrder.DEFAULT;
 	
 	/**
-	 * The extension prescribed by the <i>sceptical</i> preferred semantics for this AF.  
+	 * The last {@link AttackGraph AttackGraph} discarded because this AF changed, whose order of ids the next graph 
+	 * keeps, rather than being reordered by {@link #argOrder argOrder}; {@code null} if the next graph is to be 
+	 * ordered by {@code argOrder}. Like every graph, it may be shared with copies.
 	 */
-	private HashSet<String> preferredScepticalExt;
+	private AttackGraph keptOrder;
 	
 	/**
-	 * This AF's semi-stable extensions. 
+	 * Whether this object maintains its AF's grounded extension incrementally - see 
+	 * {@link #setGroundedIncremental(boolean) setGroundedIncremental(boolean)}.
 	 */
-	private HashSet<HashSet<String>> semiStableExts;
+	private boolean groundedIncremental;
 	
 	/**
-	 * This AF's stable extensions. 
+	 * The incrementally maintained grounded labelling of this AF; {@code null} if {@link #groundedIncremental 
+	 * groundedIncremental} is {@code false}, or if the labelling has not been required since it was set to 
+	 * {@code true}, or since this object was copied or cleared.
+	 *
+	 * <p> Unlike {@link #engine engine}, this is changed along with this AF, so it is never shared with copies. </p>
 	 */
-	private HashSet<HashSet<String>> stableExts;
+	private IncrementalGrounded incrementalGrounded;
 		
 	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
 	
@@ -166,79 +184,48 @@ public class DungAF {
 	 */		
 	public DungAF() {
 		
-		args = new HashSet<String>(); 
-		atts = new HashSet<String[]>(); 
-		
-		argsToAttackers = new HashMap<String,HashSet<String>>();
-		argsToTargets = new HashMap<String,HashSet<String>>();
-		argsToDefenceSets = new HashMap<String,HashSet<HashSet<String>>>();
+		args = new ForkableSet<String>(); 
+		atts = new ForkableSet<Attack>(); 
 	}
 	
 	/**
 	 * Constructs a copy of {@code anotherAF}. 
 	 *
 	 * <p> The values of <i>all</i> fields in {@code anotherAF} - including semantics-related fields - are 
-	 * copied into the constructed object. </p>
+	 * copied into the constructed object. The sets of arguments and attacks are copied as by {@link #fork() fork()}, 
+	 * but the semantics-related information is not shared, so that the two objects may be used by different 
+	 * threads. </p>
 	 *
 	 * @param anotherAF a {@code DungAF}.
 	 */		
 	public DungAF(DungAF anotherAF) {
-				
-		args = new HashSet<String>(anotherAF.getArgs());
-		atts = new HashSet<String[]>(anotherAF.getAtts());
-		List<String> implemSemantics = Arrays.asList("eager", "grounded", "ideal", "preferredSceptical", "admissible",
-													 "complete", "preferred", "stable", "semiStable");
-		List<String> uniqueExtensionSemantics = Arrays.asList("eager", "grounded", "ideal", "preferredSceptical");
-		boolean semanticsIsUniqueExtension;
-		HashSet<String> argSet;
-		HashSet<HashSet<String>> argSets;
-		String fieldName;
-		String methodName;
-		
-		
-		argsToAttackers = new HashMap<String,HashSet<String>>();
-		argsToTargets = new HashMap<String,HashSet<String>>();
-		for (String nextArg : args) {
-			argsToAttackers.put(nextArg, new HashSet<String>());
-			argsToTargets.put(nextArg, new HashSet<String>());
-		}
-		for (String nextAtt[] : atts) {
-			 argsToAttackers.get(nextAtt[1]).add(nextAtt[0]);
-			 argsToTargets.get(nextAtt[0]).add(nextAtt[1]);
-		}
-		
-		argsToDefenceSets = new HashMap<String,HashSet<HashSet<String>>>();
-		for (String nextArg : args) {
-			if (anotherAF.recordsDefenceSetsAround(nextArg)) {
-				argsToDefenceSets.put(nextArg, anotherAF.getDefenceSetsAround(nextArg));
-			}
-		}
 		
-		for (String nextSemantics : implemSemantics) {
-			semanticsIsUniqueExtension = uniqueExtensionSemantics.contains(nextSemantics);
-			
-			if (nextSemantics.equals("admissible")) {
-				fieldName = "admissibleSets";
-				methodName = "getAdmissibleSets";
-			} else {
-				fieldName = nextSemantics + "Ext" + (semanticsIsUniqueExtension ? "" : "s");
-				methodName = "get" + nextSemantics.substring(0,1).toUpperCase() + nextSemantics.substring(1);
-				methodName += semanticsIsUniqueExtension ? "Ext" : "Exts";
-			}
-			
-			try {
-				 if (anotherAF.recordsExtsOfType(nextSemantics)) {
-					 if (semanticsIsUniqueExtension) {
-						 argSet = (HashSet<String>) DungAF.class.getMethod(methodName).invoke(anotherAF);
-					     DungAF.class.getDeclaredField(fieldName).set(this, argSet);						 
-					 } else {
-						 argSets = (HashSet<HashSet<String>>) DungAF.class.getMethod(methodName).invoke(anotherAF);
-						 DungAF.class.getDeclaredField(fieldName).set(this, argSets);
-					 }
-				 }
-			} catch (Exception e) {
-				throw new RuntimeException();	// should never happen.
-			}
+		this(anotherAF, true);
+	}
+	
+	/**
+	 * Constructs a copy of {@code anotherAF}, which either copies or shares {@code anotherAF}'s sets of arguments and
+	 * attacks. 
+	 *
+	 * <p> If the sets are shared, neither object's AF may subsequently be changed. {@link FrozenDungAF FrozenDungAF}
+	 * shares them with the working copies in which it finds extensions. </p>
+	 *
+	 * @param anotherAF a {@code DungAF}.
+	 * @param copyAF whether {@code anotherAF}'s sets of arguments and attacks are to be copied.
+	 */		
+	DungAF(DungAF anotherAF, boolean copyAF) {
+				
+		args = copyAF ? anotherAF.args.fork() : anotherAF.args;
+		atts = copyAF ? anotherAF.atts.fork() : anotherAF.atts;
+		
+		/* the graph is never changed once created, so it may be shared; the engine's copy constructor shares what it 
+		 may, and copies the rest. */
+		graph = anotherAF.graph;
+		argOrder = anotherAF.argOrder;
+		keptOrder = anotherAF.keptOrder;
+		groundedIncremental = anotherAF.groundedIncremental;
+		if (null != anotherAF.engine) {
+			engine = new SemanticsEngine(anotherAF.engine);
 		}
 	}
 	
@@ -275,33 +262,36 @@ public class DungAF {
 				+ "'attsParam' included at least one String-array which did not have exactly two elements.");
 		} else {
 			/* set args, ensuring that every argument involved in any attack in attsParam is added to args. */
-			args = new HashSet<String>(argsParam);
+			args = new ForkableSet<String>(argsParam);
 			for (String[] nextAtt : attsParam) {
 				args.addAll(Arrays.asList(nextAtt));
 			}				
 			
-			atts = new HashSet<String[]>();
-			for (String[] nextAtt : attsParam) {
-				atts.add(Arrays.copyOf(nextAtt, 2));		
-			}
-			/* attacks are arrays, so atts might contain duplicates */
-			removeDuplicateAttacks();
-			
-			argsToAttackers = new HashMap<String,HashSet<String>>();
-			argsToTargets = new HashMap<String,HashSet<String>>();
-			for (String nextArg : args) {
-				argsToAttackers.put(nextArg, new HashSet<String>());
-				argsToTargets.put(nextArg, new HashSet<String>());
-			}
+			atts = new ForkableSet<Attack>();
 			for (String[] nextAtt : attsParam) {
-				argsToAttackers.get(nextAtt[1]).add(nextAtt[0]);
-				argsToTargets.get(nextAtt[0]).add(nextAtt[1]);
+				atts.add(Attack.fromArray(nextAtt));		
 			}
-			
-			argsToDefenceSets = new HashMap<String,HashSet<HashSet<String>>>();
 		}
 	}
 	
+	/**
+	 * Constructs the AF with the specified arguments and attacks, and the specified {@link AttackGraph AttackGraph} 
+	 * thereof and {@link SemanticsEngine SemanticsEngine} thereon. Used by {@link Builder Builder}, which has already 
+	 * indexed the arguments, and by {@link #fork() fork()}.
+	 *
+	 * @param args a set of {@code String}s, which becomes this AF's set of arguments.
+	 * @param atts a set of {@code Attack}s among {@code args}, which becomes this AF's set of attacks.
+	 * @param graph the {@code AttackGraph} of ({@code args}, {@code atts}), or {@code null}.
+	 * @param engine a {@code SemanticsEngine} on {@code graph}, or {@code null} if {@code graph} is {@code null}.
+	 */
+	private DungAF(ForkableSet<String> args, ForkableSet<Attack> atts, AttackGraph graph, SemanticsEngine engine) {
+		
+		this.args = args;
+		this.atts = atts;
+		this.graph = graph;
+		this.engine = engine;
+	}
+	
 	//----- MISCELLANEOUS BASIC METHODS --------------------------------------------------------------------------------
 	
 	/**
@@ -323,13 +313,23 @@ public class DungAF {
 		
 		HashSet<String[]> copiesOfAtts = new HashSet<String[]>();
 		
-		for (String[] nextAtt : atts) {
-			copiesOfAtts.add(Arrays.copyOf(nextAtt, 2));	
+		for (Attack nextAtt : atts) {
+			copiesOfAtts.add(nextAtt.toArray());	
 		}
 		
 		return copiesOfAtts; 
 	}
 	
+	/**
+	 * Returns this AF's attacks, as {@link Attack Attack}s. 
+	 *
+	 * @return a set of {@code Attack}s, denoting this AF's attacks.
+	 */
+	public HashSet<Attack> getAttacks() { 
+		
+		return new HashSet<Attack>(atts); 
+	}
+	
 	/**
 	 * Returns the arguments attacking {@code arg} in this AF.
 	 *
@@ -338,7 +338,9 @@ public class DungAF {
 	 */
 	public HashSet<String> getAttackersOf(String arg) { 
 		
-		return args.contains(arg) ? new HashSet<String>(argsToAttackers.get(arg)) : new HashSet<String>(); 
+		int id = getGraph().idOf(arg);
+		
+		return (id < 0) ? new HashSet<String>() : graph.attackersAsArgSet(id); 
 	}	
 	
 	/**
@@ -349,7 +351,9 @@ public class DungAF {
 	 */
 	public HashSet<String> getTargetsOf(String arg) {
 		
-		return args.contains(arg) ? new HashSet<String>(argsToTargets.get(arg)) : new HashSet<String>();
+		int id = getGraph().idOf(arg);
+		
+		return (id < 0) ? new HashSet<String>() : graph.targetsAsArgSet(id);
 	}	
 	
 	/**
@@ -371,14 +375,12 @@ public class DungAF {
 	 */	
 	public boolean addArgs(String ... argsToBeAdded) {
 		
-		for (String nextArg : argsToBeAdded) {
-			if (!args.contains(nextArg)) {
-				argsToAttackers.put(nextArg, new HashSet<String>());
-				argsToTargets.put(nextArg, new HashSet<String>());
-			}
-		}
-		
 		if (args.addAll(Arrays.asList(argsToBeAdded))) {
+			if (null != incrementalGrounded) {
+				for (String nextArg : argsToBeAdded) {
+					incrementalGrounded.addArg(nextArg);
+				}
+			}
 			removeSemanticsInfo();
 			return true;			
 		} else { 
@@ -413,32 +415,54 @@ public class DungAF {
 	 */	
 	public boolean addAtts(String[] ... attsToBeAdded) {
 		
-		int attsCount;
-				
 		if (!arraysDenoteAttacks(attsToBeAdded)) {
 			throw new IllegalArgumentException(
 				"by '" + getClass().getName() + ".addAtts(String[]... )' --- "
 				+ "parameter(s) included at least one String-array which did not have exactly two elements.");	
 		} else {
-			attsCount = atts.size();
-			
-			for (String[] nextAtt : attsToBeAdded) {
-				atts.add(Arrays.copyOf(nextAtt,2)); 
-				addArgs(nextAtt[0], nextAtt[1]);
-				argsToAttackers.get(nextAtt[1]).add(nextAtt[0]);
-				argsToTargets.get(nextAtt[0]).add(nextAtt[1]);
-			}
-			
-			/* attacks are arrays, so atts might contains duplicates. */
-			removeDuplicateAttacks();
-			
-			if (attsCount < atts.size()) {
-				removeSemanticsInfo();
-				return true;
-			} else {
-				return false;	
+			return addAtts(toAttacks(attsToBeAdded));
+		}
+	}
+	
+	/**
+	 * Adds the specified attacks to this AF, together with the arguments involved in them.
+	 *
+	 * @param attsToBeAdded one or more {@code Attack}s.
+	 * @return {@code true} if this AF changed as a result of the call.
+	 */	
+	public boolean addAtts(Attack ... attsToBeAdded) {
+		
+		boolean changed = false;
+		
+		for (Attack nextAtt : attsToBeAdded) {
+			if (atts.add(nextAtt)) {
+				args.add(nextAtt.getAttacker());
+				args.add(nextAtt.getTarget());
+				if (null != incrementalGrounded) {
+					incrementalGrounded.addAtt(nextAtt);
+				}
+				changed = true;
 			}
 		}
+		
+		if (changed) {
+			removeSemanticsInfo();
+			return true;
+		} else {
+			return false;	
+		}
+	}
+	
+	/**
+	 * Adds the attack by {@code attacker} on {@code target} to this AF, together with both arguments. 
+	 *
+	 * @param attacker a {@code String}, denoting the attacking argument.
+	 * @param target a {@code String}, denoting the attacked argument.
+	 * @return {@code true} if this AF changed as a result of the call.
+	 */	
+	public boolean addAtt(String attacker, String target) {
+		
+		return addAtts(new Attack(attacker, target));
 	}
 	
 	/**
@@ -461,18 +485,42 @@ public class DungAF {
 	 */	
 	public boolean removeArgs(String ... argsToBeRemoved) {
 		
-		HashSet<String[]> attsToBeRemoved = new HashSet<String[]>();
-		
-		if (args.removeAll(Arrays.asList(argsToBeRemoved))) {			
-			for (String[] nextAtt : atts) {
-				if (!args.contains(nextAtt[0]) || !args.contains(nextAtt[1])) { 
-					attsToBeRemoved.add(nextAtt); 
+		Attack tempAtt;
+		int id;
+		
+		if (args.removeAll(new HashSet<String>(Arrays.asList(argsToBeRemoved)))) {			
+			if (null != graph) {
+				/* the graph still records this AF's attacks, so only the attacks involving the removed arguments need 
+				 be visited - which keeps the cost of changing a fork proportional to the change. */
+				for (String nextArg : argsToBeRemoved) {
+					id = graph.idOf(nextArg);
+					if (id >= 0) {
+						for (int k = graph.targetOffsets[id]; k < graph.targetOffsets[id + 1]; k++) {
+							atts.remove(new Attack(nextArg, graph.names[graph.targets[k]]));
+						}
+						for (int k = graph.attackerOffsets[id]; k < graph.attackerOffsets[id + 1]; k++) {
+							atts.remove(new Attack(graph.names[graph.attackers[k]], nextArg));
+						}
+					}
+				}
+			} else if (null != incrementalGrounded) {
+				/* likewise, incrementalGrounded records the attacks involving each argument. */
+				for (String nextArg : argsToBeRemoved) {
+					atts.removeAll(incrementalGrounded.attsInvolving(nextArg));
+				}
+			} else {
+				for (Iterator<Attack> it = atts.iterator(); it.hasNext(); ) {
+					tempAtt = it.next();
+					if (!args.contains(tempAtt.getAttacker()) || !args.contains(tempAtt.getTarget())) { 
+						it.remove(); 
+					}
+				}
+			}
+			if (null != incrementalGrounded) {
+				for (String nextArg : argsToBeRemoved) {
+					incrementalGrounded.removeArg(nextArg);
 				}
 			}
-			removeAtts(attsToBeRemoved);
-			
-			argsToAttackers.keySet().removeAll(Arrays.asList(argsToBeRemoved));
-			argsToTargets.keySet().removeAll(Arrays.asList(argsToBeRemoved));
 			
 			removeSemanticsInfo();
 			
@@ -509,37 +557,52 @@ public class DungAF {
 	 */	
 	public boolean removeAtts(String[] ... attsToBeRemoved) {
 		
-		int attsCount = atts.size();
-		String[] tempAtt;
-		
 		if (!arraysDenoteAttacks(attsToBeRemoved)) {
 			throw new IllegalArgumentException(
 				"by '" + getClass().getName() + ".removeAtts(String[]... )' --- "
 				+ "parameter(s) included at least one String-array which did not have exactly two elements.");
 		} else {
-			for (Iterator<String[]> it = atts.iterator(); it.hasNext(); ) {
-				tempAtt = it.next();
-				for (String[] nextAttToBeRemoved : attsToBeRemoved) {
-					if (Arrays.equals(tempAtt, nextAttToBeRemoved)) {
-						it.remove();
-						break;
-					}
-				}
-			}
-			
-			if (attsCount > atts.size()) {
-				for (String[] nextAtt : attsToBeRemoved) {	 
-					argsToAttackers.get(nextAtt[1]).remove(nextAtt[0]); 
-					argsToTargets.get(nextAtt[0]).remove(nextAtt[1]); 
+			return removeAtts(toAttacks(attsToBeRemoved));
+		}
+	}
+	
+	/**
+	 * Removes the specified attacks from this AF.
+	 *
+	 * @param attsToBeRemoved one or more {@code Attack}s. 
+	 * @return {@code true} if this AF changed as a result of the call.
+	 */	
+	public boolean removeAtts(Attack ... attsToBeRemoved) {
+		
+		boolean changed = false;
+		
+		for (Attack nextAtt : attsToBeRemoved) {
+			if (atts.remove(nextAtt)) {
+				if (null != incrementalGrounded) {
+					incrementalGrounded.removeAtt(nextAtt);
 				}
-				
-				removeSemanticsInfo();
-				
-				return true;
-			} else {
-				return false;	
+				changed = true;
 			}
 		}
+		
+		if (changed) {
+			removeSemanticsInfo();
+			return true;
+		} else {
+			return false;	
+		}
+	}
+	
+	/**
+	 * Removes the attack by {@code attacker} on {@code target} from this AF. 
+	 *
+	 * @param attacker a {@code String}, denoting the attacking argument.
+	 * @param target a {@code String}, denoting the attacked argument.
+	 * @return {@code true} if this AF changed as a result of the call.
+	 */	
+	public boolean removeAtt(String attacker, String target) {
+		
+		return removeAtts(new Attack(attacker, target));
 	}
 	
 	/**
@@ -550,7 +613,7 @@ public class DungAF {
 	 */		
 	public boolean ensureSubsumes(DungAF anotherAF) {
 		
-		if (addArgs(anotherAF.getArgs()) | addAtts(anotherAF.getAtts())) {
+		if (addArgs(anotherAF.args) | addAtts(anotherAF.atts.toArray(new Attack[0]))) {
 			removeSemanticsInfo();
 			return true;
 		} else { 
@@ -566,7 +629,7 @@ public class DungAF {
 	 */		
 	public boolean ensureDisjointWith(DungAF anotherAF) {
 		
-		if (removeArgs(anotherAF.getArgs())) {
+		if (removeArgs(anotherAF.args)) {
 			removeSemanticsInfo();
 			return true;
 		} else { 
@@ -575,23 +638,146 @@ public class DungAF {
 	}
 	
 	/**
-	 * Removes from this object all information concerning the interpretation of its AF. 
+	 * Removes from this object all information concerning the interpretation of its AF, and its 
+	 * {@link AttackGraph AttackGraph} - except for {@link #incrementalGrounded incrementalGrounded}, which the methods
+	 * changing the AF update themselves. 
 	 *
-	 * <p> Typically called by methods which can change the AF. </p>
+	 * <p> Typically called by methods which can change the AF. The order of the ids in the graph removed is kept for 
+	 * the next graph built, since reordering the arguments after every change would cost more than it saves. </p>
 	 */	
 	private void removeSemanticsInfo() {
 		
-		argsToDefenceSets.clear();
+		if (null != graph) {
+			keptOrder = graph;
+		}
+		graph = null;
+		engine = null;
+	}
+	
+	/**
+	 * Records in this object any information concerning the interpretation of its AF which is recorded by 
+	 * {@code anotherAF} but not by this object, provided that the two objects share an {@link AttackGraph AttackGraph}.
+	 *
+	 * <p> Used by {@link FrozenDungAF FrozenDungAF}, to merge the information found by concurrent working copies. </p>
+	 *
+	 * @param anotherAF a {@code DungAF} recording the same AF as this object.
+	 */	
+	void recordSemanticsInfoOf(DungAF anotherAF) {
 		
-		admissibleSets = null;
-		completeExts = null;
-		eagerExt = null;
-		groundedExt = null; 
-		idealExt = null;
-		preferredExts = null;
-		preferredScepticalExt = null;
-		semiStableExts = null;
-		stableExts = null;
+		if ((null != engine) && (null != anotherAF.engine)) {
+			engine.recordSemanticsInfoOf(anotherAF.engine);
+		}
+	}
+	
+	/**
+	 * Returns an immutable, thread-safe snapshot of this AF, including the information this object records about its 
+	 * interpretation. Subsequent changes to this AF do not affect the snapshot.
+	 *
+	 * @return a {@code FrozenDungAF}.
+	 */		
+	public FrozenDungAF freeze() {
+
+		return new FrozenDungAF(this);
+	}
+
+	/**
+	 * Returns a copy of this AF, in constant time.
+	 *
+	 * <p> The copy shares this object's arguments and attacks, and the information it records about its AF's
+	 * interpretation, until either object's AF is changed. Changes to either object's AF never affect the other; and
+	 * the cost of such changes is proportional to the changes themselves, rather than to the size of the AF, so a
+	 * large AF may cheaply be forked many times, and each fork changed a little. Until either AF is changed,
+	 * information found by one object - e.g. the preferred extensions - is also recorded by the other. </p>
+	 *
+	 * <p> Since the two objects may share recorded information, they should not be used concurrently by different
+	 * threads; for that, see {@link #freeze() freeze()}, or copy this AF by {@link #DungAF(DungAF) DungAF(DungAF)}.
+	 * </p>
+	 *
+	 * @return a {@code DungAF} recording the same AF as this object.
+	 */
+	public DungAF fork() {
+
+		DungAF fork = new DungAF(args.fork(), atts.fork(), graph, engine);
+
+		fork.argOrder = argOrder;
+		fork.keptOrder = keptOrder;
+		fork.groundedIncremental = groundedIncremental;
+
+		return fork;
+	}
+
+	/**
+	 * Returns the order in which this object assigns internal positions to its AF's arguments.
+	 *
+	 * @return an {@code ArgumentOrder}.
+	 */
+	public ArgumentOrder getArgumentOrder() {
+
+		return argOrder;
+	}
+
+	/**
+	 * Returns this AF's arguments, in the order of their internal positions.
+	 *
+	 * @return a list of {@code String}s, denoting this AF's arguments.
+	 */
+	public ArrayList<String> getArgsInInternalOrder() {
+
+		return new ArrayList<String>(Arrays.asList(getGraph().names));
+	}
+
+	/**
+	 * Sets the order in which this object assigns internal positions to its AF's arguments - see 
+	 * {@link ArgumentOrder ArgumentOrder}. If the order is changed, any information recorded concerning the 
+	 * interpretation of this AF is discarded, and the positions are reassigned when next required.
+	 *
+	 * <p> The positions are assigned in this order when the AF is first interpreted, when it is frozen, and when the 
+	 * order is changed by this method. Once the AF changes, its positions are not reassigned in this order, which would cost 
+	 * more than it saves on every change; instead they keep their previous order, with any new arguments last. </p>
+	 *
+	 * @param order an {@code ArgumentOrder}.
+	 */
+	public void setArgumentOrder(ArgumentOrder order) {
+
+		if (order != argOrder) {
+			argOrder = order;
+			removeSemanticsInfo();
+		}
+		keptOrder = null;
+	}
+
+	/**
+	 * Returns {@code true} if this object maintains its AF's grounded extension incrementally.
+	 *
+	 * @return {@code true} if the grounded extension is maintained incrementally.
+	 */
+	public boolean isGroundedIncremental() {
+
+		return groundedIncremental;
+	}
+
+	/**
+	 * Sets whether this object maintains its AF's grounded extension incrementally, as its AF changes.
+	 *
+	 * <p> Ordinarily, any change to this AF discards all information concerning its interpretation, so that the next
+	 * call to {@link #getGroundedExt() getGroundedExt()} finds the grounded extension from scratch. If the grounded 
+	 * extension is maintained incrementally, this object also records the attackers and targets of each argument in
+	 * a form which is updated along with the AF; and after a change, {@code getGroundedExt()} relabels only the 
+	 * arguments reachable from the arguments whose attackers changed - see {@link IncrementalGrounded 
+	 * IncrementalGrounded}. This suits an AF which changes by a trickle of small updates, with the grounded extension
+	 * required in between; the cost is the memory for the additional record. </p>
+	 *
+	 * <p> The record is built when the grounded extension is next required. It is not shared with copies of this 
+	 * object, which build their own when required. </p>
+	 *
+	 * @param incremental {@code true} if the grounded extension is to be maintained incrementally.
+	 */
+	public void setGroundedIncremental(boolean incremental) {
+
+		groundedIncremental = incremental;
+		if (!incremental) {
+			incrementalGrounded = null;
+		}
 	}
 	
 	/**
@@ -601,8 +787,9 @@ public class DungAF {
 	
 		args.clear();
 		atts.clear();
-		argsToTargets.clear();
-		argsToAttackers.clear();
+		incrementalGrounded = null;
+		removeSemanticsInfo();
+		keptOrder = null;
 	}	
 	
 	/**
@@ -616,17 +803,7 @@ public class DungAF {
 	 */		
 	public boolean equals(DungAF anotherAF) {
 						
-		if (args.equals(anotherAF.getArgs()) && (atts.size() == anotherAF.getAtts().size())) {			
-			for (String nextArg : args) {
-				if (!getAttackersOf(nextArg).equals(anotherAF.getAttackersOf(nextArg))) {
-					return false;
-				}
-			}
-			
-			return true;
-		} else {
-			return false;	
-		}
+		return args.equals(anotherAF.args) && atts.equals(anotherAF.atts);
 	}
 	
 	/**
@@ -637,17 +814,7 @@ public class DungAF {
 	 */		
 	public boolean subsumes(DungAF anotherAF) {
 		
-		if (args.containsAll(anotherAF.getArgs()) && (atts.size() >= anotherAF.getAtts().size())) {			
-			for (String nextArg : args) {
-				if (!getAttackersOf(nextArg).containsAll(anotherAF.getAttackersOf(nextArg))) {
-					return false;
-				}
-			}
-			
-			return true;
-		} else {
-			return false;
-		}
+		return args.containsAll(anotherAF.args) && atts.containsAll(anotherAF.atts);
 	}
 	
 	/**
@@ -658,7 +825,7 @@ public class DungAF {
 	 */		
 	public boolean isDisjointWith(DungAF anotherAF) {
 		
-		return Collections.disjoint(args, anotherAF.getArgs());
+		return Collections.disjoint(args, anotherAF.args);
 	}
 	
 	/**
@@ -680,33 +847,31 @@ public class DungAF {
 	 * </p>
 	 *
 	 * @param semantics a {@code String}, being the name of a semantics implemented by this class.
-	 * @return {@code true} if the relevant field of this object is non-{@code null}.
+	 * @return {@code true} if this object records the extension(s) prescribed by {@code semantics}.
 	 * @throws IllegalArgumentException if {@code semantics} is not the name of a semantics implemented by this class. 
 	 */			
 	public boolean recordsExtsOfType(String semantics) {
+		
+		Semantics namedSemantics = Semantics.forName(semantics);
 				
-		List<String> uniqueExtensionSemantics = Arrays.asList("eager", "grounded", "ideal", "preferredSceptical");
-		List<String> otherImplemSemantics = Arrays.asList("admissible", "complete", 
-														  "preferred", "semiStable", "stable");
-		String fieldName;
-				
-		if (semantics.equals("admissible")) {
-			fieldName = "admissibleSets";
-		} else if (uniqueExtensionSemantics.contains(semantics)) {
-			fieldName = semantics + "Ext";
-		} else if (otherImplemSemantics.contains(semantics)) {
-			fieldName = semantics + "Exts";
-		} else {
+		if (null == namedSemantics) {
 			throw new IllegalArgumentException("by '" + getClass().getName() + ".recordsExtsOfType(String semantics)' "
 											   + "--- \"" + semantics + "\" is not a semantics implemented by " 
 											   + getClass().getName() + ".");
 		}
 		
-		try {
-			return (null != DungAF.class.getDeclaredField(fieldName).get(this));
-		} catch (Exception e) {
-			throw new RuntimeException();	// should never happen.
-		}
+		return recordsExtsOfType(namedSemantics);
+	}
+	
+	/**
+	 * Returns {@code true} if this object records the extension(s) prescribed by {@code semantics} for its AF.
+	 *
+	 * @param semantics a {@code Semantics}.
+	 * @return {@code true} if this object records the extension(s) prescribed by {@code semantics}.
+	 */			
+	public boolean recordsExtsOfType(Semantics semantics) {
+		
+		return (null != engine) && engine.recordsExtsOfType(semantics);
 	}
 	
 	/**
@@ -719,8 +884,11 @@ public class DungAF {
 	 */			
 	public boolean recordsDefenceSetsAround(String... args) {
 		
+		int id;
+		
 		for (String nextArg : args) {
-			if (null == argsToDefenceSets.get(nextArg)) {
+			id = (null == graph) ? -1 : graph.idOf(nextArg);
+			if ((id < 0) || !engine.recordsDefenceSetsAround(id)) {
 				return false;
 			}
 		}
@@ -737,8 +905,8 @@ public class DungAF {
 	public String toString() {
 		
 		HashSet<String> formattedAttacks = new HashSet<String>();
-		for (String[] nextAtt : atts) {
-			formattedAttacks.add("("+nextAtt[0]+", "+nextAtt[1]+")");	
+		for (Attack nextAtt : atts) {
+			formattedAttacks.add(nextAtt.toString());	
 		}
 		
 		return "({"+ args.toString().substring(1,args.toString().length()-1) + "}, {" 
@@ -775,33 +943,95 @@ public class DungAF {
 	}	
 	
 	/**
-	 * Ensures that this object records only a single copy of each of the attacks in its AF. 
+	 * Returns the attacks denoted by the specified {@code String}-arrays, which must all have exactly two elements.
 	 *
-	 * <p> Attacks are recorded as arrays, so this method is useful when constructing {@code DungAF}s, and when  
-	 * expanding the AFs they record. </p>
-	 *
-	 * @return {@code true} if this AF changed as a result of the call.
+	 * @param strArrs one or more two-element {@code String}-arrays.
+	 * @return an array of {@code Attack}s.
 	 */	
-	private boolean removeDuplicateAttacks() {
+	private static Attack[] toAttacks(String[] ... strArrs) {
+		
+		Attack[] result = new Attack[strArrs.length];
+		
+		for (int i = 0; i < strArrs.length; i++) {
+			result[i] = Attack.fromArray(strArrs[i]);
+		}
+		
+		return result;
+	}
 	
-		int attsCount = atts.size();
-		String[] tempAtt;
+	/**
+	 * Returns the {@link AttackGraph AttackGraph} of this AF, building it if it has not been built since this AF last 
+	 * changed: in the order {@link #argOrder argOrder}, if this AF has not changed since it was constructed or its 
+	 * order was set, and otherwise in the order of the graph last discarded - see {@link #keptOrder keptOrder}.
+	 *
+	 * @return the {@code AttackGraph} of this AF.
+	 */
+	AttackGraph getGraph() {
 		
-		for (Iterator<String[]> it = atts.iterator(); it.hasNext(); ) {
-			tempAtt = it.next();
-			for (String[] nextAtt : atts) {
-				if ((nextAtt != tempAtt) && Arrays.equals(tempAtt, nextAtt)) {
-					it.remove();
-					break; // else concurrentModificationException.
+		ArrayList<String> argsInOrder;
+		
+		if (null == graph) {
+			if (null == keptOrder) {
+				graph = AttackGraph.of(args, atts).reorderedBy(argOrder);
+			} else {
+				argsInOrder = new ArrayList<String>(args.size());
+				for (String nextArg : keptOrder.names) {
+					if (args.contains(nextArg)) {
+						argsInOrder.add(nextArg);
+					}
+				}
+				if (argsInOrder.size() < args.size()) {
+					for (String nextArg : args) {
+						if (-1 == keptOrder.idOf(nextArg)) {
+							argsInOrder.add(nextArg);
+						}
+					}
 				}
+				graph = AttackGraph.of(argsInOrder, atts);
+				keptOrder = null;
 			}
+			engine = new SemanticsEngine(graph);
 		}
 		
-		return attsCount > atts.size();
+		return graph;
 	}
 	
-	
-	//----- MISCELLANEOUS STATIC METHODS -------------------------------------------------------------------------------
+	/**
+	 * Ensures that, if this object's {@link AttackGraph AttackGraph} is not yet built, it is built in the order 
+	 * {@link #argOrder argOrder}, rather than in the order of the graph last discarded. Called by 
+	 * {@link FrozenDungAF FrozenDungAF}, whose snapshot is not changed again.
+	 */
+	void discardKeptOrder() {
+		
+		keptOrder = null;
+	}
+	
+	/**
+	 * Marks this object's sets of arguments and attacks as shared, so that copying this object - as by 
+	 * {@link #DungAF(DungAF) DungAF(DungAF)} - no longer writes to them. Called by {@link FrozenDungAF FrozenDungAF} 
+	 * before its snapshot is published, since the snapshot may then be copied by several threads at once.
+	 */
+	void markSetsShared() {
+		
+		args.markShared();
+		atts.markShared();
+	}
+	
+	/**
+	 * Returns the {@link SemanticsEngine SemanticsEngine} of this AF, building it and this AF's 
+	 * {@link AttackGraph AttackGraph} if they have not been built since this AF last changed.
+	 *
+	 * @return the {@code SemanticsEngine} of this AF.
+	 */
+	private SemanticsEngine getEngine() {
+		
+		getGraph();
+		
+		return engine;
+	}
+	
+	
+	//----- MISCELLANEOUS STATIC METHODS -------------------------------------------------------------------------------
 	
 	/**
 	 * Returns an AF which satisfies the constraints passed as parameters, but is otherwise constructed at random.
@@ -918,13 +1148,7 @@ public class DungAF {
 	 */		
 	public boolean hasAsConflictFreeSet(Collection<String> argsParam) {
 		
-		for (String nextArg : argsParam) {
-			if (!args.contains(nextArg) || !Collections.disjoint(getAttackersOf(nextArg), argsParam)) {
-				return false;	
-			}
-		}
-		
-		return true;
+		return args.containsAll(argsParam) && getGraph().isConflictFree(graph.toBitSet(argsParam));
 	}
 	
 	/**
@@ -952,13 +1176,8 @@ public class DungAF {
 	 */		
 	public boolean containsNoConflictAmong(Collection<String> argsParam) {
 		
-		for (String nextArg : argsParam) {
-			if (!Collections.disjoint(getAttackersOf(nextArg), argsParam)) {
-				return false;	
-			}
-		}
-		
-		return true;
+		/* arguments not in this AF are involved in no attacks, so they may be ignored. */
+		return getGraph().isConflictFree(graph.toBitSet(argsParam));
 	}	
 	
 	/**
@@ -1013,9 +1232,12 @@ public class DungAF {
 	 */		
 	public boolean collnIsInConflictWithAnyOf(Collection<String> argsParam0, String ... argsParam1) {
 		
+		BitSet argSet0 = getGraph().toBitSet(argsParam0);
+		int id;
+		
 		for (String nextArg : argsParam1) {
-			if (!(Collections.disjoint(argsParam0, getAttackersOf(nextArg)) 
-				   && Collections.disjoint(argsParam0, getTargetsOf(nextArg)))) {
+			id = graph.idOf(nextArg);
+			if ((id >= 0) && graph.isInConflictWith(id, argSet0)) {
 				return true;	
 			}
 		}
@@ -1050,21 +1272,8 @@ public class DungAF {
 	 */		
 	public boolean argsAccept(Collection<String> acceptingArgColl, String ... argsToCheck) {
 		
-		HashSet<String> targetsOfArgSet = new HashSet<String>();
-		
-		for (String nextArg : acceptingArgColl) {
-			targetsOfArgSet.addAll(getTargetsOf(nextArg));
-		}
-		
-		for (String nextArg : argsToCheck) {
-			for (String nextAttacker : getAttackersOf(nextArg)) {
-				if (!targetsOfArgSet.contains(nextAttacker)) {
-					return false;
-				}
-			}
-		}
-
-		return true;
+		/* arguments not in this AF are unattacked, so they may be ignored. */
+		return getGraph().accepts(graph.toBitSet(acceptingArgColl), graph.toBitSet(Arrays.asList(argsToCheck)));
 	}
 	
 	/**
@@ -1088,20 +1297,7 @@ public class DungAF {
 	 */		
 	public HashSet<String> getArgsAcceptedBy(Collection<String> argsParam) {
 		
-		HashSet<String> targets = new HashSet<String>();
-		HashSet<String> acceptableArgs = new HashSet<String>();
-		
-		for (String nextArg : argsParam) {
-			targets.addAll(getTargetsOf(nextArg));
-		}
-		
-		for (String nextArg : getArgs()) {
-			if (targets.containsAll(argsToAttackers.get(nextArg))) {
-				acceptableArgs.add(nextArg);
-			}
-		}
-			
-		return acceptableArgs;
+		return getGraph().toArgSet(graph.argsAcceptedBy(graph.toBitSet(argsParam)));
 	}
 				
 	
@@ -1130,37 +1326,63 @@ public class DungAF {
 	 */	
 	public HashSet<String> getExtsUnion(String semantics) {
 		
-		List<String> multiExtSemantics = Arrays.asList("admissible", "complete", 
-													   "preferred", "semiStable", "stable");
-		HashSet<String> extsUnion;
-		String methodName;
+		Semantics namedSemantics = Semantics.forName(semantics);
 		
-		if (multiExtSemantics.contains(semantics)) {
-			/* all admissible sets and complete extensions are subsumed by preferred extensions; and the latter are
-			 more easily calculated. */
-			if (semantics.equals("preferred") || semantics.equals("admissible") || semantics.equals("complete")) {
-				methodName = "getPreferredExts";
-			} else {
-				methodName = "get" + semantics.substring(0,1).toUpperCase() + semantics.substring(1) + "Exts";
-			}
-		} else {
+		if ((null == namedSemantics) || !namedSemantics.isMultipleExt()) {
 			throw new IllegalArgumentException(
 									   "by '" + getClass().getName() + ".getExtsUnion(String semantics)' --- " 
 									   + "\"" + semantics + "\" is not a multiple-extension semantics implemented by " 
 									   + getClass().getName() + ".");
 		}
 		
-		try {		
-			extsUnion = new HashSet<String>();
-			for (HashSet<String> nextExt : (HashSet<HashSet<String>>) DungAF.class.getMethod(methodName).invoke(this)) {
-				extsUnion.addAll(nextExt);
-			}
-		} catch (Exception e) {
-			throw new RuntimeException();	// should never happen.
+		return getExtsUnion(namedSemantics);
+	}	
+	
+	/**
+	 * Returns the union of the extensions prescribed by {@code semantics} for this AF, where {@code semantics} is a 
+	 * multiple-extension semantics.
+	 *
+	 * @param semantics a {@code Semantics} for which {@link Semantics#isMultipleExt() isMultipleExt()} is 
+	 * {@code true}.
+	 * @return a set of {@code String}s, denoting the union of the extensions prescribed by {@code semantics} for this 
+	 * AF.
+	 * @throws IllegalArgumentException if {@code semantics} is not a multiple-extension semantics.
+	 */	
+	public HashSet<String> getExtsUnion(Semantics semantics) {
+		
+		BitSet extsUnion;
+		
+		if (!semantics.isMultipleExt()) {
+			throw new IllegalArgumentException(
+									   "by '" + getClass().getName() + ".getExtsUnion(Semantics semantics)' --- " 
+									   + "\"" + semantics + "\" is not a multiple-extension semantics.");
 		}
 		
-		return extsUnion;
-	}	
+		/* the engine is found first, since it builds graph if necessary. */
+		extsUnion = getEngine().getExtsUnion(semantics);
+		
+		return graph.toArgSet(extsUnion);
+	}
+	
+	/**
+	 * Finds and records the extension(s) prescribed by {@code semantics} for this AF, if they are not already recorded.
+	 *
+	 * @param semantics a {@code Semantics}.
+	 */	
+	void recordExtsOfType(Semantics semantics) {
+		
+		getEngine().getExts(semantics);
+	}
+	
+	/**
+	 * Returns {@code true} if this object records its AF's grounded labelling, as well as its grounded extension.
+	 *
+	 * @return {@code true} if the grounded labelling is recorded.
+	 */	
+	boolean recordsGroundedLabelling() {
+		
+		return (null != engine) && engine.recordsGroundedLabelling();
+	}
 	
 	/**
 	 * Returns this AF's grounded extension. 
@@ -1169,39 +1391,83 @@ public class DungAF {
 	 */	
 	public HashSet<String> getGroundedExt() {
 		
-		HashSet<String> defeatedArgs = new HashSet<String>();		// arguments attacked by groundedExt.
-		ArrayList<String> candidateArgs = new ArrayList<String>();	// arguments not in groundedExt or defeatedArgs. 		
+		if (groundedIncremental) {
+			return new HashSet<String>(getIncrementalGrounded().getGroundedExt());
+		}
 		
-		String tempArg;
+		return getGraph().toArgSet(getGroundedExtAsBitSet());
+	}
+	
+	/**
+	 * Returns the label of {@code arg} in this AF's grounded labelling - see {@link #getGroundedLabelling() 
+	 * getGroundedLabelling()}.
+	 *
+	 * <p> If the grounded extension is maintained incrementally (see {@link #setGroundedIncremental(boolean) 
+	 * setGroundedIncremental(boolean)}), this method costs no more than the update of the labelling after a change, 
+	 * since it neither builds nor copies anything the size of this AF. </p>
+	 *
+	 * @param arg a {@code String}, denoting an argument.
+	 * @return {@link Labelling#IN Labelling.IN}, {@link Labelling#OUT Labelling.OUT} or 
+	 * {@link Labelling#UNDEC Labelling.UNDEC}.
+	 * @throws IllegalArgumentException if {@code arg} is not an argument of this AF.
+	 */	
+	public byte getGroundedLabel(String arg) {
 		
-		/* the grounded extension might already be recorded */
-		if (null != groundedExt) {				
-			return new HashSet<String>(groundedExt); 
-		}	
+		byte label;
+		int id;
 		
-		groundedExt = new HashSet<String>();
+		if (!groundedIncremental) {
+			id = getGraph().idOf(arg);
+			label = (id < 0) ? -1 : getEngine().getGroundedLabelling()[id];
+		} else {
+			label = getIncrementalGrounded().getLabel(arg);
+		}
+		if (label < 0) {
+			throw new IllegalArgumentException("by '" + getClass().getName() + ".getGroundedLabel(String)' --- \"" 
+											   + arg + "\" is not an argument of this AF.");
+		}
 		
-		do {				
-			candidateArgs.addAll(args); 
-			candidateArgs.removeAll(groundedExt);
-			candidateArgs.removeAll(defeatedArgs);
-			
-			/* ensure that candidateArgs contains no argument that's not acceptable wrt groundedExt; 
-			 add remainder to groundedExt. */
-			for (int i = 0; i < candidateArgs.size(); i++) {
-				tempArg = candidateArgs.get(i);
-				
-				if (Collections.disjoint(getAttackersOf(tempArg), candidateArgs)) {
-					groundedExt.add(tempArg);
-					defeatedArgs.addAll(getTargetsOf(tempArg));
-				}
-			}
-			
-			candidateArgs.retainAll(groundedExt);
+		return label;
+	}
+	
+	/**
+	 * Returns {@link #incrementalGrounded incrementalGrounded}, building it if necessary.
+	 *
+	 * @return an {@code IncrementalGrounded}.
+	 */	
+	private IncrementalGrounded getIncrementalGrounded() {
+		
+		if (null == incrementalGrounded) {
+			incrementalGrounded = new IncrementalGrounded(args, atts);
 		}
-		while (!candidateArgs.isEmpty());
 		
-		return new HashSet<String>(groundedExt);
+		return incrementalGrounded;
+	}
+	
+	/**
+	 * Returns this AF's grounded extension, as a set of ids in {@link #graph graph}, finding and recording it if 
+	 * necessary.
+	 *
+	 * @return a {@code BitSet}, denoting this AF's grounded extension.
+	 */	
+	private BitSet getGroundedExtAsBitSet() {
+		
+		return getEngine().getGroundedExt();
+	}
+	
+	/**
+	 * Returns this AF's grounded labelling, in which the arguments labelled {@link Labelling#IN IN} are those of the 
+	 * grounded extension, those labelled {@link Labelling#OUT OUT} are those attacked by it, and the remainder are 
+	 * labelled {@link Labelling#UNDEC UNDEC}.
+	 *
+	 * <p> The grounded labelling, and with it the grounded extension, is found in time linear in the numbers of 
+	 * arguments and attacks. </p>
+	 *
+	 * @return a {@code Labelling}, denoting this AF's grounded labelling.
+	 */	
+	public Labelling getGroundedLabelling() {
+		
+		return new Labelling(getGraph(), getEngine().getGroundedLabelling());
 	}
 
 	/**
@@ -1215,10 +1481,8 @@ public class DungAF {
 	 */	
 	public boolean admissibleSetsContain(Collection<String> ... argColls) {
 		
-		HashSet<String> attackers;
-		HashSet<String> targets;
-		
-		/* NOTE: because getAdmissibleSets() relies on this method, the following approach would cause errors - 
+		/* NOTE: because getAdmissibleSets() relies on the admissibility check, the following approach would cause 
+		 errors - 
 		
 		 if (null != admissibleSets) {
 			return admissibleSets.containsAll(argColls);		 
@@ -1226,19 +1490,14 @@ public class DungAF {
 		
 		*/
 		
+		CharacteristicFunction evaluator = new CharacteristicFunction(getGraph());
+		
 		for (Collection<String> nextArgColl : argColls) {			
-			attackers = new HashSet<String>();
-			targets = new HashSet<String>();
-			
-			if (hasAsConflictFreeSet(nextArgColl)) {
-				for (String nextArg : nextArgColl) {
-					attackers.addAll(getAttackersOf(nextArg));
-					targets.addAll(getTargetsOf(nextArg)); 
-				}
-				if (!targets.containsAll(attackers)) {
-					return false;	
-				}
-			} else {
+			if (!args.containsAll(nextArgColl)) {
+				return false;
+			}
+			evaluator.load(graph.toBitSet(nextArgColl));
+			if (!evaluator.isAdmissible()) {
 				return false;
 			}
 		}
@@ -1263,82 +1522,29 @@ public class DungAF {
 	 */	
 	public HashSet<HashSet<String>> getAdmissibleSets() {
 		
-		boolean argIsDefended;
-		HashSet<String> admiSetCandidate;
-		HashSet<HashSet<String>> copiesOfAdmiSets = new HashSet<HashSet<String>>();
-		HashSet<HashSet<String>> toDoAdmiSets = new HashSet<HashSet<String>>();
-		HashSet<HashSet<String>> newAdmiSets = new HashSet<HashSet<String>>();
-		
-		/* the admissible sets might already be recorded */
-		if (null != admissibleSets) { 
-			for (HashSet<String> nextAdmiSet : admissibleSets) {	
-				copiesOfAdmiSets.add(new HashSet<String>(nextAdmiSet)); 
-			}
-			return copiesOfAdmiSets;
-		}
-		
-		/* the empty set is always admissible. */ 
-		admissibleSets = new HashSet<HashSet<String>>(Collections.singleton(new HashSet<String>()));
-		
-		/* find the minimal non-empty admissible sets. */
-		for (String nextArg : args) {
-			for (HashSet<String> nextDefSet : getDefenceSetsAround(nextArg)) {
-				admissibleSets.add(nextDefSet);				
-			}
-		}
-		/* find the maximal admissible sets. */
-		for (HashSet<String> nextPrefExt : getPreferredExts()) { 
-			admissibleSets.add(nextPrefExt);				
-		}
+		return getGraph().toArgSets(getAdmissibleSetsAsBitSets());
+	}
+	
+	/**
+	 * Returns this AF's admissible sets, as an {@link ExtensionFamily ExtensionFamily}, which records each of them as a bitset 
+	 * rather than as a set of {@code String}s. 
+	 *
+	 * @return an {@code ExtensionFamily}, denoting this AF's admissible sets.
+	 */
+	public ExtensionFamily getAdmissibleSetFamily() {
 		
-		/* find the intermediate-sized admissible sets. To do this, proceed from the preferred extensions. 
-		 For each preferred extension argSet, for each arg1 in argSet, proceed as follows. Remove arg1 from argSet. 
-		 Then (i) remove every arg2 from argSet, such that arg2 is not acceptable wrt argSet; and 
-		 (ii) repeat (i) until argSet is admissible. 
-		 If argSet is already in admissibleSets, discard it; otherwise add it to admissibleSets, and repeat the 
-		 whole exercise on it. */
-		toDoAdmiSets.addAll(preferredExts);
-		
-		while (!toDoAdmiSets.isEmpty()) {			
-			for (HashSet<String> nextAdmiSet : toDoAdmiSets) {
-				/* find all of the admissible sets subsumed by nextAdmiSet. */
-				for (String nextArg : nextAdmiSet) {
-					/* create admiSetCandidate by removing nextArg from nextAdmiSet. */
-					admiSetCandidate = new HashSet<String>(nextAdmiSet);	
-					admiSetCandidate.remove(nextArg);	
-					/* revise admiSetCandidate, until it is admissible. */
-					while (!argsAccept(admiSetCandidate, admiSetCandidate)) {
-						for (Iterator<String> it = admiSetCandidate.iterator(); it.hasNext();) {
-							/* assume that admiSetCandidate subsumes none of the argument's defence-sets. */
-							argIsDefended = false;
-							/* check that assumption. */
-							for (HashSet<String> nextDefenceSet : argsToDefenceSets.get(it.next())) { 
-								if (admiSetCandidate.containsAll(nextDefenceSet)) { 
-									argIsDefended = true;
-									break; 
-								} 
-							}
-							
-							if (!argIsDefended) { 
-								it.remove();
-							}	
-						}
-					}
-					/* if it has already been found, admiSetCandidate must be disregarded */						
-					if (admissibleSets.add(admiSetCandidate)) { 
-						newAdmiSets.add(admiSetCandidate); 
-					}
-				}
-			}					
-			/* every newly-found admissible set is a toDoAdmiSet, because it might subsume other admissible sets. */
-			toDoAdmiSets = new HashSet<HashSet<String>>(newAdmiSets);
-			newAdmiSets.clear();
-		}					
+		return new ExtensionFamily(getGraph(), getAdmissibleSetsAsBitSets());
+	}
+	
+	/**
+	 * Returns this AF's admissible sets, as sets of ids in {@link #graph graph}, finding and recording them if 
+	 * necessary.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's admissible sets.
+	 */	
+	private HashSet<BitSet> getAdmissibleSetsAsBitSets() {
 		
-		for (HashSet<String> nextAdmiSet : admissibleSets) {	
-			copiesOfAdmiSets.add(new HashSet<String>(nextAdmiSet)); 
-		}		
-		return copiesOfAdmiSets;
+		return getEngine().getAdmissibleSets();
 	}
 	
 	/**
@@ -1364,175 +1570,25 @@ public class DungAF {
 	 */	
 	public HashSet<HashSet<String>> getDefenceSetsAround(String arg) {
 		
-		HashSet<HashSet<String>> copiesOfDefenceSets = new HashSet<HashSet<String>>();
+		int id = getGraph().idOf(arg);
 		
-		if (!args.contains(arg)) {
+		if (id < 0) {
 		 	return new HashSet<HashSet<String>>();
-		} else if (null == argsToDefenceSets.get(arg)) {
-			argsToDefenceSets.put(arg, getDefenceSetsAroundHelper(arg, new ArrayList<String>(), 
-										new HashSet<HashSet<String>>(Collections.singleton(new HashSet<String>()))));	
 		} 
 		
-		for (HashSet<String> nextSet : argsToDefenceSets.get(arg)) {
-			copiesOfDefenceSets.add(new HashSet<String>(nextSet));
-		}
-		
-		return copiesOfDefenceSets;
+		return getGraph().toArgSets(getDefenceSetsAroundAsBitSets(id));
 	}
 	
 	/**
-	 * Finds the defence-sets around {@code arg} in this AF, if called by another method (and passed {@code arg}, the 
-	 * empty list and the singleton set containing the empty set). On defence-sets, see
-	 * {@link #getDefenceSetsAround(String) getDefenceSetsAround(String)}.
-	 *
-	 * <p> This method implements a simplified and slightly modified version of Vreeswijk's algorithm for generating 
-	 * <i>labelled</i> defence-sets (the label denoting, in each case, whether the defence-set is merely an admissible 
-	 * set, or an admissible set which is also a subset of the grounded extension), as described in his 2006 paper -
-	 *
-	 * <br/>
-	 * <ul><i>An algorithm to compute minimally grounded and admissible defence sets in argument systems</i></ul> 
-	 * <ul><u>Proceedings of COMMA'06: pp.109-20</u>.</ul>
-	 * <br/>
+	 * Returns the defence-sets around the argument with id {@code arg} in {@link #graph graph}, finding and recording 
+	 * them if necessary.
 	 *
-	 * This method's simplified and slightly modified version generates unlabelled defence-sets. Full details are  
-	 * provided <a href="../admissibleSemantics.pdf">here</a>. </p> 
-	 *
-	 * <p> While an externally-called instance of this method returns the defence-sets around the specified argument, a 
-	 * recursively-called instance does not generally do so. Instead, it returns a (perhaps empty) set of argument-sets. 
-	 * Each returned argument-set is conflict-free, but is not necessarily a defence-set of the 
-	 * argument {@code externInstArg} passed to the externally-called instance. The output of a recursively-called 
-	 * instance represents a stage in one branch of a search for {@code externInstArg}'s defence-sets. 
-	 * As such, it might include not just (i) defence-sets of {@code externInstArg}, but also (ii) sets which are 
-	 * non-admissible (on account of not being acceptable with respect to themselves), and (iii) sets which strictly 
-	 * subsume defence-sets of {@code externInstArg}. </p> 
-	 *
-	 * <p> Following Vreeswijk's usage, the argument-sets passed to and returned by this method are called 
-	 * <i>candidate-solutions</i>. A candidate-solution is an argument-set which is 'promising'. The algorithm builds 
-	 * each defence-set by addition, proceeding from the empty set. A candidate-solution <i>cs</i> is (loosely speaking) 
-	 * such that the algorithm has not yet established that <i>cs</i> is neither (a) a defence-set around the argument 
-	 * passed to the externally-called instance, nor (b) a subset of such a defence-set. </p>
-	 *
-	 * @param arg a {@code String}, denoting an argument.
-	 * @param path a list of {@code String}s, denoting arguments. 
-	 * @param canSols a set of {@code String}-sets, denoting candidate-solutions.
-	 * @return a set of {@code String}-sets, denoting either (a) the defence-sets around {@code arg} in this AF 
-	 * (if called by another method) or (b) candidate-solutions (if called recursively).
-	 */		
-	private HashSet<HashSet<String>> getDefenceSetsAroundHelper(String arg, List<String> path, 
-																HashSet<HashSet<String>> canSols) {
-		
-		HashSet<HashSet<String>> accumulatedCanSols = new HashSet<HashSet<String>>();
-		HashSet<HashSet<String>> filteredCanSols = new HashSet<HashSet<String>>();
-		HashSet<HashSet<String>> canSolsAttackingNextAttr = new HashSet<HashSet<String>>();
-		boolean onPropArg;
-		
-		HashSet<String> tempSetStr;
-		HashSet<HashSet<String>> tempSetSetStr;
-		
-		/* set onPropArg. onPropArg means that arg is a propArg - i.e. arg is being treated as a potential addition to 
-		 every candidate-solution in canSols, and hence as a potential member of at least one defence-set (and hence a
-		 'proponent' of the argument passed to the externally-called instance). Otherwise arg is an oppArg - i.e. arg is
-		 being treated as an argument which prevents each candidate-solution in canSols from being admissible, by 
-		 (i) attacking some argument which is in every candidate-solution in canSols, while (ii) not being attacked by 
-		 any of those candidate-solutions. */
-		onPropArg = (path.size()%2 == 0);
-		
-		/* extend path with arg - to ensure that, if this instance recurses, each recursively-called instance correctly 
-		 determines whether its argument is a propArg or an oppArg. */
-		path.add(arg);
-
-		if (onPropArg) {
-			if (getAttackersOf(arg).contains(arg)) {
-				/* if arg attacks itself, it cannot be in any admissible set; so as it is a propArg, there can be no 
-				 defence-sets this way. So clear canSols. */
-				canSols.clear(); 
-			} else {
-				/* otherwise arg might be in an admissible set, so there might be defence-sets this way. 
-				 So create new, augmented versions of all members of canSols. */
-				tempSetSetStr = new HashSet<HashSet<String>>();
-				for (HashSet<String> nextSet : canSols) {
-					tempSetStr = new HashSet<String>(nextSet);
-					tempSetStr.add(arg);
-					tempSetSetStr.add(tempSetStr);
-				}
-				canSols = tempSetSetStr;
-			}
-		}
-				
-		/* if there might be defence-sets this way and arg is attacked...  */
-		if (!canSols.isEmpty() && !getAttackersOf(arg).isEmpty()) {
-			/* ...for each attacker nextAttacker... */
-			for (String nextAttacker : getAttackersOf(arg)) {
-				if (onPropArg) { 
-					canSolsAttackingNextAttr.clear(); 
-				}	
-				
-				/* ...find those candidate-solutions in canSols, such that nextAttacker is relevant to them. */
-				filteredCanSols.clear();
-				for (HashSet<String> nextCanSol : canSols) { 
-					if (onPropArg) {
-						/* if arg is a propArg, a candidate-solution is relevant, if it DOES NOT attack nextAttacker, 
-						 and hence is rendered non-admissible by nextAttacker. However, we need to record those 
-						 candidate-solutions which do defend themselves against nextAttacker. So add nextCanSol to 
-						 either filteredCanSols or canSolsAttackingNextAttr. */	
-						if (Collections.disjoint(getAttackersOf(nextAttacker), nextCanSol)) { 
-							/* it is not necessary to use a *copy* of nextCanSol, because the method nowhere changes 
-							 any candidate-solution. */
-							filteredCanSols.add(nextCanSol); 
-						} else {
-							canSolsAttackingNextAttr.add(nextCanSol);								
-						}
-					} else if (!collnIsInConflictWithAnyOf(nextCanSol, nextAttacker)) {
-						/* if arg is an oppArg, nextCanSol is relevant, if nextAttacker might 'usefully' defend it 
-						 against arg - so nextCanSol is *not* relevant, if it is in conflict with nextAttacker. Even if
-						 no such conflict exists, nextAttacker's 'usefulness' as a defender is treated merely as a 
-						 *possibility*, because there might be no admissible sets 
-						 subsuming ({nextAttacker} U nextCanSol). */
-						filteredCanSols.add(nextCanSol); 
-					} 
-				}
-								
-				if (onPropArg) { 
-					/* if arg is a propArg, attend to those candidate-solutions which do not defend themselves against 
-					 nextAttacker - try to expand them into sets which are not deficient in that way (and which subsume 
-					 defence-sets of the added arguments, and which are conflict-free), and record such
-					 expanded sets in canSols. */
-					canSols = getDefenceSetsAroundHelper(nextAttacker, path, filteredCanSols);
-					/* reinstate those canSols which were found to defend themselves against nextAttacker. */
-					canSols.addAll(canSolsAttackingNextAttr);
-					
-					if (canSols.isEmpty()) { 
-						/* if canSols is empty, there are no defence-sets this way, so there is no need to consider any 
-						 further attackers of arg... */
-						break; 
-					} else {
-						/* ...otherwise, remove all non-minimal members of canSols, to ensure that the externally-called
-						 instance returns no strict superset of a defence-set. */
-						SetComparison.removeNonMinimalMembersOf(canSols);
-					}
-				} else { 
-					/* if arg is an oppArg, attend to every candidate-solution, such that nextAttacker might 'usefully' 
-					 defend it against arg - try to expand such candidate-solutions into sets which 
-					 (i) are conflict-free, (ii) include nextAttacker, and (iii) subsume defence-sets of nextAttacker 
-					 and of all subsequently-added arguments. */
-					accumulatedCanSols.addAll(getDefenceSetsAroundHelper(nextAttacker, path, filteredCanSols));
-					/* remove all non-minimal members of canSols, to ensure that the externally-called instance returns 
-					 no strict superset of a defence-set. */
-					SetComparison.removeNonMinimalMembersOf(accumulatedCanSols);
-				}
-			}
-		}
-		
-		/* remove arg from path - to ensure that, if (i) this instance was recursively-called and (ii) the calling 
-		 instance proceeds to call another instance, then the other instance will correctly determine whether its 
-		 argument is a propArg or an oppArg. */	
-		path.remove(path.size()-1);
-		
-		if (!onPropArg) {
-			canSols = accumulatedCanSols;	
-		}
+	 * @param arg an {@code int}, being the id of an argument.
+	 * @return a set of {@code BitSet}s, denoting the defence-sets around the argument.
+	 */	
+	private HashSet<BitSet> getDefenceSetsAroundAsBitSets(int arg) {
 		
-		return canSols;
+		return getEngine().getDefenceSetsAround(arg);
 	}
 	
 	/**
@@ -1547,24 +1603,9 @@ public class DungAF {
 	 */	
 	public boolean preferredExtsContain(Collection<String> ... argColls) {
 		
-		HashSet<String> candidate;
-		
 		for (Collection<String> nextArgColl : argColls) {
-			if ((null != preferredExts) && !preferredExts.contains(nextArgColl)){ 
-				return false; 
-			} else if (!admissibleSetsContain(nextArgColl)) { 
+			if (!args.containsAll(nextArgColl) || !getEngine().isPreferredExt(graph.toBitSet(nextArgColl))) { 
 				return false; 
-			} else {
-				/* every preferred extension comprises a union of defence-sets. So check that for every defence-set 
-				 defSet0, nextArgColl either subsumes or is in conflict with defSet0. */
-				for (String nextArg : args) {
-					for (HashSet<String> nextSet : getDefenceSetsAround(nextArg)) {
-						candidate = new HashSet<String>(nextArgColl);
-						if (candidate.addAll(nextSet) && containsNoConflictAmong(candidate)) { 
-							return false; 
-						} 
-					}
-				}			
 			}
 		}
 		
@@ -1578,157 +1619,29 @@ public class DungAF {
 	 */	
 	public HashSet<HashSet<String>> getPreferredExts() {
 		
-		boolean argIsDefended;
-		boolean disqualifiedByPrefExts;
-		HashSet<String> revisedPrefExtCan;
-		HashSet<String> admiArgs = new HashSet<String>();
-		HashSet<HashSet<String>> copiesOfPrefExts = new HashSet<HashSet<String>>();
-		HashSet<HashSet<String>> pairsInConflict = new HashSet<HashSet<String>>();
-		HashSet<HashSet<String>> minimalRemovalSets = new HashSet<HashSet<String>>();
-		HashSet<HashSet<String>> prefExtCandidates = new HashSet<HashSet<String>>();
-		HashSet<HashSet<String>> revisedPrefExtCandidates = new HashSet<HashSet<String>>();
-		
-		HashSet<String> tempSetStr;
-		HashSet<HashSet<String>> tempSetSetStr;
-		
-		/* the preferred extensions might already be recorded. */
-		if (null != preferredExts) { 
-			for (HashSet<String> nextPrefExt : preferredExts) {	
-				copiesOfPrefExts.add(new HashSet<String>(nextPrefExt)); 
-			}
-			return copiesOfPrefExts;
-		}
-		
-		/* ensure that the defence-sets of all arguments are recorded in this object, and record which arguments are 
-		 admissible. */
-		for (String nextArg : args) {
-			if (!getDefenceSetsAround(nextArg).isEmpty()) {
-				admiArgs.add(nextArg);	
-			}
-		}
-		
-		/* for every admissible argument admiArg0, find the set 
-		 argSet = { admiArg1 | there is an admissible set including admiArg0 and admiArg1 }. argSet is such that for 
-		 each arg0 in argSet, arg0 is acceptable wrt argSet. Hence argSet is either (a) a preferred extension, or 
-		 (b) a (non-conflict-free) superset of at least one preferred extension. */
-		for (String nextArg0 : admiArgs) {
-			tempSetStr = new HashSet<String>();
-			
-			for (String nextArg1 : admiArgs) {
-				if (containsNoConflictAmong(nextArg0, nextArg1)) {
-					seekCommonAdmiSet : {
-						for (HashSet<String> nextDefSetOfNextArg0 : argsToDefenceSets.get(nextArg0)) {
-							for (HashSet<String> nextDefSetOfNextArg1 : argsToDefenceSets.get(nextArg1)) {
-								tempSetSetStr = 
-									new HashSet<HashSet<String>>(Arrays.asList(nextDefSetOfNextArg0,
-																			   nextDefSetOfNextArg1));
-								if (containsNoConflictAmongUnionOf(tempSetSetStr)) {
-									tempSetStr.add(nextArg1);
-									break seekCommonAdmiSet;
-								}
-							}
-						}
-					}
-				}
-			}			
-			prefExtCandidates.add(tempSetStr);
-		}
-		
-		/* identify preferred extensions in preferredExtCandidates. And for ever other set in 
-		 preferredExtCandidates, find the preferred extension(s) subsumed by it. */
-		for (HashSet<String> nextExtCan : prefExtCandidates) {
-			/* find every conflicting pair of arguments in nextExtCan. */
-			pairsInConflict.clear();
-			
-			for (String nextArg : nextExtCan) {
-				tempSetStr = getAttackersOf(nextArg);
-				tempSetStr.retainAll(nextExtCan);
-				
-				for (String nextAttacker : tempSetStr) { 
-					pairsInConflict.add(new HashSet<String>(Arrays.asList(nextArg, nextAttacker)));
-				}
-			}
-			
-			/* if there are no pairs-in-conflict, nextExtCan is a preferred extension; for convenience, record it in 
-			 revisedPrefExtCandidates. Doing this facilitates the identification of the preferred extension(s) 
-			 subsumed by other members of prefExtCandidates. */
-			if (pairsInConflict.isEmpty()) { 
-				revisedPrefExtCandidates.add(nextExtCan); 
-			} else {			
-				/* otherwise, for every preferred extension prefExt1 subsumed by nextExtCan, prefExt1 is such that, 
-				 for some *minimal* member argSet1 of the cartesian product of pairsInConflict, (nextExtCan\argSet1)
-				 is a (strict or non-strict) superset of prefExt1. */
-				minimalRemovalSets.clear();
-				for (List<String> nextList : Sets.cartesianProduct(new ArrayList<HashSet<String>>(pairsInConflict))) {
-					minimalRemovalSets.add(new HashSet<String>(nextList));
-				}
-				/* minimalRemovalSets might contain comparable members, because one argument might be in conflict with 
-				 multiple arguments. */
-				SetComparison.removeNonMinimalMembersOf(minimalRemovalSets);
-				
-				/* For each member argSet1 of minimalRemovalSets, (nextExtCan\argSet1) is a maximal conflict-free subset 
-				 of nextExtCan. Hence argSet1 either is a preferred extension, or it does not adequately defend itself. 
-				 So for each argSet1, (i) define revisedPrefExtCan = (nextExtCan\argSet1); then (ii) remove from 
-				 revisedPrefExtCan every argument arg1, such that arg1 is not acceptable wrt revisedPrefExtCan. If 
-				 revisedPrefExtCan is now admissible, it is a preferred extension. Otherwise, keep repeating (ii), until 
-				 revisedPrefExtCan is found to be either (a) a strict subset of a preferred extension which has already 
-				 been found; or (b) admissible. If (a), discard revisedPrefExtCan; if (b), revisedPrefExtCan is 
-				 *perhaps* a preferred extension.  */
-				for (HashSet<String> nextMinimalRemovalSet : minimalRemovalSets) {
-					revisedPrefExtCan = new HashSet<String>(nextExtCan);
-					revisedPrefExtCan.removeAll(nextMinimalRemovalSet);
-					
-					disqualifiedByPrefExts = false;
-					
-					while (!disqualifiedByPrefExts && !admissibleSetsContain(revisedPrefExtCan)) {
-						for (Iterator<String> it = revisedPrefExtCan.iterator(); it.hasNext();) {
-							/* assume that revisedPrefExtCan subsumes none of the next argument's defence-sets. */
-							argIsDefended = false;
-							/* check that assumption. */
-							for (HashSet<String> nextDefenceSet : argsToDefenceSets.get(it.next())) { 
-								if (revisedPrefExtCan.containsAll(nextDefenceSet)) { 
-									argIsDefended = true;
-									break; 
-								} 
-							}
-
-							if (!argIsDefended) { 
-								it.remove();
-							}	
-						}
-						
-						/* revisedPrefExtCan might now be too small. */						
-						for (HashSet<String> nextRevCan : revisedPrefExtCandidates) { 
-							if (nextRevCan.containsAll(revisedPrefExtCan)) { 
-								disqualifiedByPrefExts = true;
-								break;
-							} 
-						}
-					}
-					
-					if (!disqualifiedByPrefExts) {
-						revisedPrefExtCandidates.add(revisedPrefExtCan);
-					}
-				}
-			}
-			
-			/* the above process might place non-preferred admissible sets into revisedPrefExtCandidates - if 
-			 (i) nextExtCan was reduced to such a set nonPrefAdmiSet, and (ii) none of the preferred extensions 
-			 subsuming nonPrefAdmiSet had yet been found, then nonPrefAdmiSet would be added to 
-			 revisedPrefExtCandidates. */
-			SetComparison.removeNonMaximalMembersOf(revisedPrefExtCandidates);
-		}
+		return getGraph().toArgSets(getPreferredExtsAsBitSets());
+	}
+	
+	/**
+	 * Returns this AF's preferred extensions, as an {@link ExtensionFamily ExtensionFamily}, which records each of them as a bitset 
+	 * rather than as a set of {@code String}s. 
+	 *
+	 * @return an {@code ExtensionFamily}, denoting this AF's preferred extensions.
+	 */
+	public ExtensionFamily getPreferredExtFamily() {
 		
-		/* if revisedPrefExtCandidates is empty, there is just one preferred extension: the empty set. */
-		preferredExts = revisedPrefExtCandidates.isEmpty() ? 
-			new HashSet<HashSet<String>>(Collections.singleton(new HashSet<String>()))
-			: revisedPrefExtCandidates;
+		return new ExtensionFamily(getGraph(), getPreferredExtsAsBitSets());
+	}
+	
+	/**
+	 * Returns this AF's preferred extensions, as sets of ids in {@link #graph graph}, finding and recording them if 
+	 * necessary.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's preferred extensions.
+	 */	
+	private HashSet<BitSet> getPreferredExtsAsBitSets() {
 		
-		for (HashSet<String> nextPrefExt : preferredExts) {	
-			copiesOfPrefExts.add(new HashSet<String>(nextPrefExt)); 
-		}
-				
-		return copiesOfPrefExts; 
+		return getEngine().getPreferredExts();
 	}
 	
 	/**
@@ -1738,14 +1651,42 @@ public class DungAF {
 	 */	
 	public HashSet<String> getPreferredScepticalExt() {
 		
-		if (null == preferredScepticalExt) {
-			preferredScepticalExt = new HashSet<String>(getPreferredExts().iterator().next());
-			for (HashSet<String> nextExt : preferredExts) { 
-				preferredScepticalExt.retainAll(nextExt);
-			} 
+		return getGraph().toArgSet(getPreferredScepticalExtAsBitSet());	
+	}
+	
+	/**
+	 * Returns this AF's preferred sceptical extension, as a set of ids in {@link #graph graph}, finding and recording 
+	 * it if necessary.
+	 *
+	 * @return a {@code BitSet}, denoting this AF's preferred sceptical extension.
+	 */	
+	private BitSet getPreferredScepticalExtAsBitSet() {
+		
+		return getEngine().getPreferredScepticalExt();
+	}
+	
+	/**
+	 * Returns {@code true} if each of the specified arguments is an argument of this AF, and is in every one of its 
+	 * preferred extensions. 
+	 *
+	 * <p> This method returns the same as {@code getPreferredScepticalExt().containsAll(Arrays.asList(argsParam))}, 
+	 * but without calculating the preferred sceptical extension, unless it is already recorded: the arguments are 
+	 * decided one at a time by an incremental SAT solver, which stops as soon as each is decided, and which is kept, 
+	 * with what it has learned, for later queries. </p>
+	 *
+	 * @param argsParam one or more {@code String}s, denoting arguments.
+	 * @return {@code true} if each of {@code argsParam} is an argument of this AF, and is sceptically accepted under 
+	 * the preferred semantics.
+	 */	
+	public boolean preferredScepticalExtContains(String ... argsParam) {
+		
+		for (String nextArg : argsParam) {
+			if (!args.contains(nextArg) || !getEngine().isPreferredScepticallyAccepted(graph.idOf(nextArg))) {
+				return false;
+			}
 		}
-			
-		return new HashSet<String>(preferredScepticalExt);	
+		
+		return true;
 	}
 	
 	/**
@@ -1760,14 +1701,12 @@ public class DungAF {
 	 */	
 	public boolean completeExtsContain(Collection<String> ... argColls) {
 		
-		for (Collection<String> nextArgColl : argColls) {	
-			if ((null != completeExts) && !completeExts.contains(nextArgColl)) { 
-				return false; 
-			} else if (!hasAsConflictFreeSet(nextArgColl)) { 
+		CharacteristicFunction evaluator = new CharacteristicFunction(getGraph());
+		
+		for (Collection<String> nextArgColl : argColls) {
+			if (!args.containsAll(nextArgColl) || !getEngine().isCompleteExt(graph.toBitSet(nextArgColl), evaluator)) { 
 				return false; 
-			} else if (!getArgsAcceptedBy(nextArgColl).equals(nextArgColl)) {
-				return false;
-			} 
+			}
 		}
 		
 		return true;
@@ -1780,34 +1719,29 @@ public class DungAF {
 	 */
 	public HashSet<HashSet<String>> getCompleteExts() {
 		
-		HashSet<HashSet<String>> nonPreferredAdmiSets;
-		HashSet<HashSet<String>> copiesOfCompleteExts = new HashSet<HashSet<String>>();
-		
-		/* the complete extensions might already be recorded */
-		if (null != completeExts) {				
-			for (HashSet<String> nextExt : completeExts) {
-				copiesOfCompleteExts.add(new HashSet<String>(nextExt));
-			}			
-			return copiesOfCompleteExts;
-		}	
-		
-		/* all preferred extensions are also complete extensions. */
-		completeExts = getPreferredExts();
-		
-		nonPreferredAdmiSets = getAdmissibleSets();
-		nonPreferredAdmiSets.removeAll(getPreferredExts());
-		
-		for (HashSet<String> nextAdmiSet : nonPreferredAdmiSets) {				
-			if (getArgsAcceptedBy(nextAdmiSet).equals(nextAdmiSet)) {
-				completeExts.add(new HashSet<String>(nextAdmiSet));
-			}			
-		}
+		return getGraph().toArgSets(getCompleteExtsAsBitSets());		
+	}
+	
+	/**
+	 * Returns this AF's complete extensions, as an {@link ExtensionFamily ExtensionFamily}, which records each of them 
+	 * as a bitset rather than as a set of {@code String}s. 
+	 *
+	 * @return an {@code ExtensionFamily}, denoting this AF's complete extensions.
+	 */
+	public ExtensionFamily getCompleteExtFamily() {
 		
-		for (HashSet<String> nextExt : completeExts) {
-			copiesOfCompleteExts.add(new HashSet<String>(nextExt));
-		}
+		return new ExtensionFamily(getGraph(), getCompleteExtsAsBitSets());
+	}
+	
+	/**
+	 * Returns this AF's complete extensions, as sets of ids in {@link #graph graph}, finding and recording them if 
+	 * necessary.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's complete extensions.
+	 */	
+	private HashSet<BitSet> getCompleteExtsAsBitSets() {
 		
-		return copiesOfCompleteExts;		
+		return getEngine().getCompleteExts();
 	}
 	
 	/**
@@ -1822,22 +1756,9 @@ public class DungAF {
 	 */	
 	public boolean stableExtsContain(Collection<String> ... argColls) {
 		
-		HashSet<String> argsCopy;
-		
 		for (Collection<String> nextArgColl : argColls) {
-			argsCopy = getArgs();
-			
-			if ((null != stableExts) && !stableExts.contains(nextArgColl)){ 
+			if (!args.containsAll(nextArgColl) || !getEngine().isStableExt(graph.toBitSet(nextArgColl))) { 
 				return false; 
-			} else if (!admissibleSetsContain(nextArgColl)) { 
-				return false; 
-			} else {
-				for (String nextArg : nextArgColl) { 
-					argsCopy.removeAll(getTargetsOf(nextArg)); 
-				}
-				if (!argsCopy.equals(nextArgColl)) {
-					return false;
-				}
 			}
 		}
 		
@@ -1861,28 +1782,64 @@ public class DungAF {
 	 */	
 	public HashSet<HashSet<String>> getStableExts() {
 		
-		HashSet<HashSet<String>> copiesOfStableExts = new HashSet<HashSet<String>>();
-		HashSet<String> argsNotAttackedByNextExt;
+		return getGraph().toArgSets(getStableExtsAsBitSets());
+	}
+	
+	/**
+	 * Returns an iterator over this AF's stable extensions, which, if they are not already recorded, finds them one at 
+	 * a time, as the iterator is advanced, by a search of the labellings without {@code UNDEC} arguments, rather than 
+	 * from the preferred extensions; the extensions so found are not recorded. The iterator concerns this AF as it is 
+	 * when this method is called, and does not support {@code remove()}.
+	 *
+	 * @return an {@code Iterator} of {@code String}-sets, denoting this AF's stable extensions.
+	 */
+	public Iterator<HashSet<String>> getStableExtsIterator() {
+		
+		final AttackGraph currentGraph = getGraph();
+		final Iterator<BitSet> extsIterator = getEngine().getStableExtsIterator();
 		
-		if (null == stableExts) {
-			stableExts = new HashSet<HashSet<String>>();
-			/* seek stable extensions among the preferred extensions. */
-			for (HashSet<String> nextExt : getPreferredExts()) { 				
-				argsNotAttackedByNextExt = getArgs();
-				for (String nextArg : nextExt) {
-					argsNotAttackedByNextExt.removeAll(getTargetsOf(nextArg));						
-				}
-				if (argsNotAttackedByNextExt.equals(nextExt)) {
-					stableExts.add(new HashSet<String>(nextExt));
-				}
+		return new Iterator<HashSet<String>>() {
+			
+			public boolean hasNext() {
+				
+				return extsIterator.hasNext();
 			}
-		}
+			
+			public HashSet<String> next() {
+				
+				return currentGraph.toArgSet(extsIterator.next());
+			}
+			
+			public void remove() {
+				
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+	
+	/**
+	 * Returns {@code true} if this AF has at least one stable extension. 
+	 *
+	 * <p> This method returns the same as {@code !getStableExts().isEmpty()}, but, unless the stable extensions are 
+	 * already recorded, it stops the search for them at the first one found, and neither the stable nor the preferred 
+	 * extensions are calculated. </p>
+	 *
+	 * @return {@code true} if this AF has a stable extension.
+	 */
+	public boolean hasStableExt() {
 		
-		for (HashSet<String> nextExt : stableExts) { 
-			copiesOfStableExts.add(new HashSet<String>(nextExt)); 
-		}	
+		return getEngine().hasStableExt();
+	}
+	
+	/**
+	 * Returns this AF's stable extensions, as sets of ids in {@link #graph graph}, finding and recording them if 
+	 * necessary.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's stable extensions.
+	 */	
+	private HashSet<BitSet> getStableExtsAsBitSets() {
 		
-		return copiesOfStableExts;
+		return getEngine().getStableExts();
 	}
 	
 	/**
@@ -1899,44 +1856,13 @@ public class DungAF {
 	 */	
 	public boolean semiStableExtsContain(Collection<String> ... argColls) {
 		
-		/* Terminology - the 'range' of a preferred extension is the union of itself and all arguments attacked by its 
-		 members - see Verheij's 1996 paper 'Two approaches to dialectical argumentation: admissible sets and 
-		 argumentation stages' (Proceedings of NAIC'96: pp.357-68) and Caminada's 2006 paper 'Semi-stable semantics' 
-		 (Proceedings of COMMA'06: pp.121-30). */
-		HashSet<String> nextArgCollRange;
-		HashSet<String> nextExtRange; 
-		
 		for (Collection<String> nextArgColl : argColls) {
-			if ((null != semiStableExts) && !semiStableExts.contains(nextArgColl)) { 
-				return false; 
-			} else if (!getStableExts().isEmpty()) { 
-				return stableExts.contains(nextArgColl); 
-			} else if (!preferredExtsContain(nextArgColl)) { 
+			if (!args.containsAll(nextArgColl) || !getEngine().isSemiStableExt(graph.toBitSet(nextArgColl))) { 
 				return false; 
-			} else {
-				/* compare range of nextArgColl with the range of every other preferred extension. */
-				nextArgCollRange = new HashSet<String>();
-				for (String nextArg : nextArgColl) {
-					nextArgCollRange.add(nextArg);
-					nextArgCollRange.addAll(getTargetsOf(nextArg)); 
-				}
-				
-				for (HashSet<String> nextExt : getPreferredExts()) {
-					nextExtRange = new HashSet<String>();
-					for (String nextArg : nextExt) { 
-						nextExtRange.add(nextArg);
-						nextExtRange.addAll(getTargetsOf(nextArg)); 
-					}
-					
-					if ((nextExtRange.size() > nextArgCollRange.size()) 
-						&& nextExtRange.containsAll(nextArgCollRange)) { 
-						return false; 
-					}			
-				}
 			}
 		}
 		
-		return true;	
+		return true;
 	}
 	
 	/**
@@ -1955,78 +1881,19 @@ public class DungAF {
 	 * @return a set of {@code String}-sets, denoting this AF's semi-stable extensions.
 	 */	
 	public HashSet<HashSet<String>> getSemiStableExts() {
-			
-		HashSet<String> candidateSet;
-		HashSet<String> altCandidateSet;
-		HashSet<String> candidateSetRange;
-		HashSet<String> altCandidateSetRange;
-		ArrayList<HashSet<String>> candidateSets;
-		
-		HashSet<HashSet<String>> copiesOfSemiStableExts = new HashSet<HashSet<String>>();
-		
-		/* the semi-stable extensions might already be recorded... */
-		if (null != semiStableExts) { 
-			for (HashSet<String> nextExt : semiStableExts) {	
-				copiesOfSemiStableExts.add(new HashSet<String>(nextExt)); 
-			}
-			return copiesOfSemiStableExts;
-		}
-		
-		semiStableExts = new HashSet<HashSet<String>>();
 		
-		/* ...or there might be stable extensions... */
-		if (!getStableExts().isEmpty()) {
-			for (HashSet<String> nextExt : stableExts) { 
-				semiStableExts.add(new HashSet<String>(nextExt)); 
-			}
-		}
-		
-		/* ...otherwise, seek the semi-stable extensions among the preferred extensions. */
-		candidateSets = new ArrayList<HashSet<String>>(getPreferredExts());
-		
-		/* proceed through candidateSets, comparing their ranges */
-		for (int i = 0; i < candidateSets.size(); i++) {
-			candidateSet = candidateSets.get(i);
-			
-			candidateSetRange = new HashSet<String>();
-			for (String nextArg : candidateSet) { 
-				candidateSetRange.add(nextArg);
-				candidateSetRange.addAll(getTargetsOf(nextArg)); 
-			}
-			
-			/* compare candidateSetRange with the ranges of the alternative candidate-sets, breaking if an alternative 
-			 candidate-set with greater range is found. */
-			for (int j = (i+1); j < candidateSets.size(); j++) {
-				altCandidateSet = candidateSets.get(j);
-				
-				altCandidateSetRange = new HashSet<String>();
-				for (String nextArg : altCandidateSet) { 
-					altCandidateSetRange.add(nextArg);
-					altCandidateSetRange.addAll(getTargetsOf(nextArg)); 
-				}
-				
-				if ((candidateSetRange.size() > altCandidateSetRange.size())
-					&& candidateSetRange.containsAll(altCandidateSetRange)) {
-					/* altCandidateSet cannot be semi-stable. */
-					candidateSets.remove(j);
-					j--;
-				} else if ((altCandidateSetRange.size() > candidateSetRange.size())
-						   && altCandidateSetRange.containsAll(candidateSetRange)) {
-					/* candidateSet cannot be semi-stable, so remove it from candidateSets, and break. */
-					candidateSets.remove(i);
-					i--;
-					break;
-				}
-			}
-		}
-		
-		semiStableExts.addAll(candidateSets);
-		
-		for (HashSet<String> nextExt : semiStableExts) {
-			copiesOfSemiStableExts.add(new HashSet<String>(nextExt));
-		}
+		return getGraph().toArgSets(getSemiStableExtsAsBitSets());
+	}
+	
+	/**
+	 * Returns this AF's semi-stable extensions, as sets of ids in {@link #graph graph}, finding and recording them if 
+	 * necessary.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's semi-stable extensions.
+	 */	
+	private HashSet<BitSet> getSemiStableExtsAsBitSets() {
 		
-		return copiesOfSemiStableExts;
+		return getEngine().getSemiStableExts();
 	}
 	
 	/**
@@ -2036,11 +1903,7 @@ public class DungAF {
 	 */	
 	public HashSet<String> getIdealExt() {
 		
-		if (null == idealExt) { 
-			findIdealExtOrEagerExt("ideal"); 
-		}
-		
-		return new HashSet<String>(idealExt);
+		return getGraph().toArgSet(engine.getIdealExt());
 	}
 		
 	/**
@@ -2050,52 +1913,402 @@ public class DungAF {
 	 */	
 	public HashSet<String> getEagerExt() {
 		
-		if (null == eagerExt) { 
-			findIdealExtOrEagerExt("eager"); 
-		}
-		
-		return new HashSet<String>(eagerExt);
+		return getGraph().toArgSet(engine.getEagerExt());
 	}	
 	
+	
+	//----- READ-ONLY VIEWS --------------------------------------------------------------------------------------------
+	
+	/* The following methods return unmodifiable views, rather than copies, of what this object records, so that callers
+	 which only read their results need not pay for copying them. Apart from argsView() and attacksView(), which are 
+	 views of this AF itself, each view denotes this AF as it is when the method is called, and is unaffected by 
+	 subsequent changes to this AF. */
+	
 	/**
-	 * Finds and records this AF's ideal extension or eager extension. 
+	 * Returns an unmodifiable view of this AF's arguments, which reflects subsequent changes to this AF. 
 	 *
-	 * @param semantics either "ideal" or "eager", depending on whether the ideal extension or the eager extension 
-	 * is required.
-	 * @throws IllegalArgumentException if {@code semantics} is neither "ideal" nor "eager".
-	 */		
-	private void findIdealExtOrEagerExt(String semantics) {
+	 * @return an unmodifiable set of {@code String}s, denoting this AF's arguments.
+	 */
+	public Set<String> argsView() { 
 		
-		HashSet<String> requiredExt = new HashSet<String>();
-		HashSet<HashSet<String>> relevantExts;
+		return Collections.unmodifiableSet(args); 
+	}
+	
+	/**
+	 * Returns an unmodifiable view of this AF's attacks, which reflects subsequent changes to this AF. 
+	 *
+	 * @return an unmodifiable set of {@code Attack}s, denoting this AF's attacks.
+	 */
+	public Set<Attack> attacksView() { 
 		
-		/* find the intersection of the relevant extensions. */
-		if (semantics.equals("ideal")) {
-			relevantExts = getPreferredExts();
-		} else if (semantics.equals("eager")) {
-			relevantExts = getSemiStableExts();
-		} else {
-			throw new IllegalArgumentException("parameter 'semantics' is neither \"ideal\" nor \"eager\".");	
+		return Collections.unmodifiableSet(atts); 
+	}
+	
+	/**
+	 * Returns an unmodifiable view of the arguments attacking {@code arg} in this AF.
+	 *
+	 * @param arg a {@code String}, denoting an argument.
+	 * @return an unmodifiable set of {@code String}s, denoting the arguments attacking {@code arg} in this AF.
+	 */
+	public Set<String> attackersView(String arg) { 
+		
+		int id = getGraph().idOf(arg);
+		
+		return (id < 0) ? Collections.<String>emptySet() 
+						: ReadOnlyViews.ofRow(graph, graph.attackers, graph.attackerOffsets[id], 
+											  graph.attackerOffsets[id + 1]); 
+	}
+	
+	/**
+	 * Returns an unmodifiable view of the arguments attacked by {@code arg} in this AF.
+	 *
+	 * @param arg a {@code String}, denoting an argument.
+	 * @return an unmodifiable set of {@code String}s, denoting the arguments attacked by {@code arg} in this AF.
+	 */
+	public Set<String> targetsView(String arg) { 
+		
+		int id = getGraph().idOf(arg);
+		
+		return (id < 0) ? Collections.<String>emptySet() 
+						: ReadOnlyViews.ofRow(graph, graph.targets, graph.targetOffsets[id], graph.targetOffsets[id + 1]); 
+	}
+	
+	/**
+	 * Returns an unmodifiable view of this AF's grounded extension.
+	 *
+	 * @return an unmodifiable set of {@code String}s, denoting this AF's grounded extension.
+	 */
+	public Set<String> groundedExtView() { 
+		
+		return ReadOnlyViews.of(getGraph(), getGroundedExtAsBitSet()); 
+	}
+	
+	/**
+	 * Returns an unmodifiable view of this AF's admissible sets.
+	 *
+	 * @return an unmodifiable set of unmodifiable {@code String}-sets, denoting this AF's admissible sets.
+	 */
+	public Set<Set<String>> admissibleSetsView() { 
+		
+		return ReadOnlyViews.ofFamily(getGraph(), getAdmissibleSetsAsBitSets()); 
+	}
+	
+	/**
+	 * Returns an unmodifiable view of this AF's complete extensions.
+	 *
+	 * @return an unmodifiable set of unmodifiable {@code String}-sets, denoting this AF's complete extensions.
+	 */
+	public Set<Set<String>> completeExtsView() { 
+		
+		return ReadOnlyViews.ofFamily(getGraph(), getCompleteExtsAsBitSets()); 
+	}
+	
+	/**
+	 * Returns an unmodifiable view of this AF's preferred extensions.
+	 *
+	 * @return an unmodifiable set of unmodifiable {@code String}-sets, denoting this AF's preferred extensions.
+	 */
+	public Set<Set<String>> preferredExtsView() { 
+		
+		return ReadOnlyViews.ofFamily(getGraph(), getPreferredExtsAsBitSets()); 
+	}
+	
+	/**
+	 * Returns an unmodifiable view of this AF's preferred sceptical extension.
+	 *
+	 * @return an unmodifiable set of {@code String}s, denoting this AF's preferred sceptical extension.
+	 */
+	public Set<String> preferredScepticalExtView() { 
+		
+		return ReadOnlyViews.of(getGraph(), getPreferredScepticalExtAsBitSet()); 
+	}
+	
+	/**
+	 * Returns an unmodifiable view of this AF's stable extensions.
+	 *
+	 * @return an unmodifiable set of unmodifiable {@code String}-sets, denoting this AF's stable extensions.
+	 */
+	public Set<Set<String>> stableExtsView() { 
+		
+		return ReadOnlyViews.ofFamily(getGraph(), getStableExtsAsBitSets()); 
+	}
+	
+	/**
+	 * Returns an unmodifiable view of this AF's semi-stable extensions.
+	 *
+	 * @return an unmodifiable set of unmodifiable {@code String}-sets, denoting this AF's semi-stable extensions.
+	 */
+	public Set<Set<String>> semiStableExtsView() { 
+		
+		return ReadOnlyViews.ofFamily(getGraph(), getSemiStableExtsAsBitSets()); 
+	}
+	
+	/**
+	 * Returns an unmodifiable view of this AF's ideal extension.
+	 *
+	 * @return an unmodifiable set of {@code String}s, denoting this AF's ideal extension.
+	 */
+	public Set<String> idealExtView() {
+		
+		return ReadOnlyViews.of(getGraph(), engine.getIdealExt()); 
+	}
+	
+	/**
+	 * Returns an unmodifiable view of this AF's eager extension.
+	 *
+	 * @return an unmodifiable set of {@code String}s, denoting this AF's eager extension.
+	 */
+	public Set<String> eagerExtView() {
+		
+		return ReadOnlyViews.of(getGraph(), engine.getEagerExt()); 
+	}
+	
+	
+	//----- BUILDER ----------------------------------------------------------------------------------------------------
+	
+	/**
+	 * A builder for loading large AFs in bulk.
+	 *
+	 * <p> Adding attacks one at a time to a {@code DungAF} discards its recorded semantics information each time, so a
+	 * {@code Builder} should be used instead when loading an AF edge by edge. A {@code Builder} assigns each argument an 
+	 * id when it is first seen, and accumulates attacks as pairs of ids packed into a {@code long}-array. 
+	 * {@link #build() build()} sorts that array once to discard duplicate attacks, and constructs the {@code DungAF} 
+	 * and its {@link AttackGraph AttackGraph} from it in a single pass. </p>
+	 *
+	 * <p> A {@code Builder} also measures its own load throughput - see {@link #getAttsPerSecond() 
+	 * getAttsPerSecond()}. </p>
+	 */
+	public static final class Builder {
+		
+		/**
+		 * The arguments seen so far, indexed by id.
+		 */
+		private final ArrayList<String> names = new ArrayList<String>();
+		
+		/**
+		 * A map from each argument seen so far to its id.
+		 */
+		private final HashMap<String,Integer> ids = new HashMap<String,Integer>();
+		
+		/**
+		 * The attacks added so far, each packed as ((<i>attacker id</i> &lt;&lt; 32) | <i>target id</i>); perhaps 
+		 * including duplicates.
+		 */
+		private long[] packedAtts = new long[16];
+		
+		/**
+		 * The number of entries of {@link #packedAtts packedAtts} in use.
+		 */
+		private int attsCount;
+		
+		/**
+		 * The value of {@link System#nanoTime() System.nanoTime()} when the first argument or attack was added, or 
+		 * {@code -1} if none has been added.
+		 */
+		private long startNanos = -1;
+		
+		/**
+		 * The number of nanoseconds from the first addition to the end of the most recent call to 
+		 * {@link #build() build()}.
+		 */
+		private long loadNanos;
+		
+		/**
+		 * The number of distinct attacks in the AF most recently built.
+		 */
+		private int distinctAttsCount;
+		
+		/**
+		 * The order in which ids are assigned to the arguments of the AFs built.
+		 */
+		private ArgumentOrder argOrder = ArgumentOrder.DEFAULT;
+		
+		/**
+		 * Constructs an empty builder.
+		 */
+		public Builder() {
+		}
+		
+		/**
+		 * Adds the specified arguments.
+		 *
+		 * @param argsToBeAdded one or more {@code String}s, denoting arguments.
+		 * @return this builder.
+		 */
+		public Builder addArgs(String ... argsToBeAdded) {
+			
+			for (String nextArg : argsToBeAdded) {
+				idOf(nextArg);
+			}
+			
+			return this;
 		}
-		requiredExt.addAll(relevantExts.iterator().next());		
-		for (HashSet<String> nextSet : relevantExts) {
-			requiredExt.retainAll(nextSet); 
+		
+		/**
+		 * Adds the attack by {@code attacker} on {@code target}, together with both arguments.
+		 *
+		 * @param attacker a {@code String}, denoting the attacking argument.
+		 * @param target a {@code String}, denoting the attacked argument.
+		 * @return this builder.
+		 */
+		public Builder addAtt(String attacker, String target) {
+			
+			if (attsCount == packedAtts.length) {
+				packedAtts = Arrays.copyOf(packedAtts, 2 * packedAtts.length);
+			}
+			packedAtts[attsCount++] = ((long) idOf(attacker) << 32) | idOf(target);
+			
+			return this;
 		}
 		
-		/* remove all members of requiredExt which are not acceptable wrt requiredExt; and do so repeatedly, 
-		 until requiredExt is admissible. */
-		while (!argsAccept(requiredExt, requiredExt)) {															
-			for (Iterator<String> it = requiredExt.iterator(); it.hasNext(); ) {				
-				if (!argsAccept(requiredExt, it.next())) {
-					it.remove();
-				}			
+		/**
+		 * Adds the specified attack, together with the arguments involved in it.
+		 *
+		 * @param att an {@code Attack}.
+		 * @return this builder.
+		 */
+		public Builder addAtt(Attack att) {
+			
+			return addAtt(att.getAttacker(), att.getTarget());
+		}
+		
+		/**
+		 * Adds the specified attacks, together with the arguments involved in them.
+		 *
+		 * @param attsToBeAdded a {@code Collection} of {@code String}-arrays (which should all denote attacks, and 
+		 * hence have exactly two elements).
+		 * @return this builder.
+		 * @throws IllegalArgumentException if {@code attsToBeAdded} contains a {@code String}-array which does not 
+		 * have exactly two elements.
+		 */
+		public Builder addAtts(Collection<String[]> attsToBeAdded) {
+			
+			if (!arraysDenoteAttacks(attsToBeAdded)) {
+				throw new IllegalArgumentException(
+					"by '" + getClass().getName() + ".addAtts(Collection<String[]>)' --- "
+					+ "parameter included at least one String-array which did not have exactly two elements.");
 			}
+			
+			for (String[] nextAtt : attsToBeAdded) {
+				addAtt(nextAtt[0], nextAtt[1]);
+			}
+			
+			return this;
 		}
 		
-		if (semantics.equals("ideal")) {
-			idealExt = requiredExt;
-		} else {
-			eagerExt = requiredExt;
+		/**
+		 * Returns a new {@code DungAF} comprising the arguments and attacks added so far. This builder remains 
+		 * usable, and subsequent calls include any further additions.
+		 *
+		 * @return a {@code DungAF}.
+		 */
+		public DungAF build() {
+			
+			String[] namesArr = names.toArray(new String[names.size()]);
+			HashSet<String> args = new HashSet<String>(names);
+			HashSet<Attack> atts;
+			int[] attackerIds;
+			int[] targetIds;
+			int count = 0;
+			
+			if (startNanos < 0) {
+				startNanos = System.nanoTime();
+			}
+			
+			/* sort the packed attacks, so that duplicates are adjacent; and then compact them in place. */
+			Arrays.sort(packedAtts, 0, attsCount);
+			for (int k = 0; k < attsCount; k++) {
+				if ((0 == count) || (packedAtts[k] != packedAtts[count - 1])) {
+					packedAtts[count++] = packedAtts[k];
+				}
+			}
+			attsCount = count;
+			
+			attackerIds = new int[count];
+			targetIds = new int[count];
+			atts = new HashSet<Attack>(2 * count);
+			for (int k = 0; k < count; k++) {
+				attackerIds[k] = (int) (packedAtts[k] >>> 32);
+				targetIds[k] = (int) packedAtts[k];
+				atts.add(new Attack(namesArr[attackerIds[k]], namesArr[targetIds[k]]));
+			}
+			distinctAttsCount = count;
+			
+			AttackGraph graph = new AttackGraph(namesArr, new HashMap<String,Integer>(ids), attackerIds, targetIds)
+								.reorderedBy(argOrder);
+			DungAF af = new DungAF(ForkableSet.wrapping(args), ForkableSet.wrapping(atts), graph, 
+								   new SemanticsEngine(graph));
+			
+			af.argOrder = argOrder;
+			
+			loadNanos = System.nanoTime() - startNanos;
+			
+			return af;
 		}
-	}	
+		
+		/**
+		 * Sets the order in which ids are assigned to the arguments of the AFs subsequently built - see 
+		 * {@link DungAF#setArgumentOrder(ArgumentOrder) DungAF.setArgumentOrder(ArgumentOrder)}.
+		 *
+		 * @param order an {@code ArgumentOrder}.
+		 * @return this builder.
+		 */
+		public Builder argumentOrder(ArgumentOrder order) {
+			
+			argOrder = order;
+			
+			return this;
+		}
+		
+		/**
+		 * Returns the number of distinct attacks in the AF most recently built.
+		 *
+		 * @return an {@code int}.
+		 */
+		public int getDistinctAttsCount() {
+			
+			return distinctAttsCount;
+		}
+		
+		/**
+		 * Returns the time taken to load the AF most recently built - from the first addition to this builder, to the
+		 * end of the call to {@link #build() build()}.
+		 *
+		 * @return a {@code long}, being a number of nanoseconds.
+		 */
+		public long getLoadNanos() {
+			
+			return loadNanos;
+		}
+		
+		/**
+		 * Returns the load throughput of the AF most recently built, in distinct attacks per second.
+		 *
+		 * @return a {@code double}; zero if no AF has been built.
+		 */
+		public double getAttsPerSecond() {
+			
+			return (0 == loadNanos) ? 0 : distinctAttsCount * 1e9 / loadNanos;
+		}
+		
+		/**
+		 * Returns the id of {@code arg}, assigning it the next id if it has not been seen before.
+		 */
+		private int idOf(String arg) {
+			
+			Integer id = ids.get(arg);
+			
+			if (startNanos < 0) {
+				startNanos = System.nanoTime();
+			}
+			
+			if (null == id) {
+				id = names.size();
+				names.add(arg);
+				ids.put(arg, id);
+			}
+			
+			return id;
+		}
+	}
 }
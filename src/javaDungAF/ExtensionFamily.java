@@ -0,0 +1,229 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * An immutable family of {@link ExtensionSet ExtensionSet}s of an AF - e.g. the admissible sets, complete extensions
+ * or preferred extensions of a {@link DungAF DungAF}.
+ *
+ * <p> An {@code ExtensionFamily} is a read-only view of the bitsets which a {@code DungAF} records, so obtaining one
+ * costs no copying; each {@code ExtensionSet} is created as it is iterated over. The family can be converted to a set
+ * of {@code String}-sets by {@link #toArgSets() toArgSets()}, which is what the corresponding getters of
+ * {@code DungAF} return. </p>
+ */
+public final class ExtensionFamily implements Iterable<ExtensionSet> {
+
+	/**
+	 * The representation of the AF over whose arguments the ids are defined.
+	 */
+	private final AttackGraph graph;
+
+	/**
+	 * The members, as sets of ids; neither the collection nor its members are ever changed.
+	 */
+	private final Collection<BitSet> members;
+
+	/**
+	 * Constructs the family of the argument-sets of {@code graph} denoted by {@code members}. Neither {@code members}
+	 * nor any of its elements may be changed subsequently.
+	 *
+	 * @param graph an {@code AttackGraph}.
+	 * @param members a {@code Collection} of {@code BitSet}s of ids in {@code graph}, without duplicates.
+	 */
+	ExtensionFamily(AttackGraph graph, Collection<BitSet> members) {
+
+		this.graph = graph;
+		this.members = members;
+	}
+
+	//----- BASIC METHODS ----------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the number of sets in this family.
+	 *
+	 * @return an {@code int}.
+	 */
+	public int size() {
+
+		return members.size();
+	}
+
+	/**
+	 * Returns {@code true} if this family contains no sets.
+	 *
+	 * @return {@code true} if this family is empty.
+	 */
+	public boolean isEmpty() {
+
+		return members.isEmpty();
+	}
+
+	/**
+	 * Returns {@code true} if the set-view of {@code argColl} is in this family.
+	 *
+	 * @param argColl a {@code Collection} of {@code String}s, denoting arguments.
+	 * @return {@code true} if the set-view of {@code argColl} is in this family.
+	 */
+	public boolean contains(Collection<String> argColl) {
+
+		for (String nextArg : argColl) {
+			if (graph.idOf(nextArg) < 0) {
+				return false;
+			}
+		}
+
+		return members.contains(graph.toBitSet(argColl));
+	}
+
+	/**
+	 * Returns {@code true} if {@code extSet} is in this family.
+	 *
+	 * @param extSet an {@code ExtensionSet}.
+	 * @return {@code true} if {@code extSet} is in this family.
+	 */
+	public boolean contains(ExtensionSet extSet) {
+
+		return (graph == extSet.graph) ? members.contains(extSet.ids) : contains(extSet.toArgSet());
+	}
+
+	/**
+	 * Returns an iterator over the sets in this family.
+	 *
+	 * @return an {@code Iterator} over {@code ExtensionSet}s.
+	 */
+	public Iterator<ExtensionSet> iterator() {
+
+		final Iterator<BitSet> membersIterator = members.iterator();
+
+		return new Iterator<ExtensionSet>() {
+
+			public boolean hasNext() {
+
+				return membersIterator.hasNext();
+			}
+
+			public ExtensionSet next() {
+
+				return new ExtensionSet(graph, membersIterator.next());
+			}
+
+			public void remove() {
+
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	/**
+	 * Returns the union of the sets in this family.
+	 *
+	 * @return an {@code ExtensionSet}.
+	 */
+	public ExtensionSet union() {
+
+		BitSet result = new BitSet(graph.size());
+
+		for (BitSet nextMember : members) {
+			result.or(nextMember);
+		}
+
+		return new ExtensionSet(graph, result);
+	}
+
+	/**
+	 * Returns the intersection of the sets in this family, or the empty set if this family is empty.
+	 *
+	 * @return an {@code ExtensionSet}.
+	 */
+	public ExtensionSet intersection() {
+
+		BitSet result = null;
+
+		for (BitSet nextMember : members) {
+			if (null == result) {
+				result = (BitSet) nextMember.clone();
+			} else {
+				result.and(nextMember);
+			}
+		}
+
+		return new ExtensionSet(graph, (null == result) ? new BitSet() : result);
+	}
+
+	/**
+	 * Returns a new set of {@code String}-sets, denoting the sets in this family.
+	 *
+	 * @return a set of {@code String}-sets.
+	 */
+	public HashSet<HashSet<String>> toArgSets() {
+
+		return graph.toArgSets(members);
+	}
+
+	/**
+	 * Returns {@code true} if {@code obj} is an {@code ExtensionFamily} containing the same sets as this family.
+	 *
+	 * @param obj an {@code Object}.
+	 * @return {@code true} if {@code obj} denotes the same sets as this family.
+	 */
+	public boolean equals(Object obj) {
+
+		ExtensionFamily anotherFamily;
+
+		if (this == obj) {
+			return true;
+		} else if (!(obj instanceof ExtensionFamily)) {
+			return false;
+		} else {
+			anotherFamily = (ExtensionFamily) obj;
+			if (members.size() != anotherFamily.members.size()) {
+				return false;
+			} else if (graph == anotherFamily.graph) {
+				return members.containsAll(anotherFamily.members);
+			} else {
+				return toArgSets().equals(anotherFamily.toArgSets());
+			}
+		}
+	}
+
+	/**
+	 * Returns a hash code consistent with {@link #equals(Object) equals(Object)}, being the hash code of
+	 * {@link #toArgSets() toArgSets()}.
+	 *
+	 * @return an {@code int}.
+	 */
+	public int hashCode() {
+
+		int hash = 0;
+
+		for (ExtensionSet nextSet : this) {
+			hash += nextSet.hashCode();
+		}
+
+		return hash;
+	}
+
+	/**
+	 * Returns a representation of this family, as that of {@link #toArgSets() toArgSets()}.
+	 *
+	 * @return a {@code String}.
+	 */
+	public String toString() {
+
+		return toArgSets().toString();
+	}
+}
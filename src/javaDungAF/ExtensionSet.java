@@ -0,0 +1,283 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * An immutable set of arguments of an AF, stored as a bitset over the arguments' ids.
+ *
+ * <p> An {@code ExtensionSet} costs one bit per argument of its AF, rather than a {@code HashSet} entry per member, and
+ * is converted to a set of {@code String}s only when {@link #toArgSet() toArgSet()} is called. {@code ExtensionSet}s
+ * are obtained from an {@link ExtensionFamily ExtensionFamily}. Set algebra is only defined between
+ * {@code ExtensionSet}s obtained from the same {@link DungAF DungAF} while its AF is unchanged. </p>
+ *
+ * <p> Two {@code ExtensionSet}s are equal if they denote the same arguments, and the hash code of an
+ * {@code ExtensionSet} is that of the corresponding set of {@code String}s. </p>
+ */
+public final class ExtensionSet implements Iterable<String> {
+
+	/**
+	 * The representation of the AF over whose arguments the ids are defined.
+	 */
+	final AttackGraph graph;
+
+	/**
+	 * The ids of the members, never changed once this object is constructed.
+	 */
+	final BitSet ids;
+
+	/**
+	 * Constructs the set of the arguments of {@code graph} whose ids are in {@code ids}. {@code ids} must not be changed
+	 * subsequently.
+	 *
+	 * @param graph an {@code AttackGraph}.
+	 * @param ids a {@code BitSet} of ids in {@code graph}.
+	 */
+	ExtensionSet(AttackGraph graph, BitSet ids) {
+
+		this.graph = graph;
+		this.ids = ids;
+	}
+
+	//----- BASIC METHODS ----------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the number of arguments in this set.
+	 *
+	 * @return an {@code int}.
+	 */
+	public int size() {
+
+		return ids.cardinality();
+	}
+
+	/**
+	 * Returns {@code true} if this set contains no arguments.
+	 *
+	 * @return {@code true} if this set is empty.
+	 */
+	public boolean isEmpty() {
+
+		return ids.isEmpty();
+	}
+
+	/**
+	 * Returns {@code true} if this set contains {@code arg}.
+	 *
+	 * @param arg a {@code String}, denoting an argument.
+	 * @return {@code true} if {@code arg} is in this set.
+	 */
+	public boolean contains(String arg) {
+
+		int id = graph.idOf(arg);
+
+		return (id >= 0) && ids.get(id);
+	}
+
+	/**
+	 * Returns {@code true} if this set contains every member of {@code argColl}.
+	 *
+	 * @param argColl a {@code Collection} of {@code String}s, denoting arguments.
+	 * @return {@code true} if {@code argColl} is a subset of this set.
+	 */
+	public boolean containsAll(Collection<String> argColl) {
+
+		for (String nextArg : argColl) {
+			if (!contains(nextArg)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns an iterator over this set's arguments, in order of id.
+	 *
+	 * @return an {@code Iterator} over {@code String}s.
+	 */
+	public Iterator<String> iterator() {
+
+		return new Iterator<String>() {
+
+			private int nextId = ids.nextSetBit(0);
+
+			public boolean hasNext() {
+
+				return nextId >= 0;
+			}
+
+			public String next() {
+
+				String arg;
+
+				if (nextId < 0) {
+					throw new NoSuchElementException();
+				}
+
+				arg = graph.names[nextId];
+				nextId = ids.nextSetBit(nextId + 1);
+
+				return arg;
+			}
+
+			public void remove() {
+
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	/**
+	 * Returns a new set of {@code String}s, denoting the arguments in this set.
+	 *
+	 * @return a set of {@code String}s.
+	 */
+	public HashSet<String> toArgSet() {
+
+		return graph.toArgSet(ids);
+	}
+
+	/**
+	 * Returns {@code true} if {@code obj} is an {@code ExtensionSet} denoting the same arguments as this set.
+	 *
+	 * @param obj an {@code Object}.
+	 * @return {@code true} if {@code obj} denotes the same arguments as this set.
+	 */
+	public boolean equals(Object obj) {
+
+		ExtensionSet anotherSet;
+
+		if (this == obj) {
+			return true;
+		} else if (!(obj instanceof ExtensionSet)) {
+			return false;
+		} else {
+			anotherSet = (ExtensionSet) obj;
+			return (graph == anotherSet.graph) ? ids.equals(anotherSet.ids) : toArgSet().equals(anotherSet.toArgSet());
+		}
+	}
+
+	/**
+	 * Returns a hash code consistent with {@link #equals(Object) equals(Object)}, being the hash code of
+	 * {@link #toArgSet() toArgSet()}.
+	 *
+	 * @return an {@code int}.
+	 */
+	public int hashCode() {
+
+		int hash = 0;
+
+		for (int i = ids.nextSetBit(0); i >= 0; i = ids.nextSetBit(i + 1)) {
+			hash += graph.names[i].hashCode();
+		}
+
+		return hash;
+	}
+
+	/**
+	 * Returns a representation of this set, as that of {@link #toArgSet() toArgSet()}.
+	 *
+	 * @return a {@code String}.
+	 */
+	public String toString() {
+
+		return toArgSet().toString();
+	}
+
+	//----- SET ALGEBRA ------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the union of this set and {@code anotherSet}.
+	 *
+	 * @param anotherSet an {@code ExtensionSet} of the same AF.
+	 * @return an {@code ExtensionSet}.
+	 * @throws IllegalArgumentException if {@code anotherSet} is not an {@code ExtensionSet} of the same AF.
+	 */
+	public ExtensionSet union(ExtensionSet anotherSet) {
+
+		BitSet result = copyOfIdsCombinableWith(anotherSet, "union");
+
+		result.or(anotherSet.ids);
+
+		return new ExtensionSet(graph, result);
+	}
+
+	/**
+	 * Returns the intersection of this set and {@code anotherSet}.
+	 *
+	 * @param anotherSet an {@code ExtensionSet} of the same AF.
+	 * @return an {@code ExtensionSet}.
+	 * @throws IllegalArgumentException if {@code anotherSet} is not an {@code ExtensionSet} of the same AF.
+	 */
+	public ExtensionSet intersection(ExtensionSet anotherSet) {
+
+		BitSet result = copyOfIdsCombinableWith(anotherSet, "intersection");
+
+		result.and(anotherSet.ids);
+
+		return new ExtensionSet(graph, result);
+	}
+
+	/**
+	 * Returns the arguments in this set which are not in {@code anotherSet}.
+	 *
+	 * @param anotherSet an {@code ExtensionSet} of the same AF.
+	 * @return an {@code ExtensionSet}.
+	 * @throws IllegalArgumentException if {@code anotherSet} is not an {@code ExtensionSet} of the same AF.
+	 */
+	public ExtensionSet difference(ExtensionSet anotherSet) {
+
+		BitSet result = copyOfIdsCombinableWith(anotherSet, "difference");
+
+		result.andNot(anotherSet.ids);
+
+		return new ExtensionSet(graph, result);
+	}
+
+	/**
+	 * Returns {@code true} if every argument in this set is in {@code anotherSet}.
+	 *
+	 * @param anotherSet an {@code ExtensionSet} of the same AF.
+	 * @return {@code true} if this set is a subset of {@code anotherSet}.
+	 * @throws IllegalArgumentException if {@code anotherSet} is not an {@code ExtensionSet} of the same AF.
+	 */
+	public boolean isSubsetOf(ExtensionSet anotherSet) {
+
+		copyOfIdsCombinableWith(anotherSet, "isSubsetOf");
+
+		return AttackGraph.isSubsetOf(ids, anotherSet.ids);
+	}
+
+	/**
+	 * Returns a copy of {@link #ids ids}, having checked that {@code anotherSet} is an {@code ExtensionSet} of the
+	 * same AF as this set.
+	 *
+	 * @param anotherSet an {@code ExtensionSet}.
+	 * @param methodName a {@code String}, being the name of the calling method.
+	 * @return a {@code BitSet}.
+	 * @throws IllegalArgumentException if {@code anotherSet} is not an {@code ExtensionSet} of the same AF.
+	 */
+	private BitSet copyOfIdsCombinableWith(ExtensionSet anotherSet, String methodName) {
+
+		if (graph != anotherSet.graph) {
+			throw new IllegalArgumentException("by 'ExtensionSet." + methodName + "(ExtensionSet anotherSet)' --- "
+											   + "'anotherSet' was not obtained from the same AF.");
+		}
+
+		return (BitSet) ids.clone();
+	}
+}
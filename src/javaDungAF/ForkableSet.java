@@ -0,0 +1,404 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * A hash-based set which can be forked in constant time, the fork and the original then sharing structure until
+ * either is changed. Used by {@link DungAF DungAF} to record its arguments and attacks, so that
+ * {@link DungAF#fork() DungAF.fork()} need not copy them.
+ *
+ * <p> A {@code ForkableSet} comprises a <i>base</i> {@code HashSet}, together with the elements <i>added</i> to it
+ * and the elements <i>removed</i> from it since it was last shared. Until a set is first forked, it has no such
+ * deltas, and is changed by changing its base directly. Once forked, its base is never changed again, by either set;
+ * instead, each set records its changes in its own deltas, copying any deltas it shares with the other set before
+ * first changing them. When the deltas of a set grow larger than its base, the set is compacted into a new, unshared
+ * base, so that the cost of compaction is amortized over the changes which caused it. Thus the cost of forking is
+ * constant, and the cost of subsequently changing either set is proportional to the number of changes. </p>
+ *
+ * <p> <b>Note</b>: this class is <b>not</b> synchronized. Since no shared structure is ever changed, however, a set
+ * and its forks may subsequently be used by different threads; and a set {@link #markShared() marked as shared} may be
+ * forked by several threads at once, since forking it then writes nothing. </p>
+ *
+ * @param <E> the type of the elements.
+ */
+final class ForkableSet<E> extends AbstractSet<E> {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	/**
+	 * The base of this set; never changed if {@link #baseShared baseShared} is {@code true}.
+	 */
+	private HashSet<E> base;
+
+	/**
+	 * The elements of this set which are not in {@link #base base}; {@code null} if there are none.
+	 */
+	private HashSet<E> added;
+
+	/**
+	 * The members of {@link #base base} which are not in this set; {@code null} if there are none.
+	 */
+	private HashSet<E> removed;
+
+	/**
+	 * {@code true} if {@link #base base} may be shared with another {@code ForkableSet}. If {@code false}, then
+	 * {@link #added added} and {@link #removed removed} are both {@code null}.
+	 */
+	private boolean baseShared;
+
+	/**
+	 * {@code true} if {@link #added added} and {@link #removed removed} may be shared with another
+	 * {@code ForkableSet}.
+	 */
+	private boolean deltasShared;
+
+	/**
+	 * The number of elements in this set.
+	 */
+	private int size;
+
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructs an empty set.
+	 */
+	ForkableSet() {
+
+		base = new HashSet<E>();
+	}
+
+	/**
+	 * Constructs a set containing the elements of {@code c}.
+	 *
+	 * @param c a {@code Collection} of {@code E}s.
+	 */
+	ForkableSet(Collection<? extends E> c) {
+
+		base = new HashSet<E>(c);
+		size = base.size();
+	}
+
+	/**
+	 * Constructs a fork of {@code anotherSet}, sharing its base and deltas, which must already be marked as shared.
+	 */
+	private ForkableSet(ForkableSet<E> anotherSet) {
+
+		base = anotherSet.base;
+		added = anotherSet.added;
+		removed = anotherSet.removed;
+		baseShared = true;
+		deltasShared = true;
+		size = anotherSet.size;
+	}
+
+	/**
+	 * Returns a set whose base is {@code base}, which the returned set thereafter owns; {@code base} must not be used
+	 * by the caller afterwards.
+	 *
+	 * @param base a {@code HashSet} of {@code E}s.
+	 * @return a {@code ForkableSet} containing the elements of {@code base}.
+	 */
+	static <E> ForkableSet<E> wrapping(HashSet<E> base) {
+
+		ForkableSet<E> result = new ForkableSet<E>();
+
+		result.base = base;
+		result.size = base.size();
+
+		return result;
+	}
+
+	//----- METHODS ----------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns a set containing the same elements as this set, in constant time. Subsequent changes to either set do
+	 * not affect the other.
+	 *
+	 * @return a {@code ForkableSet}.
+	 */
+	ForkableSet<E> fork() {
+
+		if (!baseShared) {
+			baseShared = true;
+		}
+		if (!deltasShared) {
+			deltasShared = true;
+		}
+
+		return new ForkableSet<E>(this);
+	}
+
+	/**
+	 * Marks the base and deltas of this set as shared, as {@link #fork() fork()} does, so that neither is changed
+	 * again, and so that forking this set no longer writes to it. Called before this set is published to other
+	 * threads, which may then fork it concurrently without synchronization.
+	 */
+	void markShared() {
+
+		baseShared = true;
+		deltasShared = true;
+	}
+
+	public int size() {
+
+		return size;
+	}
+
+	public boolean contains(Object o) {
+
+		if (!baseShared) {
+			return base.contains(o);
+		} else if ((null != added) && added.contains(o)) {
+			return true;
+		} else {
+			return base.contains(o) && ((null == removed) || !removed.contains(o));
+		}
+	}
+
+	public boolean add(E e) {
+
+		if (!baseShared) {
+			if (base.add(e)) {
+				size++;
+				return true;
+			} else {
+				return false;
+			}
+		} else if (contains(e)) {
+			return false;
+		}
+
+		prepareDeltas();
+		if (!removed.remove(e)) {
+			added.add(e);
+		}
+		size++;
+		compactIfWorthwhile();
+
+		return true;
+	}
+
+	public boolean remove(Object o) {
+
+		if (!baseShared) {
+			if (base.remove(o)) {
+				size--;
+				return true;
+			} else {
+				return false;
+			}
+		} else if (!contains(o)) {
+			return false;
+		}
+
+		removeSharedMember(o);
+		compactIfWorthwhile();
+
+		return true;
+	}
+
+	/**
+	 * Removes the elements of {@code c} from this set, one by one, so that the cost is proportional to the size of
+	 * {@code c} rather than to that of this set.
+	 */
+	public boolean removeAll(Collection<?> c) {
+
+		boolean changed = false;
+
+		for (Object nextElement : c) {
+			changed |= remove(nextElement);
+		}
+
+		return changed;
+	}
+
+	public void clear() {
+
+		base = new HashSet<E>();
+		added = null;
+		removed = null;
+		baseShared = false;
+		deltasShared = false;
+		size = 0;
+	}
+
+	public Iterator<E> iterator() {
+
+		return baseShared ? new SharedIterator() : new UnsharedIterator(base.iterator());
+	}
+
+	//----- HELPER METHODS ---------------------------------------------------------------------------------------------
+
+	/**
+	 * Ensures that {@link #added added} and {@link #removed removed} exist and are not shared with any other set.
+	 */
+	@SuppressWarnings("unchecked")
+	private void prepareDeltas() {
+
+		if (deltasShared) {
+			added = (null == added) ? new HashSet<E>() : (HashSet<E>) added.clone();
+			removed = (null == removed) ? new HashSet<E>() : (HashSet<E>) removed.clone();
+			deltasShared = false;
+		} else {
+			added = (null == added) ? new HashSet<E>() : added;
+			removed = (null == removed) ? new HashSet<E>() : removed;
+		}
+	}
+
+	/**
+	 * Removes {@code o}, which must be an element of this set, from this set, whose base must be shared.
+	 */
+	@SuppressWarnings("unchecked")
+	private void removeSharedMember(Object o) {
+
+		prepareDeltas();
+		if (!added.remove(o)) {
+			removed.add((E) o);
+		}
+		size--;
+	}
+
+	/**
+	 * Replaces the base and deltas of this set with a new, unshared base, if the deltas have grown larger than the
+	 * base.
+	 */
+	private void compactIfWorthwhile() {
+
+		HashSet<E> newBase;
+
+		if (added.size() + removed.size() > Math.max(base.size(), 16)) {
+			newBase = new HashSet<E>(Math.max(2 * size, 16));
+			for (E nextElement : base) {
+				if (!removed.contains(nextElement)) {
+					newBase.add(nextElement);
+				}
+			}
+			newBase.addAll(added);
+
+			base = newBase;
+			added = null;
+			removed = null;
+			baseShared = false;
+			deltasShared = false;
+		}
+	}
+
+	//----- ITERATORS --------------------------------------------------------------------------------------------------
+
+	/**
+	 * An iterator over a set whose base is not shared.
+	 */
+	private final class UnsharedIterator implements Iterator<E> {
+
+		private final Iterator<E> baseIterator;
+
+		UnsharedIterator(Iterator<E> baseIterator) {
+
+			this.baseIterator = baseIterator;
+		}
+
+		public boolean hasNext() {
+
+			return baseIterator.hasNext();
+		}
+
+		public E next() {
+
+			return baseIterator.next();
+		}
+
+		public void remove() {
+
+			baseIterator.remove();
+			size--;
+		}
+	}
+
+	/**
+	 * An iterator over a set whose base is shared, which iterates over the members of the base which have not been
+	 * removed, and then over the added elements. It iterates over the deltas as they were when it was created, or
+	 * when it began to iterate over the added elements; since removals through it may cause the deltas to be copied,
+	 * it never changes the sets over which it iterates.
+	 */
+	private final class SharedIterator implements Iterator<E> {
+
+		private final Iterator<E> baseIterator = base.iterator();
+		private final HashSet<E> removedAtStart = removed;
+		private Iterator<E> addedIterator;
+		private E nextElement;
+		private E lastElement;
+		private boolean hasNextElement;
+		private boolean canRemove;
+
+		SharedIterator() {
+
+			advance();
+		}
+
+		/**
+		 * Finds the next element, if any.
+		 */
+		private void advance() {
+
+			E candidate;
+
+			while ((null == addedIterator) && baseIterator.hasNext()) {
+				candidate = baseIterator.next();
+				if ((null == removedAtStart) || !removedAtStart.contains(candidate)) {
+					nextElement = candidate;
+					hasNextElement = true;
+					return;
+				}
+			}
+
+			if (null == addedIterator) {
+				addedIterator = (null == added) ? Collections.<E>emptySet().iterator()
+												: new ArrayList<E>(added).iterator();
+			}
+			hasNextElement = addedIterator.hasNext();
+			nextElement = hasNextElement ? addedIterator.next() : null;
+		}
+
+		public boolean hasNext() {
+
+			return hasNextElement;
+		}
+
+		public E next() {
+
+			if (!hasNextElement) {
+				throw new NoSuchElementException();
+			}
+
+			lastElement = nextElement;
+			canRemove = true;
+			advance();
+
+			return lastElement;
+		}
+
+		public void remove() {
+
+			if (!canRemove) {
+				throw new IllegalStateException();
+			}
+
+			removeSharedMember(lastElement);
+			canRemove = false;
+		}
+	}
+}
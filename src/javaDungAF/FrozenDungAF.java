@@ -0,0 +1,607 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An immutable snapshot of a {@link DungAF DungAF}, which may be queried by any number of threads concurrently.
+ *
+ * <p> A {@code FrozenDungAF} is obtained from {@link DungAF#freeze() DungAF.freeze()}. Its AF never changes, and its
+ * integer-indexed representation is built when it is created. Like a {@code DungAF}, it records the extensions it
+ * finds, so that repeated queries do not result in repeated calculations. </p>
+ *
+ * <p> A {@code FrozenDungAF} holds its recorded information in a {@code DungAF} which, once published, is never
+ * changed. Queries which need only recorded information read the published {@code DungAF} directly. Otherwise, the
+ * query is answered by a thread-confined working copy, which shares the AF and all recorded information; and the new
+ * information found by the working copy is then merged into a new {@code DungAF}, which is published by
+ * compare-and-set. No locks are used. Two threads may occasionally find the same extensions concurrently, in which
+ * case both results are equal and either may be recorded. </p>
+ *
+ * <p> The methods of this class behave as the like-named methods of {@code DungAF}. </p>
+ */
+public final class FrozenDungAF {
+
+	/**
+	 * The most recently published {@code DungAF}, which records this AF together with all information found about its
+	 * interpretation so far. Never changed once published.
+	 */
+	private final AtomicReference<DungAF> state;
+
+	/**
+	 * Constructs a snapshot of {@code anotherAF}.
+	 *
+	 * @param anotherAF a {@code DungAF}.
+	 */
+	FrozenDungAF(DungAF anotherAF) {
+
+		DungAF snapshot = new DungAF(anotherAF);
+
+		/* the published DungAFs are shared between threads, so they must not build an incrementally maintained 
+		 labelling, which is changed as it is used. */
+		snapshot.setGroundedIncremental(false);
+		snapshot.discardKeptOrder();
+		snapshot.getGraph();
+		/* nor may thaw() write to the sets of arguments and attacks, in forking them. */
+		snapshot.markSetsShared();
+		state = new AtomicReference<DungAF>(snapshot);
+	}
+
+	//----- BASIC METHODS ----------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns a new, mutable {@code DungAF} recording this AF, and all information recorded about its interpretation.
+	 *
+	 * @return a {@code DungAF}.
+	 */
+	public DungAF thaw() {
+
+		return new DungAF(state.get());
+	}
+
+	/**
+	 * @see DungAF#getArgs()
+	 */
+	public HashSet<String> getArgs() {
+
+		return state.get().getArgs();
+	}
+
+	/**
+	 * @see DungAF#getAtts()
+	 */
+	public HashSet<String[]> getAtts() {
+
+		return state.get().getAtts();
+	}
+
+	/**
+	 * @see DungAF#getAttacks()
+	 */
+	public HashSet<Attack> getAttacks() {
+
+		return state.get().getAttacks();
+	}
+
+	/**
+	 * @see DungAF#getAttackersOf(String)
+	 */
+	public HashSet<String> getAttackersOf(String arg) {
+
+		return state.get().getAttackersOf(arg);
+	}
+
+	/**
+	 * @see DungAF#getTargetsOf(String)
+	 */
+	public HashSet<String> getTargetsOf(String arg) {
+
+		return state.get().getTargetsOf(arg);
+	}
+
+	/**
+	 * @see DungAF#recordsExtsOfType(String)
+	 */
+	public boolean recordsExtsOfType(String semantics) {
+
+		return state.get().recordsExtsOfType(semantics);
+	}
+
+	/**
+	 * @see DungAF#recordsExtsOfType(Semantics)
+	 */
+	public boolean recordsExtsOfType(Semantics semantics) {
+
+		return state.get().recordsExtsOfType(semantics);
+	}
+
+	/**
+	 * @see DungAF#toString()
+	 */
+	public String toString() {
+
+		return state.get().toString();
+	}
+
+	//----- METHODS CONCERNING CONFLICT AND ACCEPTABILITY -------------------------------------------------------------
+
+	/**
+	 * @see DungAF#hasAsConflictFreeSet(Collection)
+	 */
+	public boolean hasAsConflictFreeSet(Collection<String> argsParam) {
+
+		return state.get().hasAsConflictFreeSet(argsParam);
+	}
+
+	/**
+	 * @see DungAF#containsNoConflictAmong(Collection)
+	 */
+	public boolean containsNoConflictAmong(Collection<String> argsParam) {
+
+		return state.get().containsNoConflictAmong(argsParam);
+	}
+
+	/**
+	 * @see DungAF#argsAccept(Collection, Collection)
+	 */
+	public boolean argsAccept(Collection<String> acceptingArgColl, Collection<String> argsToCheck) {
+
+		return state.get().argsAccept(acceptingArgColl, argsToCheck);
+	}
+
+	/**
+	 * @see DungAF#getArgsAcceptedBy(Collection)
+	 */
+	public HashSet<String> getArgsAcceptedBy(Collection<String> argsParam) {
+
+		return state.get().getArgsAcceptedBy(argsParam);
+	}
+
+	/**
+	 * @see DungAF#admissibleSetsContain(Collection[])
+	 */
+	@SafeVarargs
+	public final boolean admissibleSetsContain(Collection<String> ... argColls) {
+
+		return state.get().admissibleSetsContain(argColls);
+	}
+
+	//----- METHODS CONCERNING SEMANTICS -------------------------------------------------------------------------------
+
+	/**
+	 * @see DungAF#getDefenceSetsAround(String)
+	 */
+	public HashSet<HashSet<String>> getDefenceSetsAround(String arg) {
+
+		DungAF current = state.get();
+		DungAF workingCopy;
+
+		if (current.recordsDefenceSetsAround(arg) || !current.argsView().contains(arg)) {
+			return current.getDefenceSetsAround(arg);
+		}
+
+		workingCopy = new DungAF(current, false);
+		workingCopy.getDefenceSetsAround(arg);
+
+		return publish(workingCopy).getDefenceSetsAround(arg);
+	}
+
+	/**
+	 * @see DungAF#getGroundedExt()
+	 */
+	public HashSet<String> getGroundedExt() {
+
+		return stateRecording(Semantics.GROUNDED).getGroundedExt();
+	}
+
+	/**
+	 * @see DungAF#getGroundedLabelling()
+	 */
+	public Labelling getGroundedLabelling() {
+
+		return stateRecordingGroundedLabelling().getGroundedLabelling();
+	}
+
+	/**
+	 * @see DungAF#getGroundedLabel(String)
+	 */
+	public byte getGroundedLabel(String arg) {
+
+		return stateRecordingGroundedLabelling().getGroundedLabel(arg);
+	}
+
+	/**
+	 * @see DungAF#getAdmissibleSets()
+	 */
+	public HashSet<HashSet<String>> getAdmissibleSets() {
+
+		return stateRecording(Semantics.ADMISSIBLE).getAdmissibleSets();
+	}
+
+	/**
+	 * @see DungAF#getAdmissibleSetFamily()
+	 */
+	public ExtensionFamily getAdmissibleSetFamily() {
+
+		return stateRecording(Semantics.ADMISSIBLE).getAdmissibleSetFamily();
+	}
+
+	/**
+	 * @see DungAF#getCompleteExts()
+	 */
+	public HashSet<HashSet<String>> getCompleteExts() {
+
+		return stateRecording(Semantics.COMPLETE).getCompleteExts();
+	}
+
+	/**
+	 * @see DungAF#getCompleteExtFamily()
+	 */
+	public ExtensionFamily getCompleteExtFamily() {
+
+		return stateRecording(Semantics.COMPLETE).getCompleteExtFamily();
+	}
+
+	/**
+	 * @see DungAF#getPreferredExts()
+	 */
+	public HashSet<HashSet<String>> getPreferredExts() {
+
+		return stateRecording(Semantics.PREFERRED).getPreferredExts();
+	}
+
+	/**
+	 * @see DungAF#getPreferredExtFamily()
+	 */
+	public ExtensionFamily getPreferredExtFamily() {
+
+		return stateRecording(Semantics.PREFERRED).getPreferredExtFamily();
+	}
+
+	/**
+	 * @see DungAF#getPreferredScepticalExt()
+	 */
+	public HashSet<String> getPreferredScepticalExt() {
+
+		return stateRecording(Semantics.PREFERRED_SCEPTICAL).getPreferredScepticalExt();
+	}
+
+	/**
+	 * @see DungAF#getStableExts()
+	 */
+	public HashSet<HashSet<String>> getStableExts() {
+
+		return stateRecording(Semantics.STABLE).getStableExts();
+	}
+
+	/**
+	 * @see DungAF#getSemiStableExts()
+	 */
+	public HashSet<HashSet<String>> getSemiStableExts() {
+
+		return stateRecording(Semantics.SEMI_STABLE).getSemiStableExts();
+	}
+
+	/**
+	 * @see DungAF#getIdealExt()
+	 */
+	public HashSet<String> getIdealExt() {
+
+		return stateRecording(Semantics.IDEAL).getIdealExt();
+	}
+
+	/**
+	 * @see DungAF#getEagerExt()
+	 */
+	public HashSet<String> getEagerExt() {
+
+		return stateRecording(Semantics.EAGER).getEagerExt();
+	}
+
+	/**
+	 * @see DungAF#getExtsUnion(String)
+	 */
+	public HashSet<String> getExtsUnion(String semantics) {
+
+		DungAF workingCopy = new DungAF(state.get(), false);
+		HashSet<String> extsUnion = workingCopy.getExtsUnion(semantics);
+
+		publish(workingCopy);
+
+		return extsUnion;
+	}
+
+	/**
+	 * @see DungAF#getExtsUnion(Semantics)
+	 */
+	public HashSet<String> getExtsUnion(Semantics semantics) {
+
+		DungAF workingCopy = new DungAF(state.get(), false);
+		HashSet<String> extsUnion = workingCopy.getExtsUnion(semantics);
+
+		publish(workingCopy);
+
+		return extsUnion;
+	}
+
+	/**
+	 * @see DungAF#preferredExtsContain(Collection[])
+	 */
+	@SafeVarargs
+	public final boolean preferredExtsContain(Collection<String> ... argColls) {
+
+		DungAF workingCopy = new DungAF(state.get(), false);
+		boolean result = workingCopy.preferredExtsContain(argColls);
+
+		publish(workingCopy);
+
+		return result;
+	}
+
+	/**
+	 * @see DungAF#preferredScepticalExtContains(String[])
+	 */
+	public boolean preferredScepticalExtContains(String ... argsParam) {
+
+		DungAF workingCopy = new DungAF(state.get(), false);
+		boolean result = workingCopy.preferredScepticalExtContains(argsParam);
+
+		/* the working copy shares the published state's SAT solver, if there is one, whose queries are synchronized; 
+		 publication shares a new one with later working copies, so every query resumes where the last left off. */
+		publish(workingCopy);
+
+		return result;
+	}
+
+	/**
+	 * @see DungAF#completeExtsContain(Collection[])
+	 */
+	@SafeVarargs
+	public final boolean completeExtsContain(Collection<String> ... argColls) {
+
+		return state.get().completeExtsContain(argColls);
+	}
+
+	/**
+	 * @see DungAF#stableExtsContain(Collection[])
+	 */
+	@SafeVarargs
+	public final boolean stableExtsContain(Collection<String> ... argColls) {
+
+		return state.get().stableExtsContain(argColls);
+	}
+
+	/**
+	 * @see DungAF#hasStableExt()
+	 */
+	public boolean hasStableExt() {
+
+		DungAF workingCopy = new DungAF(state.get(), false);
+		boolean result = workingCopy.hasStableExt();
+
+		publish(workingCopy);
+
+		return result;
+	}
+
+	/**
+	 * Returns an iterator over this AF's stable extensions, as {@link DungAF#getStableExtsIterator() 
+	 * DungAF.getStableExtsIterator()} does. The iterator runs on a working copy of its own, so it should be used by 
+	 * one thread at a time; but any number of iterators may be used concurrently.
+	 *
+	 * @return an {@code Iterator} of {@code String}-sets, denoting this AF's stable extensions.
+	 */
+	public Iterator<HashSet<String>> getStableExtsIterator() {
+
+		DungAF workingCopy = new DungAF(state.get(), false);
+		Iterator<HashSet<String>> result = workingCopy.getStableExtsIterator();
+
+		/* the iterator holds the working copy's graph and grounded labelling, which are never changed, but not the 
+		 working copy itself; so what the working copy found in creating it may be published. */
+		publish(workingCopy);
+
+		return result;
+	}
+
+	/**
+	 * @see DungAF#semiStableExtsContain(Collection[])
+	 */
+	@SafeVarargs
+	public final boolean semiStableExtsContain(Collection<String> ... argColls) {
+
+		DungAF workingCopy = new DungAF(state.get(), false);
+		boolean result = workingCopy.semiStableExtsContain(argColls);
+
+		publish(workingCopy);
+
+		return result;
+	}
+
+	//----- READ-ONLY VIEWS --------------------------------------------------------------------------------------------
+
+	/**
+	 * @see DungAF#argsView()
+	 */
+	public Set<String> argsView() {
+
+		return state.get().argsView();
+	}
+
+	/**
+	 * @see DungAF#attacksView()
+	 */
+	public Set<Attack> attacksView() {
+
+		return state.get().attacksView();
+	}
+
+	/**
+	 * @see DungAF#attackersView(String)
+	 */
+	public Set<String> attackersView(String arg) {
+
+		return state.get().attackersView(arg);
+	}
+
+	/**
+	 * @see DungAF#targetsView(String)
+	 */
+	public Set<String> targetsView(String arg) {
+
+		return state.get().targetsView(arg);
+	}
+
+	/**
+	 * @see DungAF#groundedExtView()
+	 */
+	public Set<String> groundedExtView() {
+
+		return stateRecording(Semantics.GROUNDED).groundedExtView();
+	}
+
+	/**
+	 * @see DungAF#admissibleSetsView()
+	 */
+	public Set<Set<String>> admissibleSetsView() {
+
+		return stateRecording(Semantics.ADMISSIBLE).admissibleSetsView();
+	}
+
+	/**
+	 * @see DungAF#completeExtsView()
+	 */
+	public Set<Set<String>> completeExtsView() {
+
+		return stateRecording(Semantics.COMPLETE).completeExtsView();
+	}
+
+	/**
+	 * @see DungAF#preferredExtsView()
+	 */
+	public Set<Set<String>> preferredExtsView() {
+
+		return stateRecording(Semantics.PREFERRED).preferredExtsView();
+	}
+
+	/**
+	 * @see DungAF#preferredScepticalExtView()
+	 */
+	public Set<String> preferredScepticalExtView() {
+
+		return stateRecording(Semantics.PREFERRED_SCEPTICAL).preferredScepticalExtView();
+	}
+
+	/**
+	 * @see DungAF#stableExtsView()
+	 */
+	public Set<Set<String>> stableExtsView() {
+
+		return stateRecording(Semantics.STABLE).stableExtsView();
+	}
+
+	/**
+	 * @see DungAF#semiStableExtsView()
+	 */
+	public Set<Set<String>> semiStableExtsView() {
+
+		return stateRecording(Semantics.SEMI_STABLE).semiStableExtsView();
+	}
+
+	/**
+	 * @see DungAF#idealExtView()
+	 */
+	public Set<String> idealExtView() {
+
+		return stateRecording(Semantics.IDEAL).idealExtView();
+	}
+
+	/**
+	 * @see DungAF#eagerExtView()
+	 */
+	public Set<String> eagerExtView() {
+
+		return stateRecording(Semantics.EAGER).eagerExtView();
+	}
+
+	//----- HELPER METHODS ---------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns a published {@code DungAF} which records the extension(s) prescribed by {@code semantics}, finding
+	 * them in a working copy and publishing them if necessary.
+	 *
+	 * @param semantics a {@code Semantics}.
+	 * @return a {@code DungAF} which will not be changed, and whose getter for {@code semantics} therefore only reads
+	 * recorded information.
+	 */
+	private DungAF stateRecording(Semantics semantics) {
+
+		DungAF current = state.get();
+		DungAF workingCopy;
+
+		if (current.recordsExtsOfType(semantics)) {
+			return current;
+		}
+
+		workingCopy = new DungAF(current, false);
+		workingCopy.recordExtsOfType(semantics);
+
+		return publish(workingCopy);
+	}
+
+	/**
+	 * Returns the currently published {@code DungAF}, if it records the grounded extension and its labelling; and 
+	 * otherwise finds them in a working copy, and publishes and returns a {@code DungAF} recording them. The grounded 
+	 * extension may be recorded without the labelling, if it was found by a solver registered by a user; the labelling 
+	 * must then be found before publication, since a published {@code DungAF} is never changed.
+	 *
+	 * @return a {@code DungAF} recording this AF's grounded labelling.
+	 */
+	private DungAF stateRecordingGroundedLabelling() {
+
+		DungAF current = stateRecording(Semantics.GROUNDED);
+		DungAF workingCopy;
+
+		if (current.recordsGroundedLabelling()) {
+			return current;
+		}
+
+		workingCopy = new DungAF(current, false);
+		workingCopy.getGroundedLabelling();
+
+		return publish(workingCopy);
+	}
+
+	/**
+	 * Publishes a new {@code DungAF} recording all of the information recorded by {@code workingCopy} and by the
+	 * currently published {@code DungAF}. {@code workingCopy} must not be used afterwards.
+	 *
+	 * @param workingCopy a {@code DungAF} created from a published {@code DungAF}, sharing its AF.
+	 * @return the published {@code DungAF}.
+	 */
+	private DungAF publish(DungAF workingCopy) {
+
+		DungAF current;
+		DungAF merged;
+
+		do {
+			current = state.get();
+			merged = new DungAF(current, false);
+			merged.recordSemanticsInfoOf(workingCopy);
+		} while (!state.compareAndSet(current, merged));
+
+		return merged;
+	}
+}
@@ -0,0 +1,385 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * An {@link ArgumentFramework ArgumentFramework} whose arguments are of any type {@code A} with consistent
+ * {@code equals} and {@code hashCode} methods - e.g. a type of database key - so that they need not be converted to
+ * {@code String}s in order to use the semantics implemented by {@link DungAF DungAF}.
+ *
+ * <p> Like a {@code DungAF}, a {@code GenericDungAF} records the extensions it finds, and discards them whenever its AF
+ * is changed. The semantics are found by a {@link SemanticsEngine SemanticsEngine}, on an {@link AttackGraph
+ * AttackGraph} in which each argument has a dense id. </p>
+ *
+ * <p> <b>Note</b>: this class is <b>not</b> synchronized. </p>
+ *
+ * @param <A> the type of the arguments.
+ */
+public class GenericDungAF<A> implements ArgumentFramework<A> {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	/**
+	 * This AF's arguments.
+	 */
+	private final HashSet<A> args = new HashSet<A>();
+
+	/**
+	 * This AF's attacks, as a map from each attacking argument to the arguments it attacks.
+	 */
+	private final HashMap<A, HashSet<A>> argsToTargets = new HashMap<A, HashSet<A>>();
+
+	/**
+	 * The number of attacks in this AF.
+	 */
+	private int attsCount;
+
+	/**
+	 * The arguments, indexed by their ids in the {@code AttackGraph} of {@link #engine engine}; {@code null} if
+	 * {@code engine} is {@code null}.
+	 */
+	private ArrayList<A> names;
+
+	/**
+	 * A map from each argument to its id; {@code null} if {@link #engine engine} is {@code null}.
+	 */
+	private HashMap<A, Integer> ids;
+
+	/**
+	 * The engine which finds and records the extensions of this AF; {@code null} if it has not been built since this
+	 * AF last changed.
+	 */
+	private SemanticsEngine engine;
+
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructs an empty AF.
+	 */
+	public GenericDungAF() {
+	}
+
+	/**
+	 * Constructs the AF comprising the specified arguments, and no attacks.
+	 *
+	 * @param argsParam a {@code Collection} of {@code A}s, denoting arguments.
+	 */
+	public GenericDungAF(Collection<A> argsParam) {
+
+		args.addAll(argsParam);
+	}
+
+	//----- BASIC METHODS ----------------------------------------------------------------------------------------------
+
+	/**
+	 * @see ArgumentFramework#getArgs()
+	 */
+	public HashSet<A> getArgs() {
+
+		return new HashSet<A>(args);
+	}
+
+	/**
+	 * Returns the number of attacks in this AF.
+	 *
+	 * @return an {@code int}.
+	 */
+	public int getAttsCount() {
+
+		return attsCount;
+	}
+
+	/**
+	 * @see ArgumentFramework#getAttackersOf(Object)
+	 */
+	public HashSet<A> getAttackersOf(A arg) {
+
+		Integer id = getIds().get(arg);
+		AttackGraph graph = engine.graph;
+		HashSet<A> result = new HashSet<A>();
+
+		if (null != id) {
+			for (int k = graph.attackerOffsets[id]; k < graph.attackerOffsets[id + 1]; k++) {
+				result.add(names.get(graph.attackers[k]));
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * @see ArgumentFramework#getTargetsOf(Object)
+	 */
+	public HashSet<A> getTargetsOf(A arg) {
+
+		HashSet<A> targets = argsToTargets.get(arg);
+
+		return (null == targets) ? new HashSet<A>() : new HashSet<A>(targets);
+	}
+
+	/**
+	 * @see ArgumentFramework#addArgs(Collection)
+	 */
+	public boolean addArgs(Collection<A> argsToBeAdded) {
+
+		if (args.addAll(argsToBeAdded)) {
+			engine = null;
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * @see ArgumentFramework#addAtt(Object, Object)
+	 */
+	public boolean addAtt(A attacker, A target) {
+
+		HashSet<A> targets = argsToTargets.get(attacker);
+
+		if (null == targets) {
+			targets = new HashSet<A>();
+			argsToTargets.put(attacker, targets);
+		}
+
+		if (targets.add(target)) {
+			args.add(attacker);
+			args.add(target);
+			attsCount++;
+			engine = null;
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * @see ArgumentFramework#removeArgs(Collection)
+	 */
+	public boolean removeArgs(Collection<A> argsToBeRemoved) {
+
+		boolean changed = false;
+		HashSet<A> targets;
+
+		for (A nextArg : argsToBeRemoved) {
+			if (args.remove(nextArg)) {
+				changed = true;
+				targets = argsToTargets.remove(nextArg);
+				if (null != targets) {
+					attsCount -= targets.size();
+				}
+				for (HashSet<A> nextTargets : argsToTargets.values()) {
+					if (nextTargets.remove(nextArg)) {
+						attsCount--;
+					}
+				}
+			}
+		}
+
+		if (changed) {
+			engine = null;
+		}
+
+		return changed;
+	}
+
+	/**
+	 * @see ArgumentFramework#removeAtt(Object, Object)
+	 */
+	public boolean removeAtt(A attacker, A target) {
+
+		HashSet<A> targets = argsToTargets.get(attacker);
+
+		if ((null != targets) && targets.remove(target)) {
+			attsCount--;
+			engine = null;
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns a representation of this AF in the conventional format -
+	 * ({<i>arg1</i>, <i>arg2</i>,...}, {(<i>arg1</i>, <i>arg2</i>), (<i>arg2</i>, <i>arg1</i>),...}).
+	 *
+	 * @return a {@code String} representation of this AF.
+	 */
+	public String toString() {
+
+		StringBuilder formattedAttacks = new StringBuilder();
+
+		for (Map.Entry<A, HashSet<A>> nextEntry : argsToTargets.entrySet()) {
+			for (A nextTarget : nextEntry.getValue()) {
+				formattedAttacks.append((0 == formattedAttacks.length()) ? "" : ", ");
+				formattedAttacks.append("(" + nextEntry.getKey() + ", " + nextTarget + ")");
+			}
+		}
+
+		return "({" + args.toString().substring(1, args.toString().length() - 1) + "}, {" + formattedAttacks + "})";
+	}
+
+	//----- METHODS CONCERNING SEMANTICS -------------------------------------------------------------------------------
+
+	/**
+	 * @see ArgumentFramework#getGroundedExt()
+	 */
+	public HashSet<A> getGroundedExt() {
+
+		return toArgSet(getEngine().getGroundedExt());
+	}
+
+	/**
+	 * @see ArgumentFramework#getAdmissibleSets()
+	 */
+	public HashSet<HashSet<A>> getAdmissibleSets() {
+
+		return toArgSets(getEngine().getAdmissibleSets());
+	}
+
+	/**
+	 * @see ArgumentFramework#getCompleteExts()
+	 */
+	public HashSet<HashSet<A>> getCompleteExts() {
+
+		return toArgSets(getEngine().getCompleteExts());
+	}
+
+	/**
+	 * @see ArgumentFramework#getPreferredExts()
+	 */
+	public HashSet<HashSet<A>> getPreferredExts() {
+
+		return toArgSets(getEngine().getPreferredExts());
+	}
+
+	/**
+	 * @see ArgumentFramework#getPreferredScepticalExt()
+	 */
+	public HashSet<A> getPreferredScepticalExt() {
+
+		return toArgSet(getEngine().getPreferredScepticalExt());
+	}
+
+	/**
+	 * @see ArgumentFramework#getStableExts()
+	 */
+	public HashSet<HashSet<A>> getStableExts() {
+
+		return toArgSets(getEngine().getStableExts());
+	}
+
+	/**
+	 * @see ArgumentFramework#getSemiStableExts()
+	 */
+	public HashSet<HashSet<A>> getSemiStableExts() {
+
+		return toArgSets(getEngine().getSemiStableExts());
+	}
+
+	/**
+	 * @see ArgumentFramework#getIdealExt()
+	 */
+	public HashSet<A> getIdealExt() {
+
+		return toArgSet(getEngine().getIdealExt());
+	}
+
+	/**
+	 * @see ArgumentFramework#getEagerExt()
+	 */
+	public HashSet<A> getEagerExt() {
+
+		return toArgSet(getEngine().getEagerExt());
+	}
+
+	//----- HELPER METHODS ---------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the {@link SemanticsEngine SemanticsEngine} of this AF, assigning ids to the arguments and building the
+	 * engine if this has not been done since this AF last changed.
+	 *
+	 * @return the {@code SemanticsEngine} of this AF.
+	 */
+	private SemanticsEngine getEngine() {
+
+		int[] attackerIds;
+		int[] targetIds;
+		int attackerId;
+		int k = 0;
+
+		if (null == engine) {
+			names = new ArrayList<A>(args);
+			ids = new HashMap<A, Integer>(2 * names.size());
+			for (int i = 0; i < names.size(); i++) {
+				ids.put(names.get(i), i);
+			}
+
+			attackerIds = new int[attsCount];
+			targetIds = new int[attsCount];
+			for (Map.Entry<A, HashSet<A>> nextEntry : argsToTargets.entrySet()) {
+				attackerId = ids.get(nextEntry.getKey());
+				for (A nextTarget : nextEntry.getValue()) {
+					attackerIds[k] = attackerId;
+					targetIds[k++] = ids.get(nextTarget);
+				}
+			}
+
+			engine = new SemanticsEngine(new AttackGraph(names.size(), attackerIds, targetIds));
+		}
+
+		return engine;
+	}
+
+	/**
+	 * Returns the map from each argument to its id, building the engine if necessary.
+	 */
+	private HashMap<A, Integer> getIds() {
+
+		getEngine();
+
+		return ids;
+	}
+
+	/**
+	 * Returns the arguments whose ids are in {@code argSet}.
+	 */
+	private HashSet<A> toArgSet(BitSet argSet) {
+
+		HashSet<A> result = new HashSet<A>(2 * argSet.cardinality());
+
+		for (int i = argSet.nextSetBit(0); i >= 0; i = argSet.nextSetBit(i + 1)) {
+			result.add(names.get(i));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the argument-sets whose ids are in the members of {@code argSets}.
+	 */
+	private HashSet<HashSet<A>> toArgSets(Collection<BitSet> argSets) {
+
+		HashSet<HashSet<A>> result = new HashSet<HashSet<A>>();
+
+		for (BitSet nextSet : argSets) {
+			result.add(toArgSet(nextSet));
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,342 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * The grounded labelling of a changing AF, maintained incrementally, for a {@link DungAF DungAF} which has been asked
+ * to do so - see {@link DungAF#setGroundedIncremental(boolean) DungAF.setGroundedIncremental(boolean)}.
+ *
+ * <p> Unlike an {@link AttackGraph AttackGraph}, this object is changed along with its AF: it records the attackers
+ * and targets of each argument in lists which are updated as arguments and attacks are added and removed. Each
+ * change marks the arguments whose incoming attacks it affects as <i>seeds</i>; and when the labelling is next
+ * required, only the <i>region</i> of arguments reachable from the seeds is relabelled. </p>
+ *
+ * <p> This is sound because the arguments outside the region are not attacked from within it, and their incoming
+ * attacks are unchanged; since the grounded semantics satisfies directionality, their labels are unchanged. Within
+ * the region, the labelling is found by the worklist of {@link SemanticsEngine SemanticsEngine}, except that the
+ * attackers from outside the region keep their labels: one labelled {@code IN} makes its target {@code OUT} at once,
+ * and one labelled {@code UNDEC} keeps its target from being labelled {@code IN}. So the cost of an update is
+ * proportional to the size of the region and the attacks involving it, rather than to the size of the AF. </p>
+ */
+final class IncrementalGrounded {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	/**
+	 * The arguments, by name.
+	 */
+	private final HashMap<String, Node> nodes = new HashMap<String, Node>();
+
+	/**
+	 * The arguments labelled {@code IN} - i.e. the grounded extension, once {@link #update() update()} has been called.
+	 */
+	private final HashSet<String> inArgs = new HashSet<String>();
+
+	/**
+	 * The arguments whose incoming attacks have changed since the labelling was last updated.
+	 */
+	private final ArrayList<Node> seeds = new ArrayList<Node>();
+
+	/**
+	 * The number of times the labelling has been updated, used to mark the members of each region.
+	 */
+	private int epoch;
+
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructs the maintained labelling of the AF comprising {@code args} and {@code atts}; the labelling is found
+	 * when first required.
+	 *
+	 * @param args a {@code Collection} of {@code String}s, denoting arguments.
+	 * @param atts a {@code Collection} of {@code Attack}s among {@code args}.
+	 */
+	IncrementalGrounded(Collection<String> args, Collection<Attack> atts) {
+
+		for (String nextArg : args) {
+			addArg(nextArg);
+		}
+		for (Attack nextAtt : atts) {
+			link(nodes.get(nextAtt.getAttacker()), nodes.get(nextAtt.getTarget()));
+		}
+	}
+
+	//----- CHANGES ----------------------------------------------------------------------------------------------------
+
+	/**
+	 * Adds {@code arg}, if it is not already an argument.
+	 */
+	void addArg(String arg) {
+
+		Node node;
+
+		if (!nodes.containsKey(arg)) {
+			node = new Node(arg);
+			nodes.put(arg, node);
+			seeds.add(node);
+		}
+	}
+
+	/**
+	 * Adds {@code att}, together with its arguments; {@code att} must not already be an attack.
+	 */
+	void addAtt(Attack att) {
+
+		Node target;
+
+		addArg(att.getAttacker());
+		addArg(att.getTarget());
+		target = nodes.get(att.getTarget());
+		link(nodes.get(att.getAttacker()), target);
+		seeds.add(target);
+	}
+
+	/**
+	 * Removes {@code att}, which must be an attack.
+	 */
+	void removeAtt(Attack att) {
+
+		Node attacker = nodes.get(att.getAttacker());
+		Node target = nodes.get(att.getTarget());
+
+		attacker.targets.remove(target);
+		target.attackers.remove(attacker);
+		seeds.add(target);
+	}
+
+	/**
+	 * Removes {@code arg} and the attacks involving it, if it is an argument.
+	 */
+	void removeArg(String arg) {
+
+		Node node = nodes.remove(arg);
+
+		if (null == node) {
+			return;
+		}
+		node.removed = true;
+		for (Node nextAttacker : node.attackers) {
+			if (nextAttacker != node) {
+				nextAttacker.targets.remove(node);
+			}
+		}
+		for (Node nextTarget : node.targets) {
+			if (nextTarget != node) {
+				nextTarget.attackers.remove(node);
+				seeds.add(nextTarget);
+			}
+		}
+		inArgs.remove(arg);
+	}
+
+	/**
+	 * Returns the attacks involving {@code arg}, or an empty list if {@code arg} is not an argument.
+	 */
+	ArrayList<Attack> attsInvolving(String arg) {
+
+		Node node = nodes.get(arg);
+		ArrayList<Attack> result = new ArrayList<Attack>();
+
+		if (null != node) {
+			for (Node nextTarget : node.targets) {
+				result.add(new Attack(arg, nextTarget.name));
+			}
+			for (Node nextAttacker : node.attackers) {
+				if (nextAttacker != node) {
+					result.add(new Attack(nextAttacker.name, arg));
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Records the attack by {@code attacker} on {@code target}.
+	 */
+	private static void link(Node attacker, Node target) {
+
+		attacker.targets.add(target);
+		target.attackers.add(attacker);
+	}
+
+	//----- THE LABELLING ----------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the grounded extension, updating the labelling first if necessary. The returned set must not be changed.
+	 *
+	 * @return a set of {@code String}s.
+	 */
+	HashSet<String> getGroundedExt() {
+
+		update();
+
+		return inArgs;
+	}
+
+	/**
+	 * Returns the grounded label of {@code arg}, updating the labelling first if necessary.
+	 *
+	 * @param arg a {@code String}, denoting an argument.
+	 * @return {@link Labelling#IN IN}, {@link Labelling#OUT OUT} or {@link Labelling#UNDEC UNDEC}; or {@code -1}, if
+	 * {@code arg} is not an argument.
+	 */
+	byte getLabel(String arg) {
+
+		Node node;
+
+		update();
+		node = nodes.get(arg);
+
+		return (null == node) ? -1 : node.label;
+	}
+
+	/**
+	 * Relabels the region reachable from the seeds, and clears the seeds.
+	 */
+	private void update() {
+
+		ArrayList<Node> region = new ArrayList<Node>();
+		ArrayDeque<Node> worklist = new ArrayDeque<Node>();
+		Node current;
+
+		if (seeds.isEmpty()) {
+			return;
+		}
+		epoch++;
+
+		/* find the region, resetting its labels. */
+		for (Node nextSeed : seeds) {
+			if (!nextSeed.removed && (nextSeed.epoch != epoch)) {
+				nextSeed.epoch = epoch;
+				region.add(nextSeed);
+			}
+		}
+		seeds.clear();
+		for (int i = 0; i < region.size(); i++) {
+			current = region.get(i);
+			current.oldLabel = current.label;
+			current.label = Labelling.UNDEC;
+			for (Node nextTarget : current.targets) {
+				if (nextTarget.epoch != epoch) {
+					nextTarget.epoch = epoch;
+					region.add(nextTarget);
+				}
+			}
+		}
+
+		/* count the live attackers of each member: those in the region, and those outside it not labelled OUT. */
+		for (Node nextNode : region) {
+			nextNode.liveAttackersCount = 0;
+			for (Node nextAttacker : nextNode.attackers) {
+				if ((nextAttacker.epoch == epoch) || (Labelling.OUT != nextAttacker.label)) {
+					nextNode.liveAttackersCount++;
+				}
+			}
+			if (0 == nextNode.liveAttackersCount) {
+				worklist.add(nextNode);
+			}
+		}
+
+		/* label OUT the members attacked from outside the region by arguments labelled IN. */
+		for (Node nextNode : region) {
+			for (Node nextAttacker : nextNode.attackers) {
+				if ((nextAttacker.epoch != epoch) && (Labelling.IN == nextAttacker.label)) {
+					labelOut(nextNode, worklist);
+					break;
+				}
+			}
+		}
+
+		/* propagate within the region, as in SemanticsEngine. */
+		while (!worklist.isEmpty()) {
+			current = worklist.poll();
+			if (Labelling.UNDEC != current.label) {
+				continue;
+			}
+			current.label = Labelling.IN;
+			for (Node nextTarget : current.targets) {
+				if (Labelling.UNDEC == nextTarget.label) {
+					labelOut(nextTarget, worklist);
+				}
+			}
+		}
+
+		for (Node nextNode : region) {
+			if ((Labelling.IN == nextNode.label) && (Labelling.IN != nextNode.oldLabel)) {
+				inArgs.add(nextNode.name);
+			} else if ((Labelling.IN != nextNode.label) && (Labelling.IN == nextNode.oldLabel)) {
+				inArgs.remove(nextNode.name);
+			}
+		}
+	}
+
+	/**
+	 * Labels {@code node}, a member of the current region, {@code OUT}, adding to {@code worklist} each of its
+	 * targets which thereby has no live attackers.
+	 */
+	private static void labelOut(Node node, ArrayDeque<Node> worklist) {
+
+		node.label = Labelling.OUT;
+		for (Node nextTarget : node.targets) {
+			if (0 == --nextTarget.liveAttackersCount) {
+				worklist.add(nextTarget);
+			}
+		}
+	}
+
+	//----- NODES ------------------------------------------------------------------------------------------------------
+
+	/**
+	 * An argument, with its attackers, targets and label.
+	 */
+	private static final class Node {
+
+		final String name;
+
+		final ArrayList<Node> attackers = new ArrayList<Node>(2);
+
+		final ArrayList<Node> targets = new ArrayList<Node>(2);
+
+		byte label = Labelling.UNDEC;
+
+		/**
+		 * The label before the current update.
+		 */
+		byte oldLabel;
+
+		/**
+		 * The number of attackers not yet labelled {@code OUT}, during an update.
+		 */
+		int liveAttackersCount;
+
+		/**
+		 * The epoch of the last update whose region included this argument.
+		 */
+		int epoch;
+
+		/**
+		 * {@code true} once this argument has been removed.
+		 */
+		boolean removed;
+
+		Node(String name) {
+
+			this.name = name;
+		}
+	}
+}
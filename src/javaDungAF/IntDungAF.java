@@ -0,0 +1,220 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * An AF whose arguments are {@code int}s - e.g. 32-bit database ids - which provides the semantics implemented by
+ * {@link DungAF DungAF} without ever boxing its arguments.
+ *
+ * <p> An {@code IntDungAF} is constructed from arrays of arguments and attacks, and cannot subsequently be changed.
+ * Extensions are returned as {@code int}-arrays sorted in ascending order, and sets of extensions as arrays of such
+ * arrays, in no particular order. Like a {@code DungAF}, an {@code IntDungAF} records the extensions it finds, so that
+ * repeated calls do not result in repeated calculations. </p>
+ *
+ * <p> An {@code IntDungAF} widens its arguments to {@code long}s, and delegates to a {@link LongDungAF LongDungAF},
+ * narrowing the arguments it returns; since widening preserves order, they remain sorted. The methods of this class
+ * behave as the like-named methods of {@code LongDungAF}. See also {@link GenericDungAF GenericDungAF} for arguments
+ * of other types. </p>
+ *
+ * <p> <b>Note</b>: this class is <b>not</b> synchronized. </p>
+ */
+public final class IntDungAF {
+
+	/**
+	 * The AF of the arguments of this AF, widened to {@code long}s, which finds and records its extensions.
+	 */
+	private final LongDungAF longAF;
+
+	/**
+	 * Constructs the AF comprising {@code args}, together with the attacks ({@code attackers[k]}, {@code targets[k]})
+	 * and all arguments involved in them. Duplicate arguments and attacks are ignored.
+	 *
+	 * @param args an array of {@code int}s, denoting arguments.
+	 * @param attackers an array of {@code int}s, denoting the attacking argument of each attack.
+	 * @param targets an array of {@code int}s, denoting the attacked argument of each attack.
+	 * @throws IllegalArgumentException if {@code attackers} and {@code targets} have different lengths.
+	 */
+	public IntDungAF(int[] args, int[] attackers, int[] targets) {
+
+		if (attackers.length != targets.length) {
+			throw new IllegalArgumentException("by constructor 'IntDungAF(args, attackers, targets)' --- "
+											   + "'attackers' and 'targets' had different lengths.");
+		}
+
+		longAF = new LongDungAF(widen(args), widen(attackers), widen(targets));
+	}
+
+	//----- BASIC METHODS ----------------------------------------------------------------------------------------------
+
+	/**
+	 * @see LongDungAF#getArgsCount()
+	 */
+	public int getArgsCount() {
+
+		return longAF.getArgsCount();
+	}
+
+	/**
+	 * @see LongDungAF#hasArg(long)
+	 */
+	public boolean hasArg(int arg) {
+
+		return longAF.hasArg(arg);
+	}
+
+	/**
+	 * @see LongDungAF#getArgs()
+	 */
+	public int[] getArgs() {
+
+		return narrow(longAF.getArgs());
+	}
+
+	/**
+	 * @see LongDungAF#getAttackersOf(long)
+	 */
+	public int[] getAttackersOf(int arg) {
+
+		return narrow(longAF.getAttackersOf(arg));
+	}
+
+	/**
+	 * @see LongDungAF#getTargetsOf(long)
+	 */
+	public int[] getTargetsOf(int arg) {
+
+		return narrow(longAF.getTargetsOf(arg));
+	}
+
+	//----- METHODS CONCERNING SEMANTICS -------------------------------------------------------------------------------
+
+	/**
+	 * @see LongDungAF#getGroundedExt()
+	 */
+	public int[] getGroundedExt() {
+
+		return narrow(longAF.getGroundedExt());
+	}
+
+	/**
+	 * @see LongDungAF#getAdmissibleSets()
+	 */
+	public int[][] getAdmissibleSets() {
+
+		return narrow(longAF.getAdmissibleSets());
+	}
+
+	/**
+	 * @see LongDungAF#getCompleteExts()
+	 */
+	public int[][] getCompleteExts() {
+
+		return narrow(longAF.getCompleteExts());
+	}
+
+	/**
+	 * @see LongDungAF#getPreferredExts()
+	 */
+	public int[][] getPreferredExts() {
+
+		return narrow(longAF.getPreferredExts());
+	}
+
+	/**
+	 * @see LongDungAF#getPreferredScepticalExt()
+	 */
+	public int[] getPreferredScepticalExt() {
+
+		return narrow(longAF.getPreferredScepticalExt());
+	}
+
+	/**
+	 * @see LongDungAF#getStableExts()
+	 */
+	public int[][] getStableExts() {
+
+		return narrow(longAF.getStableExts());
+	}
+
+	/**
+	 * @see LongDungAF#getSemiStableExts()
+	 */
+	public int[][] getSemiStableExts() {
+
+		return narrow(longAF.getSemiStableExts());
+	}
+
+	/**
+	 * @see LongDungAF#getIdealExt()
+	 */
+	public int[] getIdealExt() {
+
+		return narrow(longAF.getIdealExt());
+	}
+
+	/**
+	 * @see LongDungAF#getEagerExt()
+	 */
+	public int[] getEagerExt() {
+
+		return narrow(longAF.getEagerExt());
+	}
+
+	//----- HELPER METHODS ---------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns {@code ints} widened to {@code long}s.
+	 */
+	private static long[] widen(int[] ints) {
+
+		long[] result = new long[ints.length];
+
+		for (int k = 0; k < ints.length; k++) {
+			result[k] = ints[k];
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns {@code longs}, which were all widened from {@code int}s, narrowed back to {@code int}s.
+	 */
+	private static int[] narrow(long[] longs) {
+
+		int[] result = new int[longs.length];
+
+		for (int k = 0; k < longs.length; k++) {
+			result[k] = (int) longs[k];
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns each member of {@code longSets} narrowed to {@code int}s, as by {@link #narrow(long[]) narrow(long[])}.
+	 */
+	private static int[][] narrow(long[][] longSets) {
+
+		int[][] result = new int[longSets.length][];
+
+		for (int k = 0; k < longSets.length; k++) {
+			result[k] = narrow(longSets[k]);
+		}
+
+		return result;
+	}
+}
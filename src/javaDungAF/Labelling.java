@@ -0,0 +1,190 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * An immutable labelling of the arguments of an AF, assigning each argument one of the labels {@link #IN IN},
+ * {@link #OUT OUT} and {@link #UNDEC UNDEC} - e.g. the grounded labelling of a {@link DungAF DungAF}, in which the
+ * arguments labelled {@code IN} are those of the grounded extension, the arguments labelled {@code OUT} are those
+ * attacked by it, and the remainder are labelled {@code UNDEC}.
+ *
+ * <p> The labels are stored as a {@code byte}-array, indexed by the arguments' internal positions, i.e. in the order of
+ * {@link DungAF#getArgsInInternalOrder() DungAF.getArgsInInternalOrder()}; {@link #toByteArray() toByteArray()} returns
+ * a copy of that array. </p>
+ */
+public final class Labelling {
+
+	/**
+	 * The label of an argument which is accepted.
+	 */
+	public static final byte IN = 1;
+
+	/**
+	 * The label of an argument which is rejected.
+	 */
+	public static final byte OUT = 2;
+
+	/**
+	 * The label of an argument which is neither accepted nor rejected.
+	 */
+	public static final byte UNDEC = 0;
+
+	/**
+	 * The representation of the AF over whose arguments the ids are defined.
+	 */
+	private final AttackGraph graph;
+
+	/**
+	 * The label of each argument, indexed by id; never changed once this object is constructed.
+	 */
+	private final byte[] labels;
+
+	/**
+	 * Constructs the labelling of the arguments of {@code graph} denoted by {@code labels}, which must not be changed
+	 * subsequently.
+	 *
+	 * @param graph an {@code AttackGraph}.
+	 * @param labels a {@code byte}-array of length {@code graph.size()}, holding {@code IN}, {@code OUT} or
+	 * {@code UNDEC} for each id in {@code graph}.
+	 */
+	Labelling(AttackGraph graph, byte[] labels) {
+
+		this.graph = graph;
+		this.labels = labels;
+	}
+
+	//----- BASIC METHODS ----------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the number of arguments labelled.
+	 *
+	 * @return an {@code int}.
+	 */
+	public int size() {
+
+		return labels.length;
+	}
+
+	/**
+	 * Returns the label of {@code arg}.
+	 *
+	 * @param arg a {@code String}, denoting an argument.
+	 * @return {@link #IN IN}, {@link #OUT OUT} or {@link #UNDEC UNDEC}.
+	 * @throws IllegalArgumentException if {@code arg} is not an argument of the labelled AF.
+	 */
+	public byte getLabel(String arg) {
+
+		int id = graph.idOf(arg);
+
+		if (id < 0) {
+			throw new IllegalArgumentException("by 'Labelling.getLabel(String)' --- \"" + arg
+											   + "\" is not an argument of the labelled AF.");
+		}
+
+		return labels[id];
+	}
+
+	/**
+	 * Returns the arguments labelled {@code label}.
+	 *
+	 * @param label {@link #IN IN}, {@link #OUT OUT} or {@link #UNDEC UNDEC}.
+	 * @return an {@code ExtensionSet}.
+	 */
+	public ExtensionSet getArgsLabelled(byte label) {
+
+		BitSet ids = new BitSet(labels.length);
+
+		for (int i = 0; i < labels.length; i++) {
+			if (label == labels[i]) {
+				ids.set(i);
+			}
+		}
+
+		return new ExtensionSet(graph, ids);
+	}
+
+	/**
+	 * Returns a copy of the labels, indexed by the arguments' internal positions.
+	 *
+	 * @return a {@code byte}-array.
+	 */
+	public byte[] toByteArray() {
+
+		return labels.clone();
+	}
+
+	/**
+	 * Returns {@code true} if {@code obj} is a {@code Labelling} assigning the same labels to the same arguments as this
+	 * labelling.
+	 *
+	 * @param obj an {@code Object}.
+	 * @return {@code true} if {@code obj} is an equal labelling.
+	 */
+	public boolean equals(Object obj) {
+
+		Labelling anotherLabelling;
+		int anotherId;
+
+		if (this == obj) {
+			return true;
+		} else if (!(obj instanceof Labelling)) {
+			return false;
+		}
+
+		anotherLabelling = (Labelling) obj;
+		if (graph == anotherLabelling.graph) {
+			return Arrays.equals(labels, anotherLabelling.labels);
+		} else if (labels.length != anotherLabelling.labels.length) {
+			return false;
+		}
+		for (int i = 0; i < labels.length; i++) {
+			anotherId = anotherLabelling.graph.idOf(graph.names[i]);
+			if ((anotherId < 0) || (labels[i] != anotherLabelling.labels[anotherId])) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns a hash code consistent with {@link #equals(Object) equals(Object)}.
+	 *
+	 * @return an {@code int}.
+	 */
+	public int hashCode() {
+
+		int hash = 0;
+
+		for (int i = 0; i < labels.length; i++) {
+			hash += graph.names[i].hashCode() ^ labels[i];
+		}
+
+		return hash;
+	}
+
+	/**
+	 * Returns a representation of this labelling, of the form {@code {IN=[...], OUT=[...], UNDEC=[...]}}.
+	 *
+	 * @return a {@code String}.
+	 */
+	public String toString() {
+
+		return "{IN=" + getArgsLabelled(IN) + ", OUT=" + getArgsLabelled(OUT) + ", UNDEC=" + getArgsLabelled(UNDEC)
+			   + "}";
+	}
+}
@@ -0,0 +1,523 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * A backtracking search through the complete labellings of the AF of an {@link AttackGraph AttackGraph}, which
+ * subclasses specialize to the semantics whose extensions are complete extensions of a particular kind.
+ *
+ * <p> Each argument has a <i>domain</i> - the set of labels it may still take, as a combination of
+ * {@link #CAN_BE_IN CAN_BE_IN}, {@link #CAN_BE_OUT CAN_BE_OUT} and {@link #CAN_BE_UNDEC CAN_BE_UNDEC}. The labels in
+ * the grounded labelling are fixed at the start, since every complete labelling agrees with them. The search then
+ * repeatedly chooses an argument whose domain has several labels, and tries each in turn; after each choice, the
+ * condition of a complete labelling is propagated to a fixed point - an argument is {@code IN} if and only if all of
+ * its attackers are {@code OUT}, and {@code OUT} if and only if some attacker is {@code IN}. The propagation removes a
+ * label from an argument's domain when its attackers' domains cannot support it, and from an attacker's domain when
+ * its target's domain requires that. When every domain has a single label, the labelling is complete, and is passed
+ * to {@link #visit() visit()}. </p>
+ *
+ * <p> Every change to a domain is recorded on a trail, which is cut back on backtracking, and the choices are kept
+ * on an explicit stack, so the search needs no recursion, and may stop at a labelling and later resume from it. Before
+ * each choice, {@link #prunes() prunes()} may cut off the branch, which is how a subclass bounds the search by the
+ * labellings it has already found. The arguments which may be {@code IN}, and those which must be {@code UNDEC}, are
+ * kept as {@code BitSet}s for the subclasses' bounds. </p>
+ */
+abstract class LabellingSearch {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	/**
+	 * The bit of a domain denoting that the argument may be labelled {@code IN}.
+	 */
+	static final byte CAN_BE_IN = 1;
+
+	/**
+	 * The bit of a domain denoting that the argument may be labelled {@code OUT}.
+	 */
+	static final byte CAN_BE_OUT = 2;
+
+	/**
+	 * The bit of a domain denoting that the argument may be labelled {@code UNDEC}.
+	 */
+	static final byte CAN_BE_UNDEC = 4;
+
+	final AttackGraph graph;
+
+	/**
+	 * The domain of each argument, indexed by id.
+	 */
+	final byte[] domains;
+
+	/**
+	 * The ids of the arguments whose domains include {@code IN}.
+	 */
+	final BitSet possiblyIn;
+
+	/**
+	 * The ids of the arguments whose domains are just {@code UNDEC}.
+	 */
+	final BitSet definitelyUndec;
+
+	/**
+	 * The labels to try for a chosen argument, in order.
+	 */
+	private final byte[] labelOrder;
+
+	/**
+	 * The ids of the arguments whose domains have changed, with their previous domains, since the search began.
+	 */
+	private int[] trailArgs;
+
+	private byte[] trailDomains;
+
+	private int trailSize;
+
+	/**
+	 * The arguments whose conditions are to be propagated, as a circular queue.
+	 */
+	private final int[] queue;
+
+	private final boolean[] queued;
+
+	private int queueHead;
+
+	private int queueSize;
+
+	/**
+	 * The size of the trail once the initial domains have been propagated, or {@code -1} before then.
+	 */
+	private int rootTrailSize = -1;
+
+	/**
+	 * {@code false} if propagating the initial domains emptied some domain.
+	 */
+	private boolean rootConsistent;
+
+	/**
+	 * The stack of choices: the chosen argument, the trail size before the choice, the labels not yet tried, and the
+	 * id from which to look for the next argument to choose. It is kept between calls of {@link #step() step()}.
+	 */
+	private int[] choiceArgs = new int[16];
+
+	private int[] choiceTrailSizes = new int[16];
+
+	private byte[] untriedLabels = new byte[16];
+
+	private int[] nextChoiceFroms = new int[16];
+
+	private int depth;
+
+	private int choiceFrom;
+
+	/**
+	 * {@code true} while a search run by {@link #step() step()} has labellings left.
+	 */
+	private boolean stepping;
+
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructs a search of the complete labellings of the AF of {@code graph} which agree with
+	 * {@code groundedLabelling}, in which the other arguments may take the labels in {@code initialDomain}, and a
+	 * chosen argument tries the labels in the order {@code labelOrder}.
+	 *
+	 * @param graph an {@code AttackGraph}.
+	 * @param groundedLabelling the grounded labelling of the AF, as an array of {@link Labelling Labelling} labels
+	 * indexed by id.
+	 * @param initialDomain a combination of {@code CAN_BE_IN}, {@code CAN_BE_OUT} and {@code CAN_BE_UNDEC}.
+	 * @param labelOrder the members of {@code initialDomain}, each as a single bit.
+	 */
+	LabellingSearch(AttackGraph graph, byte[] groundedLabelling, byte initialDomain, byte ... labelOrder) {
+
+		int size = graph.size();
+
+		this.graph = graph;
+		this.labelOrder = labelOrder;
+		domains = new byte[size];
+		possiblyIn = new BitSet(size);
+		definitelyUndec = new BitSet(size);
+		trailArgs = new int[Math.max(16, size)];
+		trailDomains = new byte[trailArgs.length];
+		queue = new int[size];
+		queued = new boolean[size];
+
+		for (int i = 0; i < size; i++) {
+			if (Labelling.IN == groundedLabelling[i]) {
+				domains[i] = CAN_BE_IN;
+			} else if (Labelling.OUT == groundedLabelling[i]) {
+				domains[i] = CAN_BE_OUT;
+			} else {
+				domains[i] = graph.attacksItself(i) ? (byte) (initialDomain & ~CAN_BE_IN) : initialDomain;
+			}
+			noteDomainOf(i);
+		}
+	}
+
+	//----- THE SEARCH -------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns {@code true} if the current branch of the search should be abandoned - called whenever the propagation
+	 * has reached a fixed point without finding the branch inconsistent.
+	 */
+	abstract boolean prunes();
+
+	/**
+	 * Handles the complete labelling in which each argument has the single label in its domain.
+	 *
+	 * @return {@code true} if the search should continue, or {@code false} if it should stop.
+	 */
+	abstract boolean visit();
+
+	/**
+	 * Runs the search, until every complete labelling not pruned has been visited, or {@code visit()} asks it to stop.
+	 * The search may be run any number of times; the domains are restored at the end of each run.
+	 */
+	final void run() {
+
+		depth = 0;
+		choiceFrom = 0;
+		search(propagateRoot());
+		undoTo(rootTrailSize);
+	}
+
+	/**
+	 * Runs the search as {@link #run() run()} does, but only through the labellings in which the argument with id
+	 * {@code arg} has a label in {@code labels}.
+	 *
+	 * @param arg an {@code int}, being the id of an argument.
+	 * @param labels a combination of {@code CAN_BE_IN}, {@code CAN_BE_OUT} and {@code CAN_BE_UNDEC}.
+	 */
+	final void runWithin(int arg, byte labels) {
+
+		depth = 0;
+		choiceFrom = 0;
+		search(propagateRoot() && narrow(arg, (byte) (domains[arg] & labels)) && propagate());
+		undoTo(rootTrailSize);
+	}
+
+	/**
+	 * Runs the search as {@link #run() run()} does, but stops at the first labelling after the last one at which this
+	 * method stopped, so that the labellings may be taken one at a time. A subclass run this way should have
+	 * {@link #visit() visit()} return {@code false}; the labelling is then in the domains until the next call, and
+	 * neither {@code run()} nor {@code runWithin(int, byte)} should be called until this method has returned
+	 * {@code false}.
+	 *
+	 * @return {@code true} if a labelling was found, or {@code false} if there are no more, in which case the domains
+	 * are restored, and the next call starts the search again.
+	 */
+	final boolean step() {
+
+		boolean found;
+
+		if (stepping) {
+			found = search(false);
+		} else {
+			depth = 0;
+			choiceFrom = 0;
+			found = search(propagateRoot());
+		}
+		stepping = found;
+		if (!found) {
+			undoTo(rootTrailSize);
+		}
+
+		return found;
+	}
+
+	/**
+	 * Propagates the conditions of all arguments from the initial domains, if that has not already been done.
+	 *
+	 * @return {@code false} if the AF has no complete labellings within the initial domains.
+	 */
+	private boolean propagateRoot() {
+
+		if (rootTrailSize < 0) {
+			for (int i = 0; i < graph.size(); i++) {
+				enqueue(i);
+			}
+			rootConsistent = propagate();
+			rootTrailSize = trailSize;
+		}
+
+		return rootConsistent;
+	}
+
+	/**
+	 * Searches from the current domains, if {@code consistent}, or else from the next label of the deepest choice with
+	 * labels left.
+	 *
+	 * @return {@code true} if {@code visit()} asked the search to stop, or {@code false} if the search ended.
+	 */
+	private boolean search(boolean consistent) {
+
+		byte label;
+
+		while (true) {
+			if (consistent && !prunes()) {
+				while ((choiceFrom < graph.size()) && isDecided(domains[choiceFrom])) {
+					choiceFrom++;
+				}
+				if (choiceFrom == graph.size()) {
+					if (!visit()) {
+						return true;
+					}
+				} else {
+					if (depth == choiceArgs.length) {
+						choiceArgs = Arrays.copyOf(choiceArgs, 2 * depth);
+						choiceTrailSizes = Arrays.copyOf(choiceTrailSizes, 2 * depth);
+						untriedLabels = Arrays.copyOf(untriedLabels, 2 * depth);
+						nextChoiceFroms = Arrays.copyOf(nextChoiceFroms, 2 * depth);
+					}
+					choiceArgs[depth] = choiceFrom;
+					choiceTrailSizes[depth] = trailSize;
+					untriedLabels[depth] = domains[choiceFrom];
+					nextChoiceFroms[depth] = choiceFrom + 1;
+					depth++;
+				}
+			}
+
+			/* try the next label of the deepest choice with labels left, undoing the choices abandoned. */
+			consistent = false;
+			while (!consistent && (depth > 0)) {
+				undoTo(choiceTrailSizes[depth - 1]);
+				label = nextLabel(choiceArgs[depth - 1], untriedLabels[depth - 1]);
+				if (0 == label) {
+					depth--;
+					continue;
+				}
+				untriedLabels[depth - 1] &= ~label;
+				choiceFrom = nextChoiceFroms[depth - 1];
+				consistent = narrow(choiceArgs[depth - 1], label) && propagate();
+			}
+			if (!consistent) {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Returns the label to try next for the chosen argument with id {@code arg}, among {@code labels}: by default, the
+	 * first label of {@link #labelOrder labelOrder} in {@code labels}; or {@code 0} if there is none.
+	 */
+	byte nextLabel(int arg, byte labels) {
+
+		for (byte nextLabel : labelOrder) {
+			if (0 != (labels & nextLabel)) {
+				return nextLabel;
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Returns {@code true} if {@code domain} comprises a single label.
+	 */
+	static boolean isDecided(byte domain) {
+
+		return 0 == (domain & (domain - 1));
+	}
+
+	//----- PROPAGATION ------------------------------------------------------------------------------------------------
+
+	/**
+	 * Propagates the conditions of the queued arguments to a fixed point.
+	 *
+	 * @return {@code false} if some domain has become empty, in which case the queue is cleared.
+	 */
+	private boolean propagate() {
+
+		int current;
+
+		while (queueSize > 0) {
+			current = queue[queueHead];
+			queueHead = (queueHead + 1 == queue.length) ? 0 : queueHead + 1;
+			queueSize--;
+			queued[current] = false;
+			if (!revise(current)) {
+				while (queueSize > 0) {
+					queued[queue[queueHead]] = false;
+					queueHead = (queueHead + 1 == queue.length) ? 0 : queueHead + 1;
+					queueSize--;
+				}
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Narrows the domain of the argument with id {@code arg} to the labels its attackers can support, and then the
+	 * domains of its attackers to the labels its domain requires.
+	 *
+	 * @return {@code false} if some domain has become empty.
+	 */
+	private boolean revise(int arg) {
+
+		byte domain = domains[arg];
+		byte attackerDomain;
+		boolean allCanBeOut = true;
+		boolean someMustBeIn = false;
+		int canBeInCount = 0;
+		int canBeUndecCount = 0;
+		int canBeNotOutCount = 0;
+		int lastCanBeIn = -1;
+		int lastCanBeUndec = -1;
+		int lastCanBeNotOut = -1;
+		int attacker;
+
+		for (int k = graph.attackerOffsets[arg]; k < graph.attackerOffsets[arg + 1]; k++) {
+			attacker = graph.attackers[k];
+			attackerDomain = domains[attacker];
+			if (0 == (attackerDomain & CAN_BE_OUT)) {
+				allCanBeOut = false;
+			}
+			if (CAN_BE_IN == attackerDomain) {
+				someMustBeIn = true;
+			}
+			if (0 != (attackerDomain & CAN_BE_IN)) {
+				canBeInCount++;
+				lastCanBeIn = attacker;
+			}
+			if (0 != (attackerDomain & CAN_BE_UNDEC)) {
+				canBeUndecCount++;
+				lastCanBeUndec = attacker;
+			}
+			if (CAN_BE_OUT != attackerDomain) {
+				canBeNotOutCount++;
+				lastCanBeNotOut = attacker;
+			}
+		}
+
+		/* IN needs every attacker OUT; OUT needs some attacker IN; UNDEC needs no attacker IN, and one UNDEC. */
+		if (!allCanBeOut) {
+			domain &= ~CAN_BE_IN;
+		}
+		if (0 == canBeInCount) {
+			domain &= ~CAN_BE_OUT;
+		}
+		if (someMustBeIn || (0 == canBeUndecCount)) {
+			domain &= ~CAN_BE_UNDEC;
+		}
+		if (!narrow(arg, domain)) {
+			return false;
+		}
+		/* if arg attacks itself, the counts may be out of date; arg has been queued again, if its domain changed. */
+		if (queued[arg]) {
+			return true;
+		}
+
+		if (CAN_BE_IN == domain) {
+			for (int k = graph.attackerOffsets[arg]; k < graph.attackerOffsets[arg + 1]; k++) {
+				if (!narrow(graph.attackers[k], (byte) (domains[graph.attackers[k]] & CAN_BE_OUT))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if (0 == (domain & CAN_BE_OUT)) {
+			for (int k = graph.attackerOffsets[arg]; k < graph.attackerOffsets[arg + 1]; k++) {
+				if (!narrow(graph.attackers[k], (byte) (domains[graph.attackers[k]] & ~CAN_BE_IN))) {
+					return false;
+				}
+			}
+		}
+		if ((0 == (domain & CAN_BE_IN)) && (1 == canBeNotOutCount)
+			&& !narrow(lastCanBeNotOut, (byte) (domains[lastCanBeNotOut] & ~CAN_BE_OUT))) {
+			return false;
+		}
+		if ((CAN_BE_OUT == domain) && (1 == canBeInCount)
+			&& !narrow(lastCanBeIn, (byte) (domains[lastCanBeIn] & CAN_BE_IN))) {
+			return false;
+		}
+		if ((CAN_BE_UNDEC == domain) && (1 == canBeUndecCount)
+			&& !narrow(lastCanBeUndec, (byte) (domains[lastCanBeUndec] & CAN_BE_UNDEC))) {
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Narrows the domain of the argument with id {@code arg} to {@code domain}, a subset of it, recording the change
+	 * on the trail and queueing the argument and its targets.
+	 *
+	 * @return {@code false} if {@code domain} is empty.
+	 */
+	final boolean narrow(int arg, byte domain) {
+
+		if (domain == domains[arg]) {
+			return true;
+		} else if (0 == domain) {
+			return false;
+		}
+
+		if (trailSize == trailArgs.length) {
+			trailArgs = Arrays.copyOf(trailArgs, 2 * trailSize);
+			trailDomains = Arrays.copyOf(trailDomains, 2 * trailSize);
+		}
+		trailArgs[trailSize] = arg;
+		trailDomains[trailSize++] = domains[arg];
+		domains[arg] = domain;
+		noteDomainOf(arg);
+
+		enqueue(arg);
+		for (int k = graph.targetOffsets[arg]; k < graph.targetOffsets[arg + 1]; k++) {
+			enqueue(graph.targets[k]);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Restores the domains changed since the trail had {@code size} entries.
+	 */
+	private void undoTo(int size) {
+
+		while (trailSize > size) {
+			trailSize--;
+			domains[trailArgs[trailSize]] = trailDomains[trailSize];
+			noteDomainOf(trailArgs[trailSize]);
+		}
+	}
+
+	/**
+	 * Updates {@link #possiblyIn possiblyIn} and {@link #definitelyUndec definitelyUndec} for the argument with id
+	 * {@code arg}.
+	 */
+	private void noteDomainOf(int arg) {
+
+		possiblyIn.set(arg, 0 != (domains[arg] & CAN_BE_IN));
+		definitelyUndec.set(arg, CAN_BE_UNDEC == domains[arg]);
+	}
+
+	/**
+	 * Adds the argument with id {@code arg} to the queue, if it is not already queued.
+	 */
+	private void enqueue(int arg) {
+
+		int tail;
+
+		if (!queued[arg]) {
+			queued[arg] = true;
+			tail = queueHead + queueSize;
+			queue[(tail >= queue.length) ? tail - queue.length : tail] = arg;
+			queueSize++;
+		}
+	}
+}
@@ -0,0 +1,282 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * An AF whose arguments are {@code long}s - e.g. 64-bit database ids - which provides the semantics implemented by
+ * {@link DungAF DungAF} without ever boxing its arguments.
+ *
+ * <p> A {@code LongDungAF} is constructed from arrays of arguments and attacks, and cannot subsequently be changed.
+ * Extensions are returned as {@code long}-arrays sorted in ascending order, and sets of extensions as arrays of such
+ * arrays, in no particular order. Like a {@code DungAF}, a {@code LongDungAF} records the extensions it finds, so that
+ * repeated calls do not result in repeated calculations. </p>
+ *
+ * <p> Arguments are translated to the dense ids of an {@link AttackGraph AttackGraph} by a primitive hash table, and
+ * the semantics are found by a {@link SemanticsEngine SemanticsEngine}. See also {@link IntDungAF IntDungAF}, and
+ * {@link GenericDungAF GenericDungAF} for arguments of other types. </p>
+ *
+ * <p> <b>Note</b>: this class is <b>not</b> synchronized. </p>
+ */
+public final class LongDungAF {
+
+	/**
+	 * A map from each argument to its id in the {@code AttackGraph} of {@link #engine engine}.
+	 */
+	private final LongIndex index;
+
+	/**
+	 * The engine which finds and records the extensions of this AF.
+	 */
+	private final SemanticsEngine engine;
+
+	/**
+	 * Constructs the AF comprising {@code args}, together with the attacks ({@code attackers[k]}, {@code targets[k]})
+	 * and all arguments involved in them. Duplicate arguments and attacks are ignored.
+	 *
+	 * @param args an array of {@code long}s, denoting arguments.
+	 * @param attackers an array of {@code long}s, denoting the attacking argument of each attack.
+	 * @param targets an array of {@code long}s, denoting the attacked argument of each attack.
+	 * @throws IllegalArgumentException if {@code attackers} and {@code targets} have different lengths.
+	 */
+	public LongDungAF(long[] args, long[] attackers, long[] targets) {
+
+		long[] packedAtts = new long[attackers.length];
+
+		if (attackers.length != targets.length) {
+			throw new IllegalArgumentException("by constructor 'LongDungAF(args, attackers, targets)' --- "
+											   + "'attackers' and 'targets' had different lengths.");
+		}
+
+		index = new LongIndex(args.length + attackers.length);
+		for (long nextArg : args) {
+			index.add(nextArg);
+		}
+		for (int k = 0; k < attackers.length; k++) {
+			packedAtts[k] = ((long) index.add(attackers[k]) << 32) | index.add(targets[k]);
+		}
+
+		engine = new SemanticsEngine(AttackGraph.ofPackedAtts(index.size(), packedAtts, packedAtts.length));
+	}
+
+	//----- BASIC METHODS ----------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the number of arguments in this AF.
+	 *
+	 * @return an {@code int}.
+	 */
+	public int getArgsCount() {
+
+		return index.size();
+	}
+
+	/**
+	 * Returns {@code true} if {@code arg} is an argument of this AF.
+	 *
+	 * @param arg a {@code long}, denoting an argument.
+	 * @return {@code true} if {@code arg} is in this AF.
+	 */
+	public boolean hasArg(long arg) {
+
+		return index.idOf(arg) >= 0;
+	}
+
+	/**
+	 * Returns this AF's arguments.
+	 *
+	 * @return a {@code long}-array, sorted in ascending order.
+	 */
+	public long[] getArgs() {
+
+		long[] result = new long[index.size()];
+
+		for (int i = 0; i < result.length; i++) {
+			result[i] = index.keyOf(i);
+		}
+		Arrays.sort(result);
+
+		return result;
+	}
+
+	/**
+	 * Returns the arguments attacking {@code arg} in this AF.
+	 *
+	 * @param arg a {@code long}, denoting an argument.
+	 * @return a {@code long}-array, sorted in ascending order; empty if {@code arg} is not in this AF.
+	 */
+	public long[] getAttackersOf(long arg) {
+
+		AttackGraph graph = engine.graph;
+		int id = index.idOf(arg);
+
+		return (id < 0) ? new long[0] : toArgs(graph.attackers, graph.attackerOffsets[id], graph.attackerOffsets[id + 1]);
+	}
+
+	/**
+	 * Returns the arguments attacked by {@code arg} in this AF.
+	 *
+	 * @param arg a {@code long}, denoting an argument.
+	 * @return a {@code long}-array, sorted in ascending order; empty if {@code arg} is not in this AF.
+	 */
+	public long[] getTargetsOf(long arg) {
+
+		AttackGraph graph = engine.graph;
+		int id = index.idOf(arg);
+
+		return (id < 0) ? new long[0] : toArgs(graph.targets, graph.targetOffsets[id], graph.targetOffsets[id + 1]);
+	}
+
+	//----- METHODS CONCERNING SEMANTICS -------------------------------------------------------------------------------
+
+	/**
+	 * Returns this AF's grounded extension.
+	 *
+	 * @return a {@code long}-array, sorted in ascending order.
+	 */
+	public long[] getGroundedExt() {
+
+		return toArgs(engine.getGroundedExt());
+	}
+
+	/**
+	 * Returns this AF's admissible sets.
+	 *
+	 * @return an array of {@code long}-arrays, each sorted in ascending order.
+	 */
+	public long[][] getAdmissibleSets() {
+
+		return toArgSets(engine.getAdmissibleSets());
+	}
+
+	/**
+	 * Returns this AF's complete extensions.
+	 *
+	 * @return an array of {@code long}-arrays, each sorted in ascending order.
+	 */
+	public long[][] getCompleteExts() {
+
+		return toArgSets(engine.getCompleteExts());
+	}
+
+	/**
+	 * Returns this AF's preferred extensions.
+	 *
+	 * @return an array of {@code long}-arrays, each sorted in ascending order.
+	 */
+	public long[][] getPreferredExts() {
+
+		return toArgSets(engine.getPreferredExts());
+	}
+
+	/**
+	 * Returns the extension prescribed by the <i>sceptical</i> preferred semantics for this AF.
+	 *
+	 * @return a {@code long}-array, sorted in ascending order.
+	 */
+	public long[] getPreferredScepticalExt() {
+
+		return toArgs(engine.getPreferredScepticalExt());
+	}
+
+	/**
+	 * Returns this AF's stable extensions.
+	 *
+	 * @return an array of {@code long}-arrays, each sorted in ascending order.
+	 */
+	public long[][] getStableExts() {
+
+		return toArgSets(engine.getStableExts());
+	}
+
+	/**
+	 * Returns this AF's semi-stable extensions.
+	 *
+	 * @return an array of {@code long}-arrays, each sorted in ascending order.
+	 */
+	public long[][] getSemiStableExts() {
+
+		return toArgSets(engine.getSemiStableExts());
+	}
+
+	/**
+	 * Returns this AF's ideal extension.
+	 *
+	 * @return a {@code long}-array, sorted in ascending order.
+	 */
+	public long[] getIdealExt() {
+
+		return toArgs(engine.getIdealExt());
+	}
+
+	/**
+	 * Returns this AF's eager extension.
+	 *
+	 * @return a {@code long}-array, sorted in ascending order.
+	 */
+	public long[] getEagerExt() {
+
+		return toArgs(engine.getEagerExt());
+	}
+
+	//----- HELPER METHODS ---------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the arguments whose ids are {@code ids[from]} to {@code ids[to-1]}, sorted in ascending order.
+	 */
+	private long[] toArgs(int[] ids, int from, int to) {
+
+		long[] result = new long[to - from];
+
+		for (int k = from; k < to; k++) {
+			result[k - from] = index.keyOf(ids[k]);
+		}
+		Arrays.sort(result);
+
+		return result;
+	}
+
+	/**
+	 * Returns the arguments whose ids are in {@code argSet}, sorted in ascending order.
+	 */
+	private long[] toArgs(BitSet argSet) {
+
+		long[] result = new long[argSet.cardinality()];
+		int k = 0;
+
+		for (int i = argSet.nextSetBit(0); i >= 0; i = argSet.nextSetBit(i + 1)) {
+			result[k++] = index.keyOf(i);
+		}
+		Arrays.sort(result);
+
+		return result;
+	}
+
+	/**
+	 * Returns the argument-sets whose ids are in the members of {@code argSets}.
+	 */
+	private long[][] toArgSets(Collection<BitSet> argSets) {
+
+		long[][] result = new long[argSets.size()][];
+		int k = 0;
+
+		for (BitSet nextSet : argSets) {
+			result[k++] = toArgs(nextSet);
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,150 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * A map from {@code long} keys to dense ids in [0, {@link #size() size()}), assigned in order of first addition, which
+ * never boxes its keys. Used by {@link LongDungAF LongDungAF} - and so by {@link IntDungAF IntDungAF}, which delegates
+ * to it - to translate between their arguments and the ids of an {@link AttackGraph AttackGraph}.
+ *
+ * <p> The map is an open-addressing hash table with linear probing, which stores ids (offset by one, so that zero
+ * denotes an empty slot) in an {@code int}-array, alongside a {@code long}-array of the keys indexed by id. Keys can
+ * be added but not removed. </p>
+ */
+final class LongIndex {
+
+	/**
+	 * The keys, indexed by id; only the first {@link #size size} entries are in use.
+	 */
+	private long[] keys;
+
+	/**
+	 * The hash table, each slot of which holds either zero or (1 + the id of a key).
+	 */
+	private int[] slots;
+
+	/**
+	 * The number of keys.
+	 */
+	private int size;
+
+	/**
+	 * Constructs an empty index with room for {@code expectedSize} keys before resizing.
+	 *
+	 * @param expectedSize an {@code int}.
+	 */
+	LongIndex(int expectedSize) {
+
+		int capacity = 16;
+
+		while (capacity < 2 * expectedSize) {
+			capacity <<= 1;
+		}
+
+		keys = new long[Math.max(expectedSize, 1)];
+		slots = new int[capacity];
+	}
+
+	/**
+	 * Returns the number of keys.
+	 */
+	int size() {
+
+		return size;
+	}
+
+	/**
+	 * Returns the key with id {@code id}.
+	 */
+	long keyOf(int id) {
+
+		return keys[id];
+	}
+
+	/**
+	 * Returns the id of {@code key}, or {@code -1} if {@code key} has not been added.
+	 */
+	int idOf(long key) {
+
+		int mask = slots.length - 1;
+
+		for (int i = hash(key) & mask; 0 != slots[i]; i = (i + 1) & mask) {
+			if (keys[slots[i] - 1] == key) {
+				return slots[i] - 1;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the id of {@code key}, assigning it the next id if it has not been added before.
+	 */
+	int add(long key) {
+
+		int mask = slots.length - 1;
+		int i;
+
+		for (i = hash(key) & mask; 0 != slots[i]; i = (i + 1) & mask) {
+			if (keys[slots[i] - 1] == key) {
+				return slots[i] - 1;
+			}
+		}
+
+		if (size == keys.length) {
+			keys = Arrays.copyOf(keys, 2 * keys.length);
+		}
+		keys[size] = key;
+		slots[i] = ++size;
+
+		if (2 * size > slots.length) {
+			rehash();
+		}
+
+		return size - 1;
+	}
+
+	/**
+	 * Doubles the size of the hash table.
+	 */
+	private void rehash() {
+
+		int mask;
+
+		slots = new int[2 * slots.length];
+		mask = slots.length - 1;
+
+		for (int id = 0; id < size; id++) {
+			int i = hash(keys[id]) & mask;
+
+			while (0 != slots[i]) {
+				i = (i + 1) & mask;
+			}
+			slots[i] = id + 1;
+		}
+	}
+
+	/**
+	 * Returns a well-mixed hash of {@code key}.
+	 */
+	private static int hash(long key) {
+
+		long h = key * 0x9E3779B97F4A7C15L;
+
+		return (int) (h ^ (h >>> 32));
+	}
+}
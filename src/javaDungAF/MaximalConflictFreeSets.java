@@ -0,0 +1,270 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * An enumeration of the maximal conflict-free sets of an AF whose attacks are all mutual, which are its preferred
+ * extensions.
+ *
+ * <p> In such an AF, every argument attacking a member of a set is attacked back by that member, so every
+ * conflict-free set is admissible; and the preferred extensions are the maximal conflict-free sets. Excluding the
+ * self-attacking arguments, which are in no conflict-free set, these are the maximal independent sets of the
+ * undirected graph of conflicts, and are enumerated by the Bron-Kerbosch algorithm (applied to the complement of that
+ * graph), with the pivoting rule of Tomita, Tanaka and Takahashi's 2006 paper -
+ *
+ * <br/>
+ * <ul><i>The worst-case time complexity for generating all maximal cliques and computational experiments</i></ul>
+ * <ul><u>Theoretical Computer Science (363:1): pp.28-42</u>.</ul>
+ * <br/>
+ *
+ * Each step holds the set <i>R</i> built so far, the arguments <i>P</i> which may still be added to it, and the
+ * arguments <i>X</i> which may be added to it but have been tried already. A <i>pivot</i> is chosen from <i>P</i> and
+ * <i>X</i> with the fewest conflicts in <i>P</i>, counting itself if in <i>P</i>; since every maximal set extending
+ * <i>R</i> includes the pivot or an argument in conflict with it, only those arguments in <i>P</i> need be tried.
+ * When <i>P</i> and <i>X</i> are both empty, <i>R</i> is maximal. A step with only one argument to try is taken in
+ * place, so that arguments in conflict with nothing cost no backtracking; the other steps are kept on an explicit
+ * stack, so that the enumeration needs no recursion. Sets are {@link BitSet BitSet}s over the ids of an
+ * {@link AttackGraph AttackGraph}. </p>
+ */
+final class MaximalConflictFreeSets {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	private final AttackGraph graph;
+
+	/**
+	 * The ids of the members of the set under construction, <i>R</i>, in the order in which they were added.
+	 */
+	private final int[] members;
+
+	/**
+	 * The number of entries of {@link #members members} in use.
+	 */
+	private int membersCount;
+
+	/**
+	 * The maximal conflict-free sets found so far.
+	 */
+	private final HashSet<BitSet> sets = new HashSet<BitSet>();
+
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructs the enumeration of the maximal conflict-free sets of the AF of {@code graph}.
+	 *
+	 * @param graph an {@code AttackGraph} whose attacks are all mutual.
+	 */
+	MaximalConflictFreeSets(AttackGraph graph) {
+
+		this.graph = graph;
+		members = new int[graph.size()];
+	}
+
+	//----- THE ENUMERATION --------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the maximal conflict-free sets of the AF.
+	 *
+	 * @return a set of {@code BitSet}s of ids in the graph; never empty, since the AF has at least one maximal
+	 * conflict-free set (perhaps the empty set).
+	 */
+	HashSet<BitSet> find() {
+
+		ArrayList<Step> steps = new ArrayList<Step>();
+		BitSet candidates = new BitSet(graph.size());
+		Step current;
+		BitSet nextCandidates;
+		BitSet nextTried;
+		int added;
+
+		for (int i = 0; i < graph.size(); i++) {
+			if (!graph.attacksItself(i)) {
+				candidates.set(i);
+			}
+		}
+
+		current = enter(candidates, new BitSet(graph.size()));
+		if (null != current) {
+			steps.add(current);
+		}
+		while (!steps.isEmpty()) {
+			current = steps.get(steps.size() - 1);
+			added = current.toTry.nextSetBit(0);
+			if (added < 0) {
+				steps.remove(steps.size() - 1);
+				continue;
+			}
+			current.toTry.clear(added);
+
+			membersCount = current.membersCount;
+			nextCandidates = (BitSet) current.candidates.clone();
+			nextTried = (BitSet) current.tried.clone();
+			add(added, nextCandidates, nextTried);
+			current.candidates.clear(added);
+			current.tried.set(added);
+
+			current = enter(nextCandidates, nextTried);
+			if (null != current) {
+				steps.add(current);
+			}
+		}
+
+		return sets;
+	}
+
+	/**
+	 * Takes the steps from the current set with only one argument to try, and then returns the step from it which
+	 * tries several; or records the current set and returns {@code null}, if it is maximal; or returns {@code null},
+	 * if no maximal set extends it.
+	 *
+	 * @param candidates <i>P</i>, which may be changed.
+	 * @param tried <i>X</i>, which may be changed.
+	 */
+	private Step enter(BitSet candidates, BitSet tried) {
+
+		BitSet toTry;
+
+		while (true) {
+			if (candidates.isEmpty()) {
+				if (tried.isEmpty()) {
+					sets.add(currentSet());
+				}
+				return null;
+			}
+			toTry = conflictsIn(pivotOf(candidates, tried), candidates);
+			if (1 != toTry.cardinality()) {
+				break;
+			}
+			add(toTry.nextSetBit(0), candidates, tried);
+		}
+
+		return toTry.isEmpty() ? null : new Step(candidates, tried, toTry, membersCount);
+	}
+
+	/**
+	 * Adds the argument with id {@code arg} to the current set, and removes it and the arguments in conflict with it
+	 * from {@code candidates} and {@code tried}.
+	 */
+	private void add(int arg, BitSet candidates, BitSet tried) {
+
+		members[membersCount++] = arg;
+		candidates.clear(arg);
+		tried.clear(arg);
+		for (int k = graph.targetOffsets[arg]; k < graph.targetOffsets[arg + 1]; k++) {
+			candidates.clear(graph.targets[k]);
+			tried.clear(graph.targets[k]);
+		}
+	}
+
+	/**
+	 * Returns the member of {@code candidates} or {@code tried} which is in conflict with the fewest members of
+	 * {@code candidates}, counting itself if it is one.
+	 */
+	private int pivotOf(BitSet candidates, BitSet tried) {
+
+		int pivot = -1;
+		int fewestConflicts = Integer.MAX_VALUE;
+		int conflicts;
+
+		for (BitSet nextSet : new BitSet[]{tried, candidates}) {
+			for (int i = nextSet.nextSetBit(0); i >= 0; i = nextSet.nextSetBit(i + 1)) {
+				conflicts = candidates.get(i) ? 1 : 0;
+				for (int k = graph.targetOffsets[i]; (k < graph.targetOffsets[i + 1]) && (conflicts < fewestConflicts);
+					 k++) {
+					if ((graph.targets[k] != i) && candidates.get(graph.targets[k])) {
+						conflicts++;
+					}
+				}
+				if (conflicts < fewestConflicts) {
+					pivot = i;
+					fewestConflicts = conflicts;
+					if (conflicts <= (candidates.get(i) ? 1 : 0)) {
+						return pivot;
+					}
+				}
+			}
+		}
+
+		return pivot;
+	}
+
+	/**
+	 * Returns the members of {@code candidates} which are {@code arg} or in conflict with it.
+	 */
+	private BitSet conflictsIn(int arg, BitSet candidates) {
+
+		BitSet result = new BitSet(graph.size());
+
+		if (candidates.get(arg)) {
+			result.set(arg);
+		}
+		for (int k = graph.targetOffsets[arg]; k < graph.targetOffsets[arg + 1]; k++) {
+			if (candidates.get(graph.targets[k])) {
+				result.set(graph.targets[k]);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the current set, <i>R</i>.
+	 */
+	private BitSet currentSet() {
+
+		BitSet result = new BitSet(graph.size());
+
+		for (int i = 0; i < membersCount; i++) {
+			result.set(members[i]);
+		}
+
+		return result;
+	}
+
+	//----- STEPS ------------------------------------------------------------------------------------------------------
+
+	/**
+	 * A step from a set with several arguments to try, with the size of the set.
+	 */
+	private static final class Step {
+
+		/**
+		 * <i>P</i>, from which each argument tried is removed.
+		 */
+		final BitSet candidates;
+
+		/**
+		 * <i>X</i>, to which each argument tried is added.
+		 */
+		final BitSet tried;
+
+		/**
+		 * The arguments still to try.
+		 */
+		final BitSet toTry;
+
+		final int membersCount;
+
+		Step(BitSet candidates, BitSet tried, BitSet toTry, int membersCount) {
+
+			this.candidates = candidates;
+			this.tried = tried;
+			this.toTry = toTry;
+			this.membersCount = membersCount;
+		}
+	}
+}
@@ -0,0 +1,331 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * A lazy enumeration of the <i>minimal hitting sets</i> (or minimal transversals) of a family of sets of
+ * {@code int}s - i.e. of the sets which include a member of every set of the family, and of which no strict subset
+ * does so.
+ *
+ * <p> The enumeration is that of Murakami and Uno's MMCS algorithm, in their 2014 paper -
+ *
+ * <br/>
+ * <ul><i>Efficient algorithms for dualizing large-scale hypergraphs</i></ul>
+ * <ul><u>Discrete Applied Mathematics (170): pp.83-94</u>.</ul>
+ * <br/>
+ *
+ * It grows a set <i>S</i>, and keeps a set of <i>candidates</i> which may still be added to it. At each step it takes
+ * a set of the family not yet hit by <i>S</i>, with the fewest candidates; and for each of those candidates in turn,
+ * adds it to <i>S</i>, provided that every member of <i>S</i> then remains the only member of <i>S</i> in some set of
+ * the family, and continues from there, no longer counting it as a candidate once its turn is over. When <i>S</i>
+ * hits every set, it is a minimal hitting set; and every minimal hitting set is found exactly once, with no
+ * non-minimal sets to discard. The steps are kept on an explicit stack, and the enumeration pauses after each set
+ * found, so that the sets are generated one at a time, as the iterator is advanced. </p>
+ *
+ * <p> The sets are {@link BitSet BitSet}s. Each set returned is a new {@code BitSet}. </p>
+ */
+final class MinimalHittingSets implements Iterator<BitSet> {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	/**
+	 * The family of sets to be hit, as arrays of members.
+	 */
+	private final int[][] sets;
+
+	/**
+	 * For each element, the indices in {@link #sets sets} of the sets containing it.
+	 */
+	private final int[][] setsContaining;
+
+	/**
+	 * For each set of the family, the number of members of <i>S</i> in it.
+	 */
+	private final int[] hitCounts;
+
+	/**
+	 * The members of <i>S</i>, in the order in which they were added.
+	 */
+	private final int[] members;
+
+	private int membersCount;
+
+	/**
+	 * The elements which may still be added to <i>S</i>.
+	 */
+	private final BitSet candidates = new BitSet();
+
+	/**
+	 * The steps in progress, the innermost last.
+	 */
+	private final ArrayList<Step> steps = new ArrayList<Step>();
+
+	/**
+	 * {@code true} if <i>S</i> has just been extended, and the step from it is yet to be taken.
+	 */
+	private boolean entering = true;
+
+	/**
+	 * The next minimal hitting set, if already found; {@code null} otherwise.
+	 */
+	private BitSet next;
+
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructs the enumeration of the minimal hitting sets of {@code family}, whose members are non-empty arrays of
+	 * non-negative {@code int}s, without repetitions.
+	 *
+	 * @param family an array of {@code int}-arrays, which the enumeration thereafter owns; neither it nor its members
+	 * may be changed subsequently.
+	 */
+	MinimalHittingSets(int[][] family) {
+
+		int[] containingCounts;
+		int maxElement = -1;
+		int i;
+
+		sets = family;
+		for (int[] nextSet : sets) {
+			for (int nextElement : nextSet) {
+				maxElement = Math.max(maxElement, nextElement);
+				candidates.set(nextElement);
+			}
+		}
+
+		containingCounts = new int[maxElement + 1];
+		for (int[] nextSet : sets) {
+			for (int nextElement : nextSet) {
+				containingCounts[nextElement]++;
+			}
+		}
+		setsContaining = new int[maxElement + 1][];
+		for (int element = 0; element <= maxElement; element++) {
+			setsContaining[element] = new int[containingCounts[element]];
+			containingCounts[element] = 0;
+		}
+		for (i = 0; i < sets.length; i++) {
+			for (int nextElement : sets[i]) {
+				setsContaining[nextElement][containingCounts[nextElement]++] = i;
+			}
+		}
+
+		hitCounts = new int[sets.length];
+		members = new int[maxElement + 1];
+	}
+
+	//----- ITERATION --------------------------------------------------------------------------------------------------
+
+	/**
+	 * @see Iterator#hasNext()
+	 */
+	public boolean hasNext() {
+
+		if (null == next) {
+			next = advance();
+		}
+
+		return null != next;
+	}
+
+	/**
+	 * @see Iterator#next()
+	 */
+	public BitSet next() {
+
+		BitSet result;
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		result = next;
+		next = null;
+
+		return result;
+	}
+
+	/**
+	 * Throws an {@code UnsupportedOperationException}.
+	 */
+	public void remove() {
+
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Continues the enumeration until the next minimal hitting set is found.
+	 *
+	 * @return a {@code BitSet}, or {@code null} if there are no more minimal hitting sets.
+	 */
+	private BitSet advance() {
+
+		Step current;
+		int unhitSet;
+		BitSet branch;
+		int added;
+
+		while (true) {
+			if (entering) {
+				entering = false;
+				unhitSet = leastCoveredUnhitSet();
+				if (unhitSet < 0) {
+					return currentSet();
+				}
+				branch = new BitSet();
+				for (int nextElement : sets[unhitSet]) {
+					if (candidates.get(nextElement)) {
+						branch.set(nextElement);
+					}
+				}
+				candidates.andNot(branch);
+				steps.add(new Step(branch));
+			}
+			if (steps.isEmpty()) {
+				return null;
+			}
+
+			/* end the turn of the element last added by the innermost step, and start the next one's. */
+			current = steps.get(steps.size() - 1);
+			if (-1 != current.added) {
+				removeLastMember();
+				candidates.set(current.added);
+				current.added = -1;
+			}
+			added = current.branch.nextSetBit(current.next);
+			if (added < 0) {
+				steps.remove(steps.size() - 1);
+				continue;
+			}
+			current.next = added + 1;
+			addMember(added);
+			if (isMinimal()) {
+				current.added = added;
+				entering = true;
+			} else {
+				removeLastMember();
+				candidates.set(added);
+			}
+		}
+	}
+
+	//----- THE CURRENT SET --------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the index of the set of the family not hit by <i>S</i> with the fewest candidates, or {@code -1} if
+	 * <i>S</i> hits every set.
+	 */
+	private int leastCoveredUnhitSet() {
+
+		int result = -1;
+		int fewestCandidates = Integer.MAX_VALUE;
+		int count;
+
+		for (int i = 0; i < sets.length; i++) {
+			if (0 == hitCounts[i]) {
+				count = 0;
+				for (int nextElement : sets[i]) {
+					if (candidates.get(nextElement)) {
+						count++;
+					}
+				}
+				if (count < fewestCandidates) {
+					result = i;
+					fewestCandidates = count;
+					if (0 == count) {
+						break;
+					}
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns {@code true} if every member of <i>S</i> is the only member of <i>S</i> in some set of the family.
+	 */
+	private boolean isMinimal() {
+
+		boolean critical;
+
+		for (int i = 0; i < membersCount; i++) {
+			critical = false;
+			for (int nextSet : setsContaining[members[i]]) {
+				if (1 == hitCounts[nextSet]) {
+					critical = true;
+					break;
+				}
+			}
+			if (!critical) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private void addMember(int element) {
+
+		members[membersCount++] = element;
+		for (int nextSet : setsContaining[element]) {
+			hitCounts[nextSet]++;
+		}
+	}
+
+	private void removeLastMember() {
+
+		for (int nextSet : setsContaining[members[--membersCount]]) {
+			hitCounts[nextSet]--;
+		}
+	}
+
+	private BitSet currentSet() {
+
+		BitSet result = new BitSet();
+
+		for (int i = 0; i < membersCount; i++) {
+			result.set(members[i]);
+		}
+
+		return result;
+	}
+
+	//----- STEPS ------------------------------------------------------------------------------------------------------
+
+	/**
+	 * The candidates in one unhit set, which take their turns at being added to <i>S</i>.
+	 */
+	private static final class Step {
+
+		final BitSet branch;
+
+		/**
+		 * The element from which to look for the next candidate to add.
+		 */
+		int next;
+
+		/**
+		 * The candidate currently in <i>S</i>, or {@code -1}.
+		 */
+		int added = -1;
+
+		Step(BitSet branch) {
+
+			this.branch = branch;
+		}
+	}
+}
@@ -0,0 +1,260 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A solver of the grounded semantics, registered as {@value #NAME}, which propagates the grounded labelling in
+ * parallel, for very large AFs.
+ *
+ * <p> As in the sequential worklist of {@link SemanticsEngine SemanticsEngine}, each argument counts its attackers not
+ * yet labelled {@code OUT}, and the arguments whose count is 0 are labelled {@code IN}. Here the propagation is
+ * level-synchronous: the current <i>frontier</i> of arguments to be labelled {@code IN} is divided among the tasks of
+ * a {@link java.util.concurrent.ForkJoinPool ForkJoinPool}, and each task labels its arguments {@code IN}, claims
+ * their unlabelled targets as {@code OUT} by compare-and-set, and decrements the counts of the claimed arguments'
+ * targets; the arguments whose count reaches 0 form the next frontier. Every argument is claimed at most once and
+ * every count reaches 0 at most once, so the result is the grounded labelling whatever the interleaving. </p>
+ *
+ * <p> The tasks run in the {@code ForkJoinPool} of the calling thread, if it is a worker of one, and otherwise in the
+ * common pool; so the parallelism is controlled by submitting the call to a pool of the required size. A frontier of
+ * at most {@link #GRAIN GRAIN} arguments is processed by the calling thread alone, so that small AFs, and long thin
+ * chains of defence, incur little overhead. </p>
+ */
+final class ParallelGroundedSolver implements SemanticsSolver {
+
+	/**
+	 * The name under which this solver is registered.
+	 */
+	static final String NAME = "parallel";
+
+	/**
+	 * The number of frontier arguments (or, when initializing, of arguments) below which a task is not split.
+	 */
+	static final int GRAIN = 4096;
+
+	/**
+	 * @see SemanticsSolver#getName()
+	 */
+	public String getName() {
+
+		return NAME;
+	}
+
+	/**
+	 * @see SemanticsSolver#findExts(SemanticsEngine)
+	 */
+	public HashSet<BitSet> findExts(SemanticsEngine engine) {
+
+		Propagation propagation = new Propagation(engine.graph);
+		BitSet ext = new BitSet(propagation.size);
+		byte[] labelling = new byte[propagation.size];
+
+		propagation.run();
+		for (int i = 0; i < propagation.size; i++) {
+			labelling[i] = (byte) propagation.labels.get(i);
+			if (Labelling.IN == labelling[i]) {
+				ext.set(i);
+			}
+		}
+		/* record the labelling too, so that an engine recording the grounded extension records its labelling. */
+		engine.recordGroundedLabelling(labelling);
+
+		return new HashSet<BitSet>(Collections.singleton(ext));
+	}
+
+	//----- PROPAGATION ------------------------------------------------------------------------------------------------
+
+	/**
+	 * The state of one propagation of the grounded labelling of an {@code AttackGraph}.
+	 */
+	private static final class Propagation {
+
+		final AttackGraph graph;
+
+		final int size;
+
+		/**
+		 * The label of each argument, indexed by id.
+		 */
+		final AtomicIntegerArray labels;
+
+		/**
+		 * The number of attackers of each argument not yet labelled {@code OUT}, indexed by id.
+		 */
+		final AtomicIntegerArray liveAttackerCounts;
+
+		/**
+		 * The current frontier, {@code frontier[0]} to {@code frontier[frontierSize-1]}.
+		 */
+		int[] frontier;
+
+		int frontierSize;
+
+		/**
+		 * The next frontier, filled concurrently, its size being {@link #nextSize nextSize}.
+		 */
+		int[] next;
+
+		final AtomicInteger nextSize = new AtomicInteger();
+
+		Propagation(AttackGraph graph) {
+
+			this.graph = graph;
+			size = graph.size();
+			labels = new AtomicIntegerArray(size);
+			liveAttackerCounts = new AtomicIntegerArray(size);
+			frontier = new int[size];
+			next = new int[size];
+		}
+
+		/**
+		 * Propagates the labelling to completion; on return, {@link #labels labels} holds the grounded labelling.
+		 */
+		void run() {
+
+			int[] temp;
+
+			new Initialization(0, size).invoke();
+
+			while (nextSize.get() > 0) {
+				temp = frontier;
+				frontier = next;
+				next = temp;
+				frontierSize = nextSize.getAndSet(0);
+				new Level(0, frontierSize).invoke();
+			}
+		}
+
+		/**
+		 * Appends {@code count} ids from {@code found} to the next frontier.
+		 */
+		void addToNext(int[] found, int count) {
+
+			if (count > 0) {
+				System.arraycopy(found, 0, next, nextSize.getAndAdd(count), count);
+			}
+		}
+
+		/**
+		 * A task which sets the counts of the arguments with ids in [{@code from}, {@code to}), adding those with no
+		 * attackers to the first frontier.
+		 */
+		private final class Initialization extends RecursiveAction {
+
+			private static final long serialVersionUID = 1L;
+
+			private final int from;
+
+			private final int to;
+
+			Initialization(int from, int to) {
+
+				this.from = from;
+				this.to = to;
+			}
+
+			protected void compute() {
+
+				int middle;
+				int[] found;
+				int count = 0;
+				int attackersCount;
+
+				if (to - from > GRAIN) {
+					middle = (from + to) >>> 1;
+					invokeAll(new Initialization(from, middle), new Initialization(middle, to));
+					return;
+				}
+
+				found = new int[to - from];
+				for (int i = from; i < to; i++) {
+					attackersCount = graph.attackerOffsets[i + 1] - graph.attackerOffsets[i];
+					liveAttackerCounts.lazySet(i, attackersCount);
+					if (0 == attackersCount) {
+						found[count++] = i;
+					}
+				}
+				addToNext(found, count);
+			}
+		}
+
+		/**
+		 * A task which labels {@code frontier[from]} to {@code frontier[to-1]} {@code IN}, and propagates the
+		 * consequences as far as the next frontier.
+		 */
+		private final class Level extends RecursiveAction {
+
+			private static final long serialVersionUID = 1L;
+
+			private final int from;
+
+			private final int to;
+
+			Level(int from, int to) {
+
+				this.from = from;
+				this.to = to;
+			}
+
+			protected void compute() {
+
+				int middle;
+				int[] found;
+				int count = 0;
+				int current;
+				int defeated;
+				int target;
+
+				if (to - from > GRAIN) {
+					middle = (from + to) >>> 1;
+					invokeAll(new Level(from, middle), new Level(middle, to));
+					return;
+				}
+
+				found = new int[GRAIN];
+				for (int f = from; f < to; f++) {
+					current = frontier[f];
+					/* current is already labelled OUT if it attacks itself, and joined the frontier when it was
+					 labelled OUT. Otherwise, no other task can label it, since none of its attackers is IN. */
+					if (Labelling.UNDEC != labels.get(current)) {
+						continue;
+					}
+					labels.set(current, Labelling.IN);
+					for (int k = graph.targetOffsets[current]; k < graph.targetOffsets[current + 1]; k++) {
+						defeated = graph.targets[k];
+						if (!labels.compareAndSet(defeated, Labelling.UNDEC, Labelling.OUT)) {
+							continue;
+						}
+						for (int j = graph.targetOffsets[defeated]; j < graph.targetOffsets[defeated + 1]; j++) {
+							target = graph.targets[j];
+							if (0 == liveAttackerCounts.decrementAndGet(target)) {
+								if (count == found.length) {
+									addToNext(found, count);
+									count = 0;
+								}
+								found[count++] = target;
+							}
+						}
+					}
+				}
+				addToNext(found, count);
+			}
+		}
+	}
+}
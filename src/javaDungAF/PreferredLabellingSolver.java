@@ -0,0 +1,125 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * A solver of the preferred semantics, registered as {@value #NAME} and selected initially, which finds the preferred
+ * extensions by a backtracking search of the complete labellings, rather than from the defence-sets.
+ *
+ * <p> The preferred extensions are the complete extensions which are maximal w.r.t. set inclusion. The search, a
+ * {@link LabellingSearch LabellingSearch}, tries {@code IN}, then {@code OUT}, then {@code UNDEC} for each chosen
+ * argument, so that labellings with many {@code IN} arguments tend to be found first, in the manner of Modgil and
+ * Caminada's algorithm and of Nofal, Atkinson and Dunne's refinements of it - see
+ *
+ * <br/>
+ * <ul><i>Algorithms for decision problems in argument systems under preferred semantics</i></ul>
+ * <ul><u>Artificial Intelligence (207): pp.23-51</u>.</ul>
+ * <br/>
+ *
+ * The extensions of the labellings found which are not subsumed by others are kept; and a branch is abandoned as soon
+ * as the arguments which may still be {@code IN} are all in one of them, since every labelling in the branch then has
+ * an extension subsumed by it. When the search ends, the extensions kept are the preferred extensions. </p>
+ *
+ * <p> If the AF is acyclic, symmetric or bipartite, the preferred extensions are found as by the standard solver,
+ * without a search - see {@link SemanticsEngine#findPreferredExtsByStructure()
+ * SemanticsEngine.findPreferredExtsByStructure()}. </p>
+ */
+final class PreferredLabellingSolver implements SemanticsSolver {
+
+	/**
+	 * The name under which this solver is registered.
+	 */
+	static final String NAME = "labelling";
+
+	/**
+	 * @see SemanticsSolver#getName()
+	 */
+	public String getName() {
+
+		return NAME;
+	}
+
+	/**
+	 * @see SemanticsSolver#findExts(SemanticsEngine)
+	 */
+	public HashSet<BitSet> findExts(SemanticsEngine engine) {
+
+		HashSet<BitSet> exts = engine.findPreferredExtsByStructure();
+		Search search;
+
+		if (null != exts) {
+			return exts;
+		}
+
+		search = new Search(engine.graph, engine.getGroundedLabelling());
+		search.run();
+
+		return new HashSet<BitSet>(search.exts);
+	}
+
+	//----- THE SEARCH -------------------------------------------------------------------------------------------------
+
+	/**
+	 * The search for the preferred extensions of one AF.
+	 */
+	private static final class Search extends LabellingSearch {
+
+		/**
+		 * The extensions of the labellings found which are not subsumed by others found so far.
+		 */
+		final ArrayList<BitSet> exts = new ArrayList<BitSet>();
+
+		Search(AttackGraph graph, byte[] groundedLabelling) {
+
+			super(graph, groundedLabelling, (byte) (CAN_BE_IN | CAN_BE_OUT | CAN_BE_UNDEC), CAN_BE_IN, CAN_BE_OUT,
+				  CAN_BE_UNDEC);
+		}
+
+		/**
+		 * @see LabellingSearch#prunes()
+		 */
+		boolean prunes() {
+
+			for (BitSet nextExt : exts) {
+				if (AttackGraph.isSubsetOf(possiblyIn, nextExt)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		/**
+		 * @see LabellingSearch#visit()
+		 */
+		boolean visit() {
+
+			BitSet ext = (BitSet) possiblyIn.clone();
+
+			/* ext is subsumed by none of exts, or the branch would have been pruned; but it may subsume some. */
+			for (int i = exts.size() - 1; i >= 0; i--) {
+				if (AttackGraph.isSubsetOf(exts.get(i), ext)) {
+					exts.set(i, exts.get(exts.size() - 1));
+					exts.remove(exts.size() - 1);
+				}
+			}
+			exts.add(ext);
+
+			return true;
+		}
+	}
+}
@@ -0,0 +1,171 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * The sceptical acceptance of the arguments of an AF under the preferred semantics, decided by an incremental
+ * {@link SatSolver SatSolver}, without enumerating the preferred extensions.
+ *
+ * <p> An argument is sceptically accepted if it is in every preferred extension. The acceptance of a set of
+ * <i>candidates</i> is decided by counterexample-guided refinement, after the manner of CEGARTIX: the solver is asked
+ * for a complete extension which lacks some candidate; if there is none, every preferred extension includes every
+ * candidate; otherwise the extension is grown to a preferred extension, by {@link SatEncoding#maximize(BitSet, boolean)
+ * SatEncoding.maximize(BitSet, boolean)}, and the candidates outside that extension are dropped. For each preferred extension found, a
+ * clause is added excluding the complete extensions it includes - which does not exclude any other preferred
+ * extension - so that every counterexample leads to a new preferred extension, and the refinement ends as soon as the
+ * candidates are known to be accepted, however many preferred extensions remain unfound. </p>
+ *
+ * <p> One solver, with one {@link SatEncoding SatEncoding} of the complete extensions, serves every query: the clauses
+ * learned, and the intersection of the preferred extensions found, in answering one query are used in answering the
+ * next. A query about an argument outside a preferred extension already found is answered without the solver; and
+ * the arguments labelled {@code IN} or {@code OUT} by the grounded labelling are accepted or not without it. </p>
+ *
+ * <p> The copies of a {@link SemanticsEngine SemanticsEngine} share one {@code PreferredScepticalAcceptance}, as do the
+ * working copies in which a {@link FrozenDungAF FrozenDungAF} answers queries on several threads; so its queries are 
+ * synchronized, one solver being no more able than one thread to answer two queries at once. </p>
+ */
+final class PreferredScepticalAcceptance {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	private final AttackGraph graph;
+
+	private final byte[] groundedLabelling;
+
+	private final SatEncoding encoding;
+
+	/**
+	 * The intersection of the preferred extensions found so far, or {@code null} if none have been found.
+	 */
+	private BitSet preferredExtsCore;
+
+	/**
+	 * The preferred sceptical extension, or {@code null} if it is not yet known.
+	 */
+	private BitSet scepticalExt;
+
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructs the acceptance of the arguments of the AF of {@code engine}; the solver is not called until the first
+	 * query.
+	 *
+	 * @param engine a {@code SemanticsEngine}.
+	 */
+	PreferredScepticalAcceptance(SemanticsEngine engine) {
+
+		graph = engine.graph;
+		groundedLabelling = engine.getGroundedLabelling();
+		encoding = SatEncoding.of(engine, Semantics.COMPLETE);
+	}
+
+	//----- QUERIES ----------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns {@code true} if the argument with id {@code arg} is in every preferred extension.
+	 *
+	 * @param arg an id in the graph.
+	 */
+	synchronized boolean isAccepted(int arg) {
+
+		BitSet candidates;
+
+		if (null != scepticalExt) {
+			return scepticalExt.get(arg);
+		}
+		if (Labelling.UNDEC != groundedLabelling[arg]) {
+			return Labelling.IN == groundedLabelling[arg];
+		}
+		if ((null != preferredExtsCore) && !preferredExtsCore.get(arg)) {
+			return false;
+		}
+
+		candidates = new BitSet(graph.size());
+		candidates.set(arg);
+
+		return refine(candidates).get(arg);
+	}
+
+	/**
+	 * Returns the arguments in every preferred extension - i.e. the preferred sceptical extension.
+	 *
+	 * @return a {@code BitSet} of ids in the graph, which must not be changed.
+	 */
+	synchronized BitSet getScepticalExt() {
+
+		BitSet candidates;
+
+		if (null == scepticalExt) {
+			candidates = new BitSet(graph.size());
+			for (int i = 0; i < graph.size(); i++) {
+				if (Labelling.OUT != groundedLabelling[i]) {
+					candidates.set(i);
+				}
+			}
+			if (null != preferredExtsCore) {
+				candidates.and(preferredExtsCore);
+			}
+			scepticalExt = refine(candidates);
+		}
+
+		return scepticalExt;
+	}
+
+	/**
+	 * Returns the members of {@code candidates} which are in every preferred extension, changing {@code candidates}.
+	 */
+	private BitSet refine(BitSet candidates) {
+
+		SatSolver solver = encoding.solver;
+		int activation;
+		int[] clause;
+		int size;
+		BitSet ext;
+
+		while (true) {
+			/* the grounded extension is in every preferred extension, so only the other candidates are in doubt. */
+			activation = encoding.newActivation();
+			clause = new int[candidates.cardinality() + 1];
+			clause[0] = activation ^ 1;
+			size = 1;
+			for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+				if (Labelling.IN != groundedLabelling[i]) {
+					clause[size++] = encoding.in(i, false);
+				}
+			}
+			if (1 == size) {
+				encoding.retract(activation);
+				return candidates;
+			}
+			solver.addClause(Arrays.copyOf(clause, size));
+			if (!solver.solve(activation)) {
+				encoding.retract(activation);
+				return candidates;
+			}
+			encoding.retract(activation);
+
+			ext = encoding.maximize(encoding.inArgs(), false);
+			if (null == preferredExtsCore) {
+				preferredExtsCore = (BitSet) ext.clone();
+			} else {
+				preferredExtsCore.and(ext);
+			}
+			candidates.and(ext);
+			solver.addClause(encoding.outsideClause(ext, false));
+		}
+	}
+}
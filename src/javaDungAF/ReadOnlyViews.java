@@ -0,0 +1,218 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * Unmodifiable, non-copying {@code Set}-views of the arguments and argument-sets which an {@link AttackGraph AttackGraph}
+ * and a {@link DungAF DungAF} record, as returned by {@code DungAF}'s <i>...View</i> methods.
+ *
+ * <p> Each view merely wraps the ids it is given, and translates them to {@code String}s as it is iterated over; so
+ * the ids must never be changed. All of the views' mutators throw {@code UnsupportedOperationException}, as inherited
+ * from {@link AbstractCollection AbstractCollection}. Views are equal to, and have the same hash codes as, any
+ * {@code Set}s with the same elements. </p>
+ */
+final class ReadOnlyViews {
+
+	/**
+	 * Not instantiated.
+	 */
+	private ReadOnlyViews() {}
+
+	/**
+	 * Returns a view of the arguments whose ids are {@code ids[from]} to {@code ids[to-1]}, which are sorted in
+	 * ascending order without duplicates - e.g. a row of {@code graph}'s attackers or targets.
+	 *
+	 * @param graph an {@code AttackGraph}.
+	 * @param ids an {@code int}-array of ids in {@code graph}.
+	 * @param from an {@code int}, being the first index of the row.
+	 * @param to an {@code int}, being the index after the last of the row.
+	 * @return an unmodifiable set of {@code String}s.
+	 */
+	static Set<String> ofRow(final AttackGraph graph, final int[] ids, final int from, final int to) {
+
+		return new AbstractSet<String>() {
+
+			public int size() {
+
+				return to - from;
+			}
+
+			public boolean contains(Object obj) {
+
+				int id = graph.idOf(obj);
+
+				return (id >= 0) && (Arrays.binarySearch(ids, from, to, id) >= 0);
+			}
+
+			public Iterator<String> iterator() {
+
+				return new Iterator<String>() {
+
+					private int index = from;
+
+					public boolean hasNext() {
+
+						return index < to;
+					}
+
+					public String next() {
+
+						if (index >= to) {
+							throw new NoSuchElementException();
+						}
+
+						return graph.names[ids[index++]];
+					}
+
+					public void remove() {
+
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+		};
+	}
+
+	/**
+	 * Returns a view of the arguments of {@code graph} whose ids are in {@code argSet}.
+	 *
+	 * @param graph an {@code AttackGraph}.
+	 * @param argSet a {@code BitSet} of ids in {@code graph}, which must not be changed subsequently.
+	 * @return an unmodifiable set of {@code String}s.
+	 */
+	static Set<String> of(final AttackGraph graph, final BitSet argSet) {
+
+		return new AbstractSet<String>() {
+
+			public int size() {
+
+				return argSet.cardinality();
+			}
+
+			public boolean contains(Object obj) {
+
+				int id = graph.idOf(obj);
+
+				return (id >= 0) && argSet.get(id);
+			}
+
+			public Iterator<String> iterator() {
+
+				return new Iterator<String>() {
+
+					private int nextId = argSet.nextSetBit(0);
+
+					public boolean hasNext() {
+
+						return nextId >= 0;
+					}
+
+					public String next() {
+
+						String arg;
+
+						if (nextId < 0) {
+							throw new NoSuchElementException();
+						}
+
+						arg = graph.names[nextId];
+						nextId = argSet.nextSetBit(nextId + 1);
+
+						return arg;
+					}
+
+					public void remove() {
+
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+		};
+	}
+
+	/**
+	 * Returns a view of the argument-sets of {@code graph} denoted by the members of {@code argSets}.
+	 *
+	 * @param graph an {@code AttackGraph}.
+	 * @param argSets a {@code Collection} of {@code BitSet}s of ids in {@code graph}, without duplicates; neither the
+	 * collection nor its members may be changed subsequently.
+	 * @return an unmodifiable set of unmodifiable {@code String}-sets.
+	 */
+	static Set<Set<String>> ofFamily(final AttackGraph graph, final Collection<BitSet> argSets) {
+
+		return new AbstractSet<Set<String>>() {
+
+			public int size() {
+
+				return argSets.size();
+			}
+
+			public boolean contains(Object obj) {
+
+				/* only a Set can equal a member; ExtensionFamily.contains(Collection) is the lenient alternative. */
+				if (!(obj instanceof Set)) {
+					return false;
+				}
+
+				for (Object nextArg : (Set<?>) obj) {
+					if (graph.idOf(nextArg) < 0) {
+						return false;
+					}
+				}
+
+				return argSets.contains(toBitSet(graph, (Set<?>) obj));
+			}
+
+			public Iterator<Set<String>> iterator() {
+
+				final Iterator<BitSet> argSetsIterator = argSets.iterator();
+
+				return new Iterator<Set<String>>() {
+
+					public boolean hasNext() {
+
+						return argSetsIterator.hasNext();
+					}
+
+					public Set<String> next() {
+
+						return of(graph, argSetsIterator.next());
+					}
+
+					public void remove() {
+
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+		};
+	}
+
+	/**
+	 * Returns the ids of the members of {@code argColl}, all of which are arguments of {@code graph}.
+	 */
+	private static BitSet toBitSet(AttackGraph graph, Collection<?> argColl) {
+
+		BitSet argSet = new BitSet(graph.size());
+
+		for (Object nextArg : argColl) {
+			argSet.set(graph.idOf(nextArg));
+		}
+
+		return argSet;
+	}
+}
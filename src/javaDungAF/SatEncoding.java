@@ -0,0 +1,329 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * An encoding of the labellings of an AF in CNF, loaded into a {@link SatSolver SatSolver}, following Besnard and
+ * Doutre's 2004 paper -
+ *
+ * <br/>
+ * <ul><i>Checking the acceptability of a set of arguments</i></ul>
+ * <ul><u>Proceedings of the 10th International Workshop on Non-Monotonic Reasoning (NMR 2004): pp.59-64</u>.</ul>
+ * <br/>
+ *
+ * Each argument <i>a</i> has a variable <i>in(a)</i>, true if <i>a</i> is {@code IN}, and a variable <i>out(a)</i>,
+ * true if <i>a</i> is {@code OUT}; an argument with neither is {@code UNDEC}. The clauses are added in layers -
+ *
+ * <ul>
+ * <li> <i>conflict-freeness</i>: not both <i>in(a)</i> and <i>in(b)</i>, for every attack of <i>a</i> on <i>b</i>;
+ * </li>
+ * <li> <i>admissibility</i>: <i>in(a)</i> implies <i>out(b)</i> for every attacker <i>b</i> of <i>a</i>, and
+ * <i>out(b)</i> implies <i>in(c)</i> for some attacker <i>c</i> of <i>b</i>; </li>
+ * <li> <i>completeness</i>: conversely, <i>out(b)</i> if some attacker of <i>b</i> is {@code IN}, and <i>in(a)</i>
+ * if every attacker of <i>a</i> is {@code OUT}; </li>
+ * <li> <i>stability</i>: <i>in(a)</i> or <i>out(a)</i>, for every argument <i>a</i>. </li>
+ * </ul>
+ *
+ * The models of the admissibility layer project onto the admissible sets, and those of the completeness and
+ * stability layers onto the complete and stable extensions. The arguments labelled {@code OUT} by the grounded
+ * labelling are in no admissible set; and those labelled {@code IN} are in every complete extension, so are fixed
+ * {@code IN} once completeness is encoded. Each {@code in} variable is tried true first.
+ */
+final class SatEncoding {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	final SatSolver solver = new SatSolver();
+
+	private final AttackGraph graph;
+
+	private final byte[] groundedLabelling;
+
+	/**
+	 * The <i>range</i> variable of each argument, or {@code -1} if it has none yet.
+	 */
+	private final int[] rangeVars;
+
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructs the encoding of the conflict-free sets of the AF of {@code graph}; the other layers are added by
+	 * {@link #addAdmissibility() addAdmissibility()} etc.
+	 *
+	 * @param graph an {@code AttackGraph}.
+	 * @param groundedLabelling the grounded labelling of the AF, as an array of {@link Labelling Labelling} labels
+	 * indexed by id.
+	 */
+	SatEncoding(AttackGraph graph, byte[] groundedLabelling) {
+
+		this.graph = graph;
+		this.groundedLabelling = groundedLabelling;
+		rangeVars = new int[graph.size()];
+		Arrays.fill(rangeVars, -1);
+
+		/* variables 0 to n-1 are the in variables, n to 2n-1 the out variables. */
+		for (int i = 0; i < 2 * graph.size(); i++) {
+			solver.newVar();
+		}
+		for (int i = 0; i < graph.size(); i++) {
+			solver.setPhase(i, true);
+			for (int k = graph.targetOffsets[i]; k < graph.targetOffsets[i + 1]; k++) {
+				solver.addClause(in(i, false), in(graph.targets[k], false));
+			}
+		}
+	}
+
+	/**
+	 * Returns the encoding of the admissible sets, the complete extensions or the stable extensions of the AF of
+	 * {@code engine}, according as {@code semantics} is {@code ADMISSIBLE}, {@code STABLE}, or another semantics.
+	 */
+	static SatEncoding of(SemanticsEngine engine, Semantics semantics) {
+
+		SatEncoding encoding = new SatEncoding(engine.graph, engine.getGroundedLabelling());
+
+		encoding.addAdmissibility();
+		if (Semantics.ADMISSIBLE != semantics) {
+			encoding.addCompleteness();
+		}
+		if (Semantics.STABLE == semantics) {
+			encoding.addStability();
+		}
+
+		return encoding;
+	}
+
+	//----- LAYERS -----------------------------------------------------------------------------------------------------
+
+	/**
+	 * Adds the clauses of admissibility.
+	 */
+	void addAdmissibility() {
+
+		int[] clause;
+
+		for (int i = 0; i < graph.size(); i++) {
+			if (Labelling.OUT == groundedLabelling[i]) {
+				solver.addClause(in(i, false));
+			}
+			for (int k = graph.attackerOffsets[i]; k < graph.attackerOffsets[i + 1]; k++) {
+				solver.addClause(in(i, false), out(graph.attackers[k], true));
+			}
+			clause = new int[graph.attackerOffsets[i + 1] - graph.attackerOffsets[i] + 1];
+			clause[0] = out(i, false);
+			for (int k = graph.attackerOffsets[i]; k < graph.attackerOffsets[i + 1]; k++) {
+				clause[k - graph.attackerOffsets[i] + 1] = in(graph.attackers[k], true);
+			}
+			solver.addClause(clause);
+		}
+	}
+
+	/**
+	 * Adds the clauses of completeness, to those of admissibility.
+	 */
+	void addCompleteness() {
+
+		int[] clause;
+
+		for (int i = 0; i < graph.size(); i++) {
+			if (Labelling.IN == groundedLabelling[i]) {
+				solver.addClause(in(i, true));
+			}
+			clause = new int[graph.attackerOffsets[i + 1] - graph.attackerOffsets[i] + 1];
+			clause[0] = in(i, true);
+			for (int k = graph.attackerOffsets[i]; k < graph.attackerOffsets[i + 1]; k++) {
+				solver.addClause(out(i, true), in(graph.attackers[k], false));
+				clause[k - graph.attackerOffsets[i] + 1] = out(graph.attackers[k], false);
+			}
+			solver.addClause(clause);
+		}
+	}
+
+	/**
+	 * Adds the clauses of stability, to those of completeness.
+	 */
+	void addStability() {
+
+		for (int i = 0; i < graph.size(); i++) {
+			solver.addClause(in(i, true), out(i, true));
+		}
+	}
+
+	//----- LITERALS ---------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the literal true if the argument with id {@code arg} is ({@code value}) or is not ({@code !value})
+	 * {@code IN}.
+	 */
+	int in(int arg, boolean value) {
+
+		return SatSolver.literal(arg, value);
+	}
+
+	/**
+	 * Returns the literal true if the argument with id {@code arg} is ({@code value}) or is not ({@code !value})
+	 * {@code OUT}.
+	 */
+	int out(int arg, boolean value) {
+
+		return SatSolver.literal(graph.size() + arg, value);
+	}
+
+	/**
+	 * Returns the literal true if the argument with id {@code arg} is ({@code value}) or is not ({@code !value}) in
+	 * the range of the labelling - i.e. is {@code IN} or {@code OUT} - adding its variable if necessary.
+	 */
+	int range(int arg, boolean value) {
+
+		if (-1 == rangeVars[arg]) {
+			rangeVars[arg] = solver.newVar();
+			solver.addClause(SatSolver.literal(rangeVars[arg], false), in(arg, true), out(arg, true));
+			solver.addClause(SatSolver.literal(rangeVars[arg], true), in(arg, false));
+			solver.addClause(SatSolver.literal(rangeVars[arg], true), out(arg, false));
+		}
+
+		return SatSolver.literal(rangeVars[arg], value);
+	}
+
+	/**
+	 * Returns a new activation literal: a clause including its negation is in force while it is assumed, and is
+	 * retracted by {@link #retract(int) retract(int)}.
+	 */
+	int newActivation() {
+
+		return SatSolver.literal(solver.newVar(), true);
+	}
+
+	/**
+	 * Retracts the clauses including the negation of {@code activation}.
+	 */
+	void retract(int activation) {
+
+		solver.addClause(activation ^ 1);
+	}
+
+	//----- MAXIMIZATION -----------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns a maximal {@code IN} set (or, if {@code ofRange}, a maximal range) of the models of this encoding which
+	 * includes {@code args}: asks repeatedly for a model whose {@code IN} set (or range) strictly includes the last
+	 * one found, until there is none. The clause requiring the strict inclusion is retracted after each call.
+	 *
+	 * @param args the {@code IN} set (or range) of a model, as a {@code BitSet} of ids in the graph.
+	 * @param ofRange whether {@code args} is a range.
+	 * @return a {@code BitSet} of ids in the graph; the last model found is that of the maximal set.
+	 */
+	BitSet maximize(BitSet args, boolean ofRange) {
+
+		int activation;
+
+		while (true) {
+			activation = newActivation();
+			solver.addClause(outsideClause(args, ofRange, activation ^ 1));
+			if (!solver.solve(insideLits(args, ofRange, activation))) {
+				retract(activation);
+				return args;
+			}
+			retract(activation);
+			args = ofRange ? rangeArgs() : inArgs();
+		}
+	}
+
+	//----- MODELS -----------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the {@code IN} arguments of the last model found.
+	 *
+	 * @return a {@code BitSet} of ids in the graph.
+	 */
+	BitSet inArgs() {
+
+		BitSet result = new BitSet(graph.size());
+
+		for (int i = 0; i < graph.size(); i++) {
+			if (solver.modelValue(i)) {
+				result.set(i);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the range of the last model found - its {@code IN} and {@code OUT} arguments.
+	 *
+	 * @return a {@code BitSet} of ids in the graph.
+	 */
+	BitSet rangeArgs() {
+
+		BitSet result = inArgs();
+
+		for (int i = 0; i < graph.size(); i++) {
+			if (solver.modelValue(graph.size() + i)) {
+				result.set(i);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns a clause satisfied by every labelling whose {@code IN} arguments are not exactly {@code args}, preceded
+	 * by {@code prefix}.
+	 */
+	int[] blockingClause(BitSet args, int... prefix) {
+
+		int[] clause = Arrays.copyOf(prefix, prefix.length + graph.size());
+
+		for (int i = 0; i < graph.size(); i++) {
+			clause[prefix.length + i] = in(i, !args.get(i));
+		}
+
+		return clause;
+	}
+
+	/**
+	 * Returns the literals {@code lit(i)} for every id {@code i} not in {@code args}, preceded by {@code prefix}, where
+	 * {@code lit(i)} is {@link #in(int, boolean) in(i, true)} or {@link #range(int, boolean) range(i, true)}.
+	 */
+	int[] outsideClause(BitSet args, boolean ofRange, int... prefix) {
+
+		int[] clause = Arrays.copyOf(prefix, prefix.length + graph.size() - args.cardinality());
+		int size = prefix.length;
+
+		for (int i = args.nextClearBit(0); i < graph.size(); i = args.nextClearBit(i + 1)) {
+			clause[size++] = ofRange ? range(i, true) : in(i, true);
+		}
+
+		return clause;
+	}
+
+	/**
+	 * Returns the literals {@code lit(i)} for every id {@code i} in {@code args}, preceded by {@code prefix}, where
+	 * {@code lit(i)} is {@link #in(int, boolean) in(i, true)} or {@link #range(int, boolean) range(i, true)}.
+	 */
+	int[] insideLits(BitSet args, boolean ofRange, int... prefix) {
+
+		int[] lits = Arrays.copyOf(prefix, prefix.length + args.cardinality());
+		int size = prefix.length;
+
+		for (int i = args.nextSetBit(0); i >= 0; i = args.nextSetBit(i + 1)) {
+			lits[size++] = ofRange ? range(i, true) : in(i, true);
+		}
+
+		return lits;
+	}
+}
@@ -0,0 +1,158 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * A solver of the admissible, complete, preferred, semi-stable and stable semantics, registered as {@value #NAME},
+ * which finds the extensions by calls of the embedded {@link SatSolver SatSolver} on a {@link SatEncoding SatEncoding}
+ * of the AF.
+ *
+ * <p> The admissible sets, and the complete and stable extensions, are enumerated directly: each model found is
+ * recorded, and a clause excluding its set of {@code IN} arguments is added. The preferred and semi-stable extensions
+ * are found by iterative maximization, in the manner of CEGARTIX - see Dvorak, Jarvisalo, Wallner and Woltran's 2014
+ * paper -
+ *
+ * <br/>
+ * <ul><i>Complexity-sensitive decision procedures for abstract argumentation</i></ul>
+ * <ul><u>Artificial Intelligence (206): pp.53-78</u>.</ul>
+ * <br/>
+ *
+ * From a complete extension, the solver asks repeatedly for a complete extension strictly including the last one
+ * found - or, for the semi-stable semantics, one of strictly greater range - until there is none; the last one is
+ * then maximal, and a clause is added excluding every extension it includes (or every range it includes), before the
+ * next complete extension is sought. The temporary clauses of each step are retracted by activation literals, so that
+ * one solver, and the clauses it learns, serve the whole enumeration. </p>
+ */
+final class SatSemanticsSolver implements SemanticsSolver {
+
+	/**
+	 * The name under which this solver is registered.
+	 */
+	static final String NAME = "sat";
+
+	private final Semantics semantics;
+
+	/**
+	 * Constructs the solver of {@code semantics}.
+	 *
+	 * @param semantics {@code ADMISSIBLE}, {@code COMPLETE}, {@code PREFERRED}, {@code SEMI_STABLE} or
+	 * {@code STABLE}.
+	 */
+	SatSemanticsSolver(Semantics semantics) {
+
+		this.semantics = semantics;
+	}
+
+	/**
+	 * @see SemanticsSolver#getName()
+	 */
+	public String getName() {
+
+		return NAME;
+	}
+
+	/**
+	 * @see SemanticsSolver#findExts(SemanticsEngine)
+	 */
+	public HashSet<BitSet> findExts(SemanticsEngine engine) {
+
+		SatEncoding encoding = SatEncoding.of(engine, semantics);
+
+		switch (semantics) {
+			case PREFERRED:
+				return findMaximalExts(encoding, false);
+			case SEMI_STABLE:
+				return findMaximalExts(encoding, true);
+			default:
+				return enumerate(encoding);
+		}
+	}
+
+	//----- ENUMERATION ------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the {@code IN} sets of all the models of {@code encoding}.
+	 */
+	private static HashSet<BitSet> enumerate(SatEncoding encoding) {
+
+		HashSet<BitSet> exts = new HashSet<BitSet>();
+		BitSet ext;
+
+		while (encoding.solver.solve()) {
+			ext = encoding.inArgs();
+			exts.add(ext);
+			if (!encoding.solver.addClause(encoding.blockingClause(ext))) {
+				break;
+			}
+		}
+
+		return exts;
+	}
+
+	/**
+	 * Returns the {@code IN} sets of the models of the complete {@code encoding} which are maximal w.r.t. set
+	 * inclusion - or, if {@code ofRange}, whose ranges are maximal.
+	 */
+	private static HashSet<BitSet> findMaximalExts(SatEncoding encoding, boolean ofRange) {
+
+		HashSet<BitSet> exts = new HashSet<BitSet>();
+		SatSolver solver = encoding.solver;
+		BitSet args;
+
+		while (solver.solve()) {
+			args = encoding.maximize(ofRange ? encoding.rangeArgs() : encoding.inArgs(), ofRange);
+
+			if (ofRange) {
+				exts.addAll(enumerateWithRange(encoding, args));
+			} else {
+				exts.add(args);
+			}
+
+			/* exclude every extension (or range) included in args. */
+			if (!solver.addClause(encoding.outsideClause(args, ofRange))) {
+				break;
+			}
+		}
+
+		return exts;
+	}
+
+	/**
+	 * Returns the {@code IN} sets of the models of {@code encoding} whose range is exactly {@code range}.
+	 */
+	private static HashSet<BitSet> enumerateWithRange(SatEncoding encoding, BitSet range) {
+
+		HashSet<BitSet> exts = new HashSet<BitSet>();
+		int activation = encoding.newActivation();
+		int[] assumptions = encoding.insideLits(range, true, activation);
+		int[] outsideLits = encoding.outsideClause(range, true);
+		BitSet ext;
+
+		assumptions = Arrays.copyOf(assumptions, assumptions.length + outsideLits.length);
+		for (int i = 0; i < outsideLits.length; i++) {
+			assumptions[assumptions.length - outsideLits.length + i] = outsideLits[i] ^ 1;
+		}
+		while (encoding.solver.solve(assumptions)) {
+			ext = encoding.inArgs();
+			exts.add(ext);
+			encoding.solver.addClause(encoding.blockingClause(ext, activation ^ 1));
+		}
+		encoding.retract(activation);
+
+		return exts;
+	}
+}
@@ -0,0 +1,798 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * A conflict-driven clause-learning (CDCL) SAT solver, in the manner of MiniSat - see Een and Sorensson's 2004 paper -
+ *
+ * <br/>
+ * <ul><i>An extensible SAT-solver</i></ul>
+ * <ul><u>Theory and Applications of Satisfiability Testing (LNCS 2919): pp.502-18</u>.</ul>
+ * <br/>
+ *
+ * Clauses are propagated by two watched literals; on a conflict, a clause is learned at the first unique implication
+ * point, and the solver backjumps to the level at which it becomes unit. Variables are chosen by activity (VSIDS),
+ * with the last value of each variable tried first (phase saving); the search restarts after a number of conflicts
+ * following the Luby sequence; and when many clauses have been learned, those of greatest <i>literal block
+ * distance</i> are forgotten, as in Audemard and Simon's Glucose.
+ *
+ * <p> The solver is incremental: clauses may be added between calls to {@link #solve(int[]) solve(int[])}, which
+ * solves under <i>assumptions</i> - literals taken as the first decisions - and the clauses learned in one call are
+ * kept for the next. A clause may be retracted by adding it with an <i>activation literal</i>, which is assumed while
+ * the clause is needed, and then added negated as a unit clause. </p>
+ *
+ * <p> Variables are numbered from 0, by {@link #newVar() newVar()}; the literals of variable <i>v</i> are 2<i>v</i>,
+ * which is true when <i>v</i> is, and 2<i>v</i>+1, which is its negation - see {@link #literal(int, boolean)
+ * literal(int, boolean)}. </p>
+ */
+final class SatSolver {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	private static final byte UNDEF = 0;
+
+	private static final byte TRUE = 1;
+
+	private static final byte FALSE = -1;
+
+	/**
+	 * The number of conflicts in the first run between restarts, multiplied by the Luby sequence.
+	 */
+	private static final int RESTART_BASE = 100;
+
+	private static final double VAR_DECAY = 0.95;
+
+	private int varsCount;
+
+	/**
+	 * The value of each variable, {@link #TRUE TRUE}, {@link #FALSE FALSE} or {@link #UNDEF UNDEF}.
+	 */
+	private byte[] values = new byte[0];
+
+	/**
+	 * The value last assigned to each variable, tried first when it is next chosen.
+	 */
+	private boolean[] phases = new boolean[0];
+
+	/**
+	 * The decision level at which each variable was assigned.
+	 */
+	private int[] levels = new int[0];
+
+	/**
+	 * The clause which implied the value of each variable, or {@code null} if it was decided.
+	 */
+	private Clause[] reasons = new Clause[0];
+
+	private double[] activities = new double[0];
+
+	private double activityIncrement = 1;
+
+	private boolean[] seen = new boolean[0];
+
+	/**
+	 * For each literal, the clauses in which it is watched.
+	 */
+	private Clause[][] watches = new Clause[0][];
+
+	private int[] watchCounts = new int[0];
+
+	/**
+	 * The assigned literals, in order of assignment.
+	 */
+	private int[] trail = new int[0];
+
+	private int trailSize;
+
+	/**
+	 * The index in {@link #trail trail} of the next literal to propagate.
+	 */
+	private int propagated;
+
+	/**
+	 * For each decision level above 0, the size of the trail when it began.
+	 */
+	private int[] levelStarts = new int[0];
+
+	private int decisionLevel;
+
+	private final ArrayList<Clause> clauses = new ArrayList<Clause>();
+
+	private final ArrayList<Clause> learnts = new ArrayList<Clause>();
+
+	private int maxLearnts = 1000;
+
+	/**
+	 * The unassigned variables (and perhaps some assigned ones), as a binary heap ordered by activity.
+	 */
+	private int[] heap = new int[0];
+
+	private int heapSize;
+
+	/**
+	 * The position of each variable in {@link #heap heap}, or {@code -1}.
+	 */
+	private int[] heapPositions = new int[0];
+
+	/**
+	 * {@code false} once the clauses have been found unsatisfiable without assumptions.
+	 */
+	private boolean consistent = true;
+
+	/**
+	 * The value of each variable in the last model found.
+	 */
+	private boolean[] model = new boolean[0];
+
+	private long conflictsCount;
+
+	//----- VARIABLES, LITERALS AND CLAUSES ----------------------------------------------------------------------------
+
+	/**
+	 * Returns the literal of {@code var} which is true if {@code var}'s value is {@code value}.
+	 */
+	static int literal(int var, boolean value) {
+
+		return value ? 2 * var : 2 * var + 1;
+	}
+
+	/**
+	 * Returns a new variable.
+	 *
+	 * @return the number of the variable.
+	 */
+	int newVar() {
+
+		int var = varsCount++;
+
+		if (var == values.length) {
+			grow(Math.max(16, 2 * var));
+		}
+		heapPositions[var] = -1;
+		heapInsert(var);
+
+		return var;
+	}
+
+	/**
+	 * Sets the value tried first for {@code var}, until it is next assigned.
+	 */
+	void setPhase(int var, boolean value) {
+
+		phases[var] = value;
+	}
+
+	/**
+	 * Returns the number of variables.
+	 */
+	int varsCount() {
+
+		return varsCount;
+	}
+
+	/**
+	 * Returns the number of conflicts met so far, over all calls of {@link #solve(int[]) solve(int[])}.
+	 */
+	long conflictsCount() {
+
+		return conflictsCount;
+	}
+
+	/**
+	 * Adds the clause comprising {@code lits}.
+	 *
+	 * @param lits literals of variables already returned by {@link #newVar() newVar()}; not changed.
+	 * @return {@code false} if the clauses are now unsatisfiable, whatever the assumptions.
+	 */
+	boolean addClause(int... lits) {
+
+		int[] clauseLits = new int[lits.length];
+		int size = 0;
+		Clause clause;
+
+		if (!consistent) {
+			return false;
+		}
+
+		/* drop the literals false at level 0 and the repeated literals; drop the clause if it is satisfied. */
+		for (int nextLit : lits) {
+			if (TRUE == valueOf(nextLit)) {
+				return true;
+			}
+			if (FALSE == valueOf(nextLit)) {
+				continue;
+			}
+			for (int i = 0; i < size; i++) {
+				if (clauseLits[i] == (nextLit ^ 1)) {
+					return true;
+				}
+				if (clauseLits[i] == nextLit) {
+					nextLit = -1;
+					break;
+				}
+			}
+			if (-1 != nextLit) {
+				clauseLits[size++] = nextLit;
+			}
+		}
+
+		if (0 == size) {
+			consistent = false;
+		} else if (1 == size) {
+			assign(clauseLits[0], null);
+			consistent = (null == propagate());
+		} else {
+			clause = new Clause(Arrays.copyOf(clauseLits, size));
+			clauses.add(clause);
+			attach(clause);
+		}
+
+		return consistent;
+	}
+
+	/**
+	 * Returns {@code true} if {@code var} was true in the last model found.
+	 */
+	boolean modelValue(int var) {
+
+		return model[var];
+	}
+
+	/**
+	 * Returns the value of {@code lit}.
+	 */
+	private byte valueOf(int lit) {
+
+		byte value = values[lit >> 1];
+
+		return (0 == (lit & 1)) ? value : (byte) -value;
+	}
+
+	/**
+	 * Makes room for variables up to {@code capacity}.
+	 */
+	private void grow(int capacity) {
+
+		values = Arrays.copyOf(values, capacity);
+		phases = Arrays.copyOf(phases, capacity);
+		levels = Arrays.copyOf(levels, capacity);
+		reasons = Arrays.copyOf(reasons, capacity);
+		activities = Arrays.copyOf(activities, capacity);
+		seen = Arrays.copyOf(seen, capacity);
+		trail = Arrays.copyOf(trail, capacity);
+		levelStarts = Arrays.copyOf(levelStarts, capacity + 1);
+		heap = Arrays.copyOf(heap, capacity);
+		heapPositions = Arrays.copyOf(heapPositions, capacity);
+		watchCounts = Arrays.copyOf(watchCounts, 2 * capacity);
+		watches = Arrays.copyOf(watches, 2 * capacity);
+		for (int lit = 0; lit < watches.length; lit++) {
+			if (null == watches[lit]) {
+				watches[lit] = new Clause[4];
+			}
+		}
+	}
+
+	//----- SOLVING ----------------------------------------------------------------------------------------------------
+
+	/**
+	 * Decides whether the clauses are satisfiable with {@code assumptions} all true. If so, the model found is
+	 * available from {@link #modelValue(int) modelValue(int)}.
+	 *
+	 * @param assumptions literals; not changed.
+	 * @return {@code true} if the clauses are satisfiable under {@code assumptions}.
+	 */
+	boolean solve(int... assumptions) {
+
+		int lubyIndex = 0;
+		Boolean result = null;
+
+		if (!consistent) {
+			return false;
+		}
+
+		while (null == result) {
+			result = search(RESTART_BASE * luby(lubyIndex++), assumptions);
+		}
+		if (result) {
+			model = new boolean[varsCount];
+			for (int var = 0; var < varsCount; var++) {
+				model[var] = (TRUE == values[var]);
+			}
+		}
+		backtrack(0);
+
+		return result;
+	}
+
+	/**
+	 * Searches until {@code conflictsLimit} conflicts have been met, returning {@code true} or {@code false} if
+	 * the clauses are found satisfiable or unsatisfiable under {@code assumptions}, and {@code null} on reaching
+	 * the limit.
+	 */
+	private Boolean search(long conflictsLimit, int[] assumptions) {
+
+		long conflicts = 0;
+		Clause conflict;
+		int[] learnt;
+		int backjumpLevel;
+		int next;
+		Clause clause;
+
+		backtrack(0);
+		while (true) {
+			conflict = propagate();
+			if (null != conflict) {
+				conflictsCount++;
+				conflicts++;
+				if (0 == decisionLevel) {
+					consistent = false;
+					return false;
+				}
+				learnt = analyze(conflict);
+				backjumpLevel = (1 == learnt.length) ? 0 : levels[learnt[1] >> 1];
+				backtrack(backjumpLevel);
+				if (1 == learnt.length) {
+					assign(learnt[0], null);
+				} else {
+					clause = new Clause(learnt);
+					clause.lbd = lbdOf(learnt);
+					learnts.add(clause);
+					attach(clause);
+					assign(learnt[0], clause);
+				}
+				activityIncrement /= VAR_DECAY;
+				continue;
+			}
+
+			if (conflicts >= conflictsLimit) {
+				return null;
+			}
+			if ((0 == decisionLevel) && (learnts.size() >= maxLearnts)) {
+				reduce();
+			}
+
+			/* take the next assumption as a decision, or else choose a variable. */
+			next = -1;
+			while (decisionLevel < assumptions.length) {
+				next = assumptions[decisionLevel];
+				if (TRUE == valueOf(next)) {
+					newDecisionLevel();
+					next = -1;
+				} else if (FALSE == valueOf(next)) {
+					return false;
+				} else {
+					break;
+				}
+			}
+			if (-1 == next) {
+				next = chooseLiteral();
+				if (-1 == next) {
+					return true;
+				}
+			}
+			newDecisionLevel();
+			assign(next, null);
+		}
+	}
+
+	/**
+	 * Returns the <i>i</i>th term (counting from 0) of the Luby sequence 1, 1, 2, 1, 1, 2, 4, 1, ...
+	 */
+	private static int luby(int i) {
+
+		int size = 1;
+		int power = 0;
+
+		while (size < i + 1) {
+			size = 2 * size + 1;
+			power++;
+		}
+		while (size - 1 != i) {
+			size = (size - 1) >> 1;
+			power--;
+			i = i % size;
+		}
+
+		return 1 << power;
+	}
+
+	private void newDecisionLevel() {
+
+		levelStarts[decisionLevel++] = trailSize;
+	}
+
+	/**
+	 * Returns the preferred literal of the unassigned variable of greatest activity, or {@code -1} if every variable
+	 * is assigned.
+	 */
+	private int chooseLiteral() {
+
+		int var;
+
+		while (heapSize > 0) {
+			var = heapRemoveMax();
+			if (UNDEF == values[var]) {
+				return literal(var, phases[var]);
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Sets the value of the variable of {@code lit} so that {@code lit} is true.
+	 */
+	private void assign(int lit, Clause reason) {
+
+		int var = lit >> 1;
+
+		values[var] = (0 == (lit & 1)) ? TRUE : FALSE;
+		levels[var] = decisionLevel;
+		reasons[var] = reason;
+		trail[trailSize++] = lit;
+	}
+
+	/**
+	 * Undoes the assignments above {@code level}.
+	 */
+	private void backtrack(int level) {
+
+		int var;
+
+		if (decisionLevel <= level) {
+			return;
+		}
+		for (int i = trailSize - 1; i >= levelStarts[level]; i--) {
+			var = trail[i] >> 1;
+			phases[var] = (TRUE == values[var]);
+			values[var] = UNDEF;
+			reasons[var] = null;
+			if (-1 == heapPositions[var]) {
+				heapInsert(var);
+			}
+		}
+		trailSize = levelStarts[level];
+		propagated = trailSize;
+		decisionLevel = level;
+	}
+
+	//----- PROPAGATION ------------------------------------------------------------------------------------------------
+
+	/**
+	 * Watches the first two literals of {@code clause}.
+	 */
+	private void attach(Clause clause) {
+
+		watch(clause.lits[0], clause);
+		watch(clause.lits[1], clause);
+	}
+
+	private void watch(int lit, Clause clause) {
+
+		if (watchCounts[lit] == watches[lit].length) {
+			watches[lit] = Arrays.copyOf(watches[lit], 2 * watches[lit].length);
+		}
+		watches[lit][watchCounts[lit]++] = clause;
+	}
+
+	/**
+	 * Propagates the assignments not yet propagated.
+	 *
+	 * @return a clause made false, or {@code null} if there is none.
+	 */
+	private Clause propagate() {
+
+		int falseLit;
+		Clause[] watching;
+		int kept;
+		int count;
+		Clause clause;
+		int[] lits;
+		int otherLit;
+		boolean moved;
+
+		while (propagated < trailSize) {
+			falseLit = trail[propagated++] ^ 1;
+			watching = watches[falseLit];
+			count = watchCounts[falseLit];
+			kept = 0;
+			for (int i = 0; i < count; i++) {
+				clause = watching[i];
+				lits = clause.lits;
+				/* make lits[1] the false literal. */
+				if (lits[0] == falseLit) {
+					lits[0] = lits[1];
+					lits[1] = falseLit;
+				}
+				otherLit = lits[0];
+				if (TRUE == valueOf(otherLit)) {
+					watching[kept++] = clause;
+					continue;
+				}
+				/* look for another literal to watch. */
+				moved = false;
+				for (int k = 2; k < lits.length; k++) {
+					if (FALSE != valueOf(lits[k])) {
+						lits[1] = lits[k];
+						lits[k] = falseLit;
+						watch(lits[1], clause);
+						moved = true;
+						break;
+					}
+				}
+				if (moved) {
+					continue;
+				}
+				watching[kept++] = clause;
+				if (FALSE == valueOf(otherLit)) {
+					/* a conflict: keep the remaining watches, and stop. */
+					for (i++; i < count; i++) {
+						watching[kept++] = watching[i];
+					}
+					watchCounts[falseLit] = kept;
+					propagated = trailSize;
+					return clause;
+				}
+				assign(otherLit, clause);
+			}
+			watchCounts[falseLit] = kept;
+		}
+
+		return null;
+	}
+
+	//----- LEARNING ---------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the clause learned from {@code conflict} at the first unique implication point, with the asserting
+	 * literal first and a literal of the greatest remaining level second.
+	 */
+	private int[] analyze(Clause conflict) {
+
+		int[] learnt = new int[decisionLevel + 1];
+		int learntSize = 1;
+		int pathCount = 0;
+		int lit = -1;
+		int var;
+		int index = trailSize - 1;
+		Clause reason = conflict;
+		int maxIndex;
+
+		do {
+			for (int nextLit : reason.lits) {
+				if (nextLit == lit) {
+					continue;
+				}
+				var = nextLit >> 1;
+				if (!seen[var] && (levels[var] > 0)) {
+					seen[var] = true;
+					bumpActivity(var);
+					if (levels[var] == decisionLevel) {
+						pathCount++;
+					} else {
+						if (learntSize == learnt.length) {
+							learnt = Arrays.copyOf(learnt, 2 * learnt.length);
+						}
+						learnt[learntSize++] = nextLit;
+					}
+				}
+			}
+			/* the next literal of the current level on the trail to be resolved upon. */
+			while (!seen[trail[index] >> 1]) {
+				index--;
+			}
+			lit = trail[index--];
+			var = lit >> 1;
+			reason = reasons[var];
+			seen[var] = false;
+			pathCount--;
+		} while (pathCount > 0);
+		learnt[0] = lit ^ 1;
+
+		for (int i = 1; i < learntSize; i++) {
+			seen[learnt[i] >> 1] = false;
+		}
+		learnt = Arrays.copyOf(learnt, learntSize);
+
+		maxIndex = 1;
+		for (int i = 2; i < learntSize; i++) {
+			if (levels[learnt[i] >> 1] > levels[learnt[maxIndex] >> 1]) {
+				maxIndex = i;
+			}
+		}
+		if (learntSize > 1) {
+			lit = learnt[1];
+			learnt[1] = learnt[maxIndex];
+			learnt[maxIndex] = lit;
+		}
+
+		return learnt;
+	}
+
+	/**
+	 * Returns the number of distinct decision levels of the literals of {@code lits}.
+	 */
+	private int lbdOf(int[] lits) {
+
+		BitSet distinctLevels = new BitSet(decisionLevel + 1);
+
+		for (int nextLit : lits) {
+			distinctLevels.set(levels[nextLit >> 1]);
+		}
+
+		return distinctLevels.cardinality();
+	}
+
+	/**
+	 * At level 0, removes the clauses satisfied there and the literals false there, and forgets the half of the
+	 * learned clauses of greatest literal block distance, keeping those with a distance of 2 or less.
+	 */
+	private void reduce() {
+
+		ArrayList<Clause> keptLearnts = new ArrayList<Clause>();
+
+		Collections.sort(learnts, new Comparator<Clause>() {
+
+			public int compare(Clause clause, Clause anotherClause) {
+
+				return clause.lbd - anotherClause.lbd;
+			}
+		});
+		for (int i = 0; i < learnts.size(); i++) {
+			if ((i < learnts.size() / 2) || (learnts.get(i).lbd <= 2)) {
+				keptLearnts.add(learnts.get(i));
+			}
+		}
+		learnts.clear();
+		learnts.addAll(keptLearnts);
+		maxLearnts += maxLearnts / 10;
+
+		Arrays.fill(watchCounts, 0);
+		simplify(clauses);
+		simplify(learnts);
+	}
+
+	/**
+	 * Removes from {@code clauseList} the clauses satisfied at level 0, removes their literals false at level 0 from
+	 * the others, and watches what remains.
+	 */
+	private void simplify(ArrayList<Clause> clauseList) {
+
+		int kept = 0;
+		int size;
+		boolean satisfied;
+
+		for (Clause nextClause : clauseList) {
+			size = 0;
+			satisfied = false;
+			for (int nextLit : nextClause.lits) {
+				if (TRUE == valueOf(nextLit)) {
+					satisfied = true;
+					break;
+				}
+				if (UNDEF == valueOf(nextLit)) {
+					nextClause.lits[size++] = nextLit;
+				}
+			}
+			/* after propagation at level 0, an unsatisfied clause has at least two unassigned literals. */
+			if (!satisfied) {
+				nextClause.lits = Arrays.copyOf(nextClause.lits, size);
+				attach(nextClause);
+				clauseList.set(kept++, nextClause);
+			}
+		}
+		while (clauseList.size() > kept) {
+			clauseList.remove(clauseList.size() - 1);
+		}
+	}
+
+	//----- ACTIVITIES -------------------------------------------------------------------------------------------------
+
+	private void bumpActivity(int var) {
+
+		activities[var] += activityIncrement;
+		if (activities[var] > 1e100) {
+			for (int i = 0; i < varsCount; i++) {
+				activities[i] *= 1e-100;
+			}
+			activityIncrement *= 1e-100;
+		}
+		if (-1 != heapPositions[var]) {
+			heapUp(heapPositions[var]);
+		}
+	}
+
+	private void heapInsert(int var) {
+
+		heap[heapSize] = var;
+		heapPositions[var] = heapSize;
+		heapUp(heapSize++);
+	}
+
+	private int heapRemoveMax() {
+
+		int var = heap[0];
+
+		heapPositions[var] = -1;
+		heap[0] = heap[--heapSize];
+		if (heapSize > 0) {
+			heapPositions[heap[0]] = 0;
+			heapDown(0);
+		}
+
+		return var;
+	}
+
+	private void heapUp(int position) {
+
+		int var = heap[position];
+		int parent;
+
+		while (position > 0) {
+			parent = (position - 1) >> 1;
+			if (activities[heap[parent]] >= activities[var]) {
+				break;
+			}
+			heap[position] = heap[parent];
+			heapPositions[heap[position]] = position;
+			position = parent;
+		}
+		heap[position] = var;
+		heapPositions[var] = position;
+	}
+
+	private void heapDown(int position) {
+
+		int var = heap[position];
+		int child;
+
+		while (2 * position + 1 < heapSize) {
+			child = 2 * position + 1;
+			if ((child + 1 < heapSize) && (activities[heap[child + 1]] > activities[heap[child]])) {
+				child++;
+			}
+			if (activities[heap[child]] <= activities[var]) {
+				break;
+			}
+			heap[position] = heap[child];
+			heapPositions[heap[position]] = position;
+			position = child;
+		}
+		heap[position] = var;
+		heapPositions[var] = position;
+	}
+
+	//----- CLAUSES ----------------------------------------------------------------------------------------------------
+
+	/**
+	 * A clause of at least two literals, the first two being watched.
+	 */
+	private static final class Clause {
+
+		int[] lits;
+
+		/**
+		 * The literal block distance of a learned clause.
+		 */
+		int lbd;
+
+		Clause(int[] lits) {
+
+			this.lits = lits;
+		}
+	}
+}
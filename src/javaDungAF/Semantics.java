@@ -0,0 +1,156 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * The semantics implemented by {@link DungAF DungAF}.
+ *
+ * <p> Each semantics is also recognized by a name (case-sensitive), as returned by {@link #getName() getName()}, so
+ * that the methods of {@code DungAF} which take the name of a semantics remain available. </p>
+ *
+ * <p> The extensions prescribed by each semantics are found by a <i>solver</i>. Several solvers may be registered for
+ * the same semantics, under different names, and one of them is selected at any time; the selection can be changed
+ * at runtime by {@link #selectSolver(String) selectSolver(String)}. Since all solvers for a semantics find the same
+ * extensions, changing the selection does not affect extensions already recorded by an AF. </p>
+ *
+ * <p> Each semantics has a solver named {@code "standard"}, which is selected initially, bar the preferred semantics.
+ * The alternative solvers are -
+ * <ul>
+ * <li> {@code "parallel"}, for {@link #GROUNDED GROUNDED}: propagates the grounded labelling level by level, over the
+ * {@link java.util.concurrent.ForkJoinPool ForkJoinPool} of the calling thread or the common pool; worthwhile for AFs
+ * with millions of attacks. </li>
+ * <li> {@code "labelling"}, for {@link #PREFERRED PREFERRED}, and selected initially: finds the preferred extensions
+ * by a backtracking search of the complete labellings, pruned by the extensions already found, rather than from the
+ * defence-sets; it does not suffer the blow-up of the standard solver on AFs with many conflicts. </li>
+ * <li> {@code "sat"}, for {@link #ADMISSIBLE ADMISSIBLE}, {@link #COMPLETE COMPLETE}, {@link #PREFERRED PREFERRED},
+ * {@link #SEMI_STABLE SEMI_STABLE} and {@link #STABLE STABLE}: finds the extensions with an embedded CDCL SAT solver,
+ * from a CNF encoding of the labellings - enumerating the models, or, for the preferred and semi-stable semantics,
+ * maximizing them iteratively; needs no external solver. </li>
+ * </ul>
+ * </p>
+ */
+public enum Semantics {
+
+	ADMISSIBLE("admissible", true),
+	COMPLETE("complete", true),
+	EAGER("eager", false),
+	GROUNDED("grounded", false),
+	IDEAL("ideal", false),
+	PREFERRED("preferred", true),
+	PREFERRED_SCEPTICAL("preferredSceptical", false),
+	SEMI_STABLE("semiStable", true),
+	STABLE("stable", true);
+
+	/**
+	 * A map from the name of each semantics to the semantics.
+	 */
+	private static final HashMap<String, Semantics> NAMES_TO_SEMANTICS = new HashMap<String, Semantics>();
+
+	static {
+		for (Semantics nextSemantics : values()) {
+			NAMES_TO_SEMANTICS.put(nextSemantics.name, nextSemantics);
+		}
+	}
+
+	/**
+	 * The name by which this semantics is recognized.
+	 */
+	private final String name;
+
+	/**
+	 * {@code true} if this semantics may prescribe more than one extension.
+	 */
+	private final boolean multipleExt;
+
+	private Semantics(String name, boolean multipleExt) {
+
+		this.name = name;
+		this.multipleExt = multipleExt;
+	}
+
+	/**
+	 * Returns the semantics recognized by {@code name}, or {@code null} if there is no such semantics.
+	 *
+	 * @param name a {@code String}, e.g. "preferredSceptical".
+	 * @return a {@code Semantics}, or {@code null}.
+	 */
+	public static Semantics forName(String name) {
+
+		return NAMES_TO_SEMANTICS.get(name);
+	}
+
+	/**
+	 * Returns the name by which this semantics is recognized.
+	 *
+	 * @return a {@code String}, e.g. "preferredSceptical".
+	 */
+	public String getName() {
+
+		return name;
+	}
+
+	/**
+	 * Returns {@code true} if this semantics may prescribe more than one extension for an AF.
+	 *
+	 * @return {@code false} for the eager, grounded, ideal and preferred sceptical semantics; otherwise {@code true}.
+	 */
+	public boolean isMultipleExt() {
+
+		return multipleExt;
+	}
+
+	/**
+	 * Returns the names of the solvers registered for this semantics.
+	 *
+	 * @return a set of {@code String}s.
+	 */
+	public Set<String> getSolverNames() {
+
+		return SolverRegistry.getSolverNames(this);
+	}
+
+	/**
+	 * Returns the name of the solver currently selected for this semantics.
+	 *
+	 * @return a {@code String}.
+	 */
+	public String getSelectedSolver() {
+
+		return SolverRegistry.getSelected(this).getName();
+	}
+
+	/**
+	 * Selects the solver registered as {@code solverName} for this semantics, for all AFs in this JVM.
+	 *
+	 * @param solverName a {@code String}, being the name of a solver registered for this semantics.
+	 * @throws IllegalArgumentException if no solver is registered as {@code solverName} for this semantics.
+	 */
+	public void selectSolver(String solverName) {
+
+		SolverRegistry.select(this, solverName);
+	}
+
+	/**
+	 * Returns the name by which this semantics is recognized.
+	 *
+	 * @return a {@code String}, e.g. "preferredSceptical".
+	 */
+	public String toString() {
+
+		return name;
+	}
+}
@@ -0,0 +1,1394 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * The implementation of the semantics of {@link DungAF DungAF}, on the integer-indexed representation of an AF 
+ * provided by an {@link AttackGraph AttackGraph}.
+ *
+ * <p> A {@code SemanticsEngine} finds and records the extensions of its AF as {@link BitSet BitSet}s over the ids of 
+ * the {@code AttackGraph}, without reference to how the arguments themselves are represented. {@code DungAF}, 
+ * {@link GenericDungAF GenericDungAF} and {@link LongDungAF LongDungAF} each translate between their own arguments 
+ * and those ids, and delegate to a {@code SemanticsEngine}; {@link IntDungAF IntDungAF} delegates to a 
+ * {@code LongDungAF}. On the algorithms, see 
+ * {@code DungAF}. </p>
+ *
+ * <p> Once recorded, neither an extension nor a set of extensions is ever changed, so copies of a 
+ * {@code SemanticsEngine} may share them; but defence-sets are recorded incrementally, so copies do not share the 
+ * array recording them. </p>
+ */
+final class SemanticsEngine {
+	
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+	
+	/**
+	 * The integer-indexed representation of the AF. 
+	 */
+	final AttackGraph graph;
+	
+	/**
+	 * An array indicating, for none, some or all of the AF's arguments (indexed by their ids in {@link #graph graph}), 
+	 * the defence-sets around each of those arguments in the AF.
+	 *
+	 * <p> On defence-sets, see {@link DungAF#getDefenceSetsAround(String) DungAF.getDefenceSetsAround(String)}. </p>
+	 */
+	private final HashSet<BitSet>[] argsToDefenceSets;
+	
+	/**
+	 * The extensions which this engine records, indexed by the {@link Semantics#ordinal() ordinal()} of the semantics 
+	 * prescribing them; {@code null} for each semantics whose extensions are not recorded. The unique extension of 
+	 * the eager, grounded, ideal and preferred sceptical semantics is recorded as a singleton.
+	 */
+	private final HashSet<BitSet>[] recordedExts;
+	
+	/**
+	 * The AF's grounded labelling, as an array of {@link Labelling Labelling} labels indexed by id; {@code null} if not 
+	 * recorded. Once recorded, it is never changed, so copies of this engine may share it.
+	 */
+	private byte[] groundedLabelling;
+	
+	/**
+	 * The acceptance of the AF's arguments under the preferred semantics, if the AF is bipartite; {@code null} if not 
+	 * found, or if the AF is not bipartite. Once found, it is never changed, so copies of this engine may share it.
+	 */
+	private BipartiteAcceptance bipartiteAcceptance;
+	
+	/**
+	 * The sceptical acceptance of the AF's arguments under the preferred semantics, as decided so far by an 
+	 * incremental SAT solver; {@code null} if not yet needed. It changes as it answers queries, but its queries are 
+	 * synchronized, so copies of this engine - and the working copies of a {@link FrozenDungAF FrozenDungAF}, on any 
+	 * number of threads - share it, and each query benefits from what was learned in answering the others.
+	 */
+	private PreferredScepticalAcceptance preferredScepticalAcceptance;
+	
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+	
+	/**
+	 * Constructs an engine for the AF represented by {@code graph}, which records no extensions.
+	 *
+	 * @param graph an {@code AttackGraph}.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	SemanticsEngine(AttackGraph graph) {
+		
+		this.graph = graph;
+		argsToDefenceSets = new HashSet[graph.size()];
+		recordedExts = new HashSet[Semantics.values().length];
+	}
+	
+	/**
+	 * Constructs a copy of {@code anotherEngine}, which records everything recorded by {@code anotherEngine}.
+	 *
+	 * @param anotherEngine a {@code SemanticsEngine}.
+	 */
+	SemanticsEngine(SemanticsEngine anotherEngine) {
+		
+		graph = anotherEngine.graph;
+		argsToDefenceSets = anotherEngine.argsToDefenceSets.clone();
+		recordedExts = anotherEngine.recordedExts.clone();
+		groundedLabelling = anotherEngine.groundedLabelling;
+		bipartiteAcceptance = anotherEngine.bipartiteAcceptance;
+		preferredScepticalAcceptance = anotherEngine.preferredScepticalAcceptance;
+	}
+	
+	//----- BASIC METHODS ----------------------------------------------------------------------------------------------
+	
+	/**
+	 * Records in this engine anything recorded by {@code anotherEngine} but not by this engine, provided that the two 
+	 * engines share an {@code AttackGraph}.
+	 *
+	 * @param anotherEngine a {@code SemanticsEngine}.
+	 */	
+	void recordSemanticsInfoOf(SemanticsEngine anotherEngine) {
+		
+		if (graph != anotherEngine.graph) {
+			return;
+		}
+		
+		for (int i = 0; i < argsToDefenceSets.length; i++) {
+			if (null == argsToDefenceSets[i]) {
+				argsToDefenceSets[i] = anotherEngine.argsToDefenceSets[i];
+			}
+		}
+		
+		for (int i = 0; i < recordedExts.length; i++) {
+			if (null == recordedExts[i]) {
+				recordedExts[i] = anotherEngine.recordedExts[i];
+			}
+		}
+		
+		if (null == groundedLabelling) {
+			groundedLabelling = anotherEngine.groundedLabelling;
+		}
+		
+		if (null == bipartiteAcceptance) {
+			bipartiteAcceptance = anotherEngine.bipartiteAcceptance;
+		}
+		
+		if (null == preferredScepticalAcceptance) {
+			preferredScepticalAcceptance = anotherEngine.preferredScepticalAcceptance;
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if this engine records the extension(s) prescribed by {@code semantics}.
+	 *
+	 * @param semantics a {@code Semantics}.
+	 * @return {@code true} if the extension(s) are recorded.
+	 */	
+	boolean recordsExtsOfType(Semantics semantics) {
+		
+		return null != recordedExts[semantics.ordinal()];
+	}
+	
+	/**
+	 * Returns {@code true} if this engine records the defence-sets around the argument with id {@code arg}.
+	 *
+	 * @param arg an {@code int}, being the id of an argument.
+	 * @return {@code true} if the defence-sets around the argument are recorded.
+	 */	
+	boolean recordsDefenceSetsAround(int arg) {
+		
+		return null != argsToDefenceSets[arg];
+	}
+	
+	//----- METHODS CONCERNING SEMANTICS -------------------------------------------------------------------------------
+	
+	/**
+	 * Returns the extensions prescribed by {@code semantics} for the AF, as sets of ids in {@link #graph graph}, 
+	 * finding them by the solver selected in {@link SolverRegistry SolverRegistry} and recording them if necessary.
+	 *
+	 * @param semantics a {@code Semantics}.
+	 * @return a set of {@code BitSet}s; a singleton, if {@code semantics} prescribes a unique extension.
+	 */	
+	HashSet<BitSet> getExts(Semantics semantics) {
+		
+		int i = semantics.ordinal();
+		
+		if (null == recordedExts[i]) {
+			recordedExts[i] = SolverRegistry.getSelected(semantics).findExts(this);
+		}
+		
+		return recordedExts[i];
+	}
+	
+	/**
+	 * Returns the unique extension prescribed by {@code semantics} for the AF, as a set of ids in {@link #graph graph},
+	 * finding and recording it if necessary.
+	 *
+	 * @param semantics a {@code Semantics} which prescribes a unique extension.
+	 * @return a {@code BitSet}.
+	 */	
+	private BitSet getExt(Semantics semantics) {
+		
+		return getExts(semantics).iterator().next();
+	}
+	
+	/**
+	 * Returns the solver registered as {@value SolverRegistry#STANDARD} for {@code semantics}, which finds the 
+	 * extensions by the algorithms of this class.
+	 *
+	 * <p> If the AF is acyclic, its grounded extension is its unique complete extension, and hence its only 
+	 * preferred, stable and semi-stable extension, and its eager, ideal and preferred sceptical extension; so for 
+	 * every semantics but the admissible semantics, the solver returns the grounded extension with no search at all. 
+	 * (The admissible sets of an acyclic AF are still found from the defence-sets, since they are in general many.) 
+	 * Whether the AF is acyclic is decided by {@link AttackGraph#isAcyclic() AttackGraph.isAcyclic()}, once per 
+	 * graph. </p>
+	 *
+	 * @param semantics a {@code Semantics}.
+	 * @return a {@code SemanticsSolver}.
+	 */	
+	static SemanticsSolver standardSolverOf(final Semantics semantics) {
+		
+		return new SemanticsSolver() {
+			
+			public String getName() {
+				
+				return SolverRegistry.STANDARD;
+			}
+			
+			public HashSet<BitSet> findExts(SemanticsEngine engine) {
+				
+				if ((Semantics.ADMISSIBLE != semantics) && (Semantics.GROUNDED != semantics) 
+					&& engine.graph.isAcyclic()) {
+					return singleton(engine.getGroundedExt());
+				}
+				
+				switch (semantics) {
+					case ADMISSIBLE: 
+						return engine.findAdmissibleSets();
+					case COMPLETE: 
+						return engine.findCompleteExts();
+					case EAGER: 
+						return singleton(engine.findEagerExt());
+					case GROUNDED: 
+						return singleton(engine.findGroundedExt());
+					case IDEAL: 
+						return singleton(engine.findIdealExt());
+					case PREFERRED: 
+						return engine.findPreferredExts();
+					case PREFERRED_SCEPTICAL: 
+						return singleton(engine.findPreferredScepticalExt());
+					case SEMI_STABLE: 
+						return engine.findSemiStableExts();
+					default: 
+						return engine.findStableExts();
+				}
+			}
+		};
+	}
+	
+	/**
+	 * Returns a modifiable set containing just {@code ext}.
+	 */	
+	private static HashSet<BitSet> singleton(BitSet ext) {
+		
+		return new HashSet<BitSet>(Collections.singleton(ext));
+	}
+	
+	/**
+	 * Returns this AF's grounded extension, as a set of ids in {@link #graph graph}, finding and recording it if 
+	 * necessary.
+	 *
+	 * @return a {@code BitSet}, denoting this AF's grounded extension.
+	 */	
+	BitSet getGroundedExt() {
+		
+		return getExt(Semantics.GROUNDED);
+	}
+	
+	/**
+	 * Finds this AF's grounded extension, as a set of ids in {@link #graph graph}.
+	 *
+	 * @return a {@code BitSet}, denoting this AF's grounded extension.
+	 */	
+	private BitSet findGroundedExt() {
+
+		byte[] labels = getGroundedLabelling();
+		BitSet ext = new BitSet(labels.length);
+
+		for (int i = 0; i < labels.length; i++) {
+			if (Labelling.IN == labels[i]) {
+				ext.set(i);
+			}
+		}
+
+		return ext;
+	}
+
+	/**
+	 * Returns this AF's grounded labelling, as an array of {@link Labelling Labelling} labels indexed by the ids in
+	 * {@link #graph graph}, finding and recording it if necessary. The array must not be changed.
+	 *
+	 * @return a {@code byte}-array, denoting this AF's grounded labelling.
+	 */
+	byte[] getGroundedLabelling() {
+
+		if (null == groundedLabelling) {
+			groundedLabelling = findGroundedLabelling();
+		}
+
+		return groundedLabelling;
+	}
+
+	/**
+	 * Records {@code labelling} as this AF's grounded labelling, unless one is already recorded - for a solver of the 
+	 * grounded semantics which finds the labelling otherwise than by {@link #getGroundedLabelling() 
+	 * getGroundedLabelling()}.
+	 *
+	 * @param labelling the grounded labelling, as an array of {@link Labelling Labelling} labels indexed by the ids 
+	 * in {@link #graph graph}, which must not be changed afterwards.
+	 */
+	void recordGroundedLabelling(byte[] labelling) {
+
+		if (null == groundedLabelling) {
+			groundedLabelling = labelling;
+		}
+	}
+
+	/**
+	 * Returns {@code true} if this engine records the AF's grounded labelling.
+	 *
+	 * @return {@code true} if the grounded labelling is recorded.
+	 */
+	boolean recordsGroundedLabelling() {
+
+		return null != groundedLabelling;
+	}
+
+	/**
+	 * Finds this AF's grounded labelling, as an array of {@link Labelling Labelling} labels indexed by the ids in
+	 * {@link #graph graph}, using a worklist.
+	 *
+	 * <p> Each argument keeps a count of its attackers not yet labelled {@code OUT}. The arguments whose count is 0
+	 * form a worklist: each is labelled {@code IN}, and its unlabelled targets {@code OUT}, which decrements the count
+	 * of each of their targets in turn. Since each argument enters the worklist at most once, and each attack is
+	 * followed at most twice, this takes O(|args| + |atts|) time, however dense the AF, and however long its chains of
+	 * defence. The arguments left unlabelled are {@code UNDEC}. </p>
+	 *
+	 * @return a {@code byte}-array, denoting this AF's grounded labelling.
+	 */
+	private byte[] findGroundedLabelling() {
+
+		AttackGraph g = graph;
+		int size = g.size();
+		byte[] labels = new byte[size];		// initially all Labelling.UNDEC.
+		int[] liveAttackerCounts = new int[size];
+		int[] worklist = new int[size];
+		int head = 0;
+		int tail = 0;
+		int current;
+		int defeated;
+		int target;
+
+		for (int i = 0; i < size; i++) {
+			liveAttackerCounts[i] = g.attackerOffsets[i + 1] - g.attackerOffsets[i];
+			if (0 == liveAttackerCounts[i]) {
+				worklist[tail++] = i;
+			}
+		}
+
+		while (head < tail) {
+			current = worklist[head++];
+			/* current is already labelled OUT if it attacks itself, and was added when it was labelled OUT. */
+			if (Labelling.UNDEC != labels[current]) {
+				continue;
+			}
+			labels[current] = Labelling.IN;
+			for (int k = g.targetOffsets[current]; k < g.targetOffsets[current + 1]; k++) {
+				defeated = g.targets[k];
+				if (Labelling.UNDEC == labels[defeated]) {
+					labels[defeated] = Labelling.OUT;
+					for (int j = g.targetOffsets[defeated]; j < g.targetOffsets[defeated + 1]; j++) {
+						target = g.targets[j];
+						if (0 == --liveAttackerCounts[target]) {
+							worklist[tail++] = target;
+						}
+					}
+				}
+			}
+		}
+
+		return labels;
+	}
+
+	/**
+	 * Returns this AF's admissible sets, as sets of ids in {@link #graph graph}, finding and recording them if 
+	 * necessary.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's admissible sets.
+	 */	
+	HashSet<BitSet> getAdmissibleSets() {
+		
+		return getExts(Semantics.ADMISSIBLE);
+	}
+	
+	/**
+	 * Finds this AF's admissible sets, as sets of ids in {@link #graph graph}.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's admissible sets.
+	 */	
+	private HashSet<BitSet> findAdmissibleSets() {
+		
+		AttackGraph g = graph;
+		BitSet admiSetCandidate;
+		CharacteristicFunction evaluator = new CharacteristicFunction(g);
+		HashSet<BitSet> admiSets;
+		HashSet<BitSet> toDoAdmiSets = new HashSet<BitSet>();
+		HashSet<BitSet> newAdmiSets = new HashSet<BitSet>();
+		
+		/* the empty set is always admissible. */ 
+		admiSets = new HashSet<BitSet>(Collections.singleton(new BitSet()));
+		
+		/* find the minimal non-empty admissible sets. */
+		for (int i = 0; i < g.size(); i++) {
+			admiSets.addAll(getDefenceSetsAround(i));
+		}
+		/* find the maximal admissible sets. */
+		admiSets.addAll(getPreferredExts());
+		
+		/* find the intermediate-sized admissible sets. To do this, proceed from the preferred extensions. 
+		 For each preferred extension argSet, for each arg1 in argSet, proceed as follows. Remove arg1 from argSet. 
+		 Then (i) remove every arg2 from argSet, such that arg2 is not acceptable wrt argSet; and 
+		 (ii) repeat (i) until argSet is admissible. 
+		 If argSet is already in admissibleSets, discard it; otherwise add it to admissibleSets, and repeat the 
+		 whole exercise on it. */
+		toDoAdmiSets.addAll(getPreferredExts());
+		
+		while (!toDoAdmiSets.isEmpty()) {			
+			for (BitSet nextAdmiSet : toDoAdmiSets) {
+				/* find all of the admissible sets subsumed by nextAdmiSet. */
+				for (int i = nextAdmiSet.nextSetBit(0); i >= 0; i = nextAdmiSet.nextSetBit(i + 1)) {
+					/* create admiSetCandidate by removing the i-th argument from nextAdmiSet. */
+					admiSetCandidate = (BitSet) nextAdmiSet.clone();	
+					admiSetCandidate.clear(i);	
+					/* revise admiSetCandidate, until it is admissible. */
+					admiSetCandidate = removeUndefendedArgs(admiSetCandidate, evaluator);
+					/* if it has already been found, admiSetCandidate must be disregarded */						
+					if (admiSets.add(admiSetCandidate)) { 
+						newAdmiSets.add(admiSetCandidate); 
+					}
+				}
+			}					
+			/* every newly-found admissible set is a toDoAdmiSet, because it might subsume other admissible sets. */
+			toDoAdmiSets = new HashSet<BitSet>(newAdmiSets);
+			newAdmiSets.clear();
+		}					
+		
+		return admiSets;
+	}
+
+	/**
+	 * Removes from {@code argSet} every argument which is not acceptable with respect to {@code argSet} - and does so 
+	 * repeatedly, until {@code argSet} is acceptable with respect to itself.
+	 *
+	 * <p> The arguments are removed by {@code evaluator}, which is moved to {@code argSet} from the set it held last; 
+	 * so successive calls on similar sets cost time proportional to the attacks near the arguments in which they 
+	 * differ. </p>
+	 *
+	 * @param argSet a {@code BitSet} of ids in {@link #graph graph}.
+	 * @param evaluator a {@code CharacteristicFunction} of {@link #graph graph}, which is changed by the call.
+	 * @return a {@code BitSet}, denoting the greatest subset of {@code argSet} which is acceptable with respect to 
+	 * itself.
+	 */	
+	private static BitSet removeUndefendedArgs(BitSet argSet, CharacteristicFunction evaluator) {
+		
+		evaluator.load(argSet);
+		evaluator.removeUnacceptedMembers();
+		
+		return evaluator.getMembers();
+	}
+
+	/**
+	 * Returns the defence-sets around the argument with id {@code arg} in {@link #graph graph}, finding and recording 
+	 * them if necessary.
+	 *
+	 * @param arg an {@code int}, being the id of an argument.
+	 * @return a set of {@code BitSet}s, denoting the defence-sets around the argument.
+	 */	
+	HashSet<BitSet> getDefenceSetsAround(int arg) {
+		
+		if (null == argsToDefenceSets[arg]) {
+			argsToDefenceSets[arg] = getDefenceSetsAroundHelper(arg, 0, 
+														new HashSet<BitSet>(Collections.singleton(new BitSet())));	
+		}
+		
+		return argsToDefenceSets[arg];
+	}
+
+	/**
+	 * Finds the defence-sets around the argument with id {@code arg} in this AF, if called by another method (and 
+	 * passed {@code arg}, zero and the singleton set containing the empty set). On defence-sets, see
+	 * {@link DungAF#getDefenceSetsAround(String) DungAF.getDefenceSetsAround(String)}.
+	 *
+	 * <p> This method implements a simplified and slightly modified version of Vreeswijk's algorithm for generating 
+	 * <i>labelled</i> defence-sets (the label denoting, in each case, whether the defence-set is merely an admissible 
+	 * set, or an admissible set which is also a subset of the grounded extension), as described in his 2006 paper -
+	 *
+	 * <br/>
+	 * <ul><i>An algorithm to compute minimally grounded and admissible defence sets in argument systems</i></ul> 
+	 * <ul><u>Proceedings of COMMA'06: pp.109-20</u>.</ul>
+	 * <br/>
+	 *
+	 * This method's simplified and slightly modified version generates unlabelled defence-sets. Full details are  
+	 * provided <a href="../admissibleSemantics.pdf">here</a>. </p> 
+	 *
+	 * <p> While an externally-called instance of this method returns the defence-sets around the specified argument, a 
+	 * recursively-called instance does not generally do so. Instead, it returns a (perhaps empty) set of argument-sets. 
+	 * Each returned argument-set is conflict-free, but is not necessarily a defence-set of the 
+	 * argument {@code externInstArg} passed to the externally-called instance. The output of a recursively-called 
+	 * instance represents a stage in one branch of a search for {@code externInstArg}'s defence-sets. 
+	 * As such, it might include not just (i) defence-sets of {@code externInstArg}, but also (ii) sets which are 
+	 * non-admissible (on account of not being acceptable with respect to themselves), and (iii) sets which strictly 
+	 * subsume defence-sets of {@code externInstArg}. </p> 
+	 *
+	 * <p> Following Vreeswijk's usage, the argument-sets passed to and returned by this method are called 
+	 * <i>candidate-solutions</i>. A candidate-solution is an argument-set which is 'promising'. The algorithm builds 
+	 * each defence-set by addition, proceeding from the empty set. A candidate-solution <i>cs</i> is (loosely speaking) 
+	 * such that the algorithm has not yet established that <i>cs</i> is neither (a) a defence-set around the argument 
+	 * passed to the externally-called instance, nor (b) a subset of such a defence-set. </p>
+	 *
+	 * @param arg an {@code int}, being the id of an argument.
+	 * @param pathLength an {@code int}, being the length of the path of arguments leading from 
+	 * {@code externInstArg} to {@code arg} (excluding {@code arg}).
+	 * @param canSols a set of {@code BitSet}s, denoting candidate-solutions.
+	 * @return a set of {@code BitSet}s, denoting either (a) the defence-sets around {@code arg} in this AF 
+	 * (if called by another method) or (b) candidate-solutions (if called recursively).
+	 */		
+	private HashSet<BitSet> getDefenceSetsAroundHelper(int arg, int pathLength, HashSet<BitSet> canSols) {
+		
+		HashSet<BitSet> accumulatedCanSols = new HashSet<BitSet>();
+		HashSet<BitSet> filteredCanSols = new HashSet<BitSet>();
+		HashSet<BitSet> canSolsAttackingNextAttr = new HashSet<BitSet>();
+		boolean onPropArg;
+		int nextAttacker;
+		
+		HashSet<BitSet> tempSetBitSet;
+		
+		/* set onPropArg. onPropArg means that arg is a propArg - i.e. arg is being treated as a potential addition to 
+		 every candidate-solution in canSols, and hence as a potential member of at least one defence-set (and hence a
+		 'proponent' of the argument passed to the externally-called instance). Otherwise arg is an oppArg - i.e. arg is
+		 being treated as an argument which prevents each candidate-solution in canSols from being admissible, by 
+		 (i) attacking some argument which is in every candidate-solution in canSols, while (ii) not being attacked by 
+		 any of those candidate-solutions. */
+		onPropArg = (pathLength%2 == 0);
+
+		if (onPropArg) {
+			if (graph.attacksItself(arg)) {
+				/* if arg attacks itself, it cannot be in any admissible set; so as it is a propArg, there can be no 
+				 defence-sets this way. So clear canSols. */
+				canSols.clear(); 
+			} else {
+				/* otherwise arg might be in an admissible set, so there might be defence-sets this way. 
+				 So create new, augmented versions of all members of canSols. */
+				tempSetBitSet = new HashSet<BitSet>();
+				for (BitSet nextSet : canSols) {
+					tempSetBitSet.add(AttackGraph.with(nextSet, arg));
+				}
+				canSols = tempSetBitSet;
+			}
+		}
+				
+		/* if there might be defence-sets this way and arg is attacked...  */
+		if (!canSols.isEmpty() && (graph.attackerOffsets[arg] < graph.attackerOffsets[arg + 1])) {
+			/* ...for each attacker nextAttacker... */
+			for (int k = graph.attackerOffsets[arg]; k < graph.attackerOffsets[arg + 1]; k++) {
+				nextAttacker = graph.attackers[k];
+				
+				if (onPropArg) { 
+					canSolsAttackingNextAttr.clear(); 
+				}	
+				
+				/* ...find those candidate-solutions in canSols, such that nextAttacker is relevant to them. */
+				filteredCanSols.clear();
+				for (BitSet nextCanSol : canSols) { 
+					if (onPropArg) {
+						/* if arg is a propArg, a candidate-solution is relevant, if it DOES NOT attack nextAttacker, 
+						 and hence is rendered non-admissible by nextAttacker. However, we need to record those 
+						 candidate-solutions which do defend themselves against nextAttacker. So add nextCanSol to 
+						 either filteredCanSols or canSolsAttackingNextAttr. */	
+						if (!graph.isAttackedBy(nextAttacker, nextCanSol)) { 
+							/* it is not necessary to use a *copy* of nextCanSol, because the method nowhere changes 
+							 any candidate-solution. */
+							filteredCanSols.add(nextCanSol); 
+						} else {
+							canSolsAttackingNextAttr.add(nextCanSol);								
+						}
+					} else if (!graph.isInConflictWith(nextAttacker, nextCanSol)) {
+						/* if arg is an oppArg, nextCanSol is relevant, if nextAttacker might 'usefully' defend it 
+						 against arg - so nextCanSol is *not* relevant, if it is in conflict with nextAttacker. Even if
+						 no such conflict exists, nextAttacker's 'usefulness' as a defender is treated merely as a 
+						 *possibility*, because there might be no admissible sets 
+						 subsuming ({nextAttacker} U nextCanSol). */
+						filteredCanSols.add(nextCanSol); 
+					} 
+				}
+								
+				if (onPropArg) { 
+					/* if arg is a propArg, attend to those candidate-solutions which do not defend themselves against 
+					 nextAttacker - try to expand them into sets which are not deficient in that way (and which subsume 
+					 defence-sets of the added arguments, and which are conflict-free), and record such
+					 expanded sets in canSols. */
+					canSols = getDefenceSetsAroundHelper(nextAttacker, pathLength + 1, filteredCanSols);
+					/* reinstate those canSols which were found to defend themselves against nextAttacker. */
+					canSols.addAll(canSolsAttackingNextAttr);
+					
+					if (canSols.isEmpty()) { 
+						/* if canSols is empty, there are no defence-sets this way, so there is no need to consider any 
+						 further attackers of arg... */
+						break; 
+					} else {
+						/* ...otherwise, remove all non-minimal members of canSols, to ensure that the externally-called
+						 instance returns no strict superset of a defence-set. */
+						SetComparison.removeNonMinimalBitSetsOf(canSols);
+					}
+				} else { 
+					/* if arg is an oppArg, attend to every candidate-solution, such that nextAttacker might 'usefully' 
+					 defend it against arg - try to expand such candidate-solutions into sets which 
+					 (i) are conflict-free, (ii) include nextAttacker, and (iii) subsume defence-sets of nextAttacker 
+					 and of all subsequently-added arguments. */
+					accumulatedCanSols.addAll(getDefenceSetsAroundHelper(nextAttacker, pathLength + 1, 
+																		 filteredCanSols));
+					/* remove all non-minimal members of canSols, to ensure that the externally-called instance returns 
+					 no strict superset of a defence-set. */
+					SetComparison.removeNonMinimalBitSetsOf(accumulatedCanSols);
+				}
+			}
+		}
+		
+		if (!onPropArg) {
+			canSols = accumulatedCanSols;	
+		}
+		
+		return canSols;
+	}
+
+	/**
+	 * Returns this AF's preferred extensions, as sets of ids in {@link #graph graph}, finding and recording them if 
+	 * necessary.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's preferred extensions.
+	 */	
+	HashSet<BitSet> getPreferredExts() {
+		
+		return getExts(Semantics.PREFERRED);
+	}
+	
+	/**
+	 * Finds this AF's preferred extensions, as sets of ids in {@link #graph graph}, without a search, if the structure 
+	 * of the AF allows it - 
+	 *
+	 * <ul>
+	 * <li> if the AF is acyclic, its only preferred extension is its grounded extension; </li>
+	 * <li> if every attack of the AF is mutual, its preferred extensions are its maximal conflict-free sets, which are 
+	 *		enumerated by {@link MaximalConflictFreeSets MaximalConflictFreeSets}; and </li>
+	 * <li> if the AF is bipartite, they are found by {@link BipartiteAcceptance BipartiteAcceptance}. </li>
+	 * </ul>
+	 *
+	 * Whether the AF is acyclic, symmetric or bipartite is decided once per graph.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's preferred extensions; or {@code null}, if none of the above 
+	 * applies.
+	 */	
+	HashSet<BitSet> findPreferredExtsByStructure() {
+		
+		if (graph.isAcyclic()) {
+			return singleton(getGroundedExt());
+		} else if (graph.isSymmetric()) {
+			return new MaximalConflictFreeSets(graph).find();
+		} else if (null != getBipartiteAcceptance()) {
+			return getBipartiteAcceptance().findPreferredExts();
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Finds this AF's preferred extensions, as sets of ids in {@link #graph graph}: by 
+	 * {@link #findPreferredExtsByStructure() findPreferredExtsByStructure()}, if possible, and otherwise from the 
+	 * defence-sets.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's preferred extensions.
+	 */	
+	private HashSet<BitSet> findPreferredExts() {
+		
+		AttackGraph g = graph;
+		HashSet<BitSet> exts = findPreferredExtsByStructure();
+		boolean disqualifiedByPrefExts;
+		BitSet revisedPrefExtCan;
+		BitSet admiArgs = new BitSet(g.size());
+		ArrayList<int[]> pairsInConflict = new ArrayList<int[]>();
+		MinimalHittingSets minimalRemovalSets;
+		BitSet nextMinimalRemovalSet;
+		HashSet<BitSet> prefExtCandidates = new HashSet<BitSet>();
+		HashSet<BitSet> revisedPrefExtCandidates = new HashSet<BitSet>();
+		
+		BitSet tempBitSet;
+		
+		if (null != exts) {
+			return exts;
+		}
+		
+		/* ensure that the defence-sets of all arguments are recorded in this object, and record which arguments are 
+		 admissible. */
+		for (int i = 0; i < g.size(); i++) {
+			if (!getDefenceSetsAround(i).isEmpty()) {
+				admiArgs.set(i);	
+			}
+		}
+		
+		/* for every admissible argument admiArg0, find the set 
+		 argSet = { admiArg1 | there is an admissible set including admiArg0 and admiArg1 }. argSet is such that for 
+		 each arg0 in argSet, arg0 is acceptable wrt argSet. Hence argSet is either (a) a preferred extension, or 
+		 (b) a (non-conflict-free) superset of at least one preferred extension. */
+		for (int arg0 = admiArgs.nextSetBit(0); arg0 >= 0; arg0 = admiArgs.nextSetBit(arg0 + 1)) {
+			tempBitSet = new BitSet(g.size());
+			
+			for (int arg1 = admiArgs.nextSetBit(0); arg1 >= 0; arg1 = admiArgs.nextSetBit(arg1 + 1)) {
+				if (!g.attacks(arg0, arg1) && !g.attacks(arg1, arg0)) {
+					seekCommonAdmiSet : {
+						for (BitSet nextDefSetOfArg0 : argsToDefenceSets[arg0]) {
+							for (BitSet nextDefSetOfArg1 : argsToDefenceSets[arg1]) {
+								BitSet union = (BitSet) nextDefSetOfArg0.clone();
+								union.or(nextDefSetOfArg1);
+								if (g.isConflictFree(union)) {
+									tempBitSet.set(arg1);
+									break seekCommonAdmiSet;
+								}
+							}
+						}
+					}
+				}
+			}			
+			prefExtCandidates.add(tempBitSet);
+		}
+		
+		/* identify preferred extensions in preferredExtCandidates. And for ever other set in 
+		 preferredExtCandidates, find the preferred extension(s) subsumed by it. */
+		for (BitSet nextExtCan : prefExtCandidates) {
+			/* find every conflicting pair of arguments in nextExtCan, once each - a pair attacking each other is 
+			 found from the attackers of its greater argument - and every self-attacking argument, as a singleton. */
+			pairsInConflict.clear();
+			
+			for (int i = nextExtCan.nextSetBit(0); i >= 0; i = nextExtCan.nextSetBit(i + 1)) {
+				for (int k = g.attackerOffsets[i]; k < g.attackerOffsets[i + 1]; k++) {
+					if (i == g.attackers[k]) {
+						pairsInConflict.add(new int[]{i});
+					} else if (nextExtCan.get(g.attackers[k]) 
+							   && ((g.attackers[k] < i) || !g.attacks(i, g.attackers[k]))) {
+						pairsInConflict.add(new int[]{i, g.attackers[k]});
+					}
+				}
+			}
+			
+			/* if there are no pairs-in-conflict, nextExtCan is a preferred extension; for convenience, record it in 
+			 revisedPrefExtCandidates. Doing this facilitates the identification of the preferred extension(s) 
+			 subsumed by other members of prefExtCandidates. */
+			if (pairsInConflict.isEmpty()) { 
+				revisedPrefExtCandidates.add(nextExtCan); 
+			} else {			
+				/* otherwise, for every preferred extension prefExt1 subsumed by nextExtCan, prefExt1 is such that, 
+				 for some *minimal* hitting set argSet1 of pairsInConflict, (nextExtCan\argSet1) is a (strict or 
+				 non-strict) superset of prefExt1. The minimal hitting sets are generated one at a time, without 
+				 generating the non-minimal members of the cartesian product of pairsInConflict. */
+				minimalRemovalSets = new MinimalHittingSets(pairsInConflict.toArray(new int[pairsInConflict.size()][]));
+				
+				/* For each member argSet1 of minimalRemovalSets, (nextExtCan\argSet1) is a maximal conflict-free subset 
+				 of nextExtCan. Hence argSet1 either is a preferred extension, or it does not adequately defend itself. 
+				 So for each argSet1, (i) define revisedPrefExtCan = (nextExtCan\argSet1); then (ii) remove from 
+				 revisedPrefExtCan every argument arg1, such that arg1 is not acceptable wrt revisedPrefExtCan. If 
+				 revisedPrefExtCan is now admissible, it is a preferred extension. Otherwise, keep repeating (ii), until 
+				 revisedPrefExtCan is found to be either (a) a strict subset of a preferred extension which has already 
+				 been found; or (b) admissible. If (a), discard revisedPrefExtCan; if (b), revisedPrefExtCan is 
+				 *perhaps* a preferred extension.  */
+				while (minimalRemovalSets.hasNext()) {
+					nextMinimalRemovalSet = minimalRemovalSets.next();
+					revisedPrefExtCan = (BitSet) nextExtCan.clone();
+					revisedPrefExtCan.andNot(nextMinimalRemovalSet);
+					
+					disqualifiedByPrefExts = false;
+					
+					while (!disqualifiedByPrefExts && !g.isAdmissible(revisedPrefExtCan)) {
+						for (int i = revisedPrefExtCan.nextSetBit(0); i >= 0; i = revisedPrefExtCan.nextSetBit(i + 1)) {
+							if (!subsumesDefenceSetAround(revisedPrefExtCan, i)) { 
+								revisedPrefExtCan.clear(i);
+							}	
+						}
+						
+						/* revisedPrefExtCan might now be too small. */						
+						for (BitSet nextRevCan : revisedPrefExtCandidates) { 
+							if (AttackGraph.isSubsetOf(revisedPrefExtCan, nextRevCan)) { 
+								disqualifiedByPrefExts = true;
+								break;
+							} 
+						}
+					}
+					
+					if (!disqualifiedByPrefExts) {
+						revisedPrefExtCandidates.add(revisedPrefExtCan);
+					}
+				}
+			}
+			
+			/* the above process might place non-preferred admissible sets into revisedPrefExtCandidates - if 
+			 (i) nextExtCan was reduced to such a set nonPrefAdmiSet, and (ii) none of the preferred extensions 
+			 subsuming nonPrefAdmiSet had yet been found, then nonPrefAdmiSet would be added to 
+			 revisedPrefExtCandidates. */
+			SetComparison.removeNonMaximalBitSetsOf(revisedPrefExtCandidates);
+		}
+		
+		/* if revisedPrefExtCandidates is empty, there is just one preferred extension: the empty set. */
+		return revisedPrefExtCandidates.isEmpty() ? singleton(new BitSet()) : revisedPrefExtCandidates;
+	}
+
+	/**
+	 * Returns {@code true} if {@code argSet} subsumes any of the recorded defence-sets around the argument with id 
+	 * {@code arg}.
+	 *
+	 * @param argSet a {@code BitSet} of ids in {@link #graph graph}.
+	 * @param arg an {@code int}, being the id of an argument whose defence-sets are recorded.
+	 * @return {@code true} if {@code argSet} subsumes a defence-set around {@code arg}.
+	 */	
+	private boolean subsumesDefenceSetAround(BitSet argSet, int arg) {
+		
+		for (BitSet nextDefenceSet : argsToDefenceSets[arg]) { 
+			if (AttackGraph.isSubsetOf(nextDefenceSet, argSet)) { 
+				return true;
+			} 
+		}
+		
+		return false;
+	}
+
+	/**
+	 * Returns the acceptance of this AF's arguments under the preferred semantics, finding and recording it if 
+	 * necessary, if the AF is bipartite - see {@link AttackGraph#oneSideOfBipartition() 
+	 * AttackGraph.oneSideOfBipartition()}.
+	 *
+	 * @return a {@code BipartiteAcceptance}, or {@code null} if the AF is not bipartite.
+	 */	
+	private BipartiteAcceptance getBipartiteAcceptance() {
+		
+		BitSet oneSide;
+		
+		if (null == bipartiteAcceptance) {
+			oneSide = graph.oneSideOfBipartition();
+			if (null != oneSide) {
+				bipartiteAcceptance = new BipartiteAcceptance(graph, oneSide, getGroundedLabelling());
+			}
+		}
+		
+		return bipartiteAcceptance;
+	}
+	
+	/**
+	 * Returns the union of the extensions prescribed by {@code semantics}, a multiple-extension semantics, as a set of 
+	 * ids in {@link #graph graph}. The union of the admissible sets and of the complete extensions is that of the 
+	 * preferred extensions; if the AF is bipartite, that is also the union of the stable and semi-stable extensions, 
+	 * and is found without finding the extensions, unless they are already recorded.
+	 *
+	 * @param semantics a {@code Semantics} for which {@link Semantics#isMultipleExt() isMultipleExt()} is 
+	 * {@code true}.
+	 * @return a {@code BitSet}.
+	 */	
+	BitSet getExtsUnion(Semantics semantics) {
+		
+		BitSet extsUnion = new BitSet(graph.size());
+		
+		/* all admissible sets and complete extensions are subsumed by preferred extensions; and the latter are
+		 more easily calculated. */
+		if ((Semantics.ADMISSIBLE == semantics) || (Semantics.COMPLETE == semantics)) {
+			semantics = Semantics.PREFERRED;
+		}
+		
+		if (!recordsExtsOfType(semantics) && (null != getBipartiteAcceptance())) {
+			extsUnion.or(getBipartiteAcceptance().getCredulouslyAccepted());
+			return extsUnion;
+		}
+		
+		for (BitSet nextExt : getExts(semantics)) {
+			extsUnion.or(nextExt);
+		}
+		
+		return extsUnion;
+	}
+	
+	/**
+	 * Returns this AF's preferred sceptical extension, as a set of ids in {@link #graph graph}, finding and recording 
+	 * it if necessary.
+	 *
+	 * @return a {@code BitSet}, denoting this AF's preferred sceptical extension.
+	 */	
+	BitSet getPreferredScepticalExt() {
+		
+		return getExt(Semantics.PREFERRED_SCEPTICAL);
+	}
+	
+	/**
+	 * Finds this AF's preferred sceptical extension, as a set of ids in {@link #graph graph}: from the preferred 
+	 * extensions, if they are already recorded; otherwise by {@link BipartiteAcceptance BipartiteAcceptance}, if the 
+	 * AF is bipartite, and by {@link PreferredScepticalAcceptance PreferredScepticalAcceptance} if not, which stops as 
+	 * soon as the extension is known, without enumerating the preferred extensions.
+	 *
+	 * @return a {@code BitSet}, denoting this AF's preferred sceptical extension.
+	 */	
+	private BitSet findPreferredScepticalExt() {
+		
+		BitSet ext;
+		
+		if (!recordsExtsOfType(Semantics.PREFERRED)) {
+			if (null != getBipartiteAcceptance()) {
+				return (BitSet) getBipartiteAcceptance().getScepticallyAccepted().clone();
+			}
+			return (BitSet) getPreferredScepticalAcceptance().getScepticalExt().clone();
+		}
+		
+		ext = (BitSet) getPreferredExts().iterator().next().clone();
+		for (BitSet nextExt : getPreferredExts()) { 
+			ext.and(nextExt);
+		} 
+			
+		return ext;	
+	}
+	
+	/**
+	 * Returns {@code true} if the argument with id {@code arg} is in every preferred extension of this AF, deciding 
+	 * it from whatever is recorded if possible, and otherwise by an incremental SAT solver, which is kept for later 
+	 * queries, and shared by the copies of this engine; the preferred sceptical extension is not then recorded.
+	 *
+	 * @param arg an id in {@link #graph graph}.
+	 * @return {@code true} if the argument with id {@code arg} is sceptically accepted under the preferred semantics.
+	 */	
+	boolean isPreferredScepticallyAccepted(int arg) {
+		
+		if (recordsExtsOfType(Semantics.PREFERRED_SCEPTICAL) || recordsExtsOfType(Semantics.PREFERRED) 
+			|| graph.isAcyclic()) {
+			return getPreferredScepticalExt().get(arg);
+		} else if (null != getBipartiteAcceptance()) {
+			return getBipartiteAcceptance().getScepticallyAccepted().get(arg);
+		}
+		
+		return getPreferredScepticalAcceptance().isAccepted(arg);
+	}
+	
+	/**
+	 * Returns the sceptical acceptance of the AF's arguments under the preferred semantics by an incremental SAT 
+	 * solver, constructing it if necessary.
+	 */	
+	private PreferredScepticalAcceptance getPreferredScepticalAcceptance() {
+		
+		if (null == preferredScepticalAcceptance) {
+			preferredScepticalAcceptance = new PreferredScepticalAcceptance(this);
+		}
+		
+		return preferredScepticalAcceptance;
+	}
+
+	/**
+	 * Returns this AF's complete extensions, as sets of ids in {@link #graph graph}, finding and recording them if 
+	 * necessary.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's complete extensions.
+	 */	
+	HashSet<BitSet> getCompleteExts() {
+		
+		return getExts(Semantics.COMPLETE);
+	}
+	
+	/**
+	 * Finds this AF's complete extensions, as sets of ids in {@link #graph graph}.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's complete extensions.
+	 */	
+	private HashSet<BitSet> findCompleteExts() {
+		
+		/* all preferred extensions are also complete extensions. */
+		HashSet<BitSet> exts = new HashSet<BitSet>(getPreferredExts());
+		CharacteristicFunction evaluator = new CharacteristicFunction(graph);
+			
+		for (BitSet nextAdmiSet : getAdmissibleSets()) {				
+			if (!exts.contains(nextAdmiSet) && isComplete(nextAdmiSet, evaluator)) {
+				exts.add(nextAdmiSet);
+			}			
+		}
+		
+		return exts;		
+	}
+
+	/**
+	 * Returns {@code true} if the conflict-free set {@code argSet} attacks every argument outside of it.
+	 *
+	 * @param argSet a conflict-free {@code BitSet} of ids in {@link #graph graph}.
+	 * @return {@code true} if the range of {@code argSet} comprises all of this AF's arguments.
+	 */	
+	private boolean isStable(BitSet argSet) {
+		
+		return graph.rangeOf(argSet).cardinality() == graph.size();
+	}
+
+	/**
+	 * Returns this AF's stable extensions, as sets of ids in {@link #graph graph}, finding and recording them if 
+	 * necessary.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's stable extensions.
+	 */	
+	HashSet<BitSet> getStableExts() {
+		
+		return getExts(Semantics.STABLE);
+	}
+	
+	/**
+	 * Finds this AF's stable extensions, as sets of ids in {@link #graph graph}: from the preferred extensions, if 
+	 * they are recorded, and otherwise by a {@link StableExtsIterator StableExtsIterator}, without them.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's stable extensions.
+	 */	
+	private HashSet<BitSet> findStableExts() {
+		
+		HashSet<BitSet> exts = new HashSet<BitSet>();
+		Iterator<BitSet> stableExts = getStableExtsIterator();
+		
+		while (stableExts.hasNext()) {
+			exts.add(stableExts.next());
+		}
+		
+		return exts;
+	}
+	
+	/**
+	 * Returns an iterator over this AF's stable extensions, as sets of ids in {@link #graph graph}, which finds them 
+	 * one at a time if they are not already recorded; they are not then recorded. If the preferred extensions are 
+	 * recorded, the stable extensions are taken from them.
+	 *
+	 * @return an {@code Iterator} of {@code BitSet}s, which must not be changed.
+	 */	
+	Iterator<BitSet> getStableExtsIterator() {
+		
+		ArrayList<BitSet> exts;
+		
+		if (recordsExtsOfType(Semantics.STABLE)) {
+			return Collections.unmodifiableSet(getExts(Semantics.STABLE)).iterator();
+		}
+		if (recordsExtsOfType(Semantics.PREFERRED)) {
+			exts = new ArrayList<BitSet>();
+			for (BitSet nextExt : getPreferredExts()) { 				
+				if (isStable(nextExt)) {
+					exts.add(nextExt);
+				}
+			}
+			return Collections.unmodifiableList(exts).iterator();
+		}
+		
+		return new StableExtsIterator(graph, getGroundedLabelling());
+	}
+	
+	/**
+	 * Returns {@code true} if this AF has a stable extension, stopping the search for stable extensions, if they are 
+	 * not already recorded, at the first one found.
+	 *
+	 * @return {@code true} if this AF has at least one stable extension.
+	 */	
+	boolean hasStableExt() {
+		
+		/* a bipartite AF is coherent. */
+		if (null != getBipartiteAcceptance()) {
+			return true;
+		}
+		
+		return getStableExtsIterator().hasNext();
+	}
+
+	/**
+	 * Returns this AF's semi-stable extensions, as sets of ids in {@link #graph graph}, finding and recording them if 
+	 * necessary.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's semi-stable extensions.
+	 */	
+	HashSet<BitSet> getSemiStableExts() {
+		
+		return getExts(Semantics.SEMI_STABLE);
+	}
+	
+	/**
+	 * Finds this AF's semi-stable extensions, as sets of ids in {@link #graph graph}.
+	 *
+	 * @return a set of {@code BitSet}s, denoting this AF's semi-stable extensions.
+	 */	
+	private HashSet<BitSet> findSemiStableExts() {
+			
+		BitSet candidateSetRange;
+		BitSet altCandidateSetRange;
+		ArrayList<BitSet> candidateSets;
+		HashSet<BitSet> exts;
+		
+		/* there might be stable extensions, in which case they are the semi-stable extensions... */
+		exts = new HashSet<BitSet>(getStableExts());
+		if (!exts.isEmpty()) {
+			return exts;
+		}
+		
+		/* ...otherwise, seek the semi-stable extensions among the preferred extensions. */
+		candidateSets = new ArrayList<BitSet>(getPreferredExts());
+		
+		/* proceed through candidateSets, comparing their ranges */
+		for (int i = 0; i < candidateSets.size(); i++) {
+			candidateSetRange = graph.rangeOf(candidateSets.get(i));
+			
+			/* compare candidateSetRange with the ranges of the alternative candidate-sets, breaking if an alternative 
+			 candidate-set with greater range is found. */
+			for (int j = (i+1); j < candidateSets.size(); j++) {
+				altCandidateSetRange = graph.rangeOf(candidateSets.get(j));
+				
+				if ((candidateSetRange.cardinality() > altCandidateSetRange.cardinality())
+					&& AttackGraph.isSubsetOf(altCandidateSetRange, candidateSetRange)) {
+					/* altCandidateSet cannot be semi-stable. */
+					candidateSets.remove(j);
+					j--;
+				} else if ((altCandidateSetRange.cardinality() > candidateSetRange.cardinality())
+						   && AttackGraph.isSubsetOf(candidateSetRange, altCandidateSetRange)) {
+					/* candidateSet cannot be semi-stable, so remove it from candidateSets, and break. */
+					candidateSets.remove(i);
+					i--;
+					break;
+				}
+			}
+		}
+		
+		exts.addAll(candidateSets);
+		
+		return exts;
+	}
+
+	/**
+	 * Finds this AF's ideal extension, as a set of ids in {@link #graph graph}. 
+	 *
+	 * <p> If the preferred extensions are already recorded, the ideal extension is found from their intersection, by 
+	 * {@link #findIdealExtOrEagerExt(Semantics) findIdealExtOrEagerExt(Semantics)}. Otherwise it is found without them,
+	 * following Dunne's characterization in his 2009 paper -
+	 *
+	 * <br/>
+	 * <ul><i>The computational complexity of ideal semantics</i></ul> 
+	 * <ul><u>Artificial Intelligence (173:18): pp.1559-91</u>.</ul>
+	 * <br/>
+	 *
+	 * The ideal extension is the greatest admissible subset of the set of arguments which are credulously accepted 
+	 * - i.e. in some admissible set - but are attacked by no credulously accepted argument. For every member of the 
+	 * ideal extension is in every preferred extension, and so is in conflict with no credulously accepted argument; 
+	 * and conversely, an admissible set attacked by no credulously accepted argument may be added to any preferred 
+	 * extension, and so is subsumed by all of them. The credulous acceptance of each argument is decided by 
+	 * {@link CredulousAdmissibility CredulousAdmissibility}, and the greatest admissible subset is found by shrinking
+	 * the set to a fixed point, as for the eager extension. </p>
+	 *
+	 * @return a {@code BitSet}, denoting the ideal extension.
+	 */		
+	private BitSet findIdealExt() {
+		
+		CredulousAdmissibility credulous;
+		BitSet candidates;
+		
+		if (recordsExtsOfType(Semantics.PREFERRED)) {
+			return findIdealExtOrEagerExt(Semantics.IDEAL);
+		}
+		
+		credulous = new CredulousAdmissibility(graph, getGroundedLabelling());
+		candidates = new BitSet(graph.size());
+		for (int i = 0; i < graph.size(); i++) {
+			if (credulous.isAccepted(i) && !credulous.isAttackedByAccepted(i)) {
+				candidates.set(i);
+			}
+		}
+		
+		return removeUndefendedArgs(candidates, new CharacteristicFunction(graph));
+	}
+
+	/**
+	 * Finds this AF's eager extension, as a set of ids in {@link #graph graph}. 
+	 *
+	 * <p> If the semi-stable extensions are already recorded, the eager extension is found from their intersection, by
+	 * {@link #findIdealExtOrEagerExt(Semantics) findIdealExtOrEagerExt(Semantics)}. Otherwise the intersection is found
+	 * by a {@link SemiStableScepticalCore SemiStableScepticalCore}, without the semi-stable or the preferred extensions; 
+	 * the eager extension is then the greatest admissible subset of the intersection, which is found by shrinking it 
+	 * to a fixed point. </p>
+	 *
+	 * @return a {@code BitSet}, denoting the eager extension.
+	 */		
+	private BitSet findEagerExt() {
+		
+		BitSet scepticalCore;
+		
+		if (recordsExtsOfType(Semantics.SEMI_STABLE)) {
+			return findIdealExtOrEagerExt(Semantics.EAGER);
+		}
+		
+		scepticalCore = SemiStableScepticalCore.find(this);
+		
+		return removeUndefendedArgs(scepticalCore, new CharacteristicFunction(graph));
+	}
+
+	/**
+	 * Finds this AF's ideal extension or eager extension, as a set of ids in {@link #graph graph}, from the 
+	 * intersection of its preferred extensions or of its semi-stable extensions. 
+	 *
+	 * @param semantics either {@code IDEAL} or {@code EAGER}, depending on whether the ideal extension or the eager 
+	 * extension is required.
+	 * @return a {@code BitSet}, denoting the required extension.
+	 * @throws IllegalArgumentException if {@code semantics} is neither {@code IDEAL} nor {@code EAGER}.
+	 */		
+	private BitSet findIdealExtOrEagerExt(Semantics semantics) {
+		
+		BitSet requiredExt;
+		HashSet<BitSet> relevantExts;
+		
+		/* find the intersection of the relevant extensions. */
+		if (Semantics.IDEAL == semantics) {
+			relevantExts = getPreferredExts();
+		} else if (Semantics.EAGER == semantics) {
+			relevantExts = getSemiStableExts();
+		} else {
+			throw new IllegalArgumentException("parameter 'semantics' is neither \"ideal\" nor \"eager\".");	
+		}
+		requiredExt = (BitSet) relevantExts.iterator().next().clone();		
+		for (BitSet nextSet : relevantExts) {
+			requiredExt.and(nextSet); 
+		}
+		
+		/* remove all members of requiredExt which are not acceptable wrt requiredExt; and do so repeatedly, 
+		 until requiredExt is admissible. */
+		return removeUndefendedArgs(requiredExt, new CharacteristicFunction(graph));
+	}	
+	
+	/**
+	 * Returns the AF's ideal extension, as a set of ids in {@link #graph graph}, finding and recording it if 
+	 * necessary.
+	 *
+	 * @return a {@code BitSet}, denoting the AF's ideal extension.
+	 */	
+	BitSet getIdealExt() {
+		
+		return getExt(Semantics.IDEAL);
+	}
+		
+	/**
+	 * Returns the AF's eager extension, as a set of ids in {@link #graph graph}, finding and recording it if 
+	 * necessary.
+	 *
+	 * @return a {@code BitSet}, denoting the AF's eager extension.
+	 */	
+	BitSet getEagerExt() {
+		
+		return getExt(Semantics.EAGER);
+	}	
+	
+	//----- MEMBERSHIP CHECKS ------------------------------------------------------------------------------------------
+	
+	/**
+	 * Returns {@code true} if {@code argSet} is a preferred extension of the AF, without finding the preferred 
+	 * extensions if they are not already recorded - unless the AF is acyclic, in which case the only preferred 
+	 * extension is the grounded extension. If every attack is mutual, {@code argSet} is checked for being a maximal 
+	 * conflict-free set.
+	 *
+	 * @param argSet a {@code BitSet} of ids in {@link #graph graph}.
+	 * @return {@code true} if {@code argSet} is a preferred extension.
+	 */	
+	boolean isPreferredExt(BitSet argSet) {
+		
+		BitSet candidate;
+		
+		if (recordsExtsOfType(Semantics.PREFERRED) || graph.isAcyclic()) { 
+			return getExts(Semantics.PREFERRED).contains(argSet); 
+		} else if (!graph.isAdmissible(argSet)) { 
+			return false; 
+		} else if (null != getBipartiteAcceptance()) {
+			/* a bipartite AF is coherent. */
+			return isStable(argSet);
+		} else if (graph.isSymmetric()) {
+			/* every conflict-free set is admissible, so argSet is preferred if nothing can be added to it. */
+			for (int i = argSet.nextClearBit(0); i < graph.size(); i = argSet.nextClearBit(i + 1)) {
+				if (!graph.attacksItself(i) && !graph.isInConflictWith(i, argSet)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		
+		/* every preferred extension comprises a union of defence-sets. So check that for every defence-set 
+		 defSet0, argSet either subsumes or is in conflict with defSet0. */
+		for (int i = 0; i < graph.size(); i++) {
+			for (BitSet nextSet : getDefenceSetsAround(i)) {
+				if (!AttackGraph.isSubsetOf(nextSet, argSet)) {
+					candidate = (BitSet) argSet.clone();
+					candidate.or(nextSet);
+					if (graph.isConflictFree(candidate)) { 
+						return false; 
+					}
+				} 
+			}
+		}			
+		
+		return true;
+	}
+	
+	/**
+	 * Returns {@code true} if {@code argSet} is a complete extension of the AF, without finding the complete 
+	 * extensions if they are not already recorded.
+	 *
+	 * @param argSet a {@code BitSet} of ids in {@link #graph graph}.
+	 * @param evaluator a {@code CharacteristicFunction} of {@link #graph graph}, which may be moved to {@code argSet}; 
+	 * sharing one evaluator between the checks of similar sets makes each check cheaper.
+	 * @return {@code true} if {@code argSet} is a complete extension.
+	 */	
+	boolean isCompleteExt(BitSet argSet, CharacteristicFunction evaluator) {
+		
+		if (recordsExtsOfType(Semantics.COMPLETE)) { 
+			return getExts(Semantics.COMPLETE).contains(argSet); 
+		}
+		
+		return isComplete(argSet, evaluator);
+	}
+	
+	/**
+	 * Returns {@code true} if {@code argSet} is a fixed point of the characteristic function of the AF, and is 
+	 * conflict-free - i.e. if {@code argSet} is a complete extension.
+	 *
+	 * @param argSet a {@code BitSet} of ids in {@link #graph graph}.
+	 * @param evaluator a {@code CharacteristicFunction} of {@link #graph graph}, which is moved to {@code argSet}.
+	 * @return {@code true} if {@code argSet} is a complete extension.
+	 */	
+	private static boolean isComplete(BitSet argSet, CharacteristicFunction evaluator) {
+		
+		evaluator.load(argSet);
+		
+		return evaluator.isComplete();
+	}
+	
+	/**
+	 * Returns {@code true} if {@code argSet} is a stable extension of the AF, without finding the stable extensions if
+	 * they are not already recorded.
+	 *
+	 * @param argSet a {@code BitSet} of ids in {@link #graph graph}.
+	 * @return {@code true} if {@code argSet} is a stable extension.
+	 */	
+	boolean isStableExt(BitSet argSet) {
+		
+		if (recordsExtsOfType(Semantics.STABLE)) { 
+			return getExts(Semantics.STABLE).contains(argSet); 
+		}
+		
+		/* a conflict-free set is stable, if it attacks every argument outside of it. */
+		return graph.isAdmissible(argSet) && isStable(argSet);
+	}
+	
+	/**
+	 * Returns {@code true} if {@code argSet} is a semi-stable extension of the AF, without finding the semi-stable 
+	 * extensions if they are not already recorded. It does, however, find the preferred extensions and the stable 
+	 * extensions, if they are not already recorded.
+	 *
+	 * @param argSet a {@code BitSet} of ids in {@link #graph graph}.
+	 * @return {@code true} if {@code argSet} is a semi-stable extension.
+	 */	
+	boolean isSemiStableExt(BitSet argSet) {
+		
+		/* Terminology - the 'range' of a preferred extension is the union of itself and all arguments attacked by its 
+		 members - see Verheij's 1996 paper 'Two approaches to dialectical argumentation: admissible sets and 
+		 argumentation stages' (Proceedings of NAIC'96: pp.357-68) and Caminada's 2006 paper 'Semi-stable semantics' 
+		 (Proceedings of COMMA'06: pp.121-30). */
+		BitSet argSetRange;
+		BitSet nextExtRange; 
+		
+		if (recordsExtsOfType(Semantics.SEMI_STABLE)) { 
+			return getExts(Semantics.SEMI_STABLE).contains(argSet); 
+		} else if (!getStableExts().isEmpty()) { 
+			return getStableExts().contains(argSet); 
+		} else if (!isPreferredExt(argSet)) { 
+			return false; 
+		}
+		
+		/* compare range of argSet with the range of every other preferred extension. */
+		argSetRange = graph.rangeOf(argSet);
+		
+		for (BitSet nextExt : getPreferredExts()) {
+			nextExtRange = graph.rangeOf(nextExt);
+			
+			if ((nextExtRange.cardinality() > argSetRange.cardinality()) 
+				&& AttackGraph.isSubsetOf(argSetRange, nextExtRange)) { 
+				return false; 
+			}			
+		}
+		
+		return true;	
+	}
+}
@@ -0,0 +1,44 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * An implementation of a {@link Semantics Semantics}, which finds the extensions prescribed by it for the AF of a
+ * {@link SemanticsEngine SemanticsEngine}. Solvers are registered with {@link SolverRegistry SolverRegistry}.
+ *
+ * <p> A solver records nothing itself: the engine records what it returns. A solver may, however, ask the engine
+ * for the extensions of other semantics, which the engine then finds and records in the usual way. A solver must
+ * not change the {@code BitSet}s it obtains from the engine. </p>
+ */
+interface SemanticsSolver {
+
+	/**
+	 * Returns the name under which this solver is registered.
+	 *
+	 * @return a {@code String}.
+	 */
+	String getName();
+
+	/**
+	 * Finds the extensions prescribed by this solver's semantics for the AF of {@code engine}.
+	 *
+	 * @param engine a {@code SemanticsEngine}.
+	 * @return a set of {@code BitSet}s of ids in the {@code AttackGraph} of {@code engine}; a singleton, if the
+	 * semantics prescribes a unique extension.
+	 */
+	HashSet<BitSet> findExts(SemanticsEngine engine);
+}
@@ -0,0 +1,129 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * The intersection of the semi-stable extensions of an AF - from which the eager extension is found - decided by an
+ * incremental {@link SatSolver SatSolver}, without enumerating the semi-stable or the preferred extensions.
+ *
+ * <p> As in {@link PreferredScepticalAcceptance PreferredScepticalAcceptance}, a set of <i>candidates</i> - initially
+ * the arguments not labelled {@code OUT} by the grounded labelling - is refined by counterexample. The solver is asked
+ * for a complete labelling in which some candidate is not {@code IN}; if there is none, the candidates are in every
+ * semi-stable extension. Otherwise the labelling's range is grown to a maximal range, by
+ * {@link SatEncoding#maximize(BitSet, boolean) SatEncoding.maximize(BitSet, boolean)}, which is the range of some
+ * semi-stable extensions; the solver is then asked, while some candidate is not {@code IN}, for a labelling of exactly
+ * that range in which some candidate is not {@code IN}, and the candidates outside each extension found are dropped.
+ * Finally a clause is added excluding every range included in the maximal range, before the next counterexample is
+ * sought. </p>
+ *
+ * <p> Each counterexample thus leads to a new maximal range, and each labelling of that range found drops at least one
+ * candidate; the refinement ends as soon as the candidates are known to be in every semi-stable extension, however
+ * many remain unfound. The arguments labelled {@code IN} by the grounded labelling are in every complete extension, so
+ * are never in doubt. </p>
+ */
+final class SemiStableScepticalCore {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	private final byte[] groundedLabelling;
+
+	private final SatEncoding encoding;
+
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+
+	private SemiStableScepticalCore(SemanticsEngine engine) {
+
+		groundedLabelling = engine.getGroundedLabelling();
+		encoding = SatEncoding.of(engine, Semantics.COMPLETE);
+	}
+
+	//----- THE REFINEMENT ---------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the intersection of the semi-stable extensions of the AF of {@code engine}.
+	 *
+	 * @param engine a {@code SemanticsEngine}.
+	 * @return a {@code BitSet} of ids in the graph.
+	 */
+	static BitSet find(SemanticsEngine engine) {
+
+		SemiStableScepticalCore core = new SemiStableScepticalCore(engine);
+		BitSet candidates = new BitSet(engine.graph.size());
+		BitSet range;
+
+		for (int i = 0; i < engine.graph.size(); i++) {
+			if (Labelling.OUT != core.groundedLabelling[i]) {
+				candidates.set(i);
+			}
+		}
+
+		while (core.solveLacking(candidates, null)) {
+			range = core.encoding.maximize(core.encoding.rangeArgs(), true);
+			while (core.solveLacking(candidates, range)) {
+				candidates.and(core.encoding.inArgs());
+			}
+			core.encoding.solver.addClause(core.encoding.outsideClause(range, true));
+		}
+
+		return candidates;
+	}
+
+	/**
+	 * Returns {@code true} if the solver finds a model in which some member of {@code candidates} not labelled
+	 * {@code IN} by the grounded labelling is not {@code IN} - and, unless {@code range} is {@code null}, whose range
+	 * is exactly {@code range}. The clause requiring the missing candidate is retracted before returning.
+	 */
+	private boolean solveLacking(BitSet candidates, BitSet range) {
+
+		int activation;
+		int[] clause;
+		int[] assumptions;
+		int[] outsideLits;
+		int size;
+		boolean found;
+
+		activation = encoding.newActivation();
+		clause = new int[candidates.cardinality() + 1];
+		clause[0] = activation ^ 1;
+		size = 1;
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+			if (Labelling.IN != groundedLabelling[i]) {
+				clause[size++] = encoding.in(i, false);
+			}
+		}
+		if (1 == size) {
+			encoding.retract(activation);
+			return false;
+		}
+		encoding.solver.addClause(Arrays.copyOf(clause, size));
+
+		if (null == range) {
+			assumptions = new int[]{activation};
+		} else {
+			assumptions = encoding.insideLits(range, true, activation);
+			outsideLits = encoding.outsideClause(range, true);
+			assumptions = Arrays.copyOf(assumptions, assumptions.length + outsideLits.length);
+			for (int i = 0; i < outsideLits.length; i++) {
+				assumptions[assumptions.length - outsideLits.length + i] = outsideLits[i] ^ 1;
+			}
+		}
+		found = encoding.solver.solve(assumptions);
+		encoding.retract(activation);
+
+		return found;
+	}
+}
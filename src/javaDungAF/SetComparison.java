@@ -26,6 +26,9 @@ import java.util.*;
  * { {[{@code obj0}, {@code obj1}]}, {[{@code obj0}, {@code obj1}], [{@code obj1}, {@code obj0}]} }, if the two
  * references to '[{@code obj0}, {@code obj1}]' were not to one and the same object. </p>
  *
+ * <p> Package-private counterparts of the two methods are provided for collections of {@link BitSet BitSet}s, which
+ * {@link DungAF DungAF} uses to represent argument-sets internally. </p>
+ *
  */
 public class SetComparison {
 	
@@ -113,4 +116,73 @@ public class SetComparison {
 		
 		return (collColl.size() < origSize);
 	}
+	
+	/**
+	 * Removes {@code bitSets}' non-minimal members.
+	 *
+	 * @param bitSets a {@code Collection} of {@code BitSet}s.
+	 * @return {@code true} if {@code bitSets} changed as a result of the call.
+	 */
+	static boolean removeNonMinimalBitSetsOf(Collection<BitSet> bitSets) {
+		
+		return removeNonMinimalOrNonMaximalBitSetsHelper(bitSets, true);
+	}
+	
+	/**
+	 * Removes {@code bitSets}' non-maximal members.
+	 *
+	 * @param bitSets a {@code Collection} of {@code BitSet}s.
+	 * @return {@code true} if {@code bitSets} changed as a result of the call.
+	 */
+	static boolean removeNonMaximalBitSetsOf(Collection<BitSet> bitSets) {
+		
+		return removeNonMinimalOrNonMaximalBitSetsHelper(bitSets, false);
+	}
+	
+	/**
+	 * Removes {@code bitSets}' non-minimal/non-maximal members. Members are compared in order of cardinality, so 
+	 * each member need only be compared with members which might be strict subsets (or supersets) of it.
+	 *
+	 * @param bitSets a {@code Collection} of {@code BitSet}s.
+	 * @param removeNonMinimal whether it is the non-minimal or non-maximal members of {@code bitSets} 
+	 * that are to be removed.
+	 * @return {@code true} if {@code bitSets} changed as a result of the call.
+	 */
+	private static boolean removeNonMinimalOrNonMaximalBitSetsHelper(Collection<BitSet> bitSets, 
+																	  boolean removeNonMinimal) {
+		
+		ArrayList<BitSet> sorted = new ArrayList<BitSet>(new LinkedHashSet<BitSet>(bitSets));
+		ArrayList<BitSet> retained = new ArrayList<BitSet>();
+		int origSize = bitSets.size();
+		boolean removable;
+		
+		/* sort by ascending cardinality for minimality, descending for maximality; then a member is removable iff it 
+		 strictly subsumes (is strictly subsumed by) some already-retained member. */
+		Collections.sort(sorted, new Comparator<BitSet>() {
+			public int compare(BitSet set0, BitSet set1) {
+				return Integer.compare(set0.cardinality(), set1.cardinality());
+			}
+		});
+		if (!removeNonMinimal) {
+			Collections.reverse(sorted);
+		}
+		
+		for (BitSet nextSet : sorted) {
+			removable = false;
+			for (BitSet nextRetained : retained) {
+				if (removeNonMinimal ? AttackGraph.isSubsetOf(nextRetained, nextSet) 
+									 : AttackGraph.isSubsetOf(nextSet, nextRetained)) {
+					removable = true;
+					break;
+				}
+			}
+			if (removable) {
+				bitSets.removeAll(Collections.singleton(nextSet));
+			} else {
+				retained.add(nextSet);
+			}
+		}
+		
+		return (bitSets.size() < origSize);
+	}
 }
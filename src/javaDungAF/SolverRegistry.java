@@ -0,0 +1,126 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The registry of {@link SemanticsSolver SemanticsSolver}s, recording for each {@link Semantics Semantics} the
+ * solvers registered for it and the one currently selected.
+ *
+ * <p> The selected solvers are held in an array indexed by {@link Semantics#ordinal() ordinal()}, so that a
+ * {@link SemanticsEngine SemanticsEngine} finds the solver for a semantics without a map lookup, and calls it
+ * directly. The built-in solvers, registered as {@value #STANDARD}, are selected initially, except for the preferred
+ * semantics, whose solver registered as {@value PreferredLabellingSolver#NAME} is. The alternative solvers registered
+ * here are listed in the documentation of {@code Semantics}. </p>
+ *
+ * <p> This class is thread-safe. </p>
+ */
+final class SolverRegistry {
+
+	/**
+	 * The name of the built-in solver of each semantics.
+	 */
+	static final String STANDARD = "standard";
+
+	/**
+	 * The registered solvers, by semantics and by name.
+	 */
+	private static final EnumMap<Semantics, LinkedHashMap<String, SemanticsSolver>> SOLVERS =
+		new EnumMap<Semantics, LinkedHashMap<String, SemanticsSolver>>(Semantics.class);
+
+	/**
+	 * The selected solver of each semantics, indexed by ordinal.
+	 */
+	private static final AtomicReferenceArray<SemanticsSolver> SELECTED =
+		new AtomicReferenceArray<SemanticsSolver>(Semantics.values().length);
+
+	static {
+		for (Semantics nextSemantics : Semantics.values()) {
+			SOLVERS.put(nextSemantics, new LinkedHashMap<String, SemanticsSolver>());
+			register(nextSemantics, SemanticsEngine.standardSolverOf(nextSemantics));
+			select(nextSemantics, STANDARD);
+		}
+		register(Semantics.GROUNDED, new ParallelGroundedSolver());
+		register(Semantics.PREFERRED, new PreferredLabellingSolver());
+		for (Semantics nextSemantics : EnumSet.of(Semantics.ADMISSIBLE, Semantics.COMPLETE, Semantics.PREFERRED,
+												  Semantics.SEMI_STABLE, Semantics.STABLE)) {
+			register(nextSemantics, new SatSemanticsSolver(nextSemantics));
+		}
+		select(Semantics.PREFERRED, PreferredLabellingSolver.NAME);
+	}
+
+	private SolverRegistry() {
+	}
+
+	/**
+	 * Registers {@code solver} for {@code semantics} under its name, replacing any solver previously registered for
+	 * {@code semantics} under that name. If the replaced solver was selected, {@code solver} is selected instead.
+	 *
+	 * @param semantics a {@code Semantics}.
+	 * @param solver a {@code SemanticsSolver}.
+	 */
+	static synchronized void register(Semantics semantics, SemanticsSolver solver) {
+
+		SemanticsSolver replacedSolver = SOLVERS.get(semantics).put(solver.getName(), solver);
+
+		if ((null != replacedSolver) && (SELECTED.get(semantics.ordinal()) == replacedSolver)) {
+			SELECTED.set(semantics.ordinal(), solver);
+		}
+	}
+
+	/**
+	 * Selects the solver registered for {@code semantics} as {@code solverName}.
+	 *
+	 * @param semantics a {@code Semantics}.
+	 * @param solverName a {@code String}.
+	 * @throws IllegalArgumentException if no solver is registered for {@code semantics} as {@code solverName}.
+	 */
+	static synchronized void select(Semantics semantics, String solverName) {
+
+		SemanticsSolver solver = SOLVERS.get(semantics).get(solverName);
+
+		if (null == solver) {
+			throw new IllegalArgumentException("by 'Semantics.selectSolver(String solverName)' --- no solver is "
+											   + "registered as \"" + solverName + "\" for the " + semantics
+											   + " semantics.");
+		}
+
+		SELECTED.set(semantics.ordinal(), solver);
+	}
+
+	/**
+	 * Returns the solver currently selected for {@code semantics}.
+	 *
+	 * @param semantics a {@code Semantics}.
+	 * @return a {@code SemanticsSolver}.
+	 */
+	static SemanticsSolver getSelected(Semantics semantics) {
+
+		return SELECTED.get(semantics.ordinal());
+	}
+
+	/**
+	 * Returns the names of the solvers registered for {@code semantics}, in order of registration.
+	 *
+	 * @param semantics a {@code Semantics}.
+	 * @return a set of {@code String}s.
+	 */
+	static synchronized Set<String> getSolverNames(Semantics semantics) {
+
+		return new LinkedHashSet<String>(SOLVERS.get(semantics).keySet());
+	}
+}
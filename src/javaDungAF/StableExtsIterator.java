@@ -0,0 +1,125 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF;
+
+import java.util.*;
+
+/**
+ * A lazy enumeration of the stable extensions of the AF of an {@link AttackGraph AttackGraph}, by a
+ * {@link LabellingSearch LabellingSearch} of the labellings without {@code UNDEC} arguments, independent of the
+ * preferred extensions.
+ *
+ * <p> Each argument not labelled by the grounded labelling may be {@code IN} or {@code OUT}, and {@code IN} is tried
+ * first. The propagation of the search then enforces just the conditions of a stable labelling: an {@code IN}
+ * argument has only {@code OUT} attackers, so that the {@code IN} arguments are conflict-free; and an {@code OUT}
+ * argument has an {@code IN} attacker - so that, when only one of its attackers may still be {@code IN}, that
+ * attacker is labelled {@code IN}. A branch in which some argument can be neither is abandoned at once, so an AF with
+ * few stable extensions is searched without visiting its many preferred extensions. </p>
+ *
+ * <p> The search pauses after each extension found, so that the extensions are generated one at a time, as the
+ * iterator is advanced; asking only {@link #hasNext() hasNext()} decides whether there is a stable extension at all.
+ * Each extension is found exactly once, and is returned as a new {@link BitSet BitSet}. </p>
+ */
+final class StableExtsIterator extends LabellingSearch implements Iterator<BitSet> {
+
+	//----- FIELDS -----------------------------------------------------------------------------------------------------
+
+	/**
+	 * The next stable extension, or {@code null} if it has not been found yet.
+	 */
+	private BitSet next;
+
+	/**
+	 * {@code true} once the search has ended.
+	 */
+	private boolean exhausted;
+
+	//----- CONSTRUCTORS -----------------------------------------------------------------------------------------------
+
+	/**
+	 * Constructs an enumeration of the stable extensions of the AF of {@code graph}; the search does not start until
+	 * the iterator is first advanced.
+	 *
+	 * @param graph an {@code AttackGraph}.
+	 * @param groundedLabelling the grounded labelling of the AF, as an array of {@link Labelling Labelling} labels
+	 * indexed by id.
+	 */
+	StableExtsIterator(AttackGraph graph, byte[] groundedLabelling) {
+
+		super(graph, groundedLabelling, (byte) (CAN_BE_IN | CAN_BE_OUT), CAN_BE_IN, CAN_BE_OUT);
+	}
+
+	//----- THE ITERATOR -----------------------------------------------------------------------------------------------
+
+	/**
+	 * @see Iterator#hasNext()
+	 */
+	public boolean hasNext() {
+
+		if ((null == next) && !exhausted) {
+			if (step()) {
+				next = (BitSet) possiblyIn.clone();
+			} else {
+				exhausted = true;
+			}
+		}
+
+		return null != next;
+	}
+
+	/**
+	 * @see Iterator#next()
+	 */
+	public BitSet next() {
+
+		BitSet result;
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		result = next;
+		next = null;
+
+		return result;
+	}
+
+	/**
+	 * Throws an {@code UnsupportedOperationException}.
+	 */
+	public void remove() {
+
+		throw new UnsupportedOperationException();
+	}
+
+	//----- THE SEARCH -------------------------------------------------------------------------------------------------
+
+	/**
+	 * @see LabellingSearch#prunes()
+	 */
+	boolean prunes() {
+
+		return false;
+	}
+
+	/**
+	 * Stops the search at each stable labelling, for {@link #hasNext() hasNext()} to take its extension.
+	 *
+	 * @see LabellingSearch#visit()
+	 */
+	boolean visit() {
+
+		return false;
+	}
+}
@@ -0,0 +1,152 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF.tests;
+
+import java.util.*;
+import javaDungAF.ArgumentOrder;
+import javaDungAF.DungAF;
+
+/**
+ * A benchmark of the {@link javaDungAF.ArgumentOrder ArgumentOrder}s, on a large sparse AF.
+ *
+ * <p> The AF has a hidden locality - each argument attacks a few arguments whose positions in a hidden sequence are
+ * close to its own - but its arguments have random names, so that {@link javaDungAF.ArgumentOrder#HASH HASH} order
+ * scatters adjacent arguments at random. For each order, the AF is built by a {@link javaDungAF.DungAF.Builder
+ * DungAF.Builder}, and the grounded extension found, several times; and the median times are reported, together with
+ * the <i>mean attack span</i> - the mean distance between the positions of attacker and target in the order, which
+ * is the quantity the locality-improving orders reduce, and a proxy for the cache misses incurred by walking the
+ * attacks. The cache misses themselves can be counted by running this class under a hardware profiler, e.g.
+ * {@code perf stat -e cache-misses java ... BenchmarkArgumentOrder REVERSE_CUTHILL_MCKEE}. </p>
+ *
+ * <p> Usage: {@code java javaDungAF.tests.BenchmarkArgumentOrder [order...] [-n arguments] [-r repetitions]}. </p>
+ */
+public class BenchmarkArgumentOrder {
+
+	public static void main(String args[]) {
+
+		ArrayList<ArgumentOrder> orders = new ArrayList<ArgumentOrder>();
+		int argsCount = 400000;
+		int repetitions = 5;
+
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-n")) {
+				argsCount = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-r")) {
+				repetitions = Integer.parseInt(args[++i]);
+			} else {
+				orders.add(ArgumentOrder.valueOf(args[i]));
+			}
+		}
+		if (orders.isEmpty()) {
+			orders.addAll(Arrays.asList(ArgumentOrder.values()));
+		}
+
+		String[] names = new String[argsCount];
+		int[][] atts = generateAtts(argsCount, names, new Random(2011));
+
+		System.out.println("arguments: " + argsCount + ", attacks: " + atts.length);
+		System.out.println(String.format("%-24s %14s %14s %18s", "order", "build (ms)", "grounded (ms)",
+										 "mean attack span"));
+
+		for (ArgumentOrder nextOrder : orders) {
+			long[] buildNanos = new long[repetitions];
+			long[] groundedNanos = new long[repetitions];
+			double meanSpan = 0;
+			int groundedSize = 0;
+
+			for (int r = 0; r < repetitions; r++) {
+				DungAF.Builder builder = new DungAF.Builder().argumentOrder(nextOrder);
+				long start = System.nanoTime();
+				for (int[] nextAtt : atts) {
+					builder.addAtt(names[nextAtt[0]], names[nextAtt[1]]);
+				}
+				DungAF af = builder.build();
+				buildNanos[r] = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				groundedSize = af.getGroundedExt().size();
+				groundedNanos[r] = System.nanoTime() - start;
+
+				if (0 == r) {
+					meanSpan = meanAttackSpan(af, atts, names);
+				}
+			}
+
+			System.out.println(String.format("%-24s %14.1f %14.1f %18.1f", nextOrder, median(buildNanos) / 1e6,
+											 median(groundedNanos) / 1e6, meanSpan) + "   (|grounded| = "
+							   + groundedSize + ")");
+		}
+	}
+
+	/**
+	 * Returns the attacks of the benchmark AF, as pairs of indices into {@code names}, which is filled with the
+	 * (randomly named) arguments. Argument <i>i</i> of the hidden sequence attacks two or three arguments within 32
+	 * positions of it, either way; so the AF is sparse and has many cycles.
+	 */
+	private static int[][] generateAtts(int argsCount, String[] names, Random random) {
+
+		ArrayList<int[]> atts = new ArrayList<int[]>();
+		int target;
+
+		for (int i = 0; i < argsCount; i++) {
+			names[i] = Long.toString(random.nextLong() & Long.MAX_VALUE, 36);
+		}
+		for (int i = 0; i < argsCount; i++) {
+			for (int k = 2 + random.nextInt(2); k > 0; k--) {
+				target = i + random.nextInt(65) - 32;
+				if ((target >= 0) && (target < argsCount) && (target != i)) {
+					atts.add(new int[]{i, target});
+				}
+			}
+		}
+
+		/* the Builder numbers arguments in order of addition, so the attacks are shuffled to hide the locality. */
+		Collections.shuffle(atts, random);
+
+		return atts.toArray(new int[atts.size()][]);
+	}
+
+	/**
+	 * Returns the mean distance between the internal positions of attacker and target, over the attacks of
+	 * {@code af}.
+	 */
+	private static double meanAttackSpan(DungAF af, int[][] atts, String[] names) {
+
+		HashMap<String, Integer> positions = new HashMap<String, Integer>();
+		long totalSpan = 0;
+		int position = 0;
+
+		for (String nextArg : af.getArgsInInternalOrder()) {
+			positions.put(nextArg, position++);
+		}
+		for (int[] nextAtt : atts) {
+			totalSpan += Math.abs(positions.get(names[nextAtt[0]]) - positions.get(names[nextAtt[1]]));
+		}
+
+		return (double) totalSpan / atts.length;
+	}
+
+	/**
+	 * Returns the median of {@code values}.
+	 */
+	private static long median(long[] values) {
+
+		long[] sorted = values.clone();
+
+		Arrays.sort(sorted);
+
+		return sorted[sorted.length / 2];
+	}
+}
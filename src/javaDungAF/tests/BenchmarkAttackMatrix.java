@@ -0,0 +1,159 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF.tests;
+
+import java.util.*;
+import javaDungAF.DungAF;
+
+/**
+ * A benchmark of the bit-matrix representation which {@link javaDungAF.DungAF DungAF} uses for dense AFs, against the
+ * compressed-sparse-row representation used otherwise.
+ *
+ * <p> A random AF is generated, in which each possible attack is present with the given density, and it is built
+ * twice: once with the system property {@code javaDungAF.attackMatrix} set to {@code "never"}, and once with it unset,
+ * so that the representation is chosen by density. For each, the median times of building the bit-matrix (if any), of
+ * the grounded extension, and of batches of calls to {@code getArgsAcceptedBy}, {@code hasAsConflictFreeSet} and
+ * {@code argsAccept} are reported. The default AF, of 5000 arguments at 30% density, has 7.5 million attacks, so the
+ * JVM needs a heap of about 6GB. </p>
+ *
+ * <p> Usage: {@code java -Xmx6g javaDungAF.tests.BenchmarkAttackMatrix [-n arguments] [-d density] [-r repetitions]}.
+ * </p>
+ */
+public class BenchmarkAttackMatrix {
+
+	private static final String MATRIX_PROPERTY = "javaDungAF.attackMatrix";
+
+	public static void main(String args[]) {
+
+		int argsCount = 5000;
+		double density = 0.3;
+		int repetitions = 5;
+
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-n")) {
+				argsCount = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-d")) {
+				density = Double.parseDouble(args[++i]);
+			} else if (args[i].equals("-r")) {
+				repetitions = Integer.parseInt(args[++i]);
+			}
+		}
+
+		Random random = new Random(2011);
+		String[] names = new String[argsCount];
+		ArrayList<String[]> atts = new ArrayList<String[]>();
+
+		for (int i = 0; i < argsCount; i++) {
+			names[i] = "a" + i;
+		}
+		/* the first 1% of the arguments are unattacked, so that the grounded extension is not trivially empty. */
+		for (int i = 0; i < argsCount; i++) {
+			for (int j = argsCount / 100; j < argsCount; j++) {
+				if (random.nextDouble() < density) {
+					atts.add(new String[]{names[i], names[j]});
+				}
+			}
+		}
+
+		/* the queries, shared by both representations. */
+		ArrayList<List<String>> acceptingSets = new ArrayList<List<String>>();
+		ArrayList<List<String>> smallSets = new ArrayList<List<String>>();
+		for (int i = 0; i < 100; i++) {
+			acceptingSets.add(randomArgs(names, 50, random));
+		}
+		for (int i = 0; i < 10000; i++) {
+			smallSets.add(randomArgs(names, 3, random));
+		}
+
+		System.out.println("arguments: " + argsCount + ", attacks: " + atts.size());
+		System.out.println(String.format("%-12s %14s %14s %14s %14s %14s", "rows", "build (ms)", "grounded (ms)",
+										 "accepted (ms)", "conflict (ms)", "accept (ms)"));
+
+		for (String nextMode : new String[]{"never", "auto"}) {
+			long[][] nanos = new long[5][repetitions];
+			long start;
+			int checksum = 0;
+
+			if (nextMode.equals("auto")) {
+				System.clearProperty(MATRIX_PROPERTY);
+			} else {
+				System.setProperty(MATRIX_PROPERTY, nextMode);
+			}
+
+			for (int r = 0; r < repetitions; r++) {
+				DungAF af = new DungAF.Builder().addAtts(atts).build();
+
+				/* the first query of a graph builds its bit-matrix, if it uses one. */
+				start = System.nanoTime();
+				checksum += af.containsNoConflictAmong(names[0]) ? 1 : 0;
+				nanos[0][r] = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				checksum += af.getGroundedExt().size();
+				nanos[1][r] = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				for (List<String> nextSet : acceptingSets) {
+					checksum += af.getArgsAcceptedBy(nextSet).size();
+				}
+				nanos[2][r] = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				for (List<String> nextSet : smallSets) {
+					checksum += af.hasAsConflictFreeSet(nextSet) ? 1 : 0;
+				}
+				nanos[3][r] = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				for (int i = 0; i < acceptingSets.size(); i++) {
+					checksum += af.argsAccept(acceptingSets.get(i), smallSets.get(i)) ? 1 : 0;
+				}
+				nanos[4][r] = System.nanoTime() - start;
+			}
+
+			System.out.println(String.format("%-12s %14.1f %14.1f %14.1f %14.1f %14.1f",
+											 nextMode.equals("auto") ? "by density" : "CSR", median(nanos[0]) / 1e6,
+											 median(nanos[1]) / 1e6, median(nanos[2]) / 1e6, median(nanos[3]) / 1e6,
+											 median(nanos[4]) / 1e6)
+							   + "   (checksum " + checksum / repetitions + ")");
+		}
+	}
+
+	/**
+	 * Returns {@code count} distinct members of {@code names}, chosen at random.
+	 */
+	private static List<String> randomArgs(String[] names, int count, Random random) {
+
+		LinkedHashSet<String> result = new LinkedHashSet<String>();
+
+		while (result.size() < count) {
+			result.add(names[random.nextInt(names.length)]);
+		}
+
+		return new ArrayList<String>(result);
+	}
+
+	/**
+	 * Returns the median of {@code values}.
+	 */
+	private static long median(long[] values) {
+
+		long[] sorted = values.clone();
+
+		Arrays.sort(sorted);
+
+		return sorted[sorted.length / 2];
+	}
+}
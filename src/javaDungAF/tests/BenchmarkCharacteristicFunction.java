@@ -0,0 +1,128 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF.tests;
+
+import java.util.*;
+import javaDungAF.DungAF;
+
+/**
+ * A benchmark of the characteristic-function evaluator which {@link javaDungAF.DungAF DungAF} uses to check batches of
+ * argument-sets for admissibility and completeness.
+ *
+ * <p> A random sparse AF is generated, in which each argument (bar the first 10%, which are unattacked) is attacked by
+ * between 0 and 4 others, together with a random walk of candidate sets of unattacked arguments, each differing from
+ * the last by one argument; so every candidate is admissible, and every check runs to completion. The candidates are
+ * checked by {@code admissibleSetsContain} first one per call, so that each check builds its own evaluator, and then
+ * all in one call, so that one evaluator is moved from each candidate to the next; the median times per candidate are
+ * reported. </p>
+ *
+ * <p> Usage: {@code java javaDungAF.tests.BenchmarkCharacteristicFunction [-n arguments] [-c candidates]
+ * [-r repetitions]}. </p>
+ */
+public class BenchmarkCharacteristicFunction {
+
+	public static void main(String args[]) {
+
+		int argsCount = 100000;
+		int candidatesCount = 20000;
+		int repetitions = 3;
+
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-n")) {
+				argsCount = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-c")) {
+				candidatesCount = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-r")) {
+				repetitions = Integer.parseInt(args[++i]);
+			}
+		}
+
+		Random random = new Random(2011);
+		String[] names = new String[argsCount];
+		ArrayList<String[]> atts = new ArrayList<String[]>();
+
+		for (int i = 0; i < argsCount; i++) {
+			names[i] = "a" + i;
+		}
+		for (int i = argsCount / 10; i < argsCount; i++) {
+			for (int j = random.nextInt(5); j > 0; j--) {
+				atts.add(new String[]{names[random.nextInt(argsCount)], names[i]});
+			}
+		}
+		DungAF af = new DungAF.Builder().addArgs(names).addAtts(atts).build();
+
+		ArrayList<Collection<String>> candidates = new ArrayList<Collection<String>>();
+		ArrayList<Collection<String>[]> singletons = new ArrayList<Collection<String>[]>();
+		HashSet<String> current = new HashSet<String>();
+		String arg;
+		for (int i = 0; i < candidatesCount; i++) {
+			arg = names[random.nextInt(argsCount / 10)];
+			if (!current.remove(arg)) {
+				current.add(arg);
+			}
+			candidates.add(new HashSet<String>(current));
+			singletons.add(toArray(candidates.subList(i, i + 1)));
+		}
+		Collection<String>[] batch = toArray(candidates);
+
+		System.out.println("arguments: " + argsCount + ", attacks: " + atts.size() + ", candidates: "
+						   + candidatesCount);
+		System.out.println(String.format("%-22s %18s", "checks", "admissible (us)"));
+
+		for (boolean batched : new boolean[]{false, true}) {
+			long[] nanos = new long[repetitions];
+			long start;
+			int checksum = 0;
+
+			for (int r = 0; r < repetitions; r++) {
+				start = System.nanoTime();
+				if (batched) {
+					checksum += af.admissibleSetsContain(batch) ? 1 : 0;
+				} else {
+					for (Collection<String>[] nextSingleton : singletons) {
+						checksum += af.admissibleSetsContain(nextSingleton) ? 1 : 0;
+					}
+				}
+				nanos[r] = System.nanoTime() - start;
+			}
+
+			System.out.println(String.format("%-22s %18.2f", batched ? "one call, all sets" : "one call per set",
+											 median(nanos) / 1e3 / candidatesCount)
+							   + "   (checksum " + checksum / repetitions + ")");
+		}
+	}
+
+	/**
+	 * Returns {@code argColls} as an array, to be passed to the {@code DungAF} methods which take a variable number of 
+	 * argument-collections.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Collection<String>[] toArray(List<? extends Collection<String>> argColls) {
+		
+		return argColls.toArray(new Collection[argColls.size()]);
+	}
+
+	/**
+	 * Returns the median of {@code values}.
+	 */
+	private static long median(long[] values) {
+
+		long[] sorted = values.clone();
+
+		Arrays.sort(sorted);
+
+		return sorted[sorted.length / 2];
+	}
+}
@@ -0,0 +1,143 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF.tests;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import javaDungAF.IntDungAF;
+import javaDungAF.Semantics;
+
+/**
+ * A benchmark of the {@code "parallel"} solver of the grounded semantics, showing how it scales with the number of
+ * threads.
+ *
+ * <p> A large random AF is generated, in which each argument (bar the first 1%, which are unattacked) is attacked by
+ * between 0 and 10 arguments of lower index, so that every argument is labelled and every attack is followed. The
+ * grounded extension of an {@link javaDungAF.IntDungAF IntDungAF} of it is found first by the {@code "standard"}
+ * solver, and then by the {@code "parallel"} solver in a {@link ForkJoinPool ForkJoinPool} of 1, 2, 4, ... threads,
+ * up to the number of available processors; the median times and the speed-up over the standard solver are
+ * reported. </p>
+ *
+ * <p> Usage: {@code java -Xmx4g javaDungAF.tests.BenchmarkParallelGrounded [-n arguments] [-r repetitions]
+ * [-t maxThreads]}. </p>
+ */
+public class BenchmarkParallelGrounded {
+
+	public static void main(String args[]) {
+
+		int argsCount = 4000000;
+		int repetitions = 3;
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-n")) {
+				argsCount = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-r")) {
+				repetitions = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-t")) {
+				maxThreads = Integer.parseInt(args[++i]);
+			}
+		}
+
+		int[] afArgs = new int[argsCount];
+		int[][] atts = generateAtts(argsCount, new Random(2011));
+
+		for (int i = 0; i < argsCount; i++) {
+			afArgs[i] = i;
+		}
+
+		System.out.println("arguments: " + argsCount + ", attacks: " + atts[0].length + ", available processors: "
+						   + Runtime.getRuntime().availableProcessors());
+		System.out.println(String.format("%-20s %14s %10s", "solver", "grounded (ms)", "speed-up"));
+
+		Semantics.GROUNDED.selectSolver("standard");
+		double standardMillis = medianMillis(afArgs, atts, repetitions, null);
+		System.out.println(String.format("%-20s %14.1f %10.2f", "standard", standardMillis, 1.0));
+
+		Semantics.GROUNDED.selectSolver("parallel");
+		try {
+			for (int threads = 1; threads <= maxThreads; threads *= 2) {
+				ForkJoinPool pool = new ForkJoinPool(threads);
+				double parallelMillis = medianMillis(afArgs, atts, repetitions, pool);
+				pool.shutdown();
+				System.out.println(String.format("%-20s %14.1f %10.2f", "parallel, " + threads + " thread"
+												 + ((1 == threads) ? "" : "s"), parallelMillis,
+												 standardMillis / parallelMillis));
+			}
+		} finally {
+			Semantics.GROUNDED.selectSolver("standard");
+		}
+	}
+
+	/**
+	 * Returns the attacks of the benchmark AF, as an array of attackers and an array of targets.
+	 */
+	private static int[][] generateAtts(int argsCount, Random random) {
+
+		int attsCount = 0;
+		int[] attackersCounts = new int[argsCount];
+		int[][] atts;
+		int k = 0;
+
+		for (int i = argsCount / 100; i < argsCount; i++) {
+			attackersCounts[i] = random.nextInt(11);
+			attsCount += attackersCounts[i];
+		}
+		atts = new int[2][attsCount];
+		for (int i = argsCount / 100; i < argsCount; i++) {
+			for (int j = 0; j < attackersCounts[i]; j++) {
+				atts[0][k] = random.nextInt(i);
+				atts[1][k++] = i;
+			}
+		}
+
+		return atts;
+	}
+
+	/**
+	 * Returns the median time, in milliseconds, taken to find the grounded extension of a new {@code IntDungAF} of the
+	 * benchmark AF, by the selected solver, in {@code pool} (or in the calling thread, if {@code pool} is
+	 * {@code null}).
+	 */
+	private static double medianMillis(int[] afArgs, int[][] atts, int repetitions, ForkJoinPool pool) {
+
+		long[] nanos = new long[repetitions];
+		long start;
+
+		for (int r = 0; r < repetitions; r++) {
+			final IntDungAF af = new IntDungAF(afArgs, atts[0], atts[1]);
+
+			start = System.nanoTime();
+			if (null == pool) {
+				af.getGroundedExt();
+			} else {
+				pool.invoke(new RecursiveTask<int[]>() {
+
+					private static final long serialVersionUID = 1L;
+
+					protected int[] compute() {
+
+						return af.getGroundedExt();
+					}
+				});
+			}
+			nanos[r] = System.nanoTime() - start;
+		}
+		Arrays.sort(nanos);
+
+		return nanos[repetitions / 2] / 1e6;
+	}
+}
@@ -0,0 +1,164 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF.tests;
+
+import java.util.*;
+import javaDungAF.IntDungAF;
+import javaDungAF.Semantics;
+
+/**
+ * A benchmark of the {@code "sat"} solvers of the preferred, semi-stable and stable semantics, against the solvers
+ * selected initially, and of the preferred sceptical extension found by an incremental SAT solver, against the
+ * intersection of the preferred extensions.
+ *
+ * <p> For <i>n</i> = 25, 50, 100, ..., a random AF of <i>n</i> arguments is generated, in which each argument attacks
+ * each other argument with probability 3/<i>n</i>, and a few attacks are made mutual, so that the AF has cycles of
+ * every length. The extensions of each semantics are found by the initially selected solver and by the {@code "sat"}
+ * solver, each with a new {@link javaDungAF.IntDungAF IntDungAF}, and the times are reported, together with the
+ * number of extensions. The preferred sceptical extension is found, in the column of the initially selected solver, by
+ * first finding the preferred extensions, and in the column of the {@code "sat"} solver, directly. The initially
+ * selected solver is skipped for <i>n</i> greater than the limit given. </p>
+ *
+ * <p> Usage: {@code java javaDungAF.tests.BenchmarkSatSolver [-n maxArguments] [-l maxArgumentsForInitial]}. </p>
+ */
+public class BenchmarkSatSolver {
+
+	public static void main(String args[]) {
+
+		int maxArgsCount = 400;
+		int maxArgsCountForInitial = 200;
+		Semantics[] semanticsList = {Semantics.PREFERRED, Semantics.SEMI_STABLE, Semantics.STABLE,
+									 Semantics.PREFERRED_SCEPTICAL};
+
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-n")) {
+				maxArgsCount = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-l")) {
+				maxArgsCountForInitial = Integer.parseInt(args[++i]);
+			}
+		}
+
+		System.out.println(String.format("%-10s %-19s %10s %14s %10s", "arguments", "semantics", "extensions",
+										 "initial (ms)", "sat (ms)"));
+
+		for (int argsCount = 25; argsCount <= maxArgsCount; argsCount *= 2) {
+			int[][] atts = generateAtts(argsCount, new Random(argsCount));
+			int[] afArgs = new int[argsCount];
+
+			for (int i = 0; i < argsCount; i++) {
+				afArgs[i] = i;
+			}
+
+			for (Semantics nextSemantics : semanticsList) {
+				String initialSolver = nextSemantics.getSelectedSolver();
+				HashSet<String> initialExts = null;
+				HashSet<String> satExts;
+				String initialColumn = "-";
+				long start;
+
+				if (argsCount <= maxArgsCountForInitial) {
+					start = System.nanoTime();
+					IntDungAF af = new IntDungAF(afArgs, atts[0], atts[1]);
+					if (Semantics.PREFERRED_SCEPTICAL == nextSemantics) {
+						af.getPreferredExts();
+					}
+					initialExts = extsOf(af, nextSemantics);
+					initialColumn = millisSince(start);
+				}
+				if (Semantics.PREFERRED_SCEPTICAL == nextSemantics) {
+					start = System.nanoTime();
+					satExts = extsOf(new IntDungAF(afArgs, atts[0], atts[1]), nextSemantics);
+				} else {
+					nextSemantics.selectSolver("sat");
+					try {
+						start = System.nanoTime();
+						satExts = extsOf(new IntDungAF(afArgs, atts[0], atts[1]), nextSemantics);
+					} finally {
+						nextSemantics.selectSolver(initialSolver);
+					}
+				}
+
+				System.out.println(String.format("%-10d %-19s %10d %14s %10s", argsCount, nextSemantics.getName(),
+												 satExts.size(), initialColumn, millisSince(start))
+								   + (((null != initialExts) && !initialExts.equals(satExts))
+									  ? "   (the extensions differ)" : ""));
+			}
+		}
+	}
+
+	/**
+	 * Returns the milliseconds elapsed since {@code start}, formatted, where {@code start} was a value of
+	 * {@code System.nanoTime()}.
+	 */
+	private static String millisSince(long start) {
+
+		return String.format("%.1f", (System.nanoTime() - start) / 1e6);
+	}
+
+	/**
+	 * Returns the attacks of the benchmark AF of {@code argsCount} arguments, as an array of attackers and an array
+	 * of targets.
+	 */
+	private static int[][] generateAtts(int argsCount, Random random) {
+
+		ArrayList<int[]> atts = new ArrayList<int[]>();
+		int[][] result;
+
+		for (int i = 0; i < argsCount; i++) {
+			for (int j = 0; j < argsCount; j++) {
+				if ((i != j) && (random.nextInt(argsCount) < 3)) {
+					atts.add(new int[]{i, j});
+					if (0 == random.nextInt(16)) {
+						atts.add(new int[]{j, i});
+					}
+				}
+			}
+		}
+		result = new int[2][atts.size()];
+		for (int k = 0; k < atts.size(); k++) {
+			result[0][k] = atts.get(k)[0];
+			result[1][k] = atts.get(k)[1];
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the extensions prescribed by {@code semantics} for {@code af}, each as the {@code String} of its sorted
+	 * arguments, so that the extensions found by different solvers may be compared.
+	 */
+	private static HashSet<String> extsOf(IntDungAF af, Semantics semantics) {
+
+		HashSet<String> result = new HashSet<String>();
+		int[][] exts;
+
+		if (Semantics.PREFERRED == semantics) {
+			exts = af.getPreferredExts();
+		} else if (Semantics.SEMI_STABLE == semantics) {
+			exts = af.getSemiStableExts();
+		} else if (Semantics.PREFERRED_SCEPTICAL == semantics) {
+			exts = new int[][]{af.getPreferredScepticalExt()};
+		} else {
+			exts = af.getStableExts();
+		}
+		for (int[] nextExt : exts) {
+			nextExt = nextExt.clone();
+			Arrays.sort(nextExt);
+			result.add(Arrays.toString(nextExt));
+		}
+
+		return result;
+	}
+}
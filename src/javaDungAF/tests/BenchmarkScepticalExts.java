@@ -0,0 +1,108 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF.tests;
+
+import java.util.*;
+import javaDungAF.Attack;
+import javaDungAF.DungAF;
+
+/**
+ * A benchmark of the ideal extension and the eager extension, found with and without the preferred extensions and the
+ * semi-stable extensions respectively.
+ *
+ * <p> For <i>k</i> = 2, 4, ..., 16, 32, 64, ..., an AF is generated comprising <i>k</i> copies of each of two
+ * gadgets: a pair of mutually attacking arguments <i>a</i> and <i>b</i>, which both attack <i>e</i>, which attacks
+ * <i>d</i>; and a pair of mutually attacking arguments <i>x</i> and <i>y</i>, where <i>y</i> also attacks itself. The
+ * AF has 2<sup><i>k</i></sup> preferred extensions, all stable, each containing every <i>d</i> and every <i>x</i>; its
+ * ideal and eager extensions contain just the <i>x</i>s. Each extension is found by a new {@code DungAF}, and then by
+ * one which has first found the preferred or semi-stable extensions - the latter only for the smaller AFs. </p>
+ *
+ * <p> Usage: {@code java javaDungAF.tests.BenchmarkScepticalExts [-k maxCopies] [-p maxCopiesViaPreferred]}. </p>
+ */
+public class BenchmarkScepticalExts {
+
+	public static void main(String args[]) {
+
+		int maxCopies = 1000;
+		int maxCopiesViaPreferred = 12;
+
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-k")) {
+				maxCopies = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-p")) {
+				maxCopiesViaPreferred = Integer.parseInt(args[++i]);
+			}
+		}
+
+		System.out.println(String.format("%-8s %10s %12s %14s %12s %14s", "copies", "arguments", "ideal (ms)",
+										 "via pref (ms)", "eager (ms)", "via semi (ms)"));
+
+		for (int copies = 2; copies <= maxCopies; copies = (copies < 16) ? copies + 2 : 2 * copies) {
+			DungAF af = generate(copies);
+			String[] columns = {"-", "-", "-", "-"};
+			boolean differ = false;
+			long start;
+
+			start = System.nanoTime();
+			HashSet<String> idealExt = af.getIdealExt();
+			columns[0] = millisSince(start);
+			start = System.nanoTime();
+			HashSet<String> eagerExt = af.getEagerExt();
+			columns[2] = millisSince(start);
+			differ = !eagerExt.equals(idealExt);
+
+			if (copies <= maxCopiesViaPreferred) {
+				DungAF anotherAf = new DungAF(generate(copies));
+				start = System.nanoTime();
+				anotherAf.getPreferredExts();
+				differ = differ || !anotherAf.getIdealExt().equals(idealExt);
+				columns[1] = millisSince(start);
+				start = System.nanoTime();
+				anotherAf.getSemiStableExts();
+				differ = differ || !anotherAf.getEagerExt().equals(idealExt);
+				columns[3] = millisSince(start);
+			}
+
+			System.out.println(String.format("%-8d %10d %12s %14s %12s %14s", copies, af.getArgs().size(), columns[0],
+											 columns[1], columns[2], columns[3])
+							   + (differ ? "   (the extensions differ)" : ""));
+		}
+	}
+
+	/**
+	 * Returns the milliseconds elapsed since {@code start}, formatted, where {@code start} was a value of
+	 * {@code System.nanoTime()}.
+	 */
+	private static String millisSince(long start) {
+
+		return String.format("%.1f", (System.nanoTime() - start) / 1e6);
+	}
+
+	/**
+	 * Returns the benchmark AF with {@code copies} copies of each gadget.
+	 */
+	private static DungAF generate(int copies) {
+
+		DungAF af = new DungAF();
+
+		for (int i = 0; i < copies; i++) {
+			af.addAtts(new Attack("a" + i, "b" + i), new Attack("b" + i, "a" + i), new Attack("a" + i, "e" + i),
+					   new Attack("b" + i, "e" + i), new Attack("e" + i, "d" + i), new Attack("x" + i, "y" + i),
+					   new Attack("y" + i, "x" + i), new Attack("y" + i, "y" + i));
+		}
+
+		return af;
+	}
+}
@@ -0,0 +1,174 @@
+//	Copyright 2011 University of Dundee.
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF.tests;
+
+import java.util.*;
+import javaDungAF.ArgumentFramework;
+import javaDungAF.DungAF;
+import javaDungAF.GenericDungAF;
+import javaDungAF.IntDungAF;
+import javaDungAF.LongDungAF;
+
+/**
+ * A class to test {@link javaDungAF.GenericDungAF GenericDungAF}, {@link javaDungAF.LongDungAF LongDungAF} and
+ * {@link javaDungAF.IntDungAF IntDungAF}. For each of 200 AFs generated by
+ * {@link javaDungAF.DungAF#getRandomDungAF(int,int,int,int,Collection) getRandomDungAF(int, int, int, int, Collection&ltString&gt)},
+ * it maps each argument to a number, builds the corresponding AF of each type, and checks that every semantics gives
+ * the same extensions as the {@code DungAF}.
+ */
+public class TestArgumentFrameworks {
+
+	static final int ITERATIONS = 200;
+
+	public static void main(String args[]) {
+
+		HashSet<String> argPool = new HashSet<String>();
+		GenericDungAF<Long> genericAF;
+		String testName;
+		boolean expected;
+
+		for(int i = 97; i <= 122; i++) {
+			argPool.add(Character.toString((char) i));
+		}
+
+		for (int i = 1; i <= ITERATIONS; i++) {
+			checkAgainstDungAF(DungAF.getRandomDungAF(4, 9, 0, 16, argPool));
+		}
+
+		testName = "GenericDungAF: changes discard recorded extensions";
+		genericAF = new GenericDungAF<Long>();
+		genericAF.addAtt(1L, 2L);
+		genericAF.addAtt(2L, 3L);
+		expected = genericAF.getGroundedExt().equals(new HashSet<Long>(Arrays.asList(1L, 3L)));
+		genericAF.addAtt(3L, 1L);
+		expected = expected && genericAF.getGroundedExt().isEmpty() && (3 == genericAF.getAttsCount());
+		genericAF.removeArgs(Arrays.asList(2L));
+		expected = expected && genericAF.getGroundedExt().equals(Collections.singleton(3L))
+				   && genericAF.getAttackersOf(1L).equals(Collections.singleton(3L)) && (1 == genericAF.getAttsCount());
+		assert expected : ("Failed test \"" + testName + "\".");
+
+		testName = "LongDungAF: arguments beyond the range of int";
+		LongDungAF longAF = new LongDungAF(new long[]{Long.MIN_VALUE}, new long[]{Long.MAX_VALUE, Long.MAX_VALUE},
+										   new long[]{1L << 40, 1L << 40});
+		expected = Arrays.equals(longAF.getGroundedExt(), new long[]{Long.MIN_VALUE, Long.MAX_VALUE})
+				   && Arrays.equals(longAF.getTargetsOf(Long.MAX_VALUE), new long[]{1L << 40})
+				   && (3 == longAF.getArgsCount()) && !longAF.hasArg(0L);
+		assert expected : ("Failed test \"" + testName + "\".");
+
+		System.out.println("\n" + "TestArgumentFrameworks: passed.");
+	}
+
+	private static void checkAgainstDungAF(DungAF af) {
+
+		ArrayList<String> names = new ArrayList<String>(af.getArgs());
+		HashMap<String, Integer> numbers = new HashMap<String, Integer>();
+		ArgumentFramework<String> interfaceAF = af;
+		GenericDungAF<Integer> genericAF;
+		LongDungAF longAF;
+		IntDungAF intAF;
+		long[] longArgs = new long[names.size()];
+		long[] longAttackers = new long[af.getAtts().size()];
+		long[] longTargets = new long[longAttackers.length];
+		int[] intArgs = new int[names.size()];
+		int[] intAttackers = new int[longAttackers.length];
+		int[] intTargets = new int[longAttackers.length];
+		int k = 0;
+
+		for (int i = 0; i < names.size(); i++) {
+			numbers.put(names.get(i), i);
+			longArgs[i] = (long) i << 33;
+			intArgs[i] = -i;
+		}
+
+		genericAF = new GenericDungAF<Integer>(numbers.values());
+		for (String[] nextAtt : af.getAtts()) {
+			genericAF.addAtt(numbers.get(nextAtt[0]), numbers.get(nextAtt[1]));
+			longAttackers[k] = (long) numbers.get(nextAtt[0]) << 33;
+			longTargets[k] = (long) numbers.get(nextAtt[1]) << 33;
+			intAttackers[k] = -numbers.get(nextAtt[0]);
+			intTargets[k++] = -numbers.get(nextAtt[1]);
+		}
+		longAF = new LongDungAF(longArgs, longAttackers, longTargets);
+		intAF = new IntDungAF(intArgs, intAttackers, intTargets);
+
+		check("grounded", af, interfaceAF.getGroundedExt(), genericAF.getGroundedExt(), longAF.getGroundedExt(),
+			  intAF.getGroundedExt(), numbers);
+		check("preferredSceptical", af, interfaceAF.getPreferredScepticalExt(), genericAF.getPreferredScepticalExt(),
+			  longAF.getPreferredScepticalExt(), intAF.getPreferredScepticalExt(), numbers);
+		check("ideal", af, interfaceAF.getIdealExt(), genericAF.getIdealExt(), longAF.getIdealExt(),
+			  intAF.getIdealExt(), numbers);
+		check("eager", af, interfaceAF.getEagerExt(), genericAF.getEagerExt(), longAF.getEagerExt(),
+			  intAF.getEagerExt(), numbers);
+		check("admissible", af, af.getAdmissibleSets(), genericAF.getAdmissibleSets(), longAF.getAdmissibleSets(),
+			  intAF.getAdmissibleSets(), numbers);
+		check("complete", af, af.getCompleteExts(), genericAF.getCompleteExts(), longAF.getCompleteExts(),
+			  intAF.getCompleteExts(), numbers);
+		check("preferred", af, af.getPreferredExts(), genericAF.getPreferredExts(), longAF.getPreferredExts(),
+			  intAF.getPreferredExts(), numbers);
+		check("stable", af, af.getStableExts(), genericAF.getStableExts(), longAF.getStableExts(),
+			  intAF.getStableExts(), numbers);
+		check("semiStable", af, af.getSemiStableExts(), genericAF.getSemiStableExts(), longAF.getSemiStableExts(),
+			  intAF.getSemiStableExts(), numbers);
+	}
+
+	private static void check(String semantics, DungAF af, Set<String> ext, Set<Integer> genericExt, long[] longExt,
+							  int[] intExt, HashMap<String, Integer> numbers) {
+
+		HashSet<Set<String>> exts = new HashSet<Set<String>>(Collections.singleton(ext));
+		HashSet<HashSet<Integer>> genericExts = new HashSet<HashSet<Integer>>();
+
+		genericExts.add(new HashSet<Integer>(genericExt));
+		check(semantics, af, exts, genericExts, new long[][]{longExt}, new int[][]{intExt}, numbers);
+	}
+
+	private static void check(String semantics, DungAF af, Set<? extends Set<String>> exts,
+							  Set<? extends Set<Integer>> genericExts, long[][] longExts, int[][] intExts,
+							  HashMap<String, Integer> numbers) {
+
+		HashSet<HashSet<Integer>> expectedExts = new HashSet<HashSet<Integer>>();
+		HashSet<HashSet<Integer>> longExtsAsNumbers = new HashSet<HashSet<Integer>>();
+		HashSet<HashSet<Integer>> intExtsAsNumbers = new HashSet<HashSet<Integer>>();
+		HashSet<Integer> nextNumbers;
+
+		for (Set<String> nextExt : exts) {
+			nextNumbers = new HashSet<Integer>();
+			for (String nextArg : nextExt) {
+				nextNumbers.add(numbers.get(nextArg));
+			}
+			expectedExts.add(nextNumbers);
+		}
+
+		for (long[] nextExt : longExts) {
+			nextNumbers = new HashSet<Integer>();
+			for (int i = 0; i < nextExt.length; i++) {
+				assert (0 == i) || (nextExt[i - 1] < nextExt[i]) : ("Failed test \"" + semantics + ": sorted\".");
+				nextNumbers.add((int) (nextExt[i] >> 33));
+			}
+			longExtsAsNumbers.add(nextNumbers);
+		}
+
+		for (int[] nextExt : intExts) {
+			nextNumbers = new HashSet<Integer>();
+			for (int nextArg : nextExt) {
+				nextNumbers.add(-nextArg);
+			}
+			intExtsAsNumbers.add(nextNumbers);
+		}
+
+		assert expectedExts.equals(genericExts) && expectedExts.equals(longExtsAsNumbers)
+			   && expectedExts.equals(intExtsAsNumbers) && (exts.size() == longExts.length)
+			   : ("Failed test \"" + semantics + "\" for " + af + ".");
+	}
+}
@@ -16,7 +16,13 @@
 package javaDungAF.tests;
 
 import java.util.*;
+import javaDungAF.ArgumentOrder;
+import javaDungAF.Attack;
+import javaDungAF.ExtensionFamily;
+import javaDungAF.ExtensionSet;
 import javaDungAF.DungAF;
+import javaDungAF.Labelling;
+import javaDungAF.Semantics;
 
 /**
  * A class to test the basic functionality of {@link javaDungAF.DungAF}.
@@ -82,6 +88,16 @@ public class TestBasicFunctionality {
 		
 		//-------------------------------------
 		
+		testName = "construct with builder, including duplicate attacks";
+		af = new DungAF.Builder().addArgs("g").addAtt("a","b").addAtt(new Attack("c","d")).addAtt("a","b")
+								 .addAtts(Arrays.asList(new String[]{"e","f"}, new String[]{"c","d"})).build();
+		expected = af.equals(new DungAF(Arrays.asList("g"), Arrays.asList(new String[]{"a","b"}, new String[]{"c","d"}, 
+																		  new String[]{"e","f"})))
+				&& af.getAttackersOf("d").equals(Collections.singleton("c"));
+		assert expected : ("Failed test \"" + testName + "\".");
+		
+		//-------------------------------------
+		
 		testName = "construct with malformed attacks";
 		af.clear();
 		try { 
@@ -156,6 +172,18 @@ public class TestBasicFunctionality {
 		
 		//-------------------------------------
 		
+		testName = "add Attacks, some already in af";
+		af = new DungAF(Arrays.asList(new String[]{"a","b"}, new String[]{"c","d"}));
+		expected = af.addAtts(new Attack("a","b"), new Attack("b","c"), new Attack("b","c")) 
+				&& !af.addAtts(new Attack("a","b"))
+				&& af.equals(new DungAF(Arrays.asList(new String[]{"a","b"}, new String[]{"c","d"}, 
+													  new String[]{"b","c"})))
+				&& af.getAttacks().equals(new HashSet<Attack>(Arrays.asList(new Attack("a","b"), new Attack("c","d"),
+																			 new Attack("b","c"))));
+		assert expected : ("Failed test \"" + testName + "\".");
+		
+		//-------------------------------------
+		
 		testName = "addition: check values returned";
 		af.clear();
 		expected = af.addArgs("a") && !af.addArgs("a") 
@@ -204,6 +232,16 @@ public class TestBasicFunctionality {
 		
 		//-------------------------------------
 				
+		testName = "remove Attacks, some not in af";
+		af = new DungAF(Arrays.asList(new String[]{"a","b"}, new String[]{"c","d"}, new String[]{"e","f"}));
+		expected = af.removeAtts(new Attack("a","b"), new Attack("b","c")) 
+				&& !af.removeAtts(new Attack("a","b"))
+				&& af.equals(new DungAF(Arrays.asList("a","b","c","d","e","f"), 
+										Arrays.asList(new String[]{"c","d"}, new String[]{"e","f"})));
+		assert expected : ("Failed test \"" + testName + "\".");
+		
+		//-------------------------------------
+		
 		testName = "remove malformed atts";
 		af.clear();
 		af = new DungAF(Arrays.asList(new String[]{"a","b"}, new String[]{"c","d"}, new String[]{"e","f"}));
@@ -475,5 +513,629 @@ public class TestBasicFunctionality {
 		assert expected : ("Failed test \"" + testName + " (b)\"");
 		
 		//-------------------------------------
+		
+		testName = "extension families";
+		af = new DungAF(Arrays.asList(new String[]{"a","b"}, new String[]{"b","a"}, new String[]{"c","d"}));
+		ExtensionFamily prefExts = af.getPreferredExtFamily();
+		ExtensionSet firstExt = null;
+		ExtensionSet secondExt = null;
+		for (ExtensionSet nextExt : prefExts) {
+			if (null == firstExt) {
+				firstExt = nextExt;
+			} else {
+				secondExt = nextExt;
+			}
+		}
+		expected = prefExts.toArgSets().equals(af.getPreferredExts()) 
+		&& af.getAdmissibleSetFamily().toArgSets().equals(af.getAdmissibleSets())
+		&& af.getCompleteExtFamily().toArgSets().equals(af.getCompleteExts())
+		&& (2 == prefExts.size()) && prefExts.contains(Arrays.asList("a", "c")) && !prefExts.contains(Arrays.asList("c"))
+		&& prefExts.union().toArgSet().equals(new HashSet<String>(Arrays.asList("a", "b", "c")))
+		&& prefExts.intersection().toArgSet().equals(Collections.singleton("c"))
+		&& firstExt.intersection(secondExt).equals(prefExts.intersection())
+		&& firstExt.difference(secondExt).isSubsetOf(firstExt) && !firstExt.isSubsetOf(secondExt)
+		&& firstExt.contains("c") && !firstExt.contains("d") && (2 == firstExt.size()) 
+		&& (firstExt.hashCode() == firstExt.toArgSet().hashCode())
+		&& prefExts.equals(new DungAF(af).getPreferredExtFamily());
+		assert expected : ("Failed test \"" + testName + "\"");
+		
+		//-------------------------------------
+		
+		testName = "read-only views";
+		af = new DungAF(Arrays.asList(new String[]{"a","b"}, new String[]{"b","a"}, new String[]{"c","d"}));
+		Set<String> argsView = af.argsView();
+		Set<String> groundedExtView = af.groundedExtView();
+		expected = af.getGroundedExt().equals(groundedExtView) && af.getPreferredExts().equals(af.preferredExtsView())
+		&& af.getAdmissibleSets().equals(af.admissibleSetsView()) && af.getStableExts().equals(af.stableExtsView())
+		&& af.getCompleteExts().equals(af.completeExtsView()) && af.getIdealExt().equals(af.idealExtView())
+		&& af.getSemiStableExts().equals(af.semiStableExtsView()) && af.getEagerExt().equals(af.eagerExtView())
+		&& af.getPreferredScepticalExt().equals(af.preferredScepticalExtView())
+		&& af.getAttackersOf("a").equals(af.attackersView("a")) && af.getTargetsOf("c").equals(af.targetsView("c"))
+		&& af.attackersView("c").isEmpty() && af.targetsView("z").isEmpty() && af.attackersView("d").contains("c")
+		&& af.preferredExtsView().contains(new HashSet<String>(Arrays.asList("b", "c")))
+		&& !af.preferredExtsView().contains(Arrays.asList("b", "z")) 
+		&& !af.preferredExtsView().contains(Arrays.asList("b", "c"));
+		try {
+			af.preferredExtsView().iterator().next().add("d");
+			expected = false;
+		} catch (UnsupportedOperationException e) {
+			// do nothing.
+		}
+		af.addArgs("e");
+		expected = expected && argsView.contains("e") && !groundedExtView.contains("e") && af.groundedExtView().contains("e");
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "Semantics and solver selection";
+		af = new DungAF(Arrays.asList(new String[]{"a","b"}, new String[]{"b","a"}, new String[]{"c","d"}));
+		expected = af.getExtsUnion(Semantics.STABLE).equals(af.getExtsUnion("stable"))
+		&& af.getExtsUnion(Semantics.COMPLETE).equals(new HashSet<String>(Arrays.asList("a", "b", "c")))
+		/* the AF is bipartite, so the unions are found without the preferred extensions. */
+		&& !af.recordsExtsOfType(Semantics.PREFERRED) && !af.recordsExtsOfType(Semantics.GROUNDED)
+		&& !Semantics.GROUNDED.isMultipleExt() && Semantics.SEMI_STABLE.isMultipleExt();
+		for (Semantics nextSemantics : Semantics.values()) {
+			expected = expected && (Semantics.forName(nextSemantics.getName()) == nextSemantics)
+			&& nextSemantics.getSolverNames().contains(nextSemantics.getSelectedSolver());
+		}
+		try {
+			Semantics.PREFERRED.selectSolver("noSuchSolver");
+			expected = false;
+		} catch (IllegalArgumentException e) {
+			// do nothing.
+		}
+		try {
+			af.getExtsUnion(Semantics.IDEAL);
+			expected = false;
+		} catch (IllegalArgumentException e) {
+			// do nothing.
+		}
+		expected = expected && (null == Semantics.forName("Preferred"));
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "fork: shared until changed, then independent";
+		af = new DungAF(Arrays.asList(new String[]{"a","b"}, new String[]{"b","c"}, new String[]{"c","d"}));
+		af.getPreferredExts();
+		anotherAf = af.fork();
+		expected = anotherAf.equals(af) && anotherAf.recordsExtsOfType("preferred");
+		anotherAf.getGroundedExt();
+		expected = expected && af.recordsExtsOfType("grounded");
+		anotherAf.removeArgs("c");
+		anotherAf.addAtts(new String[]{"d","a"});
+		af.addArgs("e");
+		expected = expected && anotherAf.equals(new DungAF(Arrays.asList(new String[]{"a","b"}, new String[]{"d","a"})))
+		&& af.equals(new DungAF(Arrays.asList("e"), Arrays.asList(new String[]{"a","b"}, new String[]{"b","c"},
+																	new String[]{"c","d"})))
+		&& anotherAf.getGroundedExt().equals(new HashSet<String>(Arrays.asList("b", "d")))
+		&& af.getGroundedExt().equals(new HashSet<String>(Arrays.asList("a", "c", "e")));
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "fork: random changes to forks of forks";
+		HashSet<String> argPool = new HashSet<String>(Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h"));
+		ArrayList<DungAF> forks = new ArrayList<DungAF>();
+		ArrayList<DungAF> copies = new ArrayList<DungAF>();
+		Random random = new Random(7);
+		String[] argArr = argPool.toArray(new String[0]);
+		forks.add(DungAF.getRandomDungAF(8, 8, 10, 20, argPool));
+		copies.add(new DungAF(forks.get(0).getArgs(), forks.get(0).getAtts()));
+		for (int i = 0; i < 2000; i++) {
+			int j = random.nextInt(forks.size());
+			String arg0 = argArr[random.nextInt(argArr.length)];
+			String arg1 = argArr[random.nextInt(argArr.length)];
+			switch (random.nextInt(5)) {
+				case 0:
+					forks.add(forks.get(j).fork());
+					copies.add(new DungAF(copies.get(j).getArgs(), copies.get(j).getAtts()));
+					break;
+				case 1:
+					forks.get(j).addAtts(new String[]{arg0, arg1});
+					copies.get(j).addAtts(new String[]{arg0, arg1});
+					break;
+				case 2:
+					forks.get(j).removeAtts(new String[]{arg0, arg1});
+					copies.get(j).removeAtts(new String[]{arg0, arg1});
+					break;
+				case 3:
+					if (random.nextBoolean()) {
+						forks.get(j).getGroundedExt();
+					}
+					forks.get(j).removeArgs(arg0);
+					copies.get(j).removeArgs(arg0);
+					break;
+				default:
+					forks.get(j).addArgs(arg0);
+					copies.get(j).addArgs(arg0);
+			}
+		}
+		for (int i = 0; i < forks.size(); i++) {
+			expected = expected && forks.get(i).equals(copies.get(i))
+			&& forks.get(i).getGroundedExt().equals(copies.get(i).getGroundedExt())
+			&& (forks.get(i).getAttacks().size() == copies.get(i).getAttacks().size());
+		}
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "argument orders: same semantics";
+		argPool.addAll(Arrays.asList("i", "j", "k", "l"));
+		for (int i = 0; i < 50; i++) {
+			af = DungAF.getRandomDungAF(8, 12, 0, 30, argPool);
+			af.setArgumentOrder(ArgumentOrder.HASH);
+			for (ArgumentOrder nextOrder : ArgumentOrder.values()) {
+				anotherAf = new DungAF(af);
+				anotherAf.setArgumentOrder(nextOrder);
+				expected = expected && (nextOrder == anotherAf.getArgumentOrder())
+				&& new HashSet<String>(anotherAf.getArgsInInternalOrder()).equals(af.getArgs())
+				&& (anotherAf.getArgsInInternalOrder().size() == af.getArgs().size())
+				&& anotherAf.getGroundedExt().equals(af.getGroundedExt())
+				&& anotherAf.getPreferredExts().equals(af.getPreferredExts())
+				&& anotherAf.getSemiStableExts().equals(af.getSemiStableExts())
+				&& anotherAf.getAttackersOf("a").equals(af.getAttackersOf("a"));
+			}
+		}
+		af = new DungAF.Builder().argumentOrder(ArgumentOrder.SCC_TOPOLOGICAL).addAtt("c","d").addAtt("b","c")
+								 .addAtt("a","b").addAtt("d","c").build();
+		expected = expected && af.getArgsInInternalOrder().subList(0, 2).equals(Arrays.asList("a", "b"))
+		&& (ArgumentOrder.SCC_TOPOLOGICAL == af.getArgumentOrder());
+		/* a change keeps the previous order, with new arguments last; freezing reorders. */
+		ArrayList<String> argList = af.getArgsInInternalOrder();
+		af.addAtt("e", "a");
+		expected = expected && af.freeze().thaw().getArgsInInternalOrder().subList(0, 3)
+											 .equals(Arrays.asList("e", "a", "b"));
+		af.addAtt("f", "e");
+		expected = expected && af.getArgsInInternalOrder().subList(0, 4).equals(argList)
+		&& new HashSet<String>(af.getArgsInInternalOrder().subList(4, 6))
+		   .equals(new HashSet<String>(Arrays.asList("e", "f")));
+		af.setArgumentOrder(ArgumentOrder.BFS);
+		af.removeArgs("e", "f");
+		af.setArgumentOrder(ArgumentOrder.SCC_TOPOLOGICAL);
+		expected = expected && af.getArgsInInternalOrder().subList(0, 2).equals(Arrays.asList("a", "b"));
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "grounded labelling: agrees with iterating the characteristic function";
+		for (int i = 0; i < 200; i++) {
+			af = DungAF.getRandomDungAF(4, 12, 0, 16, argPool);
+			HashSet<String> groundedExt = new HashSet<String>();
+			HashSet<String> nextExt = af.getArgsAcceptedBy(groundedExt);
+			while (!nextExt.equals(groundedExt)) {
+				groundedExt = nextExt;
+				nextExt = af.getArgsAcceptedBy(groundedExt);
+			}
+			Labelling labelling = af.getGroundedLabelling();
+			HashSet<String> defeatedArgs = new HashSet<String>();
+			for (String nextArg : groundedExt) {
+				defeatedArgs.addAll(af.getTargetsOf(nextArg));
+			}
+			HashSet<String> undecArgs = new HashSet<String>(af.getArgs());
+			undecArgs.removeAll(groundedExt);
+			undecArgs.removeAll(defeatedArgs);
+			expected = expected && af.getGroundedExt().equals(groundedExt)
+			&& labelling.getArgsLabelled(Labelling.IN).toArgSet().equals(groundedExt)
+			&& labelling.getArgsLabelled(Labelling.OUT).toArgSet().equals(defeatedArgs)
+			&& labelling.getArgsLabelled(Labelling.UNDEC).toArgSet().equals(undecArgs)
+			&& (labelling.toByteArray().length == af.getArgs().size())
+			&& labelling.equals(new DungAF(af).getGroundedLabelling());
+		}
+		/* a long chain, a1 <- a2 <- ... <- a100000, which ends in an unattacked argument. */
+		af = new DungAF();
+		for (int i = 1; i < 100000; i++) {
+			af.addAtts(new String[]{"a" + (i + 1), "a" + i});
+		}
+		expected = expected && (50000 == af.getGroundedExt().size()) && af.getGroundedExt().contains("a2")
+		&& (Labelling.OUT == af.getGroundedLabelling().getLabel("a1"));
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "parallel grounded solver: same as the standard solver";
+		ArrayList<DungAF> afs = new ArrayList<DungAF>();
+		for (int i = 0; i < 200; i++) {
+			afs.add(DungAF.getRandomDungAF(4, 12, 0, 16, argPool));
+		}
+		/* a large AF, whose frontiers are split among several tasks. */
+		random = new Random(2011);
+		af = new DungAF();
+		for (int i = 0; i < 200000; i++) {
+			af.addAtts(new String[]{"a" + random.nextInt(100000), "a" + random.nextInt(100000)});
+		}
+		afs.add(af);
+		afs.add(af.fork());
+		expected = expected && Semantics.GROUNDED.getSolverNames().contains("parallel");
+		Semantics.GROUNDED.selectSolver("parallel");
+		try {
+			for (DungAF nextAf : afs) {
+				expected = expected && nextAf.getGroundedExt().equals(nextAf.getGroundedLabelling()
+																	  .getArgsLabelled(Labelling.IN).toArgSet());
+			}
+		} finally {
+			Semantics.GROUNDED.selectSolver("standard");
+		}
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "incremental grounded: agrees with finding it from scratch, after random changes";
+		String[] pool = argPool.toArray(new String[0]);
+		af = DungAF.getRandomDungAF(4, 12, 0, 16, argPool);
+		af.setGroundedIncremental(true);
+		expected = expected && af.isGroundedIncremental() && af.fork().isGroundedIncremental();
+		for (int i = 0; i < 3000; i++) {
+			String arg1 = pool[random.nextInt(pool.length)];
+			String arg2 = pool[random.nextInt(pool.length)];
+			switch (random.nextInt(6)) {
+				case 0: af.addArgs(arg1); break;
+				case 1: af.removeArgs(arg1, arg2); break;
+				case 2: af.removeAtt(arg1, arg2); break;
+				default: af.addAtt(arg1, arg2); break;
+			}
+			if (0 == random.nextInt(3)) {
+				continue;
+			}
+			anotherAf = new DungAF(af.getArgs(), new ArrayList<String[]>());
+			for (Attack nextAtt : af.getAttacks()) {
+				anotherAf.addAtts(nextAtt);
+			}
+			expected = expected && af.getGroundedExt().equals(anotherAf.getGroundedExt());
+			for (String nextArg : af.getArgs()) {
+				expected = expected && (af.getGroundedLabel(nextArg) == anotherAf.getGroundedLabel(nextArg));
+			}
+		}
+		try {
+			af.getGroundedLabel("noSuchArg");
+			expected = false;
+		} catch (IllegalArgumentException e) {
+			// do nothing.
+		}
+		try {
+			anotherAf.getGroundedLabel("noSuchArg");
+			expected = false;
+		} catch (IllegalArgumentException e) {
+			// do nothing.
+		}
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "characteristic function: agrees with the definitions of acceptability, admissibility and completeness";
+		for (int i = 0; i < 40; i++) {
+			af = DungAF.getRandomDungAF(4, 12, 0, 16, argPool);
+			ArrayList<String> afArgs = new ArrayList<String>(af.getArgs());
+			ArrayList<HashSet<String>> candidates = new ArrayList<HashSet<String>>();
+			for (int j = 0; j < 30; j++) {
+				HashSet<String> candidate = new HashSet<String>();
+				for (String nextArg : afArgs) {
+					if (0 == random.nextInt(3)) {
+						candidate.add(nextArg);
+					}
+				}
+				candidates.add(candidate);
+			}
+			candidates.add(new HashSet<String>(af.getGroundedExt()));
+			ArrayList<Boolean> admissible = new ArrayList<Boolean>();
+			ArrayList<Boolean> complete = new ArrayList<Boolean>();
+			for (HashSet<String> nextCandidate : candidates) {
+				/* find the arguments acceptable wrt nextCandidate, by definition. */
+				HashSet<String> accepted = new HashSet<String>();
+				boolean conflictFree = true;
+				for (String nextArg : afArgs) {
+					boolean defended = true;
+					for (String nextAttacker : af.getAttackersOf(nextArg)) {
+						defended = defended && !Collections.disjoint(af.getAttackersOf(nextAttacker), nextCandidate);
+					}
+					if (defended) {
+						accepted.add(nextArg);
+					}
+					if (nextCandidate.contains(nextArg)) {
+						conflictFree = conflictFree && Collections.disjoint(af.getAttackersOf(nextArg), nextCandidate);
+					}
+				}
+				admissible.add(conflictFree && accepted.containsAll(nextCandidate));
+				complete.add(conflictFree && accepted.equals(nextCandidate));
+				expected = expected && af.getArgsAcceptedBy(nextCandidate).equals(accepted);
+				expected = expected && (af.admissibleSetsContain(toArray(Collections.singletonList(nextCandidate))) 
+										== admissible.get(admissible.size() - 1));
+				expected = expected && (af.completeExtsContain(toArray(Collections.singletonList(nextCandidate))) 
+										== complete.get(complete.size() - 1));
+			}
+			/* the batch checks share an evaluator, moved from one candidate to the next. */
+			expected = expected && (af.admissibleSetsContain(toArray(candidates)) 
+									== !admissible.contains(false));
+			expected = expected && (af.completeExtsContain(toArray(Collections.nCopies(2, 
+																				candidates.get(candidates.size() - 1)))));
+			for (int j = 0; j < candidates.size(); j++) {
+				expected = expected && (af.getAdmissibleSets().contains(candidates.get(j)) == admissible.get(j));
+				expected = expected && (af.getCompleteExts().contains(candidates.get(j)) == complete.get(j));
+			}
+		}
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "ideal extension: the same, whether or not the preferred extensions are recorded";
+		for (int i = 0; i < 200; i++) {
+			af = DungAF.getRandomDungAF(4, 12, 0, 16, argPool);
+			anotherAf = new DungAF(af);
+			anotherAf.getPreferredExts();
+			expected = expected && af.getIdealExt().equals(anotherAf.getIdealExt());
+		}
+		/* an AF with 2^20 preferred extensions, each of which contains one of every pair (a_i, b_i). */
+		af = new DungAF.Builder().addAtt("u", "v").addAtt("v", "w").build();
+		for (int i = 0; i < 20; i++) {
+			af.addAtts(new Attack("a" + i, "b" + i), new Attack("b" + i, "a" + i), new Attack("a" + i, "e" + i), 
+					   new Attack("b" + i, "e" + i), new Attack("e" + i, "d" + i), new Attack("x" + i, "y" + i), 
+					   new Attack("y" + i, "x" + i), new Attack("y" + i, "y" + i));
+		}
+		HashSet<String> idealExt = new HashSet<String>(Arrays.asList("u", "w"));
+		for (int i = 0; i < 20; i++) {
+			idealExt.add("x" + i);
+		}
+		expected = expected && af.getIdealExt().equals(idealExt) && !af.recordsExtsOfType(Semantics.PREFERRED);
+		DungAF afWithManyExts = af;
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "eager extension: the same, whether or not the semi-stable extensions are recorded";
+		for (int i = 0; i < 200; i++) {
+			af = DungAF.getRandomDungAF(4, 12, 0, 16, argPool);
+			anotherAf = new DungAF(af);
+			anotherAf.getSemiStableExts();
+			expected = expected && af.getEagerExt().equals(anotherAf.getEagerExt());
+		}
+		/* the AF of the previous test, whose 2^20 preferred extensions are all stable. */
+		af = new DungAF(afWithManyExts);
+		expected = expected && af.getEagerExt().equals(idealExt) && !af.recordsExtsOfType(Semantics.SEMI_STABLE);
+		/* 2^20 semi-stable extensions, none of them stable, with only "d" in all of them. */
+		af = new DungAF();
+		for (int i = 0; i < 20; i++) {
+			af.addAtts(new String[]{"a" + i, "b" + i}, new String[]{"b" + i, "a" + i});
+		}
+		af.addAtts(new String[]{"z", "z"}, new String[]{"a0", "c"}, new String[]{"b0", "c"}, new String[]{"c", "d"}, 
+				   new String[]{"d", "c"});
+		expected = expected && af.getEagerExt().equals(new HashSet<String>(Arrays.asList("d")))
+		&& !af.recordsExtsOfType(Semantics.SEMI_STABLE) && !af.hasStableExt();
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "acyclic AFs: every semantics but the admissible prescribes just the grounded extension";
+		for (int i = 0; i < 200; i++) {
+			af = DungAF.getRandomDungAF(4, 12, 0, 16, argPool);
+			for (String[] nextAtt : af.getAtts()) {
+				if (nextAtt[0].compareTo(nextAtt[1]) >= 0) {
+					af.removeAtt(nextAtt[0], nextAtt[1]);
+				}
+			}
+			/* an unattacked self-attacking argument makes the AF cyclic, without changing its extensions - bar the 
+			 stable extensions, of which it leaves none. */
+			anotherAf = new DungAF(af);
+			anotherAf.addAtt("selfAttacker", "selfAttacker");
+			expected = expected && af.getPreferredExts().equals(Collections.singleton(af.getGroundedExt()))
+			&& !af.recordsDefenceSetsAround(af.getArgs().iterator().next())
+			&& af.preferredExtsContain(toArray(Collections.singletonList(af.getGroundedExt())))
+			&& af.getPreferredExts().equals(anotherAf.getPreferredExts())
+			&& af.getCompleteExts().equals(anotherAf.getCompleteExts())
+			&& af.getStableExts().equals(af.getPreferredExts()) && anotherAf.getStableExts().isEmpty()
+			&& af.getSemiStableExts().equals(anotherAf.getSemiStableExts())
+			&& af.getPreferredScepticalExt().equals(anotherAf.getPreferredScepticalExt())
+			&& af.getIdealExt().equals(anotherAf.getIdealExt())
+			&& af.getEagerExt().equals(anotherAf.getEagerExt())
+			&& af.getAdmissibleSets().equals(anotherAf.getAdmissibleSets());
+		}
+		/* a long chain, a1 <- a2 <- ... <- a100000, whose defence-sets would be many and long. */
+		af = new DungAF();
+		for (int i = 1; i < 100000; i++) {
+			af.addAtts(new String[]{"a" + (i + 1), "a" + i});
+		}
+		expected = expected && (1 == af.getSemiStableExts().size()) 
+		&& af.getSemiStableExts().iterator().next().equals(af.getGroundedExt())
+		&& af.getIdealExt().equals(af.getGroundedExt());
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "symmetric AFs: the preferred extensions are the maximal conflict-free sets";
+		for (int i = 0; i < 200; i++) {
+			af = DungAF.getRandomDungAF(4, 12, 0, 16, argPool);
+			for (String[] nextAtt : af.getAtts()) {
+				af.addAtt(nextAtt[1], nextAtt[0]);
+			}
+			/* the maximal admissible sets, which the admissible sets still give by way of the defence-sets. */
+			HashSet<HashSet<String>> admissibleSets = af.getAdmissibleSets();
+			HashSet<HashSet<String>> maximalSets = new HashSet<HashSet<String>>(admissibleSets);
+			for (HashSet<String> nextSet : admissibleSets) {
+				for (HashSet<String> nextOtherSet : admissibleSets) {
+					if ((nextOtherSet.size() > nextSet.size()) && nextOtherSet.containsAll(nextSet)) {
+						maximalSets.remove(nextSet);
+					}
+				}
+			}
+			anotherAf = new DungAF(af);
+			HashSet<HashSet<String>> stableExts = new HashSet<HashSet<String>>();
+			for (HashSet<String> nextSet : maximalSets) {
+				expected = expected && anotherAf.preferredExtsContain(toArray(Collections.singletonList(nextSet)));
+				if (anotherAf.stableExtsContain(toArray(Collections.singletonList(nextSet)))) {
+					stableExts.add(nextSet);
+				}
+			}
+			expected = expected && af.getPreferredExts().equals(maximalSets) 
+			&& af.getStableExts().equals(stableExts)
+			&& (stableExts.isEmpty() || af.getSemiStableExts().equals(stableExts));
+		}
+		/* a cycle of 40 mutual attacks, whose maximal conflict-free sets are counted by the Perrin numbers. */
+		af = new DungAF();
+		for (int i = 0; i < 40; i++) {
+			af.addAtt("a" + i, "a" + ((i + 1) % 40));
+			af.addAtt("a" + ((i + 1) % 40), "a" + i);
+		}
+		expected = expected && (76725 == af.getPreferredExts().size()) && (76725 == af.getSemiStableExts().size())
+		&& af.getPreferredScepticalExt().isEmpty();
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "bipartite AFs: acceptance without the preferred extensions, which are the stable extensions";
+		for (int i = 0; i < 200; i++) {
+			af = DungAF.getRandomDungAF(4, 12, 0, 16, argPool);
+			/* the sides are the arguments whose first characters are odd and even, respectively. */
+			for (String[] nextAtt : af.getAtts()) {
+				if ((nextAtt[0].charAt(0) % 2) == (nextAtt[1].charAt(0) % 2)) {
+					af.removeAtt(nextAtt[0], nextAtt[1]);
+				}
+			}
+			/* a separate odd cycle, which is neither bipartite nor changes the preferred extensions. */
+			anotherAf = new DungAF(af);
+			anotherAf.addAtts(new String[]{"odd0", "odd1"}, new String[]{"odd1", "odd2"}, new String[]{"odd2", "odd0"});
+			expected = expected && af.getExtsUnion(Semantics.PREFERRED).equals(anotherAf.getAdmissibleArgs())
+			&& af.getExtsUnion(Semantics.STABLE).equals(anotherAf.getAdmissibleArgs())
+			&& af.getPreferredScepticalExt().equals(anotherAf.getPreferredScepticalExt())
+			&& !af.recordsExtsOfType(Semantics.PREFERRED);
+			for (HashSet<String> nextExt : anotherAf.getPreferredExts()) {
+				Collection<String>[] nextSingleton = toArray(Collections.singletonList(nextExt));
+				expected = expected && af.preferredExtsContain(nextSingleton) && af.stableExtsContain(nextSingleton);
+			}
+			expected = expected && af.getPreferredExts().equals(anotherAf.getPreferredExts())
+			&& af.getStableExts().equals(af.getPreferredExts()) && af.getSemiStableExts().equals(af.getPreferredExts());
+		}
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "labelling preferred solver: selected initially, and same as the standard solver";
+		expected = expected && Semantics.PREFERRED.getSelectedSolver().equals("labelling");
+		afs = new ArrayList<DungAF>();
+		for (int i = 0; i < 300; i++) {
+			afs.add(DungAF.getRandomDungAF(4, 12, 0, 16, argPool));
+		}
+		for (DungAF nextAf : afs) {
+			anotherAf = new DungAF(nextAf);
+			Semantics.PREFERRED.selectSolver("standard");
+			try {
+				anotherAf.getPreferredExts();
+			} finally {
+				Semantics.PREFERRED.selectSolver("labelling");
+			}
+			expected = expected && nextAf.getPreferredExts().equals(anotherAf.getPreferredExts())
+			&& nextAf.getSemiStableExts().equals(anotherAf.getSemiStableExts());
+		}
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "standard preferred solver: candidates with many conflicts";
+		/* a chain of 24 mutual attacks, and 10 separate mutual attacks, each with an odd cycle alongside, so that no 
+		 structural shortcut applies, and the candidates from the defence-sets have many pairs-in-conflict. */
+		afs = new ArrayList<DungAF>();
+		af = new DungAF();
+		for (int i = 0; i < 24; i++) {
+			af.addAtts(new String[]{"c" + i, "c" + (i + 1)}, new String[]{"c" + (i + 1), "c" + i});
+		}
+		afs.add(af);
+		af = new DungAF();
+		for (int i = 0; i < 10; i++) {
+			af.addAtts(new String[]{"a" + i, "b" + i}, new String[]{"b" + i, "a" + i});
+		}
+		afs.add(af);
+		for (DungAF nextAf : afs) {
+			nextAf.addAtts(new String[]{"odd0", "odd1"}, new String[]{"odd1", "odd2"}, new String[]{"odd2", "odd0"});
+			anotherAf = new DungAF(nextAf);
+			Semantics.PREFERRED.selectSolver("standard");
+			try {
+				anotherAf.getPreferredExts();
+			} finally {
+				Semantics.PREFERRED.selectSolver("labelling");
+			}
+			expected = expected && nextAf.getPreferredExts().equals(anotherAf.getPreferredExts());
+		}
+		expected = expected && (1024 == afs.get(1).getPreferredExts().size());
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "sat solvers: same extensions as the solvers selected initially";
+		afs = new ArrayList<DungAF>();
+		for (int i = 0; i < 200; i++) {
+			afs.add(DungAF.getRandomDungAF(4, 12, 0, 16, argPool));
+		}
+		afs.add(new DungAF());
+		for (DungAF nextAf : afs) {
+			anotherAf = new DungAF(nextAf);
+			for (Semantics nextSemantics : Semantics.values()) {
+				if (nextSemantics.getSolverNames().contains("sat")) {
+					nextSemantics.selectSolver("sat");
+				}
+			}
+			try {
+				anotherAf.getAdmissibleSets();
+				anotherAf.getCompleteExts();
+				anotherAf.getPreferredExts();
+				anotherAf.getSemiStableExts();
+				anotherAf.getStableExts();
+			} finally {
+				Semantics.ADMISSIBLE.selectSolver("standard");
+				Semantics.COMPLETE.selectSolver("standard");
+				Semantics.PREFERRED.selectSolver("labelling");
+				Semantics.SEMI_STABLE.selectSolver("standard");
+				Semantics.STABLE.selectSolver("standard");
+			}
+			expected = expected && nextAf.getAdmissibleSets().equals(anotherAf.getAdmissibleSets())
+			&& nextAf.getCompleteExts().equals(anotherAf.getCompleteExts())
+			&& nextAf.getPreferredExts().equals(anotherAf.getPreferredExts())
+			&& nextAf.getSemiStableExts().equals(anotherAf.getSemiStableExts())
+			&& nextAf.getStableExts().equals(anotherAf.getStableExts());
+		}
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "preferredScepticalExtContains(String...) and getPreferredScepticalExt(), without the preferred exts";
+		for (int i = 0; i < 300; i++) {
+			af = DungAF.getRandomDungAF(4, 12, 0, 16, argPool);
+			/* an odd cycle, so that the AF is not bipartite. */
+			af.addAtts(new String[]{"odd0", "odd1"}, new String[]{"odd1", "odd2"}, new String[]{"odd2", "odd0"});
+			anotherAf = new DungAF(af);
+			idealExt = anotherAf.getPreferredScepticalExt();
+			for (String nextArg : af.getArgs()) {
+				expected = expected && (idealExt.contains(nextArg) == af.preferredScepticalExtContains(nextArg));
+			}
+			expected = expected && !af.preferredScepticalExtContains("notAnArg")
+			&& af.preferredScepticalExtContains(idealExt.toArray(new String[0]))
+			&& !af.recordsExtsOfType(Semantics.PREFERRED) && !anotherAf.recordsExtsOfType(Semantics.PREFERRED);
+			af.getPreferredExts();
+			expected = expected && af.getPreferredScepticalExt().equals(idealExt);
+		}
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "getStableExtsIterator() and hasStableExt(): same as getStableExts() from the preferred exts";
+		for (int i = 0; i < 300; i++) {
+			af = DungAF.getRandomDungAF(4, 12, 0, 16, argPool);
+			anotherAf = new DungAF(af);
+			anotherAf.getPreferredExts();
+			HashSet<HashSet<String>> streamedExts = new HashSet<HashSet<String>>();
+			HashSet<String> nextExt;
+			for (Iterator<HashSet<String>> it = af.getStableExtsIterator(); it.hasNext(); ) {
+				nextExt = it.next();
+				expected = expected && streamedExts.add(nextExt);
+			}
+			expected = expected && streamedExts.equals(anotherAf.getStableExts()) 
+			&& (af.hasStableExt() == !streamedExts.isEmpty()) && af.getStableExts().equals(streamedExts) 
+			&& (anotherAf.hasStableExt() == !streamedExts.isEmpty());
+		}
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
+		testName = "hasStableExt(): stops early, with many preferred exts";
+		af = new DungAF();
+		for (int i = 0; i < 40; i++) {
+			af.addAtts(new String[]{"a" + i, "b" + i}, new String[]{"b" + i, "a" + i});
+		}
+		expected = expected && af.hasStableExt() && (40 == af.getStableExtsIterator().next().size())
+		&& !af.recordsExtsOfType(Semantics.PREFERRED);
+		af.addAtts(new String[]{"z", "z"});
+		expected = expected && !af.hasStableExt() && !af.getStableExtsIterator().hasNext()
+		&& !af.recordsExtsOfType(Semantics.PREFERRED);
+		assert expected : ("Failed test \"" + testName + "\"");
+
+		//-------------------------------------
 	}	
+
+	/**
+	 * Returns {@code argColls} as an array, to be passed to the {@code DungAF} methods which take a variable number of 
+	 * argument-collections.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Collection<String>[] toArray(List<? extends Collection<String>> argColls) {
+		
+		return argColls.toArray(new Collection[argColls.size()]);
+	}
 }
@@ -0,0 +1,218 @@
+//	Copyright 2011 University of Dundee
+//
+//	Licensed under the Apache License, Version 2.0 (the "License");
+//	you may not use this file except in compliance with the License.
+//	You may obtain a copy of the License at
+//
+//	http://www.apache.org/licenses/LICENSE-2.0
+//
+//	Unless required by applicable law or agreed to in writing, software
+//	distributed under the License is distributed on an "AS IS" BASIS,
+//	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//	See the License for the specific language governing permissions and
+//	limitations under the License.
+
+package javaDungAF.tests;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import javaDungAF.DungAF;
+import javaDungAF.FrozenDungAF;
+import javaDungAF.Labelling;
+import javaDungAF.Semantics;
+
+/**
+ * A class to test {@link javaDungAF.FrozenDungAF FrozenDungAF}. For each of 50 AFs, generated by
+ * {@link javaDungAF.DungAF#getRandomDungAF(int,int,int,int,Collection) getRandomDungAF(int, int, int, int, Collection&ltString&gt)},
+ * it freezes the AF and has several threads query the snapshot concurrently, each under every semantics in a
+ * different order. Every result must equal that returned by the original {@code DungAF}, and changes to the original
+ * must not affect the snapshot.
+ */
+public class TestFrozenDungAF {
+
+	static final int ITERATIONS = 50;
+	static final int THREADS = 8;
+	static final String[] SEMANTICS = {"grounded", "admissible", "complete", "preferred", "preferredSceptical",
+									   "stable", "semiStable", "ideal", "eager"};
+	static final List<String> MULTIPLE_EXT_SEMANTICS = Arrays.asList("admissible", "complete", "preferred", "stable",
+																	 "semiStable");
+
+	public static void main(String args[]) throws InterruptedException {
+
+		HashSet<String> argPool = new HashSet<String>();
+		final DungAF af;
+		final FrozenDungAF frozenAF;
+		DungAF thawedAF;
+		String testName;
+		boolean expected;
+
+		for(int i = 97; i <= 122; i++) {
+			argPool.add(Character.toString((char) i));
+		}
+
+		for (int i = 1; i <= ITERATIONS; i++) {
+			checkConcurrentQueries(DungAF.getRandomDungAF(8, 12, 8, 16, argPool));
+		}
+
+		testName = "snapshot unaffected by changes to the original AF";
+		af = new DungAF(Arrays.asList(new String[]{"a", "b"}, new String[]{"b", "c"}));
+		frozenAF = af.freeze();
+		af.addAtts(new String[]{"c", "a"});
+		expected = frozenAF.getGroundedExt().equals(new HashSet<String>(Arrays.asList("a", "c")))
+				   && (2 == frozenAF.getAtts().size()) && af.getGroundedExt().isEmpty();
+		assert expected : ("Failed test \"" + testName + "\".");
+
+		testName = "thawed copy records the snapshot's extensions";
+		thawedAF = frozenAF.thaw();
+		expected = thawedAF.recordsExtsOfType("grounded") && thawedAF.getAtts().size() == 2;
+		thawedAF.addArgs("d");
+		expected = expected && !frozenAF.getArgs().contains("d");
+		assert expected : ("Failed test \"" + testName + "\".");
+
+		testName = "grounded labelling and labels, with the parallel solver";
+		Semantics.GROUNDED.selectSolver("parallel");
+		try {
+			for (int i = 1; i <= ITERATIONS; i++) {
+				thawedAF = DungAF.getRandomDungAF(8, 12, 8, 16, argPool);
+				FrozenDungAF nextFrozenAF = thawedAF.freeze();
+				expected = expected && nextFrozenAF.getGroundedExt().equals(thawedAF.getGroundedExt())
+						   && nextFrozenAF.getGroundedLabelling().getArgsLabelled(Labelling.IN).toArgSet()
+							  .equals(thawedAF.getGroundedExt());
+				for (String nextArg : thawedAF.getArgs()) {
+					expected = expected && (nextFrozenAF.getGroundedLabel(nextArg) == thawedAF.getGroundedLabel(nextArg));
+				}
+			}
+		} finally {
+			Semantics.GROUNDED.selectSolver("standard");
+		}
+		assert expected : ("Failed test \"" + testName + "\".");
+
+		testName = "preferred sceptical queries resume the snapshot's SAT solver";
+		/* x defends itself against y, so is in every preferred extension; but the complete extensions lacking x are 
+		 excluded only as the 2^10 preferred extensions are found, so a query about x from a cold solver is slow. A 
+		 second query, from another thread, which resumes the first's solver is answered by one call. The first AF 
+		 only warms up the JIT compiler. */
+		final long[] nanos = new long[2];
+		for (int i = 0; i < 2; i++) {
+			thawedAF = new DungAF();
+			for (int j = 0; j < 10; j++) {
+				thawedAF.addAtts(new String[]{"a" + j, "b" + j}, new String[]{"b" + j, "a" + j});
+			}
+			thawedAF.addAtts(new String[]{"x", "y"}, new String[]{"y", "x"}, new String[]{"y", "y"});
+			final FrozenDungAF nextFrozenAF = thawedAF.freeze();
+			final boolean[] accepted = new boolean[2];
+			nanos[0] = System.nanoTime();
+			accepted[0] = nextFrozenAF.preferredScepticalExtContains("x");
+			nanos[0] = System.nanoTime() - nanos[0];
+			Thread thread = new Thread() {
+				public void run() {
+					nanos[1] = System.nanoTime();
+					accepted[1] = nextFrozenAF.preferredScepticalExtContains("x");
+					nanos[1] = System.nanoTime() - nanos[1];
+				}
+			};
+			thread.start();
+			thread.join();
+			expected = expected && accepted[0] && accepted[1] && !nextFrozenAF.preferredScepticalExtContains("a0")
+					   && !nextFrozenAF.recordsExtsOfType(Semantics.PREFERRED);
+		}
+		expected = expected && (nanos[1] < nanos[0] / 10);
+		assert expected : ("Failed test \"" + testName + "\".");
+
+		System.out.println("\n" + "TestFrozenDungAF: passed.");
+	}
+
+	private static void checkConcurrentQueries(final DungAF af) throws InterruptedException {
+
+		final FrozenDungAF frozenAF = af.freeze();
+		final DungAF referenceAF = new DungAF(af);
+		final AtomicInteger failures = new AtomicInteger();
+		Thread[] threads = new Thread[THREADS];
+
+		for (int t = 0; t < THREADS; t++) {
+			final int offset = t;
+
+			threads[t] = new Thread() {
+				public void run() {
+					String semantics;
+					HashSet<HashSet<String>> stableExts = new HashSet<HashSet<String>>();
+
+					for (int s = 0; s < SEMANTICS.length; s++) {
+						semantics = SEMANTICS[(s + offset) % SEMANTICS.length];
+
+						if (!getExts(frozenAF, semantics).equals(getExts(referenceAF, semantics))) {
+							failures.incrementAndGet();
+						} else if (MULTIPLE_EXT_SEMANTICS.contains(semantics)
+								   && !frozenAF.getExtsUnion(semantics).equals(referenceAF.getExtsUnion(semantics))) {
+							failures.incrementAndGet();
+						}
+					}
+
+					for (Iterator<HashSet<String>> it = frozenAF.getStableExtsIterator(); it.hasNext(); ) {
+						stableExts.add(it.next());
+					}
+					if (!stableExts.equals(referenceAF.getStableExts())
+						|| (frozenAF.hasStableExt() == stableExts.isEmpty())) {
+						failures.incrementAndGet();
+					}
+
+					for (String nextArg : frozenAF.getArgs()) {
+						if (!frozenAF.getDefenceSetsAround(nextArg).equals(referenceAF.getDefenceSetsAround(nextArg))) {
+							failures.incrementAndGet();
+						}
+						if (frozenAF.preferredScepticalExtContains(nextArg) 
+							!= referenceAF.getPreferredScepticalExt().contains(nextArg)) {
+							failures.incrementAndGet();
+						}
+					}
+				}
+			};
+		}
+
+		/* referenceAF is filled in before the threads start, so that they only read it. */
+		for (String nextSemantics : SEMANTICS) {
+			getExts(referenceAF, nextSemantics);
+		}
+		for (String nextArg : referenceAF.getArgs()) {
+			referenceAF.getDefenceSetsAround(nextArg);
+		}
+
+		for (Thread nextThread : threads) {
+			nextThread.start();
+		}
+		for (Thread nextThread : threads) {
+			nextThread.join();
+		}
+
+		assert (0 == failures.get()) : ("Failed test \"concurrent queries agree with DungAF\" for " + af + ".");
+	}
+
+	private static HashSet<HashSet<String>> getExts(Object af, String semantics) {
+
+		HashSet<HashSet<String>> exts = new HashSet<HashSet<String>>();
+		DungAF dungAF = (af instanceof DungAF) ? (DungAF) af : null;
+		FrozenDungAF frozenAF = (af instanceof FrozenDungAF) ? (FrozenDungAF) af : null;
+
+		if (semantics.equals("grounded")) {
+			exts.add((null != dungAF) ? dungAF.getGroundedExt() : frozenAF.getGroundedExt());
+		} else if (semantics.equals("admissible")) {
+			exts.addAll((null != dungAF) ? dungAF.getAdmissibleSets() : frozenAF.getAdmissibleSets());
+		} else if (semantics.equals("complete")) {
+			exts.addAll((null != dungAF) ? dungAF.getCompleteExts() : frozenAF.getCompleteExts());
+		} else if (semantics.equals("preferred")) {
+			exts.addAll((null != dungAF) ? dungAF.getPreferredExts() : frozenAF.getPreferredExts());
+		} else if (semantics.equals("preferredSceptical")) {
+			exts.add((null != dungAF) ? dungAF.getPreferredScepticalExt() : frozenAF.getPreferredScepticalExt());
+		} else if (semantics.equals("stable")) {
+			exts.addAll((null != dungAF) ? dungAF.getStableExts() : frozenAF.getStableExts());
+		} else if (semantics.equals("semiStable")) {
+			exts.addAll((null != dungAF) ? dungAF.getSemiStableExts() : frozenAF.getSemiStableExts());
+		} else if (semantics.equals("ideal")) {
+			exts.add((null != dungAF) ? dungAF.getIdealExt() : frozenAF.getIdealExt());
+		} else {
+			exts.add((null != dungAF) ? dungAF.getEagerExt() : frozenAF.getEagerExt());
+		}
+
+		return exts;
+	}
+}